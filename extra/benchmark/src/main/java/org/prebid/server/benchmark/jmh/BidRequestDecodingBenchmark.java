@@ -0,0 +1,80 @@
+package org.prebid.server.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.iab.openrtb.request.BidRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.OrtbTypesResolver;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.JsonMerger;
+import org.prebid.server.json.ObjectMapperProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding of auction request body directly into {@link BidRequest} (used when request has nothing to
+ * normalize) with decoding through normalized {@link JsonNode} tree.
+ * <p>
+ * Readers are configured like in {@link org.prebid.server.auction.requestfactory.AuctionRequestFactory}, so both
+ * ways keep the scale of decimals.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BidRequestDecodingBenchmark {
+
+    private ObjectReader bidRequestTreeReader;
+    private ObjectReader bidRequestReader;
+    private OrtbTypesResolver ortbTypesResolver;
+    private String bidRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+        final JsonNodeFactory exactNodeFactory = JsonNodeFactory.withExactBigDecimals(true);
+        bidRequestTreeReader = mapper.mapper().readerFor(JsonNode.class)
+                .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .with(exactNodeFactory);
+        bidRequestReader = mapper.mapper().readerFor(BidRequest.class)
+                .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .with(exactNodeFactory);
+        ortbTypesResolver = new OrtbTypesResolver(0.0, mapper, new JsonMerger(mapper));
+
+        try (InputStream inputStream = getClass().getResourceAsStream("/requests/auction.json")) {
+            bidRequest = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public BidRequest decodeDirectly() throws IOException {
+        if (ortbTypesResolver.isNormalizationRequired(bidRequest)) {
+            throw new IllegalStateException("Benchmark request is expected to have nothing to normalize");
+        }
+        return bidRequestReader.readValue(bidRequest);
+    }
+
+    @Benchmark
+    public BidRequest decodeThroughTree() throws IOException {
+        final JsonNode bidRequestNode = bidRequestTreeReader.readValue(bidRequest);
+        ortbTypesResolver.normalizeBidRequest(bidRequestNode, new ArrayList<>(), null);
+        return bidRequestReader.readValue(bidRequestNode);
+    }
+}
@@ -0,0 +1,97 @@
+package org.prebid.server.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.response.Bid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.versionconverter.OrtbVersion;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigReaderCache;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.BidsBlocker;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedAttributes;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedBids;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.model.ExecutionResult;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures blocking of bidder response by advertiser domains with account configuration being read for every
+ * response versus reusing readers kept by {@link AccountConfigReaderCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BidsBlockerBenchmark {
+
+    private static final String BIDDER = "bidder";
+    private static final OrtbVersion ORTB_VERSION = OrtbVersion.ORTB_2_5;
+
+    @Param({"10", "1000"})
+    private int blockedDomains;
+
+    @Param({"20"})
+    private int bidsCount;
+
+    private ObjectNode accountConfig;
+    private AccountConfigReaderCache accountConfigReaderCache;
+    private BlockedAttributes blockedAttributes;
+    private List<BidderBid> bids;
+
+    @Setup
+    public void setUp() {
+        accountConfig = JsonNodeFactory.instance.objectNode();
+        accountConfig.putObject("attributes").putObject("badv").put("enforce-blocks", true);
+
+        accountConfigReaderCache = new AccountConfigReaderCache(100);
+
+        blockedAttributes = BlockedAttributes.builder()
+                .badv(IntStream.range(0, blockedDomains).mapToObj(i -> "blocked%d.com".formatted(i)).toList())
+                .build();
+
+        // every other bid is blocked
+        bids = IntStream.range(0, bidsCount)
+                .mapToObj(i -> BidderBid.of(
+                        Bid.builder()
+                                .id("bid" + i)
+                                .impid("imp" + i)
+                                .adomain(List.of(i % 2 == 0 ? "blocked%d.com".formatted(i % blockedDomains)
+                                        : "allowed%d.com".formatted(i)))
+                                .build(),
+                        BidType.banner,
+                        "USD"))
+                .toList();
+    }
+
+    @Benchmark
+    public ExecutionResult<BlockedBids> blockReadingAccountConfig() {
+        return BidsBlocker.create(bids, BIDDER, ORTB_VERSION, accountConfig, blockedAttributes, false).block();
+    }
+
+    @Benchmark
+    public ExecutionResult<BlockedBids> blockWithCachedAccountConfigReader() {
+        return BidsBlocker.create(
+                        bids,
+                        BIDDER,
+                        ORTB_VERSION,
+                        accountConfigReaderCache.readerFor(accountConfig, BIDDER, ORTB_VERSION, false),
+                        blockedAttributes,
+                        false)
+                .block();
+    }
+}
@@ -0,0 +1,142 @@
+package org.prebid.server.benchmark.jmh;
+
+import io.vertx.core.Future;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.geolocation.GeoLocationService;
+import org.prebid.server.geolocation.IpRangeGeoLocationService;
+import org.prebid.server.geolocation.MaxMindGeoLocationService;
+import org.prebid.server.geolocation.model.GeoInfo;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares lookups of {@link IpRangeGeoLocationService} loaded with synthetic table of IPv4 ranges against
+ * {@link MaxMindGeoLocationService}.
+ * <p>
+ * MaxMind database can't be shipped with the benchmark, so path to GeoLite2/GeoIP2 City archive (as downloaded
+ * by PBS) should be given by {@code -p maxMindArchive=<path>}, otherwise MaxMind benchmark fails on setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoLocationBenchmark {
+
+    private static final int IPS_COUNT = 1024;
+    private static final long IPV4_SPACE_SIZE = 1L << Integer.SIZE;
+
+    private String[] ips;
+    private int ipIndex;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        ips = new String[IPS_COUNT];
+        for (int i = 0; i < IPS_COUNT; i++) {
+            ips[i] = toIp(random.nextLong(IPV4_SPACE_SIZE));
+        }
+    }
+
+    @Benchmark
+    public Future<GeoInfo> ipRange(IpRangeState state) {
+        return state.geoLocationService.lookup(nextIp(), null);
+    }
+
+    @Benchmark
+    public Future<GeoInfo> maxMind(MaxMindState state) {
+        return state.geoLocationService.lookup(nextIp(), null);
+    }
+
+    private String nextIp() {
+        ipIndex = (ipIndex + 1) % IPS_COUNT;
+        return ips[ipIndex];
+    }
+
+    private static String toIp(long value) {
+        return "%d.%d.%d.%d".formatted(value >>> 24, (value >>> 16) & 0xFF, (value >>> 8) & 0xFF, value & 0xFF);
+    }
+
+    @State(Scope.Benchmark)
+    public static class IpRangeState {
+
+        private static final String[] COUNTRIES = {"US", "DE", "FR", "GB", "JP", "BR", "IN", "CA"};
+
+        @Param({"500000"})
+        private int ranges;
+
+        private GeoLocationService geoLocationService;
+        private Path dataFile;
+
+        /**
+         * Splits IPv4 space into equal blocks and creates range covering a half of each of them, so about a half
+         * of lookups is missed.
+         */
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            dataFile = Files.createTempFile("ip-ranges", ".csv");
+            final long blockSize = IPV4_SPACE_SIZE / ranges;
+            try (BufferedWriter writer = Files.newBufferedWriter(dataFile)) {
+                for (int i = 0; i < ranges; i++) {
+                    final long start = i * blockSize;
+                    writer.write("%s,%s,%s,R%d%n".formatted(
+                            toIp(start), toIp(start + blockSize / 2), COUNTRIES[i % COUNTRIES.length], i % 50));
+                }
+            }
+
+            final IpRangeGeoLocationService ipRangeGeoLocationService = new IpRangeGeoLocationService();
+            awaitLoading(ipRangeGeoLocationService.setDataPath(dataFile.toString()));
+            geoLocationService = ipRangeGeoLocationService;
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(dataFile);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class MaxMindState {
+
+        @Param({""})
+        private String maxMindArchive;
+
+        private GeoLocationService geoLocationService;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            if (StringUtils.isBlank(maxMindArchive)) {
+                throw new IllegalStateException("MaxMind archive is not set, use -p maxMindArchive=<path>");
+            }
+
+            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
+            awaitLoading(maxMindGeoLocationService.setDataPath(maxMindArchive));
+            geoLocationService = maxMindGeoLocationService;
+        }
+    }
+
+    private static void awaitLoading(Future<?> loading) {
+        if (loading.failed()) {
+            throw new IllegalStateException(loading.cause());
+        }
+    }
+}
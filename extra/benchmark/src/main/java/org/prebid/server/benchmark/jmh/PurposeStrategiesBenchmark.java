@@ -0,0 +1,177 @@
+package org.prebid.server.benchmark.jmh;
+
+import com.iabtcf.decoder.TCString;
+import com.iabtcf.encoder.PublisherRestrictionEntry;
+import com.iabtcf.encoder.TCStringEncoder;
+import com.iabtcf.utils.BitSetIntIterable;
+import com.iabtcf.v2.RestrictionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.privacy.gdpr.model.PrivacyEnforcementAction;
+import org.prebid.server.privacy.gdpr.model.VendorPermission;
+import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeEightStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeFiveStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeFourStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeNineStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeOneStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeSevenStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeSixStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeTenStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeThreeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeTwoStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.BasicEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.FullEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.NoEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.PurposeTwoBasicEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.vendorlist.VendorListIndex;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorV2;
+import org.prebid.server.settings.model.EnforcePurpose;
+import org.prebid.server.settings.model.Purpose;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures evaluation of all TCF purposes with full enforcement for many bidders, the way it's done by
+ * {@link org.prebid.server.privacy.gdpr.Tcf2Service} for each auction subject to GDPR.
+ * <p>
+ * Consent string carries publisher restrictions, so restriction lookups are exercised as well. With
+ * {@code vendorListIndex} vendors are evaluated against precompiled vendor list, as done for loaded vendor lists,
+ * otherwise each vendor is checked against its GVL declarations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PurposeStrategiesBenchmark {
+
+    private static final int VENDOR_EXCEPTIONS_COUNT = 10;
+
+    @Param({"150"})
+    private int bidders;
+
+    @Param({"true", "false"})
+    private boolean vendorListIndex;
+
+    private List<PurposeStrategy> purposeStrategies;
+    private TCString tcString;
+    private List<VendorPermissionWithGvl> vendorPermissions;
+    private VendorListIndex index;
+    private Purpose fullPurpose;
+    private Purpose fullPurposeWithVendorExceptions;
+
+    @Setup
+    public void setUp() {
+        final FullEnforcePurposeStrategy fullStrategy = new FullEnforcePurposeStrategy();
+        final BasicEnforcePurposeStrategy basicStrategy = new BasicEnforcePurposeStrategy();
+        final NoEnforcePurposeStrategy noStrategy = new NoEnforcePurposeStrategy();
+        purposeStrategies = List.of(
+                new PurposeOneStrategy(fullStrategy, basicStrategy, noStrategy),
+                new PurposeTwoStrategy(fullStrategy, new PurposeTwoBasicEnforcePurposeStrategy(), noStrategy),
+                new PurposeThreeStrategy(fullStrategy, basicStrategy, noStrategy),
+                new PurposeFourStrategy(fullStrategy, basicStrategy, noStrategy),
+                new PurposeFiveStrategy(fullStrategy, basicStrategy, noStrategy),
+                new PurposeSixStrategy(fullStrategy, basicStrategy, noStrategy),
+                new PurposeSevenStrategy(fullStrategy, basicStrategy, noStrategy),
+                new PurposeEightStrategy(fullStrategy, basicStrategy, noStrategy),
+                new PurposeNineStrategy(fullStrategy, basicStrategy, noStrategy),
+                new PurposeTenStrategy(fullStrategy, basicStrategy, noStrategy));
+
+        // two thirds of vendors have consent, each fifth vendor is not allowed for purposes 2-4 by publisher
+        tcString = TCStringEncoder.newBuilder()
+                .version(2)
+                .consentLanguage("EN")
+                .vendorListVersion(100)
+                .tcfPolicyVersion(2)
+                .addPurposesConsent(BitSetIntIterable.from(IntStream.rangeClosed(1, 10).toArray()))
+                .addPurposesLITransparency(BitSetIntIterable.from(2, 7, 8, 9, 10))
+                .addVendorConsent(BitSetIntIterable.from(vendorIds(vendorId -> vendorId % 3 != 0)))
+                .addVendorLegitimateInterest(BitSetIntIterable.from(vendorIds(vendorId -> vendorId % 2 == 0)))
+                .addPublisherRestrictionEntry(
+                        restriction(2, RestrictionType.NOT_ALLOWED, vendorIds(vendorId -> vendorId % 5 == 0)),
+                        restriction(3, RestrictionType.NOT_ALLOWED, vendorIds(vendorId -> vendorId % 5 == 0)),
+                        restriction(4, RestrictionType.NOT_ALLOWED, vendorIds(vendorId -> vendorId % 5 == 0)),
+                        restriction(7, RestrictionType.REQUIRE_LEGITIMATE_INTEREST, vendorIds(vendorId -> true)))
+                .toTCString();
+
+        vendorPermissions = IntStream.rangeClosed(1, bidders)
+                .mapToObj(PurposeStrategiesBenchmark::vendorPermission)
+                .toList();
+        final Map<Integer, VendorV2> vendors = vendorPermissions.stream()
+                .map(VendorPermissionWithGvl::getVendorV2)
+                .collect(Collectors.toMap(VendorV2::getId, Function.identity()));
+        index = vendorListIndex ? VendorListIndex.of(vendors) : null;
+
+        fullPurpose = Purpose.of(EnforcePurpose.full, true, Collections.emptyList());
+        fullPurposeWithVendorExceptions = Purpose.of(EnforcePurpose.full, true,
+                IntStream.rangeClosed(1, VENDOR_EXCEPTIONS_COUNT).mapToObj(i -> "bidder" + i * 7).toList());
+    }
+
+    private int[] vendorIds(IntPredicate filter) {
+        return IntStream.rangeClosed(1, bidders).filter(filter).toArray();
+    }
+
+    private static PublisherRestrictionEntry restriction(int purposeId, RestrictionType type, int[] vendorIds) {
+        return new PublisherRestrictionEntry.Builder()
+                .purposeId(purposeId)
+                .restrictionType(type)
+                .addVendor(vendorIds)
+                .build();
+    }
+
+    private static VendorPermissionWithGvl vendorPermission(int vendorId) {
+        final VendorPermission vendorPermission = VendorPermission.of(
+                vendorId, "bidder" + vendorId, PrivacyEnforcementAction.restrictAll());
+
+        // purposes 1-4 and 7 are declared for consent, the rest for legitimate interest, 2 and 7 are flexible for some
+        final VendorV2 vendor = VendorV2.empty(vendorId).toBuilder()
+                .purposes(EnumSet.of(PurposeCode.ONE, PurposeCode.TWO, PurposeCode.THREE, PurposeCode.FOUR,
+                        PurposeCode.SEVEN))
+                .legIntPurposes(EnumSet.of(PurposeCode.FIVE, PurposeCode.SIX, PurposeCode.EIGHT, PurposeCode.NINE,
+                        PurposeCode.TEN))
+                .flexiblePurposes(vendorId % 4 == 0 ? EnumSet.of(PurposeCode.TWO, PurposeCode.SEVEN)
+                        : EnumSet.noneOf(PurposeCode.class))
+                .build();
+
+        return VendorPermissionWithGvl.of(vendorPermission, vendor);
+    }
+
+    @Benchmark
+    public void fullEnforcement(Blackhole blackhole) {
+        evaluatePurposes(fullPurpose, blackhole);
+    }
+
+    @Benchmark
+    public void fullEnforcementWithVendorExceptions(Blackhole blackhole) {
+        evaluatePurposes(fullPurposeWithVendorExceptions, blackhole);
+    }
+
+    private void evaluatePurposes(Purpose purpose, Blackhole blackhole) {
+        for (PurposeStrategy purposeStrategy : purposeStrategies) {
+            blackhole.consume(
+                    purposeStrategy.processTypePurposeStrategy(tcString, purpose, vendorPermissions, index, false));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.prebid.server.benchmark.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.Application;
+import org.prebid.server.health.StartupTimeline;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures cold startup of PBS: time from Spring context creation until the application reports itself ready,
+ * the way it's seen by load balancer polling '/status' endpoint.
+ * <p>
+ * Each fork starts PBS once in a fresh JVM, so class loading and interpretation are part of the result, as they are
+ * in production. Should be run from the benchmark module directory, since PBS configuration is resolved against it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class StartupBenchmark {
+
+    private static final long READINESS_CHECK_PERIOD_MS = 10L;
+
+    @Param({"false", "true"})
+    private boolean parallelInitialization;
+
+    private ConfigurableApplicationContext context;
+
+    @Benchmark
+    public boolean startup() throws InterruptedException {
+        context = SpringApplication.run(Application.class,
+                "--spring.config.additional-location=benchmark-config.yaml",
+                "--startup.parallel-initialization=" + parallelInitialization);
+
+        final StartupTimeline startupTimeline = context.getBean(StartupTimeline.class);
+        while (!startupTimeline.isReady()) {
+            TimeUnit.MILLISECONDS.sleep(READINESS_CHECK_PERIOD_MS);
+        }
+        return true;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        if (context != null) {
+            SpringApplication.exit(context);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.prebid.server.benchmark.jmh;
+
+import com.codahale.metrics.MetricRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.cookie.PrioritizedCoopSyncProvider;
+import org.prebid.server.cookie.UidsCookie;
+import org.prebid.server.cookie.UidsCookieService;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.model.UidsCookieUpdateResult;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures parsing of the 'uids' cookie holding many families and its update, either fitting into the size limit
+ * or requiring trimming to it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UidsCookieBenchmark {
+
+    private static final String UPDATED_FAMILY = "updated-family";
+    private static final String UPDATED_UID = "5d6c1b29-9ab8-4c76-b0de-7a4e9d1fd2c2";
+
+    @Param({"60"})
+    private int families;
+
+    private UidsCookieService largeLimitCookieService;
+    private UidsCookieService limitedCookieService;
+    private UidsCookie uidsCookie;
+    private Map<String, String> cookies;
+
+    @Setup
+    public void setUp() {
+        final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+        final Metrics metrics = new Metrics(new MetricRegistry(), CounterType.counter,
+                new AccountMetricsVerbosityResolver(
+                        AccountMetricsVerbosityLevel.none, Collections.emptyList(), Collections.emptyList()));
+        final PrioritizedCoopSyncProvider prioritizedCoopSyncProvider =
+                new PrioritizedCoopSyncProvider(Collections.emptySet(), new BidderCatalog(List.of()));
+
+        largeLimitCookieService = cookieService(65536, prioritizedCoopSyncProvider, metrics, mapper);
+        // part of the families doesn't fit
+        limitedCookieService = cookieService(families * 50, prioritizedCoopSyncProvider, metrics, mapper);
+
+        final Map<String, UidWithExpiry> uids = IntStream.range(0, families)
+                .mapToObj("family%d"::formatted)
+                .collect(Collectors.toMap(
+                        Function.identity(),
+                        family -> UidWithExpiry.live(family + "-" + UPDATED_UID)));
+        uidsCookie = new UidsCookie(Uids.builder().uids(uids).build(), mapper);
+        cookies = Map.of("uids", largeLimitCookieService.toCookie(uidsCookie).getValue());
+    }
+
+    private static UidsCookieService cookieService(int maxCookieSizeBytes,
+                                                   PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
+                                                   Metrics metrics,
+                                                   JacksonMapper mapper) {
+
+        return new UidsCookieService("trp_optout", "true", null, null, null, 90, maxCookieSizeBytes,
+                prioritizedCoopSyncProvider, metrics, mapper);
+    }
+
+    @Benchmark
+    public Uids parse() {
+        return largeLimitCookieService.parseUids(cookies);
+    }
+
+    @Benchmark
+    public UidsCookieUpdateResult updateWithinLimit() {
+        return largeLimitCookieService.updateUidsCookie(uidsCookie, UPDATED_FAMILY, UPDATED_UID);
+    }
+
+    @Benchmark
+    public UidsCookieUpdateResult updateTrimmingToLimit() {
+        return limitedCookieService.updateUidsCookie(uidsCookie, UPDATED_FAMILY, UPDATED_UID);
+    }
+}
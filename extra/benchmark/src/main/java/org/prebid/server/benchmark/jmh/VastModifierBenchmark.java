@@ -0,0 +1,102 @@
+package org.prebid.server.benchmark.jmh;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.events.EventsService;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.vast.VastModifier;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures injection of the impression tracking URL into VAST of video bid put to cache, as done by
+ * {@link VastModifier} for each video bid when events are enabled.
+ * <p>
+ * VAST document consists of the given number of InLine ads, each of them with a few tracking events and a
+ * media file, plus one Wrapper ad.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VastModifierBenchmark {
+
+    private static final String BIDDER = "generic";
+    private static final String ACCOUNT_ID = "accountId";
+
+    @Param({"1", "20"})
+    private int ads;
+
+    private VastModifier vastModifier;
+    private Set<String> allowedBidders;
+    private PutObject putObject;
+
+    @Setup
+    public void setUp() {
+        final Metrics metrics = new Metrics(new MetricRegistry(), CounterType.counter,
+                new AccountMetricsVerbosityResolver(
+                        AccountMetricsVerbosityLevel.none, Collections.emptyList(), Collections.emptyList()));
+        vastModifier = new VastModifier(
+                new BidderCatalog(List.of()), new EventsService("http://localhost:8080"), metrics);
+        allowedBidders = Set.of(BIDDER);
+
+        putObject = PutObject.builder()
+                .aid("auctionId")
+                .bidid("bidId")
+                .bidder(BIDDER)
+                .timestamp(1000L)
+                .type("xml")
+                .value(new TextNode(vastXml(ads)))
+                .build();
+    }
+
+    private static String vastXml(int ads) {
+        final StringBuilder vastXml = new StringBuilder("<VAST version=\"3.0\">");
+        for (int i = 0; i < ads; i++) {
+            vastXml.append("<Ad id=\"").append(i).append("\"><InLine>")
+                    .append("<AdSystem>Prebid</AdSystem><AdTitle>Ad ").append(i).append("</AdTitle>")
+                    .append("<Impression><![CDATA[https://tracker.com/imp?ad=").append(i).append("]]></Impression>")
+                    .append("<Creatives><Creative><Linear><Duration>00:00:30</Duration><TrackingEvents>");
+            for (String event : List.of("start", "firstQuartile", "midpoint", "thirdQuartile", "complete")) {
+                vastXml.append("<Tracking event=\"").append(event).append("\"><![CDATA[https://tracker.com/")
+                        .append(event).append("?ad=").append(i).append("]]></Tracking>");
+            }
+            vastXml.append("</TrackingEvents><MediaFiles><MediaFile delivery=\"progressive\" type=\"video/mp4\"")
+                    .append(" width=\"640\" height=\"360\"><![CDATA[https://cdn.com/video").append(i)
+                    .append(".mp4]]></MediaFile></MediaFiles></Linear></Creative></Creatives></InLine></Ad>");
+        }
+        vastXml.append("<Ad id=\"wrapper\"><Wrapper><AdSystem>Prebid</AdSystem>")
+                .append("<VASTAdTagURI><![CDATA[https://adserver.com/vast]]></VASTAdTagURI>")
+                .append("<Impression><![CDATA[https://tracker.com/imp?ad=wrapper]]></Impression>")
+                .append("</Wrapper></Ad></VAST>");
+
+        return vastXml.toString();
+    }
+
+    @Benchmark
+    public JsonNode modifyVastXml() {
+        return vastModifier.modifyVastXml(true, allowedBidders, putObject, ACCOUNT_ID, "integration");
+    }
+}
@@ -0,0 +1,73 @@
+package org.prebid.server.benchmark.load;
+
+import lombok.Value;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load benchmark settings, each of them can be overridden by the system property of the same name.
+ */
+@Value
+public class BenchmarkProperties {
+
+    String pbsConfig;
+
+    int pbsPort;
+
+    int stubPort;
+
+    long stubLatencyMs;
+
+    long stubLatencyJitterMs;
+
+    double stubBidRate;
+
+    int concurrency;
+
+    long warmupSeconds;
+
+    long durationSeconds;
+
+    Map<RequestType, Integer> requestMix;
+
+    String resultFile;
+
+    public static BenchmarkProperties fromSystemProperties() {
+        return new BenchmarkProperties(
+                System.getProperty("benchmark.pbs.config", "benchmark-config.yaml"),
+                Integer.getInteger("benchmark.pbs.port", 8080),
+                Integer.getInteger("benchmark.stub.port", 8091),
+                Long.getLong("benchmark.stub.latency-ms", 50L),
+                Long.getLong("benchmark.stub.latency-jitter-ms", 20L),
+                Double.parseDouble(System.getProperty("benchmark.stub.bid-rate", "0.8")),
+                Integer.getInteger("benchmark.concurrency", 64),
+                Long.getLong("benchmark.warmup-seconds", 30L),
+                Long.getLong("benchmark.duration-seconds", 60L),
+                parseRequestMix(System.getProperty("benchmark.request-mix", "auction:8,amp:1,cookie_sync:1")),
+                System.getProperty("benchmark.result-file"));
+    }
+
+    /**
+     * Parses request mix in form of comma-separated "type:weight" pairs, e.g. "auction:8,amp:1,cookie_sync:1".
+     */
+    static Map<RequestType, Integer> parseRequestMix(String requestMix) {
+        final Map<RequestType, Integer> result = new EnumMap<>(RequestType.class);
+        for (String entry : requestMix.split(",")) {
+            final String[] typeAndWeight = entry.trim().split(":");
+            if (typeAndWeight.length != 2) {
+                throw new IllegalArgumentException("Invalid request mix entry: " + entry);
+            }
+
+            final int weight = Integer.parseInt(typeAndWeight[1].trim());
+            if (weight > 0) {
+                result.put(RequestType.valueOf(typeAndWeight[0].trim()), weight);
+            }
+        }
+
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("Request mix doesn't contain any request type: " + requestMix);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,153 @@
+package org.prebid.server.benchmark.load;
+
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Results of load benchmark run together with settings and environment they were obtained with, so runs of
+ * different releases can be compared.
+ */
+@Value
+public class BenchmarkReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+
+    String javaVersion;
+
+    int availableProcessors;
+
+    long maxHeapBytes;
+
+    int concurrency;
+
+    Map<RequestType, Integer> requestMix;
+
+    long stubLatencyMs;
+
+    double stubBidRate;
+
+    long startupMs;
+
+    double durationSeconds;
+
+    long requests;
+
+    long errors;
+
+    double throughput;
+
+    Map<RequestType, RequestTypeReport> requestTypes;
+
+    /**
+     * Allocation rate of the whole process (PBS together with load generator and stub bidder), negative if JVM
+     * doesn't support allocation tracking.
+     */
+    double allocationRateMbPerSecond;
+
+    long gcCount;
+
+    long gcTimeMs;
+
+    double gcTimePercent;
+
+    public static BenchmarkReport create(BenchmarkProperties properties,
+                                         long startupMs,
+                                         LoadResult loadResult,
+                                         JvmStats jvmStats) {
+
+        final double durationSeconds = loadResult.getElapsedNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+
+        final Map<RequestType, RequestTypeReport> requestTypes = new EnumMap<>(RequestType.class);
+        long requests = 0L;
+        long errors = 0L;
+        for (Map.Entry<RequestType, LoadResult.RequestTypeResult> entry : loadResult.getResults().entrySet()) {
+            final RequestTypeReport report = RequestTypeReport.of(entry.getValue(), durationSeconds);
+            requestTypes.put(entry.getKey(), report);
+            requests += report.getRequests();
+            errors += report.getErrors();
+        }
+
+        return new BenchmarkReport(
+                System.getProperty("java.vm.name") + " " + Runtime.version(),
+                Runtime.getRuntime().availableProcessors(),
+                Runtime.getRuntime().maxMemory(),
+                properties.getConcurrency(),
+                properties.getRequestMix(),
+                properties.getStubLatencyMs(),
+                properties.getStubBidRate(),
+                startupMs,
+                durationSeconds,
+                requests,
+                errors,
+                requests / durationSeconds,
+                requestTypes,
+                jvmStats.getAllocatedBytes() >= 0
+                        ? jvmStats.getAllocatedBytes() / BYTES_PER_MEGABYTE / durationSeconds
+                        : -1.0,
+                jvmStats.getGcCount(),
+                jvmStats.getGcTimeMs(),
+                jvmStats.getGcTimeMs() * 100.0 / TimeUnit.NANOSECONDS.toMillis(loadResult.getElapsedNanos()));
+    }
+
+    public void print(PrintStream out) {
+        out.printf("JVM: %s, %d CPUs, max heap %.0f MB%n",
+                javaVersion, availableProcessors, maxHeapBytes / BYTES_PER_MEGABYTE);
+        out.printf("Load: %d concurrent clients, mix %s, stub bidder latency %d ms, bid rate %.2f%n",
+                concurrency, requestMix, stubLatencyMs, stubBidRate);
+        out.printf("Startup: %d ms%n", startupMs);
+        out.println();
+        out.printf("%-12s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "type", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        requestTypes.forEach((requestType, report) -> out.printf(
+                "%-12s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                requestType, report.getRequests(), report.getErrors(), report.getThroughput(),
+                report.getP50Ms(), report.getP90Ms(), report.getP99Ms(), report.getP999Ms(), report.getMaxMs()));
+        out.printf("%-12s %10d %8d %10.1f%n", "total", requests, errors, throughput);
+        out.println();
+        out.printf("Allocation rate: %s%n", allocationRateMbPerSecond >= 0
+                ? "%.1f MB/s".formatted(allocationRateMbPerSecond)
+                : "n/a");
+        out.printf("GC: %d collections, %d ms total (%.2f%% of run time)%n", gcCount, gcTimeMs, gcTimePercent);
+    }
+
+    @Value(staticConstructor = "of")
+    public static class RequestTypeReport {
+
+        long requests;
+
+        long errors;
+
+        double throughput;
+
+        double p50Ms;
+
+        double p90Ms;
+
+        double p99Ms;
+
+        double p999Ms;
+
+        double maxMs;
+
+        static RequestTypeReport of(LoadResult.RequestTypeResult result, double durationSeconds) {
+            final Histogram latencies = result.getLatencies();
+            final long requests = latencies.getTotalCount() + result.getErrors();
+
+            return of(
+                    requests,
+                    result.getErrors(),
+                    requests / durationSeconds,
+                    latencies.getValueAtPercentile(50.0) / MICROS_PER_MILLI,
+                    latencies.getValueAtPercentile(90.0) / MICROS_PER_MILLI,
+                    latencies.getValueAtPercentile(99.0) / MICROS_PER_MILLI,
+                    latencies.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                    latencies.getMaxValue() / MICROS_PER_MILLI);
+        }
+    }
+}
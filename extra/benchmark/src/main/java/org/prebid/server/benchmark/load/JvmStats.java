@@ -0,0 +1,55 @@
+package org.prebid.server.benchmark.load;
+
+import lombok.Value;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Snapshot of JVM-wide counters, the difference of two snapshots describes what happened in between.
+ * <p>
+ * Allocated bytes are summed over live threads only, so allocations of threads terminated between snapshots are
+ * not accounted for. Vert.x event loop and worker threads live as long as the application does.
+ */
+@Value(staticConstructor = "of")
+public class JvmStats {
+
+    long allocatedBytes;
+
+    long gcCount;
+
+    long gcTimeMs;
+
+    public static JvmStats current() {
+        long gcCount = 0L;
+        long gcTimeMs = 0L;
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(gcBean.getCollectionCount(), 0L);
+            gcTimeMs += Math.max(gcBean.getCollectionTime(), 0L);
+        }
+
+        return JvmStats.of(allocatedBytes(), gcCount, gcTimeMs);
+    }
+
+    private static long allocatedBytes() {
+        final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean sunThreadBean)
+                || !sunThreadBean.isThreadAllocatedMemorySupported()) {
+            return -1L;
+        }
+
+        long allocatedBytes = 0L;
+        for (long threadAllocatedBytes : sunThreadBean.getThreadAllocatedBytes(threadBean.getAllThreadIds())) {
+            allocatedBytes += Math.max(threadAllocatedBytes, 0L);
+        }
+        return allocatedBytes;
+    }
+
+    public JvmStats minus(JvmStats other) {
+        return JvmStats.of(
+                allocatedBytes - other.allocatedBytes,
+                gcCount - other.gcCount,
+                gcTimeMs - other.gcTimeMs);
+    }
+}
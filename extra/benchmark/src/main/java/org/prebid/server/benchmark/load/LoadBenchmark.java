@@ -0,0 +1,121 @@
+package org.prebid.server.benchmark.load;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import org.prebid.server.Application;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.vertx.http.BasicHttpClient;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts PBS in-process against embedded stub bidder (also serving as Prebid Cache), loads it with the configured
+ * request mix and reports throughput, latency percentiles, allocation rate and GC activity.
+ * <p>
+ * Benchmark settings are taken from system properties (see {@link BenchmarkProperties}), while program arguments
+ * are passed to PBS as is, e.g. {@code --startup.parallel-initialization=true}. Should be run from the benchmark module
+ * directory, since PBS configuration and request files are resolved against it.
+ */
+public class LoadBenchmark {
+
+    private static final long READINESS_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(5);
+    private static final long READINESS_CHECK_PERIOD_MS = 100L;
+
+    public static void main(String[] args) throws Exception {
+        final BenchmarkProperties properties = BenchmarkProperties.fromSystemProperties();
+        final Vertx vertx = Vertx.vertx();
+
+        final StubBidderServer stubBidderServer = new StubBidderServer(vertx,
+                properties.getStubLatencyMs(), properties.getStubLatencyJitterMs(), properties.getStubBidRate());
+        await(stubBidderServer.start(properties.getStubPort()));
+
+        final long startupStartTime = System.nanoTime();
+        final ConfigurableApplicationContext context =
+                SpringApplication.run(Application.class, pbsArguments(properties, args));
+
+        final HttpClient httpClient = new BasicHttpClient(vertx, vertx.createHttpClient(new HttpClientOptions()
+                .setMaxPoolSize(properties.getConcurrency())
+                .setKeepAlive(true)));
+        final String baseUrl = "http://localhost:" + properties.getPbsPort();
+
+        awaitReadiness(httpClient, baseUrl);
+        final long startupMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startupStartTime);
+        System.out.printf("PBS is ready in %d ms%n", startupMs);
+
+        final LoadGenerator loadGenerator = new LoadGenerator(
+                vertx, httpClient, baseUrl, properties.getConcurrency(), properties.getRequestMix());
+
+        System.out.printf("Warming up for %d seconds%n", properties.getWarmupSeconds());
+        await(loadGenerator.run(Duration.ofSeconds(properties.getWarmupSeconds())));
+
+        System.out.printf("Measuring for %d seconds%n", properties.getDurationSeconds());
+        final JvmStats jvmStatsBefore = JvmStats.current();
+        final LoadResult loadResult = await(loadGenerator.run(Duration.ofSeconds(properties.getDurationSeconds())));
+        final JvmStats jvmStats = JvmStats.current().minus(jvmStatsBefore);
+
+        final BenchmarkReport report = BenchmarkReport.create(properties, startupMs, loadResult, jvmStats);
+        System.out.println();
+        report.print(System.out);
+        if (properties.getResultFile() != null) {
+            ObjectMapperProvider.mapper().writerWithDefaultPrettyPrinter()
+                    .writeValue(new File(properties.getResultFile()), report);
+        }
+
+        final int exitCode = SpringApplication.exit(context);
+        await(stubBidderServer.stop());
+        vertx.close();
+        System.exit(exitCode);
+    }
+
+    private static String[] pbsArguments(BenchmarkProperties properties, String[] args) {
+        final List<String> arguments = new ArrayList<>(List.of(
+                "--spring.config.additional-location=" + properties.getPbsConfig(),
+                "--server.http.port=" + properties.getPbsPort(),
+                "--adapters.generic.endpoint=http://localhost:%d/bid".formatted(properties.getStubPort()),
+                "--cache.host=localhost:" + properties.getStubPort()));
+        arguments.addAll(Arrays.asList(args));
+        return arguments.toArray(String[]::new);
+    }
+
+    /**
+     * Waits for status endpoint to report PBS ready, which also covers warm-up if it's enabled.
+     */
+    private static void awaitReadiness(HttpClient httpClient, String baseUrl) throws Exception {
+        final long deadline = System.currentTimeMillis() + READINESS_TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            final Future<HttpClientResponse> response = httpClient.get(baseUrl + "/status", 1000L)
+                    .otherwiseEmpty();
+            final HttpClientResponse statusResponse = await(response);
+            if (statusResponse != null && statusResponse.getStatusCode() < 300) {
+                return;
+            }
+            TimeUnit.MILLISECONDS.sleep(READINESS_CHECK_PERIOD_MS);
+        }
+
+        throw new IllegalStateException("PBS is not ready within %d ms".formatted(READINESS_TIMEOUT_MS));
+    }
+
+    private static <T> T await(Future<T> future) throws InterruptedException, ExecutionException {
+        final CompletableFuture<T> completableFuture = new CompletableFuture<>();
+        future.onComplete(result -> {
+            if (result.succeeded()) {
+                completableFuture.complete(result.result());
+            } else {
+                completableFuture.completeExceptionally(result.cause());
+            }
+        });
+        return completableFuture.get();
+    }
+}
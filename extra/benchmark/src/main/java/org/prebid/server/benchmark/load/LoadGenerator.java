@@ -0,0 +1,151 @@
+package org.prebid.server.benchmark.load;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load generator: each of concurrent clients sends the next request right after the previous one is
+ * answered, picking request type randomly according to the request mix.
+ * <p>
+ * Latency is measured from sending request till the whole response is read, so it includes queueing inside PBS
+ * but not the time client would wait if PBS fell behind (closed-loop model doesn't account for coordinated omission).
+ */
+public class LoadGenerator {
+
+    private static final long REQUEST_TIMEOUT_MS = 5000L;
+    private static final long HIGHEST_TRACKABLE_LATENCY_US = TimeUnit.MILLISECONDS.toMicros(REQUEST_TIMEOUT_MS) * 2;
+
+    private final Vertx vertx;
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final int concurrency;
+    private final List<RequestType> weightedRequestTypes;
+    private final Map<RequestType, String> bodies;
+    private final MultiMap headers;
+
+    public LoadGenerator(Vertx vertx,
+                         HttpClient httpClient,
+                         String baseUrl,
+                         int concurrency,
+                         Map<RequestType, Integer> requestMix) throws IOException {
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.baseUrl = Objects.requireNonNull(baseUrl);
+        this.concurrency = concurrency;
+
+        weightedRequestTypes = new ArrayList<>();
+        bodies = new EnumMap<>(RequestType.class);
+        for (Map.Entry<RequestType, Integer> entry : requestMix.entrySet()) {
+            final RequestType requestType = entry.getKey();
+            for (int i = 0; i < entry.getValue(); i++) {
+                weightedRequestTypes.add(requestType);
+            }
+            if (requestType.getBodyFile() != null) {
+                bodies.put(requestType, Files.readString(Paths.get(requestType.getBodyFile())));
+            }
+        }
+
+        headers = MultiMap.caseInsensitiveMultiMap()
+                .add(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_JSON_CONTENT_TYPE)
+                .add(HttpUtil.USER_AGENT_HEADER, "Mozilla/5.0 (X11; Linux x86_64) PBS benchmark")
+                .add(HttpUtil.X_FORWARDED_FOR_HEADER, "151.101.194.216")
+                .add(HttpUtil.REFERER_HEADER, "https://example.com/article");
+    }
+
+    /**
+     * Generates load for the given duration, completes when all in-flight requests are answered.
+     */
+    public Future<LoadResult> run(Duration duration) {
+        final Map<RequestType, RequestStats> stats = new EnumMap<>(RequestType.class);
+        for (RequestType requestType : weightedRequestTypes) {
+            stats.computeIfAbsent(requestType, ignored -> new RequestStats());
+        }
+
+        final Promise<LoadResult> promise = Promise.promise();
+        final long startTime = System.nanoTime();
+        final long deadline = startTime + duration.toNanos();
+        final AtomicInteger activeClients = new AtomicInteger(concurrency);
+
+        final Runnable completion = () -> {
+            if (activeClients.decrementAndGet() == 0) {
+                promise.complete(LoadResult.of(System.nanoTime() - startTime, toResults(stats)));
+            }
+        };
+
+        // each client gets its own event loop context, so load is spread among event loop threads
+        for (int i = 0; i < concurrency; i++) {
+            vertx.runOnContext(ignored -> sendNext(stats, deadline, completion));
+        }
+
+        return promise.future();
+    }
+
+    private void sendNext(Map<RequestType, RequestStats> stats, long deadline, Runnable completion) {
+        final long startTime = System.nanoTime();
+        if (startTime >= deadline) {
+            completion.run();
+            return;
+        }
+
+        final RequestType requestType = weightedRequestTypes.get(
+                ThreadLocalRandom.current().nextInt(weightedRequestTypes.size()));
+
+        httpClient.request(requestType.getMethod(), baseUrl + requestType.getUri(), headers,
+                        bodies.get(requestType), REQUEST_TIMEOUT_MS)
+                .onComplete(result -> {
+                    stats.get(requestType).record(result, System.nanoTime() - startTime);
+                    sendNext(stats, deadline, completion);
+                });
+    }
+
+    private static Map<RequestType, LoadResult.RequestTypeResult> toResults(Map<RequestType, RequestStats> stats) {
+        final Map<RequestType, LoadResult.RequestTypeResult> results = new EnumMap<>(RequestType.class);
+        stats.forEach((requestType, requestStats) -> results.put(requestType, requestStats.toResult()));
+        return results;
+    }
+
+    private static class RequestStats {
+
+        private final Recorder latencies = new Recorder(HIGHEST_TRACKABLE_LATENCY_US, 3);
+
+        private final LongAdder errors = new LongAdder();
+
+        void record(AsyncResult<HttpClientResponse> result, long latencyNanos) {
+            if (result.failed() || result.result().getStatusCode() >= 400) {
+                errors.increment();
+                return;
+            }
+
+            final long latencyUs = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+            latencies.recordValue(Math.min(latencyUs, HIGHEST_TRACKABLE_LATENCY_US));
+        }
+
+        LoadResult.RequestTypeResult toResult() {
+            final Histogram histogram = latencies.getIntervalHistogram();
+            return LoadResult.RequestTypeResult.of(histogram, errors.sum());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.prebid.server.benchmark.load;
+
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+@Value(staticConstructor = "of")
+public class LoadResult {
+
+    long elapsedNanos;
+
+    Map<RequestType, RequestTypeResult> results;
+
+    @Value(staticConstructor = "of")
+    public static class RequestTypeResult {
+
+        /**
+         * Latencies of successful requests in microseconds.
+         */
+        Histogram latencies;
+
+        long errors;
+    }
+}
@@ -0,0 +1,27 @@
+package org.prebid.server.benchmark.load;
+
+import io.vertx.core.http.HttpMethod;
+import lombok.Getter;
+
+/**
+ * Types of requests sent to PBS by load generator, body files are resolved against working directory.
+ */
+@Getter
+public enum RequestType {
+
+    auction(HttpMethod.POST, "/openrtb2/auction", "data/requests/auction.json"),
+    amp(HttpMethod.GET, "/openrtb2/amp?tag_id=benchmark-amp&account=1001", null),
+    cookie_sync(HttpMethod.POST, "/cookie_sync", "data/requests/cookie-sync.json");
+
+    private final HttpMethod method;
+
+    private final String uri;
+
+    private final String bodyFile;
+
+    RequestType(HttpMethod method, String uri, String bodyFile) {
+        this.method = method;
+        this.uri = uri;
+        this.bodyFile = bodyFile;
+    }
+}
@@ -0,0 +1,130 @@
+package org.prebid.server.benchmark.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.util.HttpUtil;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * OpenRTB bidder answering to PBS with configured latency and bid rate, so PBS can be loaded without external
+ * dependencies. Also serves as Prebid Cache storing nothing.
+ * <p>
+ * Each imp is bid with probability of bid rate, response without bids is sent as 204 No Content.
+ */
+public class StubBidderServer {
+
+    private static final ObjectMapper MAPPER = ObjectMapperProvider.mapper();
+
+    private static final String CACHE_PATH = "/cache";
+
+    private final Vertx vertx;
+    private final long latencyMs;
+    private final long latencyJitterMs;
+    private final double bidRate;
+
+    private HttpServer server;
+
+    public StubBidderServer(Vertx vertx, long latencyMs, long latencyJitterMs, double bidRate) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.latencyMs = latencyMs;
+        this.latencyJitterMs = latencyJitterMs;
+        this.bidRate = bidRate;
+    }
+
+    public Future<Void> start(int port) {
+        final Promise<HttpServer> promise = Promise.promise();
+        server = vertx.createHttpServer()
+                .requestHandler(request -> request.bodyHandler(body -> handle(request, body)))
+                .listen(port, promise);
+        return promise.future().mapEmpty();
+    }
+
+    public Future<Void> stop() {
+        final Promise<Void> promise = Promise.promise();
+        server.close(promise);
+        return promise.future();
+    }
+
+    private void handle(HttpServerRequest request, Buffer body) {
+        final String response;
+        try {
+            final JsonNode requestBody = MAPPER.readTree(body.getBytes());
+            if (CACHE_PATH.equals(request.path())) {
+                respond(request, cacheResponse(requestBody));
+                return;
+            }
+            response = bidResponse(requestBody);
+        } catch (IOException e) {
+            request.response().setStatusCode(400).end(e.getMessage());
+            return;
+        }
+
+        final long jitter = latencyJitterMs > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMs + 1) : 0L;
+        final long delay = latencyMs + jitter;
+        if (delay > 0) {
+            vertx.setTimer(delay, ignored -> respond(request, response));
+        } else {
+            respond(request, response);
+        }
+    }
+
+    private String bidResponse(JsonNode bidRequest) throws IOException {
+        final ArrayNode bids = MAPPER.createArrayNode();
+        for (JsonNode imp : bidRequest.path("imp")) {
+            if (ThreadLocalRandom.current().nextDouble() < bidRate) {
+                final JsonNode format = imp.path("banner").path("format").path(0);
+                final ObjectNode bid = bids.addObject()
+                        .put("id", "bid-" + imp.path("id").asText())
+                        .put("impid", imp.path("id").asText())
+                        .put("price", 0.5 + ThreadLocalRandom.current().nextDouble(2.0))
+                        .put("adm", "<div>benchmark creative</div>")
+                        .put("crid", "benchmark-creative")
+                        .put("w", format.path("w").asInt(300))
+                        .put("h", format.path("h").asInt(250));
+                bid.putArray("adomain").add("example.com");
+            }
+        }
+
+        if (bids.isEmpty()) {
+            return null;
+        }
+
+        final ObjectNode bidResponse = MAPPER.createObjectNode()
+                .put("id", bidRequest.path("id").asText())
+                .put("cur", "USD");
+        bidResponse.putArray("seatbid").addObject().set("bid", bids);
+        return MAPPER.writeValueAsString(bidResponse);
+    }
+
+    private static String cacheResponse(JsonNode cacheRequest) throws IOException {
+        final ObjectNode cacheResponse = MAPPER.createObjectNode();
+        final ArrayNode responses = cacheResponse.putArray("responses");
+        for (int i = 0; i < cacheRequest.path("puts").size(); i++) {
+            responses.addObject().put("uuid", "benchmark-" + i);
+        }
+        return MAPPER.writeValueAsString(cacheResponse);
+    }
+
+    private static void respond(HttpServerRequest request, String response) {
+        if (response == null) {
+            request.response().setStatusCode(204).end();
+        } else {
+            request.response()
+                    .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON)
+                    .end(response);
+        }
+    }
+}
@@ -28,6 +28,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -69,11 +70,15 @@ public class AccountConfigReader {
     private final OrtbVersion ortbVersion;
     private final boolean debugEnabled;
 
+    private final Map<String, Result<ResponseBlockingConfig>> mediaTypeToResponseBlockingConfig;
+
     private AccountConfigReader(ObjectNode config, String bidder, OrtbVersion ortbVersion, boolean debugEnabled) {
         this.config = config;
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
         this.debugEnabled = debugEnabled;
+
+        mediaTypeToResponseBlockingConfig = new ConcurrentHashMap<>();
     }
 
     public static AccountConfigReader create(ObjectNode config,
@@ -108,10 +113,28 @@ public class AccountConfigReader {
                 MergeUtils.mergeMessages(badv, bcat, cattaxComplement, bapp, btype, battr));
     }
 
+    /**
+     * Resolves blocking config for the bid.
+     * <p>
+     * Configs for bids without deals depend only on bid media type, so they are resolved once per media type and
+     * remembered by this reader, others are resolved from account configuration every time.
+     */
     public Result<ResponseBlockingConfig> responseBlockingConfigFor(BidderBid bidderBid) {
-        final Set<String> bidMediaTypes = mediaTypesFrom(bidderBid);
         final String dealid = bidderBid.getBid().getDealid();
+        if (StringUtils.isNotBlank(dealid)) {
+            return responseBlockingConfigFor(mediaTypesFrom(bidderBid), dealid);
+        }
+
+        final String mediaType = bidderBid.getType().getName();
+        final Result<ResponseBlockingConfig> responseBlockingConfig = mediaTypeToResponseBlockingConfig.get(mediaType);
+
+        return responseBlockingConfig != null
+                ? responseBlockingConfig
+                : mediaTypeToResponseBlockingConfig.computeIfAbsent(
+                mediaType, key -> responseBlockingConfigFor(mediaTypesFrom(bidderBid), null));
+    }
 
+    private Result<ResponseBlockingConfig> responseBlockingConfigFor(Set<String> bidMediaTypes, String dealid) {
         final Result<BidAttributeBlockingConfig<String>> badv = blockingConfigForAttribute(
                 BADV_FIELD,
                 String.class,
@@ -0,0 +1,64 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import org.prebid.server.auction.versionconverter.OrtbVersion;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps {@link AccountConfigReader}s between auctions, so configs resolved by them are not re-read from account
+ * configuration for every bidder response.
+ * <p>
+ * Readers are bound to the account configuration content, so they are reused whether or not accounts are kept by
+ * {@code settings.in-memory-cache}, and an account update changing the configuration brings new readers. Lookup by
+ * configuration instance goes first, so cached accounts don't pay for hashing and comparing configuration content
+ * on every call.
+ */
+public class AccountConfigReaderCache {
+
+    private final Map<ObjectNode, Map<ReaderKey, AccountConfigReader>> instanceCache;
+    private final Map<ObjectNode, Map<ReaderKey, AccountConfigReader>> contentCache;
+
+    public AccountConfigReaderCache(long maxSize) {
+        instanceCache = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(maxSize)
+                .<ObjectNode, Map<ReaderKey, AccountConfigReader>>build()
+                .asMap();
+        contentCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .<ObjectNode, Map<ReaderKey, AccountConfigReader>>build()
+                .asMap();
+    }
+
+    public AccountConfigReader readerFor(ObjectNode accountConfig,
+                                         String bidder,
+                                         OrtbVersion ortbVersion,
+                                         boolean debugEnabled) {
+
+        if (accountConfig == null) {
+            return AccountConfigReader.create(null, bidder, ortbVersion, debugEnabled);
+        }
+
+        final Map<ReaderKey, AccountConfigReader> readers =
+                instanceCache.computeIfAbsent(accountConfig, config ->
+                        contentCache.computeIfAbsent(config, ignored -> new ConcurrentHashMap<>()));
+
+        return readers.computeIfAbsent(
+                ReaderKey.of(bidder, ortbVersion, debugEnabled),
+                key -> AccountConfigReader.create(accountConfig, bidder, ortbVersion, debugEnabled));
+    }
+
+    @Value(staticConstructor = "of")
+    private static class ReaderKey {
+
+        String bidder;
+
+        OrtbVersion ortbVersion;
+
+        boolean debugEnabled;
+    }
+}
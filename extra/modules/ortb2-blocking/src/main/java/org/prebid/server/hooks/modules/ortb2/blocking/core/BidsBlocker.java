@@ -20,6 +20,7 @@ import org.prebid.server.hooks.modules.ortb2.blocking.core.util.MergeUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -43,23 +44,34 @@ public class BidsBlocker {
     private final List<BidderBid> bids;
     private final String bidder;
     private final OrtbVersion ortbVersion;
-    private final ObjectNode accountConfig;
+    private final AccountConfigReader accountConfigReader;
     private final BlockedAttributes blockedAttributes;
     private final boolean debugEnabled;
 
+    private final Set<String> blockedBadv;
+    private final Set<String> blockedBcat;
+    private final Set<String> blockedBapp;
+    private final Map<String, Set<Integer>> impIdToBlockedBattr;
+
     private BidsBlocker(List<BidderBid> bids,
                         String bidder,
                         OrtbVersion ortbVersion,
-                        ObjectNode accountConfig,
+                        AccountConfigReader accountConfigReader,
                         BlockedAttributes blockedAttributes,
                         boolean debugEnabled) {
 
         this.bids = bids;
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
-        this.accountConfig = accountConfig;
+        this.accountConfigReader = accountConfigReader;
         this.blockedAttributes = blockedAttributes;
         this.debugEnabled = debugEnabled;
+
+        // blocked values lists may be large, so they are turned to sets once instead of scanning them for every bid
+        blockedBadv = toSet(blockedAttributeValues(BlockedAttributes::getBadv));
+        blockedBcat = toSet(blockedAttributeValues(BlockedAttributes::getBcat));
+        blockedBapp = toSet(blockedAttributeValues(BlockedAttributes::getBapp));
+        impIdToBlockedBattr = new HashMap<>();
     }
 
     public static BidsBlocker create(List<BidderBid> bids,
@@ -69,23 +81,36 @@ public class BidsBlocker {
                                      BlockedAttributes blockedAttributes,
                                      boolean debugEnabled) {
 
+        return create(
+                bids,
+                bidder,
+                ortbVersion,
+                AccountConfigReader.create(accountConfig, bidder, ortbVersion, debugEnabled),
+                blockedAttributes,
+                debugEnabled);
+    }
+
+    public static BidsBlocker create(List<BidderBid> bids,
+                                     String bidder,
+                                     OrtbVersion ortbVersion,
+                                     AccountConfigReader accountConfigReader,
+                                     BlockedAttributes blockedAttributes,
+                                     boolean debugEnabled) {
+
         return new BidsBlocker(
                 Objects.requireNonNull(bids),
                 Objects.requireNonNull(bidder),
                 Objects.requireNonNull(ortbVersion),
-                accountConfig,
+                Objects.requireNonNull(accountConfigReader),
                 blockedAttributes,
                 debugEnabled);
     }
 
     public ExecutionResult<BlockedBids> block() {
-        final AccountConfigReader accountConfigReader = AccountConfigReader.create(
-                accountConfig, bidder, ortbVersion, debugEnabled);
-
         try {
             final List<Result<BlockingResult>> blockedBidResults = bids.stream()
                     .sequential()
-                    .map(bid -> isBlocked(bid, accountConfigReader))
+                    .map(this::isBlocked)
                     .toList();
 
             final Set<Integer> blockedBidIndexes = IntStream.range(0, bids.size())
@@ -107,7 +132,7 @@ public class BidsBlocker {
         }
     }
 
-    private Result<BlockingResult> isBlocked(BidderBid bidderBid, AccountConfigReader accountConfigReader) {
+    private Result<BlockingResult> isBlocked(BidderBid bidderBid) {
         final Result<ResponseBlockingConfig> blockingConfigResult = accountConfigReader
                 .responseBlockingConfigFor(bidderBid);
         final ResponseBlockingConfig blockingConfig = blockingConfigResult.getValue();
@@ -127,14 +152,14 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getAdomain(),
                 blockingConfig.getBadv(),
-                blockedAttributeValues(BlockedAttributes::getBadv));
+                blockedBadv);
     }
 
     private AttributeCheckResult<String> checkBcat(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
         return checkAttribute(
                 bidderBid.getBid().getCat(),
                 blockingConfig.getBcat(),
-                blockedAttributeValues(BlockedAttributes::getBcat));
+                blockedBcat);
     }
 
     private AttributeCheckResult<Integer> checkCattax(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
@@ -155,7 +180,7 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getBundle(),
                 blockingConfig.getBapp(),
-                blockedAttributeValues(BlockedAttributes::getBapp));
+                blockedBapp);
     }
 
     private AttributeCheckResult<Integer> checkBattr(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
@@ -163,12 +188,12 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getAttr(),
                 blockingConfig.getBattr(),
-                blockedAttributeValues(BlockedAttributes::getBattr, bidderBid.getBid().getImpid()));
+                blockedBattrFor(bidderBid.getBid().getImpid()));
     }
 
     private <T> AttributeCheckResult<T> checkAttribute(List<T> attribute,
                                                        BidAttributeBlockingConfig<T> blockingConfig,
-                                                       List<T> blockedAttributeValues) {
+                                                       Set<T> blockedAttributeValues) {
 
         if (blockingConfig == null || !blockingConfig.isEnforceBlocks()) {
             return AttributeCheckResult.succeeded();
@@ -196,7 +221,7 @@ public class BidsBlocker {
 
     private AttributeCheckResult<String> checkAttribute(String attribute,
                                                         BidAttributeBlockingConfig<String> blockingConfig,
-                                                        List<String> blockedAttributeValues) {
+                                                        Set<String> blockedAttributeValues) {
 
         if (blockingConfig == null
                 || !blockingConfig.isEnforceBlocks()
@@ -233,10 +258,17 @@ public class BidsBlocker {
         return blockedAttributes != null ? getter.apply(blockedAttributes) : null;
     }
 
-    private <T> T blockedAttributeValues(Function<BlockedAttributes, Map<String, T>> getter, String impId) {
-        final Map<String, T> blockedAttributeValues = blockedAttributeValues(getter);
+    private Set<Integer> blockedBattrFor(String impId) {
+        final Map<String, List<Integer>> blockedBattr = blockedAttributeValues(BlockedAttributes::getBattr);
+        if (blockedBattr == null) {
+            return null;
+        }
+
+        return impIdToBlockedBattr.computeIfAbsent(impId, key -> toSet(blockedBattr.get(key)));
+    }
 
-        return blockedAttributeValues != null ? blockedAttributeValues.get(impId) : null;
+    private static <T> Set<T> toSet(List<T> values) {
+        return values != null ? new HashSet<>(values) : null;
     }
 
     private List<String> debugMessages(Set<Integer> blockedBidIndexes, List<Result<BlockingResult>> blockedBidResults) {
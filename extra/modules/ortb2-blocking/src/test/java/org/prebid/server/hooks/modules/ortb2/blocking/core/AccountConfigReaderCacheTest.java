@@ -0,0 +1,69 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Test;
+import org.prebid.server.auction.versionconverter.OrtbVersion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccountConfigReaderCacheTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final OrtbVersion ORTB_VERSION = OrtbVersion.ORTB_2_5;
+
+    private final AccountConfigReaderCache cache = new AccountConfigReaderCache(100L);
+
+    @Test
+    public void readerForShouldReturnSameReaderForSameAccountConfigAndBidder() {
+        // given
+        final ObjectNode accountConfig = mapper.createObjectNode().set("attributes", mapper.createObjectNode());
+
+        // when
+        final AccountConfigReader reader = cache.readerFor(accountConfig, "bidder1", ORTB_VERSION, true);
+
+        // then
+        assertThat(cache.readerFor(accountConfig, "bidder1", ORTB_VERSION, true)).isSameAs(reader);
+        assertThat(cache.readerFor(accountConfig, "bidder2", ORTB_VERSION, true)).isNotSameAs(reader);
+        assertThat(cache.readerFor(accountConfig, "bidder1", ORTB_VERSION, false)).isNotSameAs(reader);
+    }
+
+    @Test
+    public void readerForShouldReturnSameReaderForEqualAccountConfigInstance() {
+        // given
+        final ObjectNode accountConfig = mapper.createObjectNode().set("attributes", mapper.createObjectNode());
+        final AccountConfigReader reader = cache.readerFor(accountConfig, "bidder1", ORTB_VERSION, true);
+
+        // when
+        final AccountConfigReader result = cache.readerFor(accountConfig.deepCopy(), "bidder1", ORTB_VERSION, true);
+
+        // then
+        assertThat(result).isSameAs(reader);
+    }
+
+    @Test
+    public void readerForShouldReturnNewReaderForUpdatedAccountConfig() {
+        // given
+        final ObjectNode accountConfig = mapper.createObjectNode().set("attributes", mapper.createObjectNode());
+        final AccountConfigReader reader = cache.readerFor(accountConfig, "bidder1", ORTB_VERSION, true);
+
+        final ObjectNode updatedAccountConfig = accountConfig.deepCopy();
+        updatedAccountConfig.with("attributes").set("badv", mapper.createObjectNode());
+
+        // when
+        final AccountConfigReader result = cache.readerFor(updatedAccountConfig, "bidder1", ORTB_VERSION, true);
+
+        // then
+        assertThat(result).isNotSameAs(reader);
+    }
+
+    @Test
+    public void readerForShouldNotRememberReaderWhenNoAccountConfig() {
+        // when
+        final AccountConfigReader reader = cache.readerFor(null, "bidder1", ORTB_VERSION, true);
+
+        // then
+        assertThat(cache.readerFor(null, "bidder1", ORTB_VERSION, true)).isNotSameAs(reader);
+    }
+}
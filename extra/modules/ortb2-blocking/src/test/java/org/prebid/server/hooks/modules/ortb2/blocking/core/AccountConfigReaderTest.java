@@ -1249,6 +1249,31 @@ public class AccountConfigReaderTest {
         });
     }
 
+    @Test
+    public void responseBlockingConfigForShouldReuseResultForBidsWithoutDealsOfSameMediaType() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .enforceBlocks(true)
+                        .blockUnknown(true)
+                        .build())
+                .build()));
+        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+
+        // when
+        final Result<ResponseBlockingConfig> bannerResult = reader.responseBlockingConfigFor(
+                BidderBid.of(Bid.builder().id("bid1").build(), BidType.banner, "USD"));
+        final Result<ResponseBlockingConfig> anotherBannerResult = reader.responseBlockingConfigFor(
+                BidderBid.of(Bid.builder().id("bid2").build(), BidType.banner, "USD"));
+        final Result<ResponseBlockingConfig> videoResult = reader.responseBlockingConfigFor(
+                BidderBid.of(Bid.builder().id("bid3").build(), BidType.video, "USD"));
+
+        // then
+        assertThat(bannerResult.getValue().getBadv()).isEqualTo(BidAttributeBlockingConfig.of(true, true, emptySet()));
+        assertThat(anotherBannerResult).isSameAs(bannerResult);
+        assertThat(videoResult).isNotSameAs(bannerResult).isEqualTo(bannerResult);
+    }
+
     private static BidRequest emptyRequest() {
         return BidRequest.builder()
                 .imp(singletonList(Imp.builder().build()))
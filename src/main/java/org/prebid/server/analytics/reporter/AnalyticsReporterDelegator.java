@@ -58,6 +58,8 @@ public class AnalyticsReporterDelegator {
     private final Set<Integer> reporterVendorIds;
     private final Set<String> reporterNames;
 
+    private volatile boolean reportingSuspended;
+
     public AnalyticsReporterDelegator(double logSamplingRate,
                                       List<AnalyticsReporter> delegates,
                                       Vertx vertx,
@@ -74,13 +76,33 @@ public class AnalyticsReporterDelegator {
         reporterNames = delegates.stream().map(AnalyticsReporter::name).collect(Collectors.toSet());
     }
 
+    /**
+     * Makes all further events be dropped until {@link #resumeReporting()} is called, so synthetic traffic is not
+     * reported.
+     */
+    public void suspendReporting() {
+        reportingSuspended = true;
+    }
+
+    public void resumeReporting() {
+        reportingSuspended = false;
+    }
+
     public <T> void processEvent(T event) {
+        if (reportingSuspended) {
+            return;
+        }
+
         for (AnalyticsReporter analyticsReporter : delegates) {
             vertx.runOnContext(ignored -> processEventByReporter(analyticsReporter, event));
         }
     }
 
     public <T> void processEvent(T event, TcfContext tcfContext) {
+        if (reportingSuspended) {
+            return;
+        }
+
         privacyEnforcementService.resultForVendorIds(reporterVendorIds, tcfContext)
                 .onComplete(privacyEnforcementMap -> delegateEvent(event, tcfContext, privacyEnforcementMap));
     }
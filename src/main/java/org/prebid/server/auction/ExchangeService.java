@@ -1886,6 +1886,11 @@ public class ExchangeService {
                 hookOutcome.getExecutionTime(),
                 action);
 
+        final Long cpuTimeMicros = hookOutcome.getCpuTimeMicros();
+        if (cpuTimeMicros != null) {
+            metrics.updateHookCpuTimeMetric(moduleCode, stage, hookId.getHookImplCode(), cpuTimeMicros);
+        }
+
         // account might be null if request is rejected by the entrypoint hook
         if (account != null) {
             metrics.updateAccountHooksMetrics(account, moduleCode, status, action);
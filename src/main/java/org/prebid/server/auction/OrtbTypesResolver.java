@@ -1,6 +1,8 @@
 package org.prebid.server.auction;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
@@ -15,6 +17,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
 import org.prebid.server.log.ConditionalLogger;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -46,6 +49,8 @@ public class OrtbTypesResolver {
     private static final String UNKNOWN_REFERER = "unknown referer";
     private static final String DATA = "data";
     private static final String EXT = "ext";
+    private static final String PREBID = "prebid";
+    private static final String BIDDERCONFIG = "bidderconfig";
 
     private static final Map<String, Set<String>> FIRST_ARRAY_ELEMENT_STANDARD_FIELDS;
     private static final Map<String, Set<String>> FIRST_ARRAY_ELEMENT_REQUEST_FIELDS;
@@ -107,6 +112,99 @@ public class OrtbTypesResolver {
         processWarnings(resolverWarnings, warnings, rowOriginBidRequest, referer, BIDREQUEST);
     }
 
+    /**
+     * Checks whether {@param bidRequest} has fields that should be normalized by
+     * {@link #normalizeBidRequest(JsonNode, List, String)}.
+     * <p>
+     * Request is scanned token by token without building {@link JsonNode} tree, so well-formed requests
+     * (vast majority of them) can be decoded directly. Malformed JSON is considered as requiring normalization
+     * to let regular decoding report the error.
+     */
+    public boolean isNormalizationRequired(String bidRequest) {
+        try (JsonParser parser = jacksonMapper.mapper().createParser(bidRequest)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return true;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.getCurrentName();
+                final JsonToken valueToken = parser.nextToken();
+
+                final boolean normalizationRequired = switch (fieldName) {
+                    case USER, APP, SITE -> isFpdContainerNormalizationRequired(parser, fieldName, valueToken);
+                    case EXT -> isExtNormalizationRequired(parser, valueToken);
+                    default -> skipValue(parser);
+                };
+                if (normalizationRequired) {
+                    return true;
+                }
+            }
+
+            return false;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private static boolean isFpdContainerNormalizationRequired(JsonParser parser,
+                                                               String containerName,
+                                                               JsonToken containerToken) throws IOException {
+
+        if (containerToken != JsonToken.START_OBJECT) {
+            return true;
+        }
+
+        final Set<String> firstArrayElementFields = FIRST_ARRAY_ELEMENT_REQUEST_FIELDS.get(containerName);
+        final Set<String> commaSeparatedFields = COMMA_SEPARATED_ELEMENT_FIELDS.get(containerName);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.getCurrentName();
+            final JsonToken valueToken = parser.nextToken();
+
+            if (firstArrayElementFields.contains(fieldName) || commaSeparatedFields.contains(fieldName)) {
+                if (valueToken != JsonToken.VALUE_STRING && valueToken != JsonToken.VALUE_NULL) {
+                    return true;
+                }
+            } else if (DATA.equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                return true;
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isExtNormalizationRequired(JsonParser parser, JsonToken extToken) throws IOException {
+        if (extToken != JsonToken.START_OBJECT) {
+            return skipValue(parser);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final boolean isPrebid = PREBID.equals(parser.getCurrentName());
+            final JsonToken valueToken = parser.nextToken();
+
+            if (isPrebid && valueToken == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final boolean isBidderConfig = BIDDERCONFIG.equals(parser.getCurrentName());
+                    if (parser.nextToken() == JsonToken.START_ARRAY && isBidderConfig) {
+                        return true;
+                    }
+                    parser.skipChildren();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean skipValue(JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return false;
+    }
+
     private String getOriginalRowContainerNode(JsonNode bidRequest) {
         try {
             return jacksonMapper.mapper().writeValueAsString(bidRequest);
@@ -1,7 +1,9 @@
 package org.prebid.server.auction.requestfactory;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.iab.openrtb.request.BidRequest;
 import io.vertx.core.Future;
 import io.vertx.ext.web.RoutingContext;
@@ -41,6 +43,8 @@ public class AuctionRequestFactory {
     private final DebugResolver debugResolver;
     private final JacksonMapper mapper;
     private final OrtbTypesResolver ortbTypesResolver;
+    private final ObjectReader bidRequestTreeReader;
+    private final ObjectReader bidRequestReader;
 
     private static final String ENDPOINT = Endpoint.openrtb2_auction.value();
 
@@ -67,6 +71,14 @@ public class AuctionRequestFactory {
         this.privacyEnforcementService = Objects.requireNonNull(privacyEnforcementService);
         this.debugResolver = Objects.requireNonNull(debugResolver);
         this.mapper = Objects.requireNonNull(mapper);
+
+        final JsonNodeFactory exactNodeFactory = JsonNodeFactory.withExactBigDecimals(true);
+        bidRequestTreeReader = mapper.mapper().readerFor(JsonNode.class)
+                .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .with(exactNodeFactory);
+        bidRequestReader = mapper.mapper().readerFor(BidRequest.class)
+                .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .with(exactNodeFactory);
     }
 
     /**
@@ -132,9 +144,21 @@ public class AuctionRequestFactory {
         return body;
     }
 
+    /**
+     * Decodes {@link BidRequest} directly from the body if it has nothing to normalize,
+     * otherwise body goes through intermediate {@link JsonNode} tree to be normalized first.
+     * <p>
+     * Both ways use the same reader configuration and give the same {@link BidRequest}: decimals keep their scale,
+     * including the ones in extensions.
+     */
     private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest, List<String> errors) {
         try {
-            final JsonNode bidRequestNode = bodyAsJsonNode(httpRequest.getBody());
+            final String body = httpRequest.getBody();
+            if (!ortbTypesResolver.isNormalizationRequired(body)) {
+                return Future.succeededFuture(bodyAsBidRequest(body));
+            }
+
+            final JsonNode bidRequestNode = bodyAsJsonNode(body);
 
             final String referer = paramsExtractor.refererFrom(httpRequest);
             ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
@@ -147,7 +171,15 @@ public class AuctionRequestFactory {
 
     private JsonNode bodyAsJsonNode(String body) {
         try {
-            return mapper.mapper().readTree(body);
+            return bidRequestTreeReader.readValue(body);
+        } catch (IOException e) {
+            throw new InvalidRequestException("Error decoding bidRequest: " + e.getMessage());
+        }
+    }
+
+    private BidRequest bodyAsBidRequest(String body) {
+        try {
+            return bidRequestReader.readValue(body);
         } catch (IOException e) {
             throw new InvalidRequestException("Error decoding bidRequest: " + e.getMessage());
         }
@@ -155,8 +187,8 @@ public class AuctionRequestFactory {
 
     private BidRequest jsonNodeAsBidRequest(JsonNode bidRequestNode) {
         try {
-            return mapper.mapper().treeToValue(bidRequestNode, BidRequest.class);
-        } catch (JsonProcessingException e) {
+            return bidRequestReader.readValue(bidRequestNode);
+        } catch (IOException e) {
             throw new InvalidRequestException("Error decoding bidRequest: " + e.getMessage());
         }
     }
@@ -0,0 +1,213 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.Value;
+import org.prebid.server.cache.proto.request.BidCacheRequest;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.cache.proto.response.BidCacheResponse;
+import org.prebid.server.cache.proto.response.CacheObject;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Coalesces put requests to Prebid Cache made by concurrent auctions into a single HTTP request.
+ * <p>
+ * Requests are collected per Vert.x context (so no synchronization is needed) until the context processes
+ * already queued tasks, or until batch exceeds configured number of put objects or size of creatives.
+ * Batch is sent with the smallest remaining timeout of its requests, and cache objects returned by
+ * Prebid Cache are split back to each request in the order they were added.
+ */
+public class CacheRequestBatcher {
+
+    private static final MultiMap CACHE_HEADERS = HttpUtil.headers();
+    private static final String BATCH_CONTEXT_KEY = "prebidCacheBatch";
+
+    private final HttpClient httpClient;
+    private final String endpointUrl;
+    private final int maxBatchSize;
+    private final long maxBatchBytes;
+    private final Metrics metrics;
+    private final Clock clock;
+    private final JacksonMapper mapper;
+
+    public CacheRequestBatcher(HttpClient httpClient,
+                               String endpointUrl,
+                               int maxBatchSize,
+                               long maxBatchBytes,
+                               Metrics metrics,
+                               Clock clock,
+                               JacksonMapper mapper) {
+
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size should be positive");
+        }
+        if (maxBatchBytes < 1) {
+            throw new IllegalArgumentException("Max batch bytes should be positive");
+        }
+
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.endpointUrl = Objects.requireNonNull(endpointUrl);
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchBytes = maxBatchBytes;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    /**
+     * Adds given put objects to the current batch. Returned {@link BidCacheResponse} contains
+     * cache objects for the given put objects only.
+     */
+    public Future<BidCacheResponse> put(List<PutObject> putObjects, int putObjectsBytes, Timeout timeout) {
+        final Promise<BidCacheResponse> promise = Promise.promise();
+        final BatchEntry entry = BatchEntry.of(putObjects, timeout, clock.millis(), promise);
+
+        final Context context = Vertx.currentContext();
+        if (context == null) {
+            final Batch batch = new Batch();
+            batch.add(entry, putObjectsBytes);
+            send(batch);
+            return promise.future();
+        }
+
+        Batch batch = context.get(BATCH_CONTEXT_KEY);
+        if (batch == null) {
+            final Batch newBatch = new Batch();
+            context.put(BATCH_CONTEXT_KEY, newBatch);
+            context.runOnContext(ignored -> flush(context, newBatch));
+            batch = newBatch;
+        }
+
+        batch.add(entry, putObjectsBytes);
+        if (batch.getSize() >= maxBatchSize || batch.getBytes() >= maxBatchBytes) {
+            flush(context, batch);
+        }
+
+        return promise.future();
+    }
+
+    private void flush(Context context, Batch batch) {
+        if (context.get(BATCH_CONTEXT_KEY) == batch) {
+            context.remove(BATCH_CONTEXT_KEY);
+            send(batch);
+        }
+    }
+
+    private void send(Batch batch) {
+        final long now = clock.millis();
+        final List<BatchEntry> entries = new ArrayList<>(batch.getEntries().size());
+        final List<PutObject> putObjects = new ArrayList<>(batch.getSize());
+        long remainingTimeout = Long.MAX_VALUE;
+
+        for (BatchEntry entry : batch.getEntries()) {
+            metrics.updateCacheBatchAddedLatency(now - entry.getAddedAt());
+
+            final long entryRemainingTimeout = entry.getTimeout().remaining();
+            if (entryRemainingTimeout <= 0) {
+                entry.getPromise().fail(new TimeoutException("Timeout has been exceeded"));
+                continue;
+            }
+
+            entries.add(entry);
+            putObjects.addAll(entry.getPutObjects());
+            remainingTimeout = Math.min(remainingTimeout, entryRemainingTimeout);
+        }
+
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        metrics.updateCacheBatchSize(putObjects.size());
+
+        httpClient.post(endpointUrl, CACHE_HEADERS, mapper.encodeToString(BidCacheRequest.of(putObjects)),
+                        remainingTimeout)
+                .map(response -> toCacheObjects(response, putObjects.size()))
+                .onSuccess(cacheObjects -> complete(entries, cacheObjects))
+                .onFailure(exception -> entries.forEach(entry -> entry.getPromise().fail(exception)));
+    }
+
+    private List<CacheObject> toCacheObjects(HttpClientResponse response, int putObjectsCount) {
+        final int statusCode = response.getStatusCode();
+        if (statusCode != 200) {
+            throw new PreBidException("HTTP status code " + statusCode);
+        }
+
+        final BidCacheResponse bidCacheResponse;
+        try {
+            bidCacheResponse = mapper.decodeValue(response.getBody(), BidCacheResponse.class);
+        } catch (DecodeException e) {
+            throw new PreBidException("Cannot parse response: " + response.getBody(), e);
+        }
+
+        final List<CacheObject> cacheObjects = bidCacheResponse.getResponses();
+        if (cacheObjects == null || cacheObjects.size() != putObjectsCount) {
+            throw new PreBidException("The number of response cache objects doesn't match with bids");
+        }
+
+        return cacheObjects;
+    }
+
+    private static void complete(List<BatchEntry> entries, List<CacheObject> cacheObjects) {
+        int offset = 0;
+        for (BatchEntry entry : entries) {
+            final int entrySize = entry.getPutObjects().size();
+            entry.getPromise().complete(BidCacheResponse.of(cacheObjects.subList(offset, offset + entrySize)));
+            offset += entrySize;
+        }
+    }
+
+    private static class Batch {
+
+        private final List<BatchEntry> entries = new ArrayList<>();
+
+        private int size;
+
+        private long bytes;
+
+        void add(BatchEntry entry, int entryBytes) {
+            entries.add(entry);
+            size += entry.getPutObjects().size();
+            bytes += entryBytes;
+        }
+
+        List<BatchEntry> getEntries() {
+            return entries;
+        }
+
+        int getSize() {
+            return size;
+        }
+
+        long getBytes() {
+            return bytes;
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class BatchEntry {
+
+        List<PutObject> putObjects;
+
+        Timeout timeout;
+
+        long addedAt;
+
+        Promise<BidCacheResponse> promise;
+    }
+}
@@ -16,6 +16,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
+import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.cache.model.CacheBid;
 import org.prebid.server.cache.model.CacheContext;
 import org.prebid.server.cache.model.CacheHttpRequest;
@@ -78,6 +79,8 @@ public class CacheService {
 
     private final CacheTtl mediaTypeCacheTtl;
     private final HttpClient httpClient;
+    private final CacheRequestBatcher requestBatcher;
+    private final EmbeddedCache embeddedCache;
     private final URL endpointUrl;
     private final String cachedAssetUrlTemplate;
     private final long expectedCacheTimeMs;
@@ -90,6 +93,8 @@ public class CacheService {
 
     public CacheService(CacheTtl mediaTypeCacheTtl,
                         HttpClient httpClient,
+                        CacheRequestBatcher requestBatcher,
+                        EmbeddedCache embeddedCache,
                         URL endpointUrl,
                         String cachedAssetUrlTemplate,
                         long expectedCacheTimeMs,
@@ -102,6 +107,8 @@ public class CacheService {
 
         this.mediaTypeCacheTtl = Objects.requireNonNull(mediaTypeCacheTtl);
         this.httpClient = Objects.requireNonNull(httpClient);
+        this.requestBatcher = requestBatcher;
+        this.embeddedCache = embeddedCache;
         this.endpointUrl = Objects.requireNonNull(endpointUrl);
         this.cachedAssetUrlTemplate = Objects.requireNonNull(cachedAssetUrlTemplate);
         this.expectedCacheTimeMs = expectedCacheTimeMs;
@@ -137,8 +144,12 @@ public class CacheService {
         final List<CachedCreative> cachedCreatives = Collections.singletonList(
                 makeDebugCacheCreative(cachedDebugLog, cacheKey, videoCacheTtl));
         final BidCacheRequest bidCacheRequest = toBidCacheRequest(cachedCreatives);
-        httpClient.post(endpointUrl.toString(), HttpUtil.headers(), mapper.encodeToString(bidCacheRequest),
-                expectedCacheTimeMs);
+        if (embeddedCache != null) {
+            embeddedCache.put(bidCacheRequest.getPuts());
+        } else {
+            httpClient.post(endpointUrl.toString(), HttpUtil.headers(), mapper.encodeToString(bidCacheRequest),
+                    expectedCacheTimeMs);
+        }
         return cacheKey;
     }
 
@@ -155,7 +166,7 @@ public class CacheService {
     }
 
     /**
-     * Asks external prebid cache service to store the given value.
+     * Asks external prebid cache service (or {@link EmbeddedCache} if configured) to store the given value.
      */
     private Future<BidCacheResponse> makeRequest(BidCacheRequest bidCacheRequest,
                                                  int bidCount,
@@ -172,6 +183,12 @@ public class CacheService {
         }
 
         final long startTime = clock.millis();
+        if (embeddedCache != null) {
+            final BidCacheResponse bidCacheResponse = embeddedCache.put(bidCacheRequest.getPuts());
+            metrics.updateCacheRequestSuccessTime(accountId, clock.millis() - startTime);
+            return Future.succeededFuture(bidCacheResponse);
+        }
+
         return httpClient.post(endpointUrl.toString(), CACHE_HEADERS, mapper.encodeToString(bidCacheRequest),
                         remainingTimeout)
                 .map(response -> toBidCacheResponse(
@@ -371,6 +388,15 @@ public class CacheService {
 
         updateCreativeMetrics(accountId, cachedCreatives);
 
+        if (embeddedCache != null) {
+            return doEmbeddedCacheOpenrtb(bidCacheRequest, bids, videoBids, hbCacheId, auctionContext);
+        }
+
+        if (requestBatcher != null) {
+            return doBatchedCacheOpenrtb(
+                    bidCacheRequest, cachedCreatives, bids, videoBids, hbCacheId, auctionContext);
+        }
+
         final String url = endpointUrl.toString();
         final String body = mapper.encodeToString(bidCacheRequest);
         final CacheHttpRequest httpRequest = CacheHttpRequest.of(url, body);
@@ -388,6 +414,82 @@ public class CacheService {
                 .otherwise(exception -> failResponseOpenrtb(exception, accountId, httpRequest, startTime));
     }
 
+    /**
+     * Stores cache objects in the cache as a part of batch shared with concurrent auctions.
+     * <p>
+     * Request and response bodies of this auction are encoded for debug purposes only.
+     */
+    private Future<CacheServiceResult> doBatchedCacheOpenrtb(BidCacheRequest bidCacheRequest,
+                                                             List<CachedCreative> cachedCreatives,
+                                                             List<CacheBid> bids,
+                                                             List<CacheBid> videoBids,
+                                                             String hbCacheId,
+                                                             AuctionContext auctionContext) {
+
+        final String accountId = auctionContext.getAccount().getId();
+        final boolean debugEnabled = isDebugEnabled(auctionContext);
+        final CacheHttpRequest httpRequest = CacheHttpRequest.of(
+                endpointUrl.toString(), debugEnabled ? mapper.encodeToString(bidCacheRequest) : null);
+        final int creativesBytes = cachedCreatives.stream().mapToInt(CachedCreative::getSize).sum();
+
+        final long startTime = clock.millis();
+        return requestBatcher.put(bidCacheRequest.getPuts(), creativesBytes, auctionContext.getTimeout())
+                .map(bidCacheResponse -> toCacheServiceResult(
+                        bidCacheResponse, httpRequest, debugEnabled, bids, videoBids, hbCacheId, accountId, startTime))
+                .otherwise(exception -> failResponseOpenrtb(exception, accountId, httpRequest, startTime));
+    }
+
+    /**
+     * Stores cache objects in the {@link EmbeddedCache}.
+     * <p>
+     * Request and response bodies are encoded for debug purposes only.
+     */
+    private Future<CacheServiceResult> doEmbeddedCacheOpenrtb(BidCacheRequest bidCacheRequest,
+                                                              List<CacheBid> bids,
+                                                              List<CacheBid> videoBids,
+                                                              String hbCacheId,
+                                                              AuctionContext auctionContext) {
+
+        final String accountId = auctionContext.getAccount().getId();
+        final boolean debugEnabled = isDebugEnabled(auctionContext);
+        final CacheHttpRequest httpRequest = CacheHttpRequest.of(
+                endpointUrl.toString(), debugEnabled ? mapper.encodeToString(bidCacheRequest) : null);
+
+        final long startTime = clock.millis();
+        final BidCacheResponse bidCacheResponse = embeddedCache.put(bidCacheRequest.getPuts());
+        return Future.succeededFuture(toCacheServiceResult(
+                bidCacheResponse, httpRequest, debugEnabled, bids, videoBids, hbCacheId, accountId, startTime));
+    }
+
+    private static boolean isDebugEnabled(AuctionContext auctionContext) {
+        final DebugContext debugContext = auctionContext.getDebugContext();
+        return debugContext != null && debugContext.isDebugEnabled();
+    }
+
+    /**
+     * Creates {@link CacheServiceResult} from the given {@link BidCacheResponse} received without HTTP call
+     * to the cache service made by this auction.
+     */
+    private CacheServiceResult toCacheServiceResult(BidCacheResponse bidCacheResponse,
+                                                    CacheHttpRequest httpRequest,
+                                                    boolean debugEnabled,
+                                                    List<CacheBid> bids,
+                                                    List<CacheBid> videoBids,
+                                                    String hbCacheId,
+                                                    String accountId,
+                                                    long startTime) {
+
+        metrics.updateCacheRequestSuccessTime(accountId, clock.millis() - startTime);
+
+        final CacheHttpResponse httpResponse = CacheHttpResponse.of(
+                200, debugEnabled ? mapper.encodeToString(bidCacheResponse) : null);
+        final DebugHttpCall httpCall = makeDebugHttpCall(
+                endpointUrl.toString(), httpRequest, httpResponse, startTime);
+        final List<String> uuids = toResponse(bidCacheResponse, CacheObject::getUuid);
+
+        return CacheServiceResult.of(httpCall, null, toResultMap(bids, videoBids, uuids, hbCacheId));
+    }
+
     /**
      * Creates {@link CacheServiceResult} from the given {@link HttpClientResponse}.
      */
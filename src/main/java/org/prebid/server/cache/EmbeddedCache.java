@@ -0,0 +1,167 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.cache.model.EmbeddedCacheEntry;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.cache.proto.response.BidCacheResponse;
+import org.prebid.server.cache.proto.response.CacheObject;
+import org.prebid.server.identity.IdGenerator;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.ConditionalLogger;
+import org.prebid.server.metric.Metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process replacement of the external Prebid Cache.
+ * <p>
+ * Creatives are stored in size-bounded cache, each entry expires after the TTL it was put with
+ * (the same TTL the external Prebid Cache would receive), or after default TTL if none was given.
+ * Stored creatives are served by PBS itself, so caching of bids doesn't require any network calls.
+ * <p>
+ * As well as Prebid Cache, stored creative is never overwritten: put with the key already in use is rejected
+ * and empty key is returned for it.
+ */
+public class EmbeddedCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedCache.class);
+    private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
+
+    private static final String JSON_TYPE = "json";
+
+    private final int defaultTtlSeconds;
+    private final IdGenerator idGenerator;
+    private final Metrics metrics;
+    private final JacksonMapper mapper;
+
+    private final Cache<String, EmbeddedCacheEntry> cache;
+
+    public EmbeddedCache(long maxSizeBytes,
+                         int defaultTtlSeconds,
+                         IdGenerator idGenerator,
+                         Metrics metrics,
+                         JacksonMapper mapper) {
+
+        this(maxSizeBytes, defaultTtlSeconds, idGenerator, metrics, mapper, Ticker.systemTicker());
+    }
+
+    EmbeddedCache(long maxSizeBytes,
+                  int defaultTtlSeconds,
+                  IdGenerator idGenerator,
+                  Metrics metrics,
+                  JacksonMapper mapper,
+                  Ticker ticker) {
+
+        if (defaultTtlSeconds < 1) {
+            throw new IllegalArgumentException("Default TTL should be positive");
+        }
+
+        this.defaultTtlSeconds = defaultTtlSeconds;
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.mapper = Objects.requireNonNull(mapper);
+
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxSizeBytes)
+                .<String, EmbeddedCacheEntry>weigher((uuid, entry) -> uuid.length() + entry.getValue().length())
+                .expireAfter(new EntryTtlExpiry())
+                .ticker(Objects.requireNonNull(ticker))
+                .executor(Runnable::run)
+                .removalListener((String uuid, EmbeddedCacheEntry entry, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        metrics.updateCacheEmbeddedEvictionMetric();
+                    }
+                })
+                .build();
+
+        metrics.createCacheEmbeddedEntriesGauge(cache::estimatedSize);
+        metrics.createCacheEmbeddedBytesGauge(this::weightedSize);
+    }
+
+    /**
+     * Stores the given put objects and returns {@link BidCacheResponse} with their keys,
+     * in the same order as put objects are given. Key of put object, which wasn't stored since its key
+     * is already in use, is empty.
+     */
+    public BidCacheResponse put(List<PutObject> putObjects) {
+        final List<CacheObject> cacheObjects = new ArrayList<>(putObjects.size());
+        for (PutObject putObject : putObjects) {
+            final String uuid = StringUtils.isNotEmpty(putObject.getKey())
+                    ? putObject.getKey()
+                    : idGenerator.generateId();
+
+            final EmbeddedCacheEntry existingEntry = cache.asMap().putIfAbsent(uuid, toEntry(putObject));
+            if (existingEntry != null) {
+                metrics.updateCacheEmbeddedConflictMetric();
+                conditionalLogger.warn("Embedded cache already has entry with key: " + uuid, 0.01d);
+            }
+
+            cacheObjects.add(CacheObject.of(existingEntry == null ? uuid : StringUtils.EMPTY));
+        }
+
+        return BidCacheResponse.of(cacheObjects);
+    }
+
+    /**
+     * Returns stored creative by its key or null if there is no such creative or it has been expired.
+     */
+    public EmbeddedCacheEntry get(String uuid) {
+        final EmbeddedCacheEntry entry = cache.getIfPresent(uuid);
+        metrics.updateCacheEmbeddedLookupMetric(entry != null);
+        return entry;
+    }
+
+    private EmbeddedCacheEntry toEntry(PutObject putObject) {
+        final String type = putObject.getType();
+        final JsonNode value = putObject.getValue();
+        final String stringValue = value == null
+                ? StringUtils.EMPTY
+                : Objects.equals(type, JSON_TYPE) ? mapper.encodeToString(value) : value.asText();
+        final Integer ttlSeconds = ObjectUtils.firstNonNull(putObject.getTtlseconds(), putObject.getExpiry());
+
+        return EmbeddedCacheEntry.of(
+                type,
+                stringValue,
+                ttlSeconds != null && ttlSeconds > 0 ? ttlSeconds : defaultTtlSeconds);
+    }
+
+    private long weightedSize() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    private static class EntryTtlExpiry implements Expiry<String, EmbeddedCacheEntry> {
+
+        @Override
+        public long expireAfterCreate(String uuid, EmbeddedCacheEntry entry, long currentTime) {
+            return TimeUnit.SECONDS.toNanos(entry.getTtlSeconds());
+        }
+
+        @Override
+        public long expireAfterUpdate(String uuid,
+                                      EmbeddedCacheEntry entry,
+                                      long currentTime,
+                                      long currentDuration) {
+
+            return TimeUnit.SECONDS.toNanos(entry.getTtlSeconds());
+        }
+
+        @Override
+        public long expireAfterRead(String uuid, EmbeddedCacheEntry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.prebid.server.cache.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Holds the creative stored in embedded cache.
+ */
+@AllArgsConstructor(staticName = "of")
+@Value
+public class EmbeddedCacheEntry {
+
+    String type;
+
+    String value;
+
+    int ttlSeconds;
+}
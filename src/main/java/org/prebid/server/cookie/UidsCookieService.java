@@ -1,6 +1,5 @@
 package org.prebid.server.cookie;
 
-import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.CookieSameSite;
 import io.vertx.core.logging.Logger;
@@ -11,12 +10,14 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.cookie.model.UidWithExpiry;
 import org.prebid.server.cookie.model.UidsCookieUpdateResult;
 import org.prebid.server.cookie.proto.Uids;
-import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.util.HttpUtil;
 
+import java.io.CharConversionException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.ZonedDateTime;
@@ -38,6 +39,7 @@ public class UidsCookieService {
 
     private static final String COOKIE_NAME = "uids";
     private static final int MIN_COOKIE_SIZE_BYTES = 500;
+    private static final String PARSED_UIDS_CONTEXT_KEY = "parsedUids";
 
     private final String optOutCookieName;
     private final String optOutCookieValue;
@@ -96,7 +98,8 @@ public class UidsCookieService {
      * Note: UIDs will be excluded from resulting {@link UidsCookie} if their value are 'null'.
      */
     public UidsCookie parseFromRequest(RoutingContext routingContext) {
-        return parseFromCookies(HttpUtil.cookiesAsMap(routingContext));
+        final Map<String, String> cookies = HttpUtil.cookiesAsMap(routingContext);
+        return parseFromCookies(cookies, parseUids(routingContext, cookies));
     }
 
     public UidsCookie parseFromRequest(HttpRequestContext httpRequest) {
@@ -107,8 +110,10 @@ public class UidsCookieService {
      * Retrieves UIDs cookie (base64 encoded) value from cookies map and transforms it into {@link UidsCookie}.
      */
     UidsCookie parseFromCookies(Map<String, String> cookies) {
-        final Uids parsedUids = parseUids(cookies);
+        return parseFromCookies(cookies, parseUids(cookies));
+    }
 
+    private UidsCookie parseFromCookies(Map<String, String> cookies, Uids parsedUids) {
         final Uids.UidsBuilder uidsBuilder = Uids.builder()
                 .uidsLegacy(Collections.emptyMap())
                 .bday(parsedUids != null ? parsedUids.getBday() : ZonedDateTime.now(Clock.systemUTC()));
@@ -134,14 +139,39 @@ public class UidsCookieService {
         if (cookies.containsKey(COOKIE_NAME)) {
             final String cookieValue = cookies.get(COOKIE_NAME);
             try {
-                return mapper.decodeValue(Buffer.buffer(Base64.getUrlDecoder().decode(cookieValue)), Uids.class);
-            } catch (IllegalArgumentException | DecodeException e) {
+                return decodeUids(cookieValue);
+            } catch (IOException e) {
                 logger.debug("Could not decode or parse {0} cookie value {1}", e, COOKIE_NAME, cookieValue);
             }
         }
         return null;
     }
 
+    /**
+     * Returns {@link Uids} parsed from the request cookies.
+     * <p>
+     * Parsing result is stored in the {@link RoutingContext}, so the cookie is parsed only once per request.
+     */
+    private Uids parseUids(RoutingContext routingContext, Map<String, String> cookies) {
+        final Optional<Uids> parsedUids = routingContext.get(PARSED_UIDS_CONTEXT_KEY);
+        if (parsedUids != null) {
+            return parsedUids.orElse(null);
+        }
+
+        final Uids uids = parseUids(cookies);
+        routingContext.put(PARSED_UIDS_CONTEXT_KEY, Optional.ofNullable(uids));
+        return uids;
+    }
+
+    /**
+     * Decodes Base64 cookie value directly into JSON parser, without intermediate buffers.
+     */
+    private Uids decodeUids(String cookieValue) throws IOException {
+        try (InputStream inputStream = Base64.getUrlDecoder().wrap(new AsciiStringInputStream(cookieValue))) {
+            return mapper.mapper().readValue(inputStream, Uids.class);
+        }
+    }
+
     /**
      * Creates a {@link Cookie} with 'uids' as a name and encoded JSON string representing supplied {@link UidsCookie}
      * as a value.
@@ -150,13 +180,13 @@ public class UidsCookieService {
         return makeCookie(uidsCookie);
     }
 
-    private int cookieBytesLength(UidsCookie uidsCookie) {
-        return makeCookie(uidsCookie).encode().getBytes().length;
+    private Cookie makeCookie(UidsCookie uidsCookie) {
+        return makeCookie(Base64.getUrlEncoder().encodeToString(uidsCookie.toJson().getBytes()));
     }
 
-    private Cookie makeCookie(UidsCookie uidsCookie) {
+    private Cookie makeCookie(String value) {
         return Cookie
-                .cookie(COOKIE_NAME, Base64.getUrlEncoder().encodeToString(uidsCookie.toJson().getBytes()))
+                .cookie(COOKIE_NAME, value)
                 .setPath("/")
                 .setSameSite(CookieSameSite.NONE)
                 .setSecure(true)
@@ -266,7 +296,7 @@ public class UidsCookieService {
 
         if (!prioritizedCoopSyncProvider.hasPrioritizedBidders()
                 || prioritizedCoopSyncProvider.isPrioritizedFamily(familyName)) {
-            return UidsCookieUpdateResult.updated(trimToLimit(updatedCookie));
+            return UidsCookieUpdateResult.updated(trimExceededCookie(updatedCookie));
         } else {
             metrics.updateUserSyncSizeBlockedMetric(familyName);
             return UidsCookieUpdateResult.unaltered(uidsCookie);
@@ -277,27 +307,43 @@ public class UidsCookieService {
         return maxCookieSizeBytes > 0 && cookieBytesLength(uidsCookie) > maxCookieSizeBytes;
     }
 
+    private int cookieBytesLength(UidsCookie uidsCookie) {
+        return makeCookie(uidsCookie).encode().getBytes().length;
+    }
+
     private UidsCookie trimToLimit(UidsCookie uidsCookie) {
-        if (!cookieExceededMaxLength(uidsCookie)) {
-            return uidsCookie;
-        }
+        return cookieExceededMaxLength(uidsCookie) ? trimExceededCookie(uidsCookie) : uidsCookie;
+    }
+
+    /**
+     * Removes UIDs by ascending priority until cookie, which is known to exceed the limit, fits into it.
+     * <p>
+     * Size of the cookie is recalculated arithmetically on each removal, so the cookie itself is not re-encoded.
+     */
+    private UidsCookie trimExceededCookie(UidsCookie uidsCookie) {
+        final int cookieOverheadBytes = makeCookie(StringUtils.EMPTY).encode().getBytes().length;
+        final UidsCookieSize cookieSize = UidsCookieSize.of(uidsCookie, cookieOverheadBytes, mapper);
 
-        UidsCookie trimmedUids = uidsCookie;
-        final Iterator<String> familyToRemoveIterator = cookieFamilyNamesByAscendingPriority(uidsCookie);
+        final Uids uids = uidsCookie.getCookieUids();
+        final Map<String, UidWithExpiry> trimmedUids = new HashMap<>(uids.getUids());
+        final Iterator<Map.Entry<String, UidWithExpiry>> uidToRemoveIterator =
+                cookieUidsByAscendingPriority(uidsCookie);
+
+        while (uidToRemoveIterator.hasNext() && cookieSize.exceeds(maxCookieSizeBytes)) {
+            final Map.Entry<String, UidWithExpiry> uidToRemove = uidToRemoveIterator.next();
+            final String familyToRemove = uidToRemove.getKey();
 
-        while (familyToRemoveIterator.hasNext() && cookieExceededMaxLength(trimmedUids)) {
-            final String familyToRemove = familyToRemoveIterator.next();
             metrics.updateUserSyncSizedOutMetric(familyToRemove);
-            trimmedUids = trimmedUids.deleteUid(familyToRemove);
+            cookieSize.removeUid(cookieSize.uidBytes(familyToRemove, uidToRemove.getValue()));
+            trimmedUids.remove(familyToRemove);
         }
 
-        return trimmedUids;
+        return new UidsCookie(uids.toBuilder().uids(trimmedUids).build(), mapper);
     }
 
-    private Iterator<String> cookieFamilyNamesByAscendingPriority(UidsCookie uidsCookie) {
+    private Iterator<Map.Entry<String, UidWithExpiry>> cookieUidsByAscendingPriority(UidsCookie uidsCookie) {
         return uidsCookie.getCookieUids().getUids().entrySet().stream()
                 .sorted(this::compareCookieFamilyNames)
-                .map(Map.Entry::getKey)
                 .toList()
                 .iterator();
     }
@@ -328,7 +374,7 @@ public class UidsCookieService {
             return null;
         }
 
-        final boolean inSync = Optional.ofNullable(parseUids(cookies))
+        final boolean inSync = Optional.ofNullable(parseUids(routingContext, cookies))
                 .map(Uids::getUids)
                 .map(uids -> uids.get(cookieFamilyName))
                 .map(UidWithExpiry::getUid)
@@ -337,4 +383,38 @@ public class UidsCookieService {
 
         return inSync ? null : hostCookieUid;
     }
+
+    /**
+     * Exposes ASCII string (which cookie value is) as {@link InputStream} without copying it into byte array.
+     * <p>
+     * Non-ASCII characters are rejected instead of being truncated to their low byte, which could otherwise turn
+     * them into valid Base64 characters.
+     */
+    private static class AsciiStringInputStream extends InputStream {
+
+        private final String value;
+        private int position;
+
+        AsciiStringInputStream(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (position >= value.length()) {
+                return -1;
+            }
+
+            final char character = value.charAt(position++);
+            if (character > 0x7F) {
+                throw new CharConversionException("Non-ASCII character at position " + (position - 1));
+            }
+            return character;
+        }
+
+        @Override
+        public int available() {
+            return value.length() - position;
+        }
+    }
 }
@@ -0,0 +1,84 @@
+package org.prebid.server.cookie;
+
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.json.JacksonMapper;
+
+import java.util.Collections;
+
+/**
+ * Keeps track of the encoded 'uids' cookie size without re-serializing the whole {@link UidsCookie}
+ * each time a UID is added or removed.
+ * <p>
+ * Cookie size is composed of the constant part (cookie name and attributes), and Base64 of the JSON payload,
+ * which in its turn is composed of the payload without UIDs plus serialized size of each UID entry.
+ */
+class UidsCookieSize {
+
+    private static final int COMMA_BYTES = 1;
+    private static final int COLON_BYTES = 1;
+
+    private final JacksonMapper mapper;
+    private final int cookieOverheadBytes;
+    private final int emptyUidsJsonBytes;
+
+    private int uidsBytes;
+    private int uidsCount;
+
+    private UidsCookieSize(JacksonMapper mapper, int cookieOverheadBytes, int emptyUidsJsonBytes) {
+        this.mapper = mapper;
+        this.cookieOverheadBytes = cookieOverheadBytes;
+        this.emptyUidsJsonBytes = emptyUidsJsonBytes;
+    }
+
+    /**
+     * Creates {@link UidsCookieSize} for the given {@link UidsCookie}.
+     * <p>
+     * The cookie overhead is the encoded length of the cookie with an empty value.
+     */
+    static UidsCookieSize of(UidsCookie uidsCookie, int cookieOverheadBytes, JacksonMapper mapper) {
+        final int emptyUidsJsonBytes = mapper.encodeToBytes(
+                uidsCookie.getCookieUids().toBuilder().uids(Collections.emptyMap()).build()).length;
+
+        final UidsCookieSize cookieSize = new UidsCookieSize(mapper, cookieOverheadBytes, emptyUidsJsonBytes);
+        uidsCookie.getCookieUids().getUids().forEach(cookieSize::addUid);
+
+        return cookieSize;
+    }
+
+    /**
+     * Returns serialized size of the UID entry as it appears in the JSON payload.
+     */
+    int uidBytes(String familyName, UidWithExpiry uid) {
+        return mapper.encodeToBytes(familyName).length + COLON_BYTES + mapper.encodeToBytes(uid).length;
+    }
+
+    void addUid(String familyName, UidWithExpiry uid) {
+        uidsBytes += uidBytes(familyName, uid);
+        uidsCount++;
+    }
+
+    void removeUid(int uidBytes) {
+        uidsBytes -= uidBytes;
+        uidsCount--;
+    }
+
+    /**
+     * Returns total size of the encoded cookie in bytes.
+     */
+    int totalBytes() {
+        return cookieOverheadBytes + base64Length(jsonBytes());
+    }
+
+    boolean exceeds(int maxBytes) {
+        return maxBytes > 0 && totalBytes() > maxBytes;
+    }
+
+    private int jsonBytes() {
+        final int separatorsBytes = uidsCount > 1 ? (uidsCount - 1) * COMMA_BYTES : 0;
+        return emptyUidsJsonBytes + uidsBytes + separatorsBytes;
+    }
+
+    private static int base64Length(int bytes) {
+        return 4 * ((bytes + 2) / 3);
+    }
+}
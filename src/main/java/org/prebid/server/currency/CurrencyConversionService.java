@@ -2,6 +2,7 @@ package org.prebid.server.currency;
 
 import com.iab.openrtb.request.BidRequest;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -60,13 +61,20 @@ public class CurrencyConversionService implements Initializable {
         }
     }
 
+    @Override
+    public void initialize() {
+        initialize(Promise.promise());
+    }
+
     /**
      * Sets timer for periodic currency rates updates and starts initial population.
      * <p>
+     * Given promise is completed when initial population is finished, regardless of its result.
+     * <p>
      * Must be called on Vertx event loop thread.
      */
     @Override
-    public void initialize() {
+    public void initialize(Promise<Void> initializePromise) {
         if (externalConversionProperties != null) {
             final Long refreshPeriod = externalConversionProperties.getRefreshPeriodMs();
             final Long defaultTimeout = externalConversionProperties.getDefaultTimeoutMs();
@@ -75,17 +83,23 @@ public class CurrencyConversionService implements Initializable {
             final Vertx vertx = externalConversionProperties.getVertx();
             vertx.setPeriodic(refreshPeriod, ignored -> populatesLatestCurrencyRates(currencyServerUrl, defaultTimeout,
                     httpClient));
-            populatesLatestCurrencyRates(currencyServerUrl, defaultTimeout, httpClient);
+            populatesLatestCurrencyRates(currencyServerUrl, defaultTimeout, httpClient)
+                    .onComplete(ignored -> initializePromise.tryComplete());
 
             externalConversionProperties.getMetrics().createCurrencyRatesGauge(this::isRatesStale);
+        } else {
+            initializePromise.tryComplete();
         }
     }
 
     /**
      * Updates latest currency rates by making a call to currency server.
      */
-    private void populatesLatestCurrencyRates(String currencyServerUrl, Long defaultTimeout, HttpClient httpClient) {
-        httpClient.get(currencyServerUrl, defaultTimeout)
+    private Future<Void> populatesLatestCurrencyRates(String currencyServerUrl,
+                                                      Long defaultTimeout,
+                                                      HttpClient httpClient) {
+
+        return httpClient.get(currencyServerUrl, defaultTimeout)
                 .map(this::processResponse)
                 .map(this::updateCurrencyRates)
                 .otherwise(this::handleErrorResponse);
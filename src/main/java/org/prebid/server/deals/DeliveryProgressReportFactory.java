@@ -80,8 +80,27 @@ public class DeliveryProgressReportFactory {
             ZonedDateTime now,
             int batchSize,
             boolean isOverall) {
-        final List<org.prebid.server.deals.lineitem.LineItemStatus> lineItemStatuses
-                = new ArrayList<>(deliveryProgress.getLineItemStatuses().values());
+
+        return batchFromDeliveryProgress(deliveryProgress, overallLineItemStatuses, now, batchSize, isOverall, false);
+    }
+
+    /**
+     * Creates batch of reports with line items split by given batch size.
+     * <p>
+     * If onlyUpdated flag is set, line items which were not updated within delivery progress are not reported,
+     * so reports are not rebuilt for idle line items.
+     */
+    public DeliveryProgressReportBatch batchFromDeliveryProgress(
+            DeliveryProgress deliveryProgress,
+            Map<String, org.prebid.server.deals.lineitem.LineItemStatus> overallLineItemStatuses,
+            ZonedDateTime now,
+            int batchSize,
+            boolean isOverall,
+            boolean onlyUpdated) {
+
+        final List<org.prebid.server.deals.lineitem.LineItemStatus> lineItemStatuses = onlyUpdated
+                ? updatedLineItemStatuses(deliveryProgress)
+                : new ArrayList<>(deliveryProgress.getLineItemStatuses().values());
         final String reportId = UUID.randomUUID().toString();
         final String reportTimeStamp = now != null ? formatTimeStamp(now) : null;
         final String dataWindowStartTimeStamp = isOverall
@@ -107,10 +126,28 @@ public class DeliveryProgressReportFactory {
                         .build())
                 .collect(Collectors.toSet());
 
-        logNotDeliveredLineItems(deliveryProgress, reportsBatch);
+        logNotDeliveredLineItems(lineItemStatuses, reportsBatch);
         return DeliveryProgressReportBatch.of(reportsBatch, reportId, dataWindowEndTimeStamp);
     }
 
+    private static List<org.prebid.server.deals.lineitem.LineItemStatus> updatedLineItemStatuses(
+            DeliveryProgress deliveryProgress) {
+
+        final Map<String, org.prebid.server.deals.lineitem.LineItemStatus> lineItemStatuses =
+                deliveryProgress.getLineItemStatuses();
+        final Set<String> updatedLineItemIds = deliveryProgress.getUpdatedLineItemIds();
+
+        final List<org.prebid.server.deals.lineitem.LineItemStatus> result =
+                new ArrayList<>(updatedLineItemIds.size());
+        for (String lineItemId : updatedLineItemIds) {
+            final org.prebid.server.deals.lineitem.LineItemStatus lineItemStatus = lineItemStatuses.get(lineItemId);
+            if (lineItemStatus != null) {
+                result.add(lineItemStatus);
+            }
+        }
+        return result;
+    }
+
     private DeliveryProgressReport.DeliveryProgressReportBuilder updateReportWithLineItems(
             DeliveryProgress deliveryProgress,
             List<org.prebid.server.deals.lineitem.LineItemStatus> lineItemStatuses,
@@ -144,15 +181,18 @@ public class DeliveryProgressReportFactory {
                 .collect(Collectors.toSet());
     }
 
-    private static void logNotDeliveredLineItems(DeliveryProgress deliveryProgress,
-                                                 Set<DeliveryProgressReport> reportsBatch) {
+    private static void logNotDeliveredLineItems(
+            List<org.prebid.server.deals.lineitem.LineItemStatus> lineItemStatuses,
+            Set<DeliveryProgressReport> reportsBatch) {
+
         final Set<String> reportedLineItems = reportsBatch.stream()
                 .map(DeliveryProgressReport::getLineItemStatus)
                 .flatMap(Collection::stream)
                 .map(LineItemStatus::getLineItemId)
                 .collect(Collectors.toSet());
 
-        final String notDeliveredLineItems = deliveryProgress.getLineItemStatuses().keySet().stream()
+        final String notDeliveredLineItems = lineItemStatuses.stream()
+                .map(org.prebid.server.deals.lineitem.LineItemStatus::getLineItemId)
                 .filter(id -> !reportedLineItems.contains(id))
                 .collect(Collectors.joining(", "));
         if (StringUtils.isNotBlank(notDeliveredLineItems)) {
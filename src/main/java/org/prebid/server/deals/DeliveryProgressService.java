@@ -18,6 +18,7 @@ import org.prebid.server.log.CriteriaLogManager;
 
 import java.time.Clock;
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -99,6 +100,11 @@ public class DeliveryProgressService implements ApplicationEventProcessor {
      * Updates delivery progress from {@link AuctionContext} statistics for defined date.
      */
     protected void processAuctionEvent(TxnLog txnLog, String accountId, ZonedDateTime now) {
+        if (txnLog.isEmpty()) {
+            currentDeliveryProgress.recordTransactionLog(txnLog, Collections.emptyMap(), accountId);
+            return;
+        }
+
         final Map<String, Integer> planIdToTokenPriority = new HashMap<>();
 
         txnLog.lineItemSentToClientAsTopMatch().stream()
@@ -145,6 +151,7 @@ public class DeliveryProgressService implements ApplicationEventProcessor {
         currentDeliveryProgress = DeliveryProgress.of(now, lineItemService);
 
         deliveryProgressToReport.setEndTimeStamp(now);
+        deliveryProgressToReport.flushSlotCounters();
         deliveryProgressToReport.updateWithActiveLineItems(lineItemService.getLineItems());
 
         overallDeliveryProgress.mergeFrom(deliveryProgressToReport);
@@ -157,15 +164,13 @@ public class DeliveryProgressService implements ApplicationEventProcessor {
     }
 
     public void invalidateLineItemsByIds(List<String> lineItemIds) {
-        overallDeliveryProgress.getLineItemStatuses().entrySet()
-                .removeIf(stringLineItemEntry -> lineItemIds.contains(stringLineItemEntry.getKey()));
-        currentDeliveryProgress.getLineItemStatuses().entrySet()
-                .removeIf(stringLineItemEntry -> lineItemIds.contains(stringLineItemEntry.getKey()));
+        overallDeliveryProgress.invalidateLineItems(lineItemIds);
+        currentDeliveryProgress.invalidateLineItems(lineItemIds);
     }
 
     public void invalidateLineItems() {
-        overallDeliveryProgress.getLineItemStatuses().clear();
-        currentDeliveryProgress.getLineItemStatuses().clear();
+        overallDeliveryProgress.invalidateLineItems();
+        currentDeliveryProgress.invalidateLineItems();
     }
 
     /**
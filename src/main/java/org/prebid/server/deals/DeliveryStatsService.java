@@ -1,5 +1,6 @@
 package org.prebid.server.deals;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
@@ -28,9 +29,11 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Objects;
@@ -94,7 +97,8 @@ public class DeliveryStatsService implements Suspendable {
     public void addDeliveryProgress(DeliveryProgress deliveryProgress,
                                     Map<String, LineItemStatus> overallLineItemStatuses) {
         requiredBatches.add(deliveryProgressReportFactory.batchFromDeliveryProgress(deliveryProgress,
-                overallLineItemStatuses, null, deliveryStatsProperties.getLineItemsPerReport(), false));
+                overallLineItemStatuses, null, deliveryStatsProperties.getLineItemsPerReport(), false,
+                deliveryStatsProperties.isIncrementalReportsEnabled()));
     }
 
     public void sendDeliveryProgressReports() {
@@ -126,12 +130,15 @@ public class DeliveryStatsService implements Suspendable {
         final MultiMap headers = headers();
         final Set<DeliveryProgressReport> sentReports = new HashSet<>();
         final long reportIntervalMs = deliveryStatsProperties.getReportsIntervalMs();
-        final Set<DeliveryProgressReport> reports = deliveryProgressReportBatch.getReports();
+        // reports of the batch can be replaced with their parts while being sent
+        final List<DeliveryProgressReport> reports = new ArrayList<>(deliveryProgressReportBatch.getReports());
         final int reportsCount = reports.size();
         reports.stream()
                 .reduce(Future.<Void>succeededFuture(),
                         (future, report) -> future.compose(v -> sendReport(report, headers, now)
-                                        .map(aVoid -> sentReports.add(report)))
+                                        .map(aVoid -> sentReports.add(report))
+                                        .recover(exception -> handlePartiallySentReport(
+                                                exception, report, deliveryProgressReportBatch)))
                                 .compose(aVoid -> reportIntervalMs > 0 && reportsCount > sentReports.size()
                                         ? setInterval(reportIntervalMs)
                                         : Future.succeededFuture()),
@@ -150,19 +157,33 @@ public class DeliveryStatsService implements Suspendable {
             return promise.future();
         }
 
-        final String body = mapper.encodeToString(deliveryProgressReportFactory
-                .updateReportTimeStamp(deliveryProgressReport, now));
+        final DeliveryProgressReport reportToSend = deliveryProgressReportFactory
+                .updateReportTimeStamp(deliveryProgressReport, now);
 
         logger.info("Sending delivery progress report to Delivery Stats, {0} is {1}", PG_TRX_ID,
                 headers.get(PG_TRX_ID));
-        logger.debug("Delivery progress report is: {0}", body);
         if (deliveryStatsProperties.isRequestCompressionEnabled()) {
-            headers.add(HttpHeaders.CONTENT_ENCODING, GZIP);
-            httpClient.request(HttpMethod.POST, deliveryStatsProperties.getEndpoint(), headers, gzipBody(body),
+            if (logger.isDebugEnabled()) {
+                logger.debug("Delivery progress report is: {0}", mapper.encodeToString(reportToSend));
+            }
+
+            final byte[] body = gzipBody(reportToSend);
+            if (isOversized(reportToSend, body.length)) {
+                return sendSplitReport(deliveryProgressReport, headers, now);
+            }
+
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+            httpClient.request(HttpMethod.POST, deliveryStatsProperties.getEndpoint(), headers, body,
                             deliveryStatsProperties.getTimeoutMs())
                     .onComplete(result -> handleDeliveryProgressReport(result, deliveryProgressReport, promise,
                             startTime));
         } else {
+            final String body = mapper.encodeToString(reportToSend);
+            logger.debug("Delivery progress report is: {0}", body);
+            if (isOversized(reportToSend, body.length())) {
+                return sendSplitReport(deliveryProgressReport, headers, now);
+            }
+
             httpClient.post(deliveryStatsProperties.getEndpoint(), headers, body,
                             deliveryStatsProperties.getTimeoutMs())
                     .onComplete(result -> handleDeliveryProgressReport(result, deliveryProgressReport, promise,
@@ -172,6 +193,77 @@ public class DeliveryStatsService implements Suspendable {
         return promise.future();
     }
 
+    /**
+     * Returns true if report body exceeds configured max size and report can be split by line items.
+     */
+    private boolean isOversized(DeliveryProgressReport report, int bodySize) {
+        final int maxReportSizeBytes = deliveryStatsProperties.getMaxReportSizeBytes();
+        return maxReportSizeBytes > 0
+                && bodySize > maxReportSizeBytes
+                && report.getLineItemStatus() != null
+                && report.getLineItemStatus().size() > 1;
+    }
+
+    /**
+     * Sends report split into two parts by line items one by one.
+     * <p>
+     * Each part has its own report id derived from the id of the whole report and the part index, so Delivery
+     * Stats doesn't consider the second part as a duplicate of the first one, while a retried part keeps its id.
+     * If some part is failed to be sent, {@link PartiallySentReportException} with the parts not sent is returned.
+     */
+    private Future<Void> sendSplitReport(DeliveryProgressReport deliveryProgressReport, MultiMap headers,
+                                         ZonedDateTime now) {
+
+        final List<org.prebid.server.deals.proto.report.LineItemStatus> lineItemStatuses =
+                new ArrayList<>(deliveryProgressReport.getLineItemStatus());
+        final int middle = lineItemStatuses.size() / 2;
+
+        final DeliveryProgressReport firstPart = reportPart(deliveryProgressReport, 0,
+                lineItemStatuses.subList(0, middle));
+        final DeliveryProgressReport secondPart = reportPart(deliveryProgressReport, 1,
+                lineItemStatuses.subList(middle, lineItemStatuses.size()));
+
+        logger.info("Delivery progress report with id = {0} exceeds {1} bytes and will be sent in two parts"
+                        + " with ids = {2} and {3}", deliveryProgressReport.getReportId(),
+                deliveryStatsProperties.getMaxReportSizeBytes(), firstPart.getReportId(), secondPart.getReportId());
+
+        return sendReport(firstPart, headers, now)
+                .recover(exception -> Future.failedFuture(
+                        new PartiallySentReportException(exception, List.of(firstPart, secondPart))))
+                .compose(ignored -> sendReport(secondPart, headers, now)
+                        .recover(exception -> Future.failedFuture(
+                                new PartiallySentReportException(exception, List.of(secondPart)))));
+    }
+
+    private static DeliveryProgressReport reportPart(
+            DeliveryProgressReport deliveryProgressReport,
+            int partIndex,
+            List<org.prebid.server.deals.proto.report.LineItemStatus> lineItemStatuses) {
+
+        final String partReportId = UUID.nameUUIDFromBytes(
+                (deliveryProgressReport.getReportId() + "-part-" + partIndex).getBytes(StandardCharsets.UTF_8))
+                .toString();
+
+        return deliveryProgressReport.toBuilder()
+                .reportId(partReportId)
+                .lineItemStatus(new HashSet<>(lineItemStatuses))
+                .build();
+    }
+
+    /**
+     * Replaces partially sent report in the batch with its parts not sent yet, so only they are sent next time.
+     */
+    private static <T> Future<T> handlePartiallySentReport(Throwable exception,
+                                                           DeliveryProgressReport report,
+                                                           DeliveryProgressReportBatch deliveryProgressReportBatch) {
+
+        if (exception instanceof PartiallySentReportException partiallySentReportException) {
+            deliveryProgressReportBatch.replaceReport(report, partiallySentReportException.getNotSentParts());
+            return Future.failedFuture(exception.getCause());
+        }
+        return Future.failedFuture(exception);
+    }
+
     /**
      * Handles delivery report response from Planner.
      */
@@ -273,11 +365,14 @@ public class DeliveryStatsService implements Suspendable {
                 .formatted(Base64.getEncoder().encodeToString((username + ':' + password).getBytes()));
     }
 
-    private static byte[] gzipBody(String body) {
+    /**
+     * Serializes report directly into gzip stream, without building intermediate JSON string.
+     */
+    private byte[] gzipBody(DeliveryProgressReport report) {
         try (
                 ByteArrayOutputStream obj = new ByteArrayOutputStream();
                 GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
-            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+            mapper.mapper().writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(gzip, report);
             gzip.finish();
             return obj.toByteArray();
         } catch (IOException e) {
@@ -291,4 +386,22 @@ public class DeliveryStatsService implements Suspendable {
             requiredBatches.pollFirst();
         }
     }
+
+    /**
+     * Signals that report was split into parts and some of them were not sent.
+     */
+    @SuppressWarnings("serial")
+    private static class PartiallySentReportException extends PreBidException {
+
+        private final List<DeliveryProgressReport> notSentParts;
+
+        PartiallySentReportException(Throwable cause, List<DeliveryProgressReport> notSentParts) {
+            super(cause.getMessage(), cause);
+            this.notSentParts = notSentParts;
+        }
+
+        List<DeliveryProgressReport> getNotSentParts() {
+            return notSentParts;
+        }
+    }
 }
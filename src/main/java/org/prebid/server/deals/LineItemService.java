@@ -16,6 +16,7 @@ import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.deals.events.ApplicationEventService;
 import org.prebid.server.deals.lineitem.DeliveryPlan;
 import org.prebid.server.deals.lineitem.LineItem;
+import org.prebid.server.deals.lineitem.LineItemSlots;
 import org.prebid.server.deals.model.MatchLineItemsResult;
 import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.deals.proto.DeliverySchedule;
@@ -81,6 +82,7 @@ public class LineItemService {
 
     protected final Map<String, LineItem> idToLineItems;
     protected volatile boolean isPlannerResponsive;
+    private volatile LineItemSlots lineItemSlots;
 
     public LineItemService(int maxDealsPerBidder,
                            TargetingService targetingService,
@@ -101,6 +103,7 @@ public class LineItemService {
         this.criteriaLogManager = Objects.requireNonNull(criteriaLogManager);
 
         idToLineItems = new ConcurrentHashMap<>();
+        lineItemSlots = LineItemSlots.empty();
     }
 
     /**
@@ -110,6 +113,13 @@ public class LineItemService {
         return idToLineItems.get(lineItemId);
     }
 
+    /**
+     * Returns slots assigned to {@link LineItem}s when they were installed last time.
+     */
+    public LineItemSlots getLineItemSlots() {
+        return lineItemSlots;
+    }
+
     /**
      * Returns true when account has at least one active {@link LineItem}.
      */
@@ -171,17 +181,20 @@ public class LineItemService {
 
             removeInactiveLineItems(planResponse, now);
             lineItemsMetaData.forEach(lineItemMetaData -> updateLineItem(lineItemMetaData, now));
+            lineItemSlots = LineItemSlots.of(idToLineItems.keySet());
         }
     }
 
     public void invalidateLineItemsByIds(List<String> lineItemIds) {
         idToLineItems.entrySet().removeIf(stringLineItemEntry -> lineItemIds.contains(stringLineItemEntry.getKey()));
+        lineItemSlots = LineItemSlots.of(idToLineItems.keySet());
         logger.info("Line Items with ids {0} were removed", String.join(", ", lineItemIds));
     }
 
     public void invalidateLineItems() {
         final String lineItemsToRemove = String.join(", ", idToLineItems.keySet());
         idToLineItems.clear();
+        lineItemSlots = LineItemSlots.empty();
         logger.info("Line Items with ids {0} were removed", lineItemsToRemove);
     }
 
@@ -1,6 +1,7 @@
 package org.prebid.server.deals.lineitem;
 
 import org.prebid.server.deals.LineItemService;
+import org.prebid.server.deals.lineitem.LineItemSlotCounters.Counter;
 import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.deals.proto.report.Event;
 
@@ -13,9 +14,15 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.LongAdder;
-import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+/**
+ * Delivery statistics of line items collected within reporting period.
+ * <p>
+ * Counters of line items having slots assigned when delivery progress was created are incremented by slot and
+ * moved to {@link LineItemStatus}es by {@link #flushSlotCounters()} once the period is over. Counters of line items
+ * installed within the period are incremented in {@link LineItemStatus}es directly.
+ */
 public class DeliveryProgress {
 
     private static final String WIN_EVENT_TYPE = "win";
@@ -23,10 +30,13 @@ public class DeliveryProgress {
     private final Map<String, LineItemStatus> lineItemStatuses;
     private final Map<String, LongAdder> requestsPerAccount;
     private final Map<String, Map<String, LostToLineItem>> lineItemIdToLost;
+    private final Set<String> updatedLineItemIds;
     private final LongAdder requests;
     private ZonedDateTime startTimeStamp;
     private ZonedDateTime endTimeStamp;
     private final LineItemService lineItemService;
+    private final LineItemSlots lineItemSlots;
+    private final LineItemSlotCounters slotCounters;
 
     private DeliveryProgress(ZonedDateTime startTimeStamp, LineItemService lineItemService) {
         this.startTimeStamp = Objects.requireNonNull(startTimeStamp);
@@ -34,7 +44,12 @@ public class DeliveryProgress {
         this.requests = new LongAdder();
         this.requestsPerAccount = new ConcurrentHashMap<>();
         this.lineItemIdToLost = new ConcurrentHashMap<>();
+        this.updatedLineItemIds = ConcurrentHashMap.newKeySet();
         this.lineItemService = Objects.requireNonNull(lineItemService);
+
+        final LineItemSlots currentLineItemSlots = lineItemService.getLineItemSlots();
+        this.lineItemSlots = currentLineItemSlots != null ? currentLineItemSlots : LineItemSlots.empty();
+        this.slotCounters = new LineItemSlotCounters(lineItemSlots.size());
     }
 
     public static DeliveryProgress of(ZonedDateTime startTimeStamp, LineItemService lineItemService) {
@@ -67,28 +82,32 @@ public class DeliveryProgress {
         accountRequests(accountId).increment();
         requests.increment();
 
+        if (txnLog.isEmpty()) {
+            return;
+        }
+
         txnLog.lineItemSentToClientAsTopMatch()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToClientAsTopMatch));
+                .forEach(lineItemId -> increment(lineItemId, Counter.sentToClientAsTopMatch));
         txnLog.lineItemsSentToClient()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToClient));
+                .forEach(lineItemId -> increment(lineItemId, Counter.sentToClient));
         txnLog.lineItemsMatchedDomainTargeting()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incDomainMatched));
+                .forEach(lineItemId -> increment(lineItemId, Counter.domainMatched));
         txnLog.lineItemsMatchedWholeTargeting()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incTargetMatched));
+                .forEach(lineItemId -> increment(lineItemId, Counter.targetMatched));
         txnLog.lineItemsMatchedTargetingFcapped()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incTargetMatchedButFcapped));
+                .forEach(lineItemId -> increment(lineItemId, Counter.targetMatchedButFcapped));
         txnLog.lineItemsMatchedTargetingFcapLookupFailed()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incTargetMatchedButFcapLookupFailed));
+                .forEach(lineItemId -> increment(lineItemId, Counter.targetMatchedButFcapLookupFailed));
         txnLog.lineItemsPacingDeferred()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incPacingDeferred));
+                .forEach(lineItemId -> increment(lineItemId, Counter.pacingDeferred));
         txnLog.lineItemsSentToBidder().values().forEach(idList -> idList
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToBidder)));
+                .forEach(lineItemId -> increment(lineItemId, Counter.sentToBidder)));
         txnLog.lineItemsSentToBidderAsTopMatch().values().forEach(bidderList -> bidderList
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToBidderAsTopMatch)));
+                .forEach(lineItemId -> increment(lineItemId, Counter.sentToBidderAsTopMatch)));
         txnLog.lineItemsReceivedFromBidder().values().forEach(idList -> idList
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incReceivedFromBidder)));
+                .forEach(lineItemId -> increment(lineItemId, Counter.receivedFromBidder)));
         txnLog.lineItemsResponseInvalidated()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incReceivedFromBidderInvalidated));
+                .forEach(lineItemId -> increment(lineItemId, Counter.receivedFromBidderInvalidated));
 
         txnLog.lineItemSentToClientAsTopMatch()
                 .forEach(lineItemId -> incToken(lineItemId, planIdToTokenPriority));
@@ -105,6 +124,7 @@ public class DeliveryProgress {
      */
     public void recordWinEvent(String lineItemId) {
         final LineItemStatus lineItemStatus = lineItemStatuses.computeIfAbsent(lineItemId, this::createLineItemStatus);
+        markUpdated(lineItemId);
         final Event winEvent = lineItemStatus.getEvents().stream()
                 .filter(event -> event.getType().equals(WIN_EVENT_TYPE))
                 .findAny()
@@ -132,9 +152,12 @@ public class DeliveryProgress {
 
         another.lineItemStatuses.forEach((lineItemId, lineItemStatus) ->
                 lineItemStatuses.computeIfAbsent(lineItemId, this::createLineItemStatus).merge(lineItemStatus));
+        addSlotCounters(another, false);
 
         another.lineItemIdToLost.forEach((lineItemId, currentLineItemLost) ->
                 mergeCurrentLineItemLostReportToOverall(lineItemId, currentLineItemLost, lineItemIdToLost));
+
+        updatedLineItemIds.addAll(another.updatedLineItemIds);
     }
 
     public void upsertPlanReferenceFromLineItem(LineItem lineItem) {
@@ -156,6 +179,7 @@ public class DeliveryProgress {
     public void mergePlanFromLineItem(LineItem lineItem) {
         final LineItemStatus currentLineItemStatus = lineItemStatuses.computeIfAbsent(lineItem.getLineItemId(),
                 this::createLineItemStatus);
+        markUpdated(lineItem.getLineItemId());
         final DeliveryPlan updatedDeliveryPlan = lineItem.getActiveDeliveryPlan();
 
         final Set<DeliveryPlan> deliveryPlans = currentLineItemStatus.getDeliveryPlans();
@@ -227,6 +251,27 @@ public class DeliveryProgress {
         }
     }
 
+    /**
+     * Drops statistics of the given line items, including not yet flushed slot counters.
+     */
+    public void invalidateLineItems(Collection<String> lineItemIds) {
+        lineItemStatuses.keySet().removeIf(lineItemIds::contains);
+        for (String lineItemId : lineItemIds) {
+            final int slot = lineItemSlots.slotOf(lineItemId);
+            if (slot >= 0) {
+                slotCounters.reset(slot);
+            }
+        }
+    }
+
+    /**
+     * Drops statistics of all line items, including not yet flushed slot counters.
+     */
+    public void invalidateLineItems() {
+        lineItemStatuses.clear();
+        slotCounters.reset();
+    }
+
     public void updateWithActiveLineItems(Collection<LineItem> lineItems) {
         lineItems.forEach(lineItem -> lineItemStatuses.putIfAbsent(lineItem.getLineItemId(),
                 createLineItemStatus(lineItem.getLineItemId())));
@@ -244,6 +289,15 @@ public class DeliveryProgress {
         return lineItemIdToLost;
     }
 
+    /**
+     * Returns ids of line items which statistics or delivery plans were changed within this delivery progress.
+     * <p>
+     * Line items added by {@link #updateWithActiveLineItems(Collection)} only are not considered as updated.
+     */
+    public Set<String> getUpdatedLineItemIds() {
+        return updatedLineItemIds;
+    }
+
     public LongAdder getRequests() {
         return requests;
     }
@@ -265,21 +319,65 @@ public class DeliveryProgress {
     }
 
     private LongAdder accountRequests(String account) {
-        return requestsPerAccount.computeIfAbsent(account, ignored -> new LongAdder());
+        final LongAdder accountRequests = requestsPerAccount.get(account);
+        return accountRequests != null
+                ? accountRequests
+                : requestsPerAccount.computeIfAbsent(account, ignored -> new LongAdder());
     }
 
     /**
-     * Increments {@link LineItemStatus} metric, creates line item status if does not exist.
+     * Increments line item counter by its slot if line item has one, otherwise increments {@link LineItemStatus}
+     * metric, creating line item status if does not exist.
      */
-    private void increment(String lineItemId, Consumer<LineItemStatus> inc) {
-        inc.accept(lineItemStatuses.computeIfAbsent(lineItemId, this::createLineItemStatus));
+    private void increment(String lineItemId, Counter counter) {
+        final int slot = lineItemSlots.slotOf(lineItemId);
+        if (slot >= 0) {
+            slotCounters.increment(slot, counter);
+            return;
+        }
+
+        markUpdated(lineItemId);
+        final LineItemStatus lineItemStatus = lineItemStatuses.get(lineItemId);
+        counter.of(lineItemStatus != null
+                        ? lineItemStatus
+                        : lineItemStatuses.computeIfAbsent(lineItemId, this::createLineItemStatus))
+                .increment();
+    }
+
+    /**
+     * Moves counters incremented by line item slots to {@link LineItemStatus}es, so they can be reported.
+     */
+    public void flushSlotCounters() {
+        addSlotCounters(this, true);
+    }
+
+    private void addSlotCounters(DeliveryProgress source, boolean reset) {
+        final LineItemSlots sourceSlots = source.lineItemSlots;
+        for (int slot = 0; slot < sourceSlots.size(); slot++) {
+            if (source.slotCounters.hasCounts(slot)) {
+                final String lineItemId = sourceSlots.lineItemIdOf(slot);
+                markUpdated(lineItemId);
+                source.slotCounters.addTo(
+                        slot, lineItemStatuses.computeIfAbsent(lineItemId, this::createLineItemStatus), reset);
+            }
+        }
+    }
+
+    /**
+     * Remembers line item as updated, set is checked first to avoid locking on already updated line items.
+     */
+    private void markUpdated(String lineItemId) {
+        if (!updatedLineItemIds.contains(lineItemId)) {
+            updatedLineItemIds.add(lineItemId);
+        }
     }
 
     /**
      * Increment tokens in active delivery report.
      */
     private void incToken(String lineItemId, Map<String, Integer> planIdToTokenPriority) {
-        final LineItemStatus lineItemStatus = lineItemStatuses.get(lineItemId);
+        final LineItemStatus lineItemStatus = lineItemStatuses.computeIfAbsent(lineItemId,
+                this::createLineItemStatus);
         final LineItem lineItem = lineItemService.getLineItemById(lineItemId);
         final DeliveryPlan lineItemActivePlan = lineItem.getActiveDeliveryPlan();
         if (lineItemActivePlan != null) {
@@ -305,6 +403,7 @@ public class DeliveryProgress {
      */
     private void updateLostToEachLineItem(String lineItemId, Set<String> lostToLineItemsIds,
                                           Map<String, Map<String, LostToLineItem>> lostToLineItemTimes) {
+        markUpdated(lineItemId);
         final Map<String, LostToLineItem> lostToLineItemsTimes = lostToLineItemTimes
                 .computeIfAbsent(lineItemId, key -> new ConcurrentHashMap<>());
         lostToLineItemsIds.forEach(lostToLineItemId -> incLostToLineItemTimes(lostToLineItemId, lostToLineItemsTimes));
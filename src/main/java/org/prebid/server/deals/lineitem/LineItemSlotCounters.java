@@ -0,0 +1,140 @@
+package org.prebid.server.deals.lineitem;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Delivery counters of line items addressed by {@link LineItemSlots}.
+ * <p>
+ * Counters of all line items are kept in a flat array per stripe. Stripe is chosen by the current thread,
+ * so event loops don't contend with each other, and is allocated on the first increment made to it.
+ * Stripes are summed up when counters are moved to {@link LineItemStatus}es.
+ */
+class LineItemSlotCounters {
+
+    private static final int STRIPES = stripesCount();
+    private static final Counter[] COUNTERS = Counter.values();
+
+    private final int size;
+    private final AtomicReferenceArray<AtomicLongArray> stripes;
+
+    LineItemSlotCounters(int slots) {
+        size = slots * COUNTERS.length;
+        stripes = new AtomicReferenceArray<>(STRIPES);
+    }
+
+    void increment(int slot, Counter counter) {
+        stripe().incrementAndGet(slot * COUNTERS.length + counter.ordinal());
+    }
+
+    /**
+     * Returns true if any counter of the given slot was incremented.
+     */
+    boolean hasCounts(int slot) {
+        for (int i = 0; i < STRIPES; i++) {
+            final AtomicLongArray stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+
+            for (int index = slot * COUNTERS.length; index < (slot + 1) * COUNTERS.length; index++) {
+                if (stripe.get(index) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds counters of the given slot to {@link LineItemStatus}, resetting them if requested.
+     */
+    void addTo(int slot, LineItemStatus lineItemStatus, boolean reset) {
+        for (Counter counter : COUNTERS) {
+            final int index = slot * COUNTERS.length + counter.ordinal();
+
+            long sum = 0;
+            for (int i = 0; i < STRIPES; i++) {
+                final AtomicLongArray stripe = stripes.get(i);
+                if (stripe != null) {
+                    sum += reset ? stripe.getAndSet(index, 0) : stripe.get(index);
+                }
+            }
+
+            if (sum != 0) {
+                counter.of(lineItemStatus).add(sum);
+            }
+        }
+    }
+
+    /**
+     * Drops counters of the given slot.
+     */
+    void reset(int slot) {
+        for (int i = 0; i < STRIPES; i++) {
+            final AtomicLongArray stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+
+            for (int index = slot * COUNTERS.length; index < (slot + 1) * COUNTERS.length; index++) {
+                stripe.set(index, 0);
+            }
+        }
+    }
+
+    /**
+     * Drops counters of all slots.
+     */
+    void reset() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes.set(i, null);
+        }
+    }
+
+    private AtomicLongArray stripe() {
+        final int index = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        final AtomicLongArray stripe = stripes.get(index);
+        if (stripe != null) {
+            return stripe;
+        }
+
+        stripes.compareAndSet(index, null, new AtomicLongArray(size));
+        return stripes.get(index);
+    }
+
+    /**
+     * Returns power of two not less than doubled number of processors, which is the default number of event loops.
+     */
+    private static int stripesCount() {
+        final int minStripes = Runtime.getRuntime().availableProcessors() * 2;
+        return Integer.highestOneBit(minStripes - 1) << 1;
+    }
+
+    enum Counter {
+
+        domainMatched(LineItemStatus::getDomainMatched),
+        targetMatched(LineItemStatus::getTargetMatched),
+        targetMatchedButFcapped(LineItemStatus::getTargetMatchedButFcapped),
+        targetMatchedButFcapLookupFailed(LineItemStatus::getTargetMatchedButFcapLookupFailed),
+        pacingDeferred(LineItemStatus::getPacingDeferred),
+        sentToBidder(LineItemStatus::getSentToBidder),
+        sentToBidderAsTopMatch(LineItemStatus::getSentToBidderAsTopMatch),
+        receivedFromBidder(LineItemStatus::getReceivedFromBidder),
+        receivedFromBidderInvalidated(LineItemStatus::getReceivedFromBidderInvalidated),
+        sentToClient(LineItemStatus::getSentToClient),
+        sentToClientAsTopMatch(LineItemStatus::getSentToClientAsTopMatch);
+
+        private final Function<LineItemStatus, LongAdder> statusCounter;
+
+        Counter(Function<LineItemStatus, LongAdder> statusCounter) {
+            this.statusCounter = statusCounter;
+        }
+
+        LongAdder of(LineItemStatus lineItemStatus) {
+            return statusCounter.apply(lineItemStatus);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.prebid.server.deals.lineitem;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dense integer slots of line items, assigned each time line items are installed from the plan.
+ * <p>
+ * Slots let delivery counters of line items be kept in arrays instead of maps keyed by line item id.
+ */
+public class LineItemSlots {
+
+    private static final LineItemSlots EMPTY = new LineItemSlots(new String[0]);
+
+    private final String[] lineItemIds;
+    private final Map<String, Integer> lineItemIdToSlot;
+
+    private LineItemSlots(String[] lineItemIds) {
+        this.lineItemIds = lineItemIds;
+
+        lineItemIdToSlot = new HashMap<>(lineItemIds.length * 2);
+        for (int slot = 0; slot < lineItemIds.length; slot++) {
+            lineItemIdToSlot.put(lineItemIds[slot], slot);
+        }
+    }
+
+    public static LineItemSlots of(Collection<String> lineItemIds) {
+        return lineItemIds.isEmpty() ? EMPTY : new LineItemSlots(lineItemIds.toArray(String[]::new));
+    }
+
+    public static LineItemSlots empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns slot of the given line item or -1 if line item has no slot.
+     */
+    public int slotOf(String lineItemId) {
+        final Integer slot = lineItemIdToSlot.get(lineItemId);
+        return slot != null ? slot : -1;
+    }
+
+    public String lineItemIdOf(int slot) {
+        return lineItemIds[slot];
+    }
+
+    public int size() {
+        return lineItemIds.length;
+    }
+}
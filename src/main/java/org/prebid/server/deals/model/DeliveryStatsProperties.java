@@ -23,6 +23,10 @@ public class DeliveryStatsProperties {
 
     boolean requestCompressionEnabled;
 
+    boolean incrementalReportsEnabled;
+
+    int maxReportSizeBytes;
+
     @NonNull
     String username;
 
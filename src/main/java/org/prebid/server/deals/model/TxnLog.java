@@ -2,9 +2,7 @@ package org.prebid.server.deals.model;
 
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.experimental.Accessors;
 import lombok.experimental.FieldDefaults;
 import org.apache.commons.collections4.Factory;
 import org.apache.commons.collections4.MapUtils;
@@ -14,43 +12,186 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
-@Getter
-@Accessors(fluent = true, chain = true)
+/**
+ * Transaction log of line items processing within single auction.
+ * <p>
+ * Transaction log is created for each auction, while most of the auctions don't deal with line items at all,
+ * so its collections are created on first access only. Not accessed collections are considered empty.
+ */
 @NoArgsConstructor(staticName = "create")
-@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class TxnLog {
 
-    Set<String> lineItemsMatchedDomainTargeting = new HashSet<>();
-
-    Set<String> lineItemsMatchedWholeTargeting = new HashSet<>();
-
-    Set<String> lineItemsMatchedTargetingFcapped = new HashSet<>();
-
-    Set<String> lineItemsMatchedTargetingFcapLookupFailed = new HashSet<>();
-
-    Set<String> lineItemsReadyToServe = new HashSet<>();
-
-    Set<String> lineItemsPacingDeferred = new HashSet<>();
-
-    Map<String, Set<String>> lineItemsSentToBidder = MapUtils.lazyMap(new HashMap<>(),
-            (Factory<Set<String>>) HashSet::new);
-
-    Map<String, Set<String>> lineItemsSentToBidderAsTopMatch = MapUtils.lazyMap(new HashMap<>(),
-            (Factory<Set<String>>) HashSet::new);
-
-    Map<String, Set<String>> lineItemsReceivedFromBidder = MapUtils.lazyMap(new HashMap<>(),
-            (Factory<Set<String>>) HashSet::new);
-
-    Set<String> lineItemsResponseInvalidated = new HashSet<>();
-
-    Set<String> lineItemsSentToClient = new HashSet<>();
-
-    Map<String, Set<String>> lostMatchingToLineItems = MapUtils.lazyMap(new HashMap<>(),
-            (Factory<Set<String>>) HashSet::new);
-
-    Map<String, Set<String>> lostAuctionToLineItems = MapUtils.lazyMap(new HashMap<>(),
-            (Factory<Set<String>>) HashSet::new);
-
-    Set<String> lineItemSentToClientAsTopMatch = new HashSet<>();
+    Set<String> lineItemsMatchedDomainTargeting;
+
+    Set<String> lineItemsMatchedWholeTargeting;
+
+    Set<String> lineItemsMatchedTargetingFcapped;
+
+    Set<String> lineItemsMatchedTargetingFcapLookupFailed;
+
+    Set<String> lineItemsReadyToServe;
+
+    Set<String> lineItemsPacingDeferred;
+
+    Map<String, Set<String>> lineItemsSentToBidder;
+
+    Map<String, Set<String>> lineItemsSentToBidderAsTopMatch;
+
+    Map<String, Set<String>> lineItemsReceivedFromBidder;
+
+    Set<String> lineItemsResponseInvalidated;
+
+    Set<String> lineItemsSentToClient;
+
+    Map<String, Set<String>> lostMatchingToLineItems;
+
+    Map<String, Set<String>> lostAuctionToLineItems;
+
+    Set<String> lineItemSentToClientAsTopMatch;
+
+    @EqualsAndHashCode.Include
+    public Set<String> lineItemsMatchedDomainTargeting() {
+        if (lineItemsMatchedDomainTargeting == null) {
+            lineItemsMatchedDomainTargeting = new HashSet<>();
+        }
+        return lineItemsMatchedDomainTargeting;
+    }
+
+    @EqualsAndHashCode.Include
+    public Set<String> lineItemsMatchedWholeTargeting() {
+        if (lineItemsMatchedWholeTargeting == null) {
+            lineItemsMatchedWholeTargeting = new HashSet<>();
+        }
+        return lineItemsMatchedWholeTargeting;
+    }
+
+    @EqualsAndHashCode.Include
+    public Set<String> lineItemsMatchedTargetingFcapped() {
+        if (lineItemsMatchedTargetingFcapped == null) {
+            lineItemsMatchedTargetingFcapped = new HashSet<>();
+        }
+        return lineItemsMatchedTargetingFcapped;
+    }
+
+    @EqualsAndHashCode.Include
+    public Set<String> lineItemsMatchedTargetingFcapLookupFailed() {
+        if (lineItemsMatchedTargetingFcapLookupFailed == null) {
+            lineItemsMatchedTargetingFcapLookupFailed = new HashSet<>();
+        }
+        return lineItemsMatchedTargetingFcapLookupFailed;
+    }
+
+    @EqualsAndHashCode.Include
+    public Set<String> lineItemsReadyToServe() {
+        if (lineItemsReadyToServe == null) {
+            lineItemsReadyToServe = new HashSet<>();
+        }
+        return lineItemsReadyToServe;
+    }
+
+    @EqualsAndHashCode.Include
+    public Set<String> lineItemsPacingDeferred() {
+        if (lineItemsPacingDeferred == null) {
+            lineItemsPacingDeferred = new HashSet<>();
+        }
+        return lineItemsPacingDeferred;
+    }
+
+    @EqualsAndHashCode.Include
+    public Map<String, Set<String>> lineItemsSentToBidder() {
+        if (lineItemsSentToBidder == null) {
+            lineItemsSentToBidder = lazyMap();
+        }
+        return lineItemsSentToBidder;
+    }
+
+    @EqualsAndHashCode.Include
+    public Map<String, Set<String>> lineItemsSentToBidderAsTopMatch() {
+        if (lineItemsSentToBidderAsTopMatch == null) {
+            lineItemsSentToBidderAsTopMatch = lazyMap();
+        }
+        return lineItemsSentToBidderAsTopMatch;
+    }
+
+    @EqualsAndHashCode.Include
+    public Map<String, Set<String>> lineItemsReceivedFromBidder() {
+        if (lineItemsReceivedFromBidder == null) {
+            lineItemsReceivedFromBidder = lazyMap();
+        }
+        return lineItemsReceivedFromBidder;
+    }
+
+    @EqualsAndHashCode.Include
+    public Set<String> lineItemsResponseInvalidated() {
+        if (lineItemsResponseInvalidated == null) {
+            lineItemsResponseInvalidated = new HashSet<>();
+        }
+        return lineItemsResponseInvalidated;
+    }
+
+    @EqualsAndHashCode.Include
+    public Set<String> lineItemsSentToClient() {
+        if (lineItemsSentToClient == null) {
+            lineItemsSentToClient = new HashSet<>();
+        }
+        return lineItemsSentToClient;
+    }
+
+    @EqualsAndHashCode.Include
+    public Map<String, Set<String>> lostMatchingToLineItems() {
+        if (lostMatchingToLineItems == null) {
+            lostMatchingToLineItems = lazyMap();
+        }
+        return lostMatchingToLineItems;
+    }
+
+    @EqualsAndHashCode.Include
+    public Map<String, Set<String>> lostAuctionToLineItems() {
+        if (lostAuctionToLineItems == null) {
+            lostAuctionToLineItems = lazyMap();
+        }
+        return lostAuctionToLineItems;
+    }
+
+    @EqualsAndHashCode.Include
+    public Set<String> lineItemSentToClientAsTopMatch() {
+        if (lineItemSentToClientAsTopMatch == null) {
+            lineItemSentToClientAsTopMatch = new HashSet<>();
+        }
+        return lineItemSentToClientAsTopMatch;
+    }
+
+    /**
+     * Returns true if no line item was recorded to this transaction log.
+     */
+    public boolean isEmpty() {
+        return isEmpty(lineItemsMatchedDomainTargeting)
+                && isEmpty(lineItemsMatchedWholeTargeting)
+                && isEmpty(lineItemsMatchedTargetingFcapped)
+                && isEmpty(lineItemsMatchedTargetingFcapLookupFailed)
+                && isEmpty(lineItemsReadyToServe)
+                && isEmpty(lineItemsPacingDeferred)
+                && isEmpty(lineItemsSentToBidder)
+                && isEmpty(lineItemsSentToBidderAsTopMatch)
+                && isEmpty(lineItemsReceivedFromBidder)
+                && isEmpty(lineItemsResponseInvalidated)
+                && isEmpty(lineItemsSentToClient)
+                && isEmpty(lostMatchingToLineItems)
+                && isEmpty(lostAuctionToLineItems)
+                && isEmpty(lineItemSentToClientAsTopMatch);
+    }
+
+    private static boolean isEmpty(Set<String> set) {
+        return set == null || set.isEmpty();
+    }
+
+    private static boolean isEmpty(Map<String, Set<String>> map) {
+        return map == null || map.isEmpty();
+    }
+
+    private static Map<String, Set<String>> lazyMap() {
+        return MapUtils.lazyMap(new HashMap<>(), (Factory<Set<String>>) HashSet::new);
+    }
 }
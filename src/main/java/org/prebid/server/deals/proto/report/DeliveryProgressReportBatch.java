@@ -3,6 +3,7 @@ package org.prebid.server.deals.proto.report;
 import lombok.AllArgsConstructor;
 import lombok.Value;
 
+import java.util.Collection;
 import java.util.Set;
 
 @Value
@@ -18,4 +19,9 @@ public class DeliveryProgressReportBatch {
     public void removeReports(Set<DeliveryProgressReport> reports) {
         this.reports.removeAll(reports);
     }
+
+    public void replaceReport(DeliveryProgressReport report, Collection<DeliveryProgressReport> replacement) {
+        reports.remove(report);
+        reports.addAll(replacement);
+    }
 }
@@ -1,9 +1,12 @@
 package org.prebid.server.execution;
 
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.AsyncFile;
 import io.vertx.core.file.CopyOptions;
 import io.vertx.core.file.FileProps;
@@ -11,28 +14,48 @@ import io.vertx.core.file.FileSystem;
 import io.vertx.core.file.FileSystemException;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.streams.Pump;
+import io.vertx.core.streams.WriteStream;
+import lombok.Value;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.BlockingExecutor;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.Base64;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
  * Works with remote web resource.
+ * <p>
+ * Remote file updates are checked with conditional requests (ETag or Last-Modified validators of the current file).
+ * Failed downloads are resumed with range requests where possible. Downloaded file is verified against SHA-256
+ * checksum from Digest response header, if any, and is not passed for processing if its content is the same as
+ * the current file has.
  */
 public class RemoteFileSyncer {
 
     private static final Logger logger = LoggerFactory.getLogger(RemoteFileSyncer.class);
 
+    private static final String DIGEST_SHA_256_PREFIX = "sha-256=";
+
     private final String downloadUrl;  // url to resource to be downloaded
     private final String saveFilePath; // full path on file system where downloaded file located
     private final String tmpFilePath; // full path on file system where tmp file located
@@ -43,10 +66,15 @@ public class RemoteFileSyncer {
     private final HttpClient httpClient;
     private final Vertx vertx;
     private final FileSystem fileSystem;
+    private final BlockingExecutor blockingExecutor;
+    private final Metrics metrics;
+
+    private DownloadedFile currentFile; // validators and checksum of the file currently used by processor
+    private DownloadedFile downloadedFile; // validators and checksum of the file downloaded to tmp file path
 
     private RemoteFileSyncer(String downloadUrl, String saveFilePath, String tmpFilePath, int retryCount,
                              long retryInterval, long timeout, long updatePeriod, HttpClient httpClient, Vertx vertx,
-                             FileSystem fileSystem) {
+                             FileSystem fileSystem, BlockingExecutor blockingExecutor, Metrics metrics) {
         this.downloadUrl = downloadUrl;
         this.saveFilePath = saveFilePath;
         this.tmpFilePath = tmpFilePath;
@@ -57,23 +85,28 @@ public class RemoteFileSyncer {
         this.httpClient = httpClient;
         this.vertx = vertx;
         this.fileSystem = fileSystem;
+        this.blockingExecutor = blockingExecutor;
+        this.metrics = metrics;
     }
 
     public static RemoteFileSyncer create(String downloadUrl, String saveFilePath, String tmpFilePath, int retryCount,
                                           long retryInterval, long timeout, long updatePeriod, HttpClient httpClient,
-                                          Vertx vertx, FileSystem fileSystem) {
+                                          Vertx vertx, FileSystem fileSystem, BlockingExecutor blockingExecutor,
+                                          Metrics metrics) {
         HttpUtil.validateUrl(downloadUrl);
         Objects.requireNonNull(saveFilePath);
         Objects.requireNonNull(tmpFilePath);
         Objects.requireNonNull(vertx);
         Objects.requireNonNull(httpClient);
         Objects.requireNonNull(fileSystem);
+        Objects.requireNonNull(blockingExecutor);
+        Objects.requireNonNull(metrics);
 
         createAndCheckWritePermissionsFor(fileSystem, saveFilePath);
         createAndCheckWritePermissionsFor(fileSystem, tmpFilePath);
 
         return new RemoteFileSyncer(downloadUrl, saveFilePath, tmpFilePath, retryCount, retryInterval, timeout,
-                updatePeriod, httpClient, vertx, fileSystem);
+                updatePeriod, httpClient, vertx, fileSystem, blockingExecutor, metrics);
     }
 
     /**
@@ -123,7 +156,7 @@ public class RemoteFileSyncer {
                                             Promise<Boolean> promise) {
         if (existResult.succeeded()) {
             if (existResult.result()) {
-                fileProcessor.setDataPath(saveFilePath)
+                processFile(fileProcessor)
                         .onComplete(serviceRespond -> handleServiceRespond(serviceRespond, promise));
             } else {
                 syncRemoteFiles().onComplete(promise);
@@ -133,6 +166,14 @@ public class RemoteFileSyncer {
         }
     }
 
+    /**
+     * File processing (e.g. unpacking and indexing) is blocking, so it is done on {@link BlockingExecutor}.
+     */
+    private Future<Void> processFile(RemoteFileProcessor fileProcessor) {
+        return blockingExecutor.execute(() -> fileProcessor.setDataPath(saveFilePath))
+                .compose(Future::mapEmpty);
+    }
+
     private void handleServiceRespond(AsyncResult<?> processResult, Promise<Boolean> promise) {
         if (processResult.failed()) {
             final Throwable cause = processResult.cause();
@@ -179,8 +220,17 @@ public class RemoteFileSyncer {
 
     private Future<Boolean> syncRemoteFiles() {
         return tryDownload()
-                .compose(downloadResult -> swapFiles())
-                .map(true);
+                .compose(downloadResult -> isDownloadedFileChanged() ? swapFiles().map(true) : skipUnchanged());
+    }
+
+    private boolean isDownloadedFileChanged() {
+        return currentFile == null || !Objects.equals(currentFile.getChecksum(), downloadedFile.getChecksum());
+    }
+
+    private Future<Boolean> skipUnchanged() {
+        logger.info("Downloaded file {0} has the same content as {1}", tmpFilePath, saveFilePath);
+        currentFile = downloadedFile;
+        return cleanUp(tmpFilePath).map(false);
     }
 
     private Future<Void> tryDownload() {
@@ -198,6 +248,8 @@ public class RemoteFileSyncer {
     }
 
     private Future<Void> download() {
+        downloadedFile = null;
+
         final Promise<Void> promise = Promise.promise();
         final OpenOptions openOptions = new OpenOptions().setCreateNew(true);
         fileSystem.open(tmpFilePath, openOptions, openResult -> handleFileOpenWithDownload(openResult, promise));
@@ -208,7 +260,9 @@ public class RemoteFileSyncer {
         if (openResult.succeeded()) {
             final AsyncFile asyncFile = openResult.result();
             try {
-                httpClient.getAbs(downloadUrl, response -> pumpFileFromRequest(response, asyncFile, promise)).end();
+                httpClient.getAbs(downloadUrl,
+                        response -> pumpFileFromRequest(response, asyncFile, DigestUtils.getSha256Digest(), promise))
+                        .end();
             } catch (Exception e) {
                 promise.fail(e);
             }
@@ -218,17 +272,30 @@ public class RemoteFileSyncer {
     }
 
     private void pumpFileFromRequest(
-            HttpClientResponse httpClientResponse, AsyncFile asyncFile, Promise<Void> promise) {
+            HttpClientResponse httpClientResponse, AsyncFile asyncFile, MessageDigest digest, Promise<Void> promise) {
 
         logger.info("Trying to download file from {0}", downloadUrl);
+        final long startTime = System.nanoTime();
+
+        // validators are remembered before download completion to be able to resume it if failed
+        downloadedFile = DownloadedFile.of(
+                httpClientResponse.getHeader(HttpHeaders.ETAG),
+                httpClientResponse.getHeader(HttpHeaders.LAST_MODIFIED),
+                null);
+
         httpClientResponse.pause();
-        final Pump pump = Pump.pump(httpClientResponse, asyncFile);
+        final DigestWriteStream fileStream = new DigestWriteStream(asyncFile, digest);
+        final Pump pump = Pump.pump(httpClientResponse, fileStream);
         pump.start();
         httpClientResponse.resume();
 
         final long idTimer = setTimeoutTimer(asyncFile, pump, promise);
 
-        httpClientResponse.endHandler(responseEndResult -> handleResponseEnd(asyncFile, idTimer, promise));
+        // e.g. connection was closed in the middle of download, so it can be resumed without waiting for timeout
+        httpClientResponse.exceptionHandler(exception ->
+                handleResponseException(asyncFile, pump, idTimer, promise, exception));
+        httpClientResponse.endHandler(responseEndResult ->
+                handleResponseEnd(httpClientResponse, asyncFile, fileStream, idTimer, startTime, promise));
     }
 
     private long setTimeoutTimer(AsyncFile asyncFile, Pump pump, Promise<Void> promise) {
@@ -243,9 +310,66 @@ public class RemoteFileSyncer {
         }
     }
 
-    private void handleResponseEnd(AsyncFile asyncFile, long idTimer, Promise<Void> promise) {
+    private void handleResponseException(AsyncFile asyncFile,
+                                         Pump pump,
+                                         long idTimer,
+                                         Promise<Void> promise,
+                                         Throwable exception) {
+
         vertx.cancelTimer(idTimer);
-        asyncFile.flush().close(promise);
+        pump.stop();
+        asyncFile.close();
+        promise.tryFail(exception);
+    }
+
+    private void handleResponseEnd(HttpClientResponse httpClientResponse,
+                                   AsyncFile asyncFile,
+                                   DigestWriteStream fileStream,
+                                   long idTimer,
+                                   long startTime,
+                                   Promise<Void> promise) {
+
+        vertx.cancelTimer(idTimer);
+        asyncFile.flush().close(closeResult -> {
+            if (closeResult.failed()) {
+                promise.fail(closeResult.cause());
+                return;
+            }
+
+            final byte[] checksum = fileStream.digest();
+            final String expectedChecksum = expectedChecksum(httpClientResponse);
+            if (expectedChecksum != null && !expectedChecksum.equals(Base64.getEncoder().encodeToString(checksum))) {
+                // corrupted file should not be resumed
+                downloadedFile = null;
+                promise.fail(new PreBidException("Checksum of file downloaded from %s doesn't match %s"
+                        .formatted(downloadUrl, expectedChecksum)));
+                return;
+            }
+
+            metrics.updateRemoteFileDownloadMetrics(
+                    fileStream.getBytes(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            downloadedFile = DownloadedFile.of(
+                    downloadedFile.getEtag(), downloadedFile.getLastModified(), Hex.encodeHexString(checksum));
+            promise.complete();
+        });
+    }
+
+    /**
+     * Returns base64 encoded SHA-256 checksum of the whole file from Digest header, if present.
+     */
+    private static String expectedChecksum(HttpClientResponse httpClientResponse) {
+        final String digestHeader = httpClientResponse.getHeader(HttpUtil.DIGEST_HEADER);
+        if (StringUtils.isBlank(digestHeader)) {
+            return null;
+        }
+
+        for (String digest : digestHeader.split(",")) {
+            final String trimmedDigest = digest.trim();
+            if (StringUtils.startsWithIgnoreCase(trimmedDigest, DIGEST_SHA_256_PREFIX)) {
+                return trimmedDigest.substring(DIGEST_SHA_256_PREFIX.length());
+            }
+        }
+        return null;
     }
 
     private void handleDownload(AsyncResult<Void> downloadResult, Promise<Void> promise) {
@@ -264,7 +388,7 @@ public class RemoteFileSyncer {
     private void handleRetry(Promise<Void> receivedPromise, long retryInterval, long retryCount) {
         if (retryCount > 0) {
             final long next = retryCount - 1;
-            cleanUp(tmpFilePath).compose(ignore -> download())
+            resumeOrDownload()
                     .onComplete(retryResult -> handleRetryResult(retryInterval, next, retryResult, receivedPromise));
         } else {
             cleanUp(tmpFilePath).onComplete(ignore -> receivedPromise.fail(new PreBidException(
@@ -272,6 +396,92 @@ public class RemoteFileSyncer {
         }
     }
 
+    /**
+     * Resumes download of partially downloaded file with range request, if server provided validator for it.
+     * Otherwise, downloads file from scratch.
+     */
+    private Future<Void> resumeOrDownload() {
+        final String validator = downloadedFile != null
+                ? ObjectUtils.firstNonNull(downloadedFile.getEtag(), downloadedFile.getLastModified())
+                : null;
+
+        return validator != null
+                ? tmpFileSize().compose(size -> size > 0 ? resumeDownload(size, validator) : restartDownload())
+                : restartDownload();
+    }
+
+    private Future<Void> restartDownload() {
+        return cleanUp(tmpFilePath).compose(ignore -> download());
+    }
+
+    private Future<Long> tmpFileSize() {
+        final Promise<FileProps> promise = Promise.promise();
+        fileSystem.props(tmpFilePath, promise);
+        return promise.future()
+                .map(FileProps::size)
+                .otherwise(0L);
+    }
+
+    private Future<Void> resumeDownload(long offset, String validator) {
+        return blockingExecutor.execute(() -> digestOf(tmpFilePath))
+                .compose(digest -> {
+                    final Promise<Void> promise = Promise.promise();
+                    final HttpClientRequest request = httpClient.getAbs(downloadUrl,
+                            response -> handleResumeResponse(response, offset, digest, promise));
+                    request.putHeader(HttpUtil.RANGE_HEADER, "bytes=%d-".formatted(offset))
+                            .putHeader(HttpUtil.IF_RANGE_HEADER, validator)
+                            .exceptionHandler(promise::tryFail)
+                            .end();
+                    return promise.future();
+                });
+    }
+
+    private static MessageDigest digestOf(String filePath) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(Paths.get(filePath))) {
+            return DigestUtils.updateDigest(DigestUtils.getSha256Digest(), inputStream);
+        }
+    }
+
+    /**
+     * Appends rest of the file to the partially downloaded one, or rewrites it if server responded with the whole
+     * file (e.g. file was changed on server since download was started).
+     */
+    private void handleResumeResponse(HttpClientResponse response,
+                                      long offset,
+                                      MessageDigest digest,
+                                      Promise<Void> promise) {
+
+        final int statusCode = response.statusCode();
+        final boolean resumed = statusCode == HttpResponseStatus.PARTIAL_CONTENT.code();
+        if (resumed ? !isRangeStartsAt(response, offset) : statusCode != HttpResponseStatus.OK.code()) {
+            // next retry should start download from scratch
+            downloadedFile = null;
+            promise.fail(new PreBidException("Unexpected response status %d while resuming download from %s"
+                    .formatted(statusCode, downloadUrl)));
+            return;
+        }
+
+        response.pause();
+        fileSystem.open(tmpFilePath, new OpenOptions().setTruncateExisting(!resumed), openResult -> {
+            if (openResult.failed()) {
+                response.resume();
+                promise.fail(openResult.cause());
+                return;
+            }
+
+            final AsyncFile asyncFile = openResult.result();
+            if (resumed) {
+                logger.info("Resuming download from {0} at byte {1}", downloadUrl, offset);
+                asyncFile.setWritePos(offset);
+            }
+            pumpFileFromRequest(response, asyncFile, resumed ? digest : DigestUtils.getSha256Digest(), promise);
+        });
+    }
+
+    private static boolean isRangeStartsAt(HttpClientResponse response, long offset) {
+        return StringUtils.startsWith(response.getHeader(HttpHeaders.CONTENT_RANGE), "bytes %d-".formatted(offset));
+    }
+
     private void handleRetryResult(long retryInterval, long next, AsyncResult<Void> retryResult,
                                    Promise<Void> promise) {
         if (retryResult.succeeded()) {
@@ -287,14 +497,15 @@ public class RemoteFileSyncer {
 
         final CopyOptions copyOptions = new CopyOptions().setReplaceExisting(true);
         fileSystem.move(tmpFilePath, saveFilePath, copyOptions, promise);
-        return promise.future();
+        return promise.future()
+                .onSuccess(ignored -> currentFile = downloadedFile);
     }
 
     private void handleSync(RemoteFileProcessor remoteFileProcessor, AsyncResult<Boolean> syncResult) {
         if (syncResult.succeeded()) {
             if (syncResult.result()) {
                 logger.info("Sync service for {0}", saveFilePath);
-                remoteFileProcessor.setDataPath(saveFilePath)
+                processFile(remoteFileProcessor)
                         .onComplete(this::logFileProcessStatus);
             } else {
                 logger.info("Sync is not required for {0}", saveFilePath);
@@ -335,13 +546,31 @@ public class RemoteFileSyncer {
 
     private Future<Boolean> isNeedToUpdate() {
         final Promise<Boolean> isNeedToUpdate = Promise.promise();
-        httpClient.headAbs(downloadUrl, response -> checkNewVersion(response, isNeedToUpdate))
-                .exceptionHandler(isNeedToUpdate::fail)
+        final HttpClientRequest request =
+                httpClient.headAbs(downloadUrl, response -> checkNewVersion(response, isNeedToUpdate));
+        if (currentFile != null && currentFile.getEtag() != null) {
+            request.putHeader(HttpHeaders.IF_NONE_MATCH, currentFile.getEtag());
+        }
+        if (currentFile != null && currentFile.getLastModified() != null) {
+            request.putHeader(HttpHeaders.IF_MODIFIED_SINCE, currentFile.getLastModified());
+        }
+        request.exceptionHandler(isNeedToUpdate::fail)
                 .end();
         return isNeedToUpdate.future();
     }
 
     private void checkNewVersion(HttpClientResponse response, Promise<Boolean> isNeedToUpdate) {
+        if (response.statusCode() == HttpResponseStatus.NOT_MODIFIED.code()) {
+            isNeedToUpdate.complete(false);
+            return;
+        }
+
+        final String etag = response.getHeader(HttpHeaders.ETAG);
+        if (currentFile != null && currentFile.getEtag() != null && etag != null) {
+            isNeedToUpdate.complete(!currentFile.getEtag().equals(etag));
+            return;
+        }
+
         final String contentLengthParameter = response.getHeader(HttpHeaders.CONTENT_LENGTH);
         if (StringUtils.isNumeric(contentLengthParameter) && !contentLengthParameter.equals("0")) {
             final long contentLength = Long.parseLong(contentLengthParameter);
@@ -356,5 +585,83 @@ public class RemoteFileSyncer {
             isNeedToUpdate.fail("ContentLength is invalid: " + contentLengthParameter);
         }
     }
-}
 
+    @Value(staticConstructor = "of")
+    private static class DownloadedFile {
+
+        String etag;
+
+        String lastModified;
+
+        String checksum;
+    }
+
+    /**
+     * Writes file updating its checksum on the fly, so downloaded file is not read once again to get it.
+     */
+    private static class DigestWriteStream implements WriteStream<Buffer> {
+
+        private final AsyncFile asyncFile;
+        private final MessageDigest digest;
+        private long bytes;
+
+        DigestWriteStream(AsyncFile asyncFile, MessageDigest digest) {
+            this.asyncFile = asyncFile;
+            this.digest = digest;
+        }
+
+        @Override
+        public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+            asyncFile.exceptionHandler(handler);
+            return this;
+        }
+
+        @Override
+        public WriteStream<Buffer> write(Buffer data) {
+            return write(data, null);
+        }
+
+        @Override
+        public WriteStream<Buffer> write(Buffer data, Handler<AsyncResult<Void>> handler) {
+            digest.update(data.getBytes());
+            bytes += data.length();
+            asyncFile.write(data, handler);
+            return this;
+        }
+
+        @Override
+        public void end() {
+            asyncFile.end();
+        }
+
+        @Override
+        public void end(Handler<AsyncResult<Void>> handler) {
+            asyncFile.end(handler);
+        }
+
+        @Override
+        public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+            asyncFile.setWriteQueueMaxSize(maxSize);
+            return this;
+        }
+
+        @Override
+        public boolean writeQueueFull() {
+            return asyncFile.writeQueueFull();
+        }
+
+        @Override
+        public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+            asyncFile.drainHandler(handler);
+            return this;
+        }
+
+        byte[] digest() {
+            return digest.digest();
+        }
+
+        long getBytes() {
+            return bytes;
+        }
+    }
+}
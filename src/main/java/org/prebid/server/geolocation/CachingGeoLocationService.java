@@ -0,0 +1,99 @@
+package org.prebid.server.geolocation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import inet.ipaddr.IPAddress;
+import inet.ipaddr.IPAddressString;
+import io.vertx.core.Future;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wrapper for geo location service which caches successful lookup results.
+ * <p>
+ * Results can be cached per IP address or per network prefix (e.g. /24 for IPv4 and /48 for IPv6),
+ * so requests coming from the same carrier NAT don't trigger the same database lookups.
+ * <p>
+ * IP address is parsed only once and passed to the wrapped service already parsed.
+ */
+public class CachingGeoLocationService implements GeoLocationService {
+
+    private static final int IPV4_BITS = 32;
+    private static final int IPV6_BITS = 128;
+
+    private final GeoLocationService geoLocationService;
+    private final int ipv4PrefixLength;
+    private final int ipv6PrefixLength;
+    private final Metrics metrics;
+
+    private final Cache<String, GeoInfo> cache;
+
+    public CachingGeoLocationService(GeoLocationService geoLocationService,
+                                     int maxSize,
+                                     long ttlMs,
+                                     int ipv4PrefixLength,
+                                     int ipv6PrefixLength,
+                                     Metrics metrics) {
+
+        if (ipv4PrefixLength < 1 || ipv4PrefixLength > IPV4_BITS) {
+            throw new IllegalArgumentException("IPv4 prefix length should be in range [1, 32]");
+        }
+        if (ipv6PrefixLength < 1 || ipv6PrefixLength > IPV6_BITS) {
+            throw new IllegalArgumentException("IPv6 prefix length should be in range [1, 128]");
+        }
+
+        this.geoLocationService = Objects.requireNonNull(geoLocationService);
+        this.ipv4PrefixLength = ipv4PrefixLength;
+        this.ipv6PrefixLength = ipv6PrefixLength;
+        this.metrics = Objects.requireNonNull(metrics);
+
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Override
+    public Future<GeoInfo> lookup(String ip, Timeout timeout) {
+        final IPAddress address = ip != null ? new IPAddressString(ip).getAddress() : null;
+        return address != null
+                ? lookupAddress(address, timeout)
+                : geoLocationService.lookup(ip, timeout);
+    }
+
+    @Override
+    public Future<GeoInfo> lookupAddress(IPAddress address, Timeout timeout) {
+        final String cacheKey = cacheKey(address);
+        final GeoInfo cachedGeoInfo = cache.getIfPresent(cacheKey);
+        metrics.updateGeoLocationCacheMetric(cachedGeoInfo != null);
+        if (cachedGeoInfo != null) {
+            return Future.succeededFuture(cachedGeoInfo);
+        }
+
+        return geoLocationService.lookupAddress(address, timeout)
+                .onSuccess(geoInfo -> {
+                    if (geoInfo != null) {
+                        cache.put(cacheKey, geoInfo);
+                    }
+                });
+    }
+
+    @Override
+    public boolean isReady() {
+        return geoLocationService.isReady();
+    }
+
+    /**
+     * Returns network prefix the given IP address belongs to.
+     */
+    private String cacheKey(IPAddress address) {
+        final int prefixLength = address.isIPv4() ? ipv4PrefixLength : ipv6PrefixLength;
+        return prefixLength < address.getBitCount()
+                ? address.toPrefixBlock(prefixLength).toCanonicalString()
+                : address.toCanonicalString();
+    }
+}
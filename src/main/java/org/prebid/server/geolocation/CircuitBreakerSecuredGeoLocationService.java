@@ -1,5 +1,6 @@
 package org.prebid.server.geolocation;
 
+import inet.ipaddr.IPAddress;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
@@ -52,6 +53,16 @@ public class CircuitBreakerSecuredGeoLocationService implements GeoLocationServi
         return breaker.execute(promise -> geoLocationService.lookup(ip, timeout).onComplete(promise));
     }
 
+    @Override
+    public Future<GeoInfo> lookupAddress(IPAddress address, Timeout timeout) {
+        return breaker.execute(promise -> geoLocationService.lookupAddress(address, timeout).onComplete(promise));
+    }
+
+    @Override
+    public boolean isReady() {
+        return geoLocationService.isReady();
+    }
+
     private void circuitOpened() {
         conditionalLogger.warn(
                 "GeoLocation service is unavailable, circuit opened.",
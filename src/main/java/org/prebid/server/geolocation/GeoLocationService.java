@@ -1,5 +1,6 @@
 package org.prebid.server.geolocation;
 
+import inet.ipaddr.IPAddress;
 import io.vertx.core.Future;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.geolocation.model.GeoInfo;
@@ -19,4 +20,20 @@ public interface GeoLocationService {
      * Returns geo location data by IP address.
      */
     Future<GeoInfo> lookup(String ip, Timeout timeout);
+
+    /**
+     * Returns geo location data by already parsed IP address.
+     * <p>
+     * Used by wrappers that have to parse IP address anyway, so it is not parsed again by the wrapped service.
+     */
+    default Future<GeoInfo> lookupAddress(IPAddress address, Timeout timeout) {
+        return lookup(address.toString(), timeout);
+    }
+
+    /**
+     * Tells if service has its data loaded and is able to serve lookups.
+     */
+    default boolean isReady() {
+        return true;
+    }
 }
@@ -0,0 +1,359 @@
+package org.prebid.server.geolocation;
+
+import inet.ipaddr.IPAddress;
+import inet.ipaddr.IPAddressString;
+import io.vertx.core.Future;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.RemoteFileProcessor;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.geolocation.model.GeoInfo;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Implementation of the {@link GeoLocationService} backed by in-memory table of IP ranges.
+ * <p>
+ * Table is loaded from CSV file (optionally gzipped) where each line has the following format:
+ * <pre>
+ * range_start_ip,range_end_ip,country[,region]
+ * </pre>
+ * Empty lines and lines starting with '#' are ignored. Ranges of each IP version must be sorted in ascending order
+ * and must not overlap, otherwise the file is rejected.
+ * <p>
+ * Ranges are kept in sorted primitive arrays, so lookup is a binary search without allocations
+ * (apart from the result) for IPv4 addresses.
+ */
+public class IpRangeGeoLocationService implements GeoLocationService, RemoteFileProcessor {
+
+    private static final String VENDOR = "iprange";
+
+    private volatile IpRangeIndex index;
+
+    @Override
+    public Future<?> setDataPath(String dataFilePath) {
+        try (InputStream inputStream = openDataFile(dataFilePath)) {
+            index = IpRangeIndex.parse(inputStream);
+            return Future.succeededFuture();
+        } catch (IOException | PreBidException e) {
+            return Future.failedFuture(
+                    "Exception occurred while trying to read IP ranges file: " + e.getMessage());
+        }
+    }
+
+    private static InputStream openDataFile(String dataFilePath) throws IOException {
+        final InputStream inputStream = new FileInputStream(dataFilePath);
+        if (!dataFilePath.endsWith(".gz")) {
+            return inputStream;
+        }
+
+        try {
+            return new GZIPInputStream(inputStream);
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return index != null;
+    }
+
+    @Override
+    public Future<GeoInfo> lookup(String ip, Timeout timeout) {
+        final IpRangeIndex index = this.index;
+        return index != null ? toGeoInfo(index, index.find(ip), ip) : notLoaded();
+    }
+
+    @Override
+    public Future<GeoInfo> lookupAddress(IPAddress address, Timeout timeout) {
+        final IpRangeIndex index = this.index;
+        return index != null ? toGeoInfo(index, index.find(address), address) : notLoaded();
+    }
+
+    private static Future<GeoInfo> notLoaded() {
+        return Future.failedFuture("Geo location database file hasn't been downloaded yet, try again later");
+    }
+
+    private static Future<GeoInfo> toGeoInfo(IpRangeIndex index, int position, Object ip) {
+        if (position == IpRangeIndex.INVALID_IP) {
+            return Future.failedFuture("Invalid IP address: " + ip);
+        }
+
+        if (position == IpRangeIndex.NOT_FOUND) {
+            return Future.failedFuture("IP address is not found in IP ranges: " + ip);
+        }
+
+        return Future.succeededFuture(GeoInfo.builder()
+                .vendor(VENDOR)
+                .country(index.country(position))
+                .region(index.region(position))
+                .build());
+    }
+
+    /**
+     * Immutable sorted index of IP ranges.
+     * <p>
+     * IPv4 ranges are stored as unsigned ints, IPv6 ranges as pairs of longs (high and low 64 bits).
+     * Countries and regions are deduplicated into dictionaries referenced by position.
+     */
+    static class IpRangeIndex {
+
+        static final int NOT_FOUND = -1;
+        static final int INVALID_IP = -2;
+
+        private static final int IPV6_FLAG = Integer.MIN_VALUE;
+
+        private final int[] ipv4Starts;
+        private final int[] ipv4Ends;
+        private final int[] ipv4Locations;
+
+        private final long[] ipv6StartsHigh;
+        private final long[] ipv6StartsLow;
+        private final long[] ipv6EndsHigh;
+        private final long[] ipv6EndsLow;
+        private final int[] ipv6Locations;
+
+        private final String[] countries;
+        private final String[] regions;
+
+        private IpRangeIndex(List<Range> ipv4Ranges, List<Range> ipv6Ranges, List<String> countries,
+                             List<String> regions) {
+
+            ipv4Starts = new int[ipv4Ranges.size()];
+            ipv4Ends = new int[ipv4Ranges.size()];
+            ipv4Locations = new int[ipv4Ranges.size()];
+            for (int i = 0; i < ipv4Ranges.size(); i++) {
+                final Range range = ipv4Ranges.get(i);
+                ipv4Starts[i] = (int) range.getStartLow();
+                ipv4Ends[i] = (int) range.getEndLow();
+                ipv4Locations[i] = range.getLocation();
+            }
+
+            ipv6StartsHigh = new long[ipv6Ranges.size()];
+            ipv6StartsLow = new long[ipv6Ranges.size()];
+            ipv6EndsHigh = new long[ipv6Ranges.size()];
+            ipv6EndsLow = new long[ipv6Ranges.size()];
+            ipv6Locations = new int[ipv6Ranges.size()];
+            for (int i = 0; i < ipv6Ranges.size(); i++) {
+                final Range range = ipv6Ranges.get(i);
+                ipv6StartsHigh[i] = range.getStartHigh();
+                ipv6StartsLow[i] = range.getStartLow();
+                ipv6EndsHigh[i] = range.getEndHigh();
+                ipv6EndsLow[i] = range.getEndLow();
+                ipv6Locations[i] = range.getLocation();
+            }
+
+            this.countries = countries.toArray(String[]::new);
+            this.regions = regions.toArray(String[]::new);
+        }
+
+        static IpRangeIndex parse(InputStream inputStream) throws IOException {
+            final List<Range> ipv4Ranges = new ArrayList<>();
+            final List<Range> ipv6Ranges = new ArrayList<>();
+            final List<String> countries = new ArrayList<>();
+            final List<String> regions = new ArrayList<>();
+            final Map<String, Integer> locationToPosition = new HashMap<>();
+
+            final BufferedReader reader =
+                    new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (StringUtils.isBlank(line) || line.startsWith("#")) {
+                    continue;
+                }
+
+                final String[] values = StringUtils.splitPreserveAllTokens(line, ',');
+                if (values.length < 3) {
+                    throw new PreBidException("Invalid IP range at line %d: %s".formatted(lineNumber, line));
+                }
+
+                final IPAddress start = toAddress(values[0], lineNumber);
+                final IPAddress end = toAddress(values[1], lineNumber);
+                if (start.isIPv4() != end.isIPv4() || start.getValue().compareTo(end.getValue()) > 0) {
+                    throw new PreBidException("Invalid IP range at line %d: %s".formatted(lineNumber, line));
+                }
+
+                final String country = StringUtils.lowerCase(StringUtils.trimToNull(values[2]));
+                final String region = values.length > 3 ? StringUtils.trimToNull(values[3]) : null;
+                final int location = locationToPosition.computeIfAbsent(country + ',' + region, key -> {
+                    countries.add(country);
+                    regions.add(region);
+                    return countries.size() - 1;
+                });
+
+                final List<Range> ranges = start.isIPv4() ? ipv4Ranges : ipv6Ranges;
+                final Range range = Range.of(start, end, location);
+                if (!ranges.isEmpty() && !ranges.get(ranges.size() - 1).isBefore(range)) {
+                    throw new PreBidException(
+                            "IP range at line %d overlaps or precedes previous range: %s".formatted(lineNumber, line));
+                }
+                ranges.add(range);
+            }
+
+            return new IpRangeIndex(ipv4Ranges, ipv6Ranges, countries, regions);
+        }
+
+        private static IPAddress toAddress(String ip, int lineNumber) {
+            final IPAddress address = new IPAddressString(StringUtils.trim(ip)).getAddress();
+            if (address == null) {
+                throw new PreBidException("Invalid IP address at line %d: %s".formatted(lineNumber, ip));
+            }
+            return address;
+        }
+
+        /**
+         * Returns position of the range containing given IP address, {@link #NOT_FOUND} if there is no such range
+         * or {@link #INVALID_IP} if IP address can't be parsed.
+         */
+        int find(String ip) {
+            final long ipv4 = parseIpv4(ip);
+            if (ipv4 >= 0) {
+                return findIpv4((int) ipv4);
+            }
+
+            final IPAddress address = ip != null ? new IPAddressString(ip).getAddress() : null;
+            return address != null ? find(address) : INVALID_IP;
+        }
+
+        /**
+         * Returns position of the range containing given IP address or {@link #NOT_FOUND} if there is no such range.
+         */
+        int find(IPAddress address) {
+            if (address.isIPv4()) {
+                return findIpv4(address.getValue().intValue());
+            }
+
+            final BigInteger value = address.getValue();
+            final int position = findIpv6(value.shiftRight(Long.SIZE).longValue(), value.longValue());
+            return position == NOT_FOUND ? NOT_FOUND : position | IPV6_FLAG;
+        }
+
+        String country(int position) {
+            return countries[location(position)];
+        }
+
+        String region(int position) {
+            return regions[location(position)];
+        }
+
+        private int location(int position) {
+            return (position & IPV6_FLAG) != 0
+                    ? ipv6Locations[position & ~IPV6_FLAG]
+                    : ipv4Locations[position];
+        }
+
+        private int findIpv4(int ip) {
+            int low = 0;
+            int high = ipv4Starts.length - 1;
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+                if (Integer.compareUnsigned(ipv4Starts[middle], ip) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+
+            // high is the last range with start <= ip
+            return high >= 0 && Integer.compareUnsigned(ip, ipv4Ends[high]) <= 0 ? high : NOT_FOUND;
+        }
+
+        private int findIpv6(long ipHigh, long ipLow) {
+            int low = 0;
+            int high = ipv6StartsHigh.length - 1;
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+                if (compareIpv6(ipv6StartsHigh[middle], ipv6StartsLow[middle], ipHigh, ipLow) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+
+            return high >= 0 && compareIpv6(ipHigh, ipLow, ipv6EndsHigh[high], ipv6EndsLow[high]) <= 0
+                    ? high
+                    : NOT_FOUND;
+        }
+
+        private static int compareIpv6(long leftHigh, long leftLow, long rightHigh, long rightLow) {
+            final int highComparison = Long.compareUnsigned(leftHigh, rightHigh);
+            return highComparison != 0 ? highComparison : Long.compareUnsigned(leftLow, rightLow);
+        }
+
+        /**
+         * Parses dotted-decimal IPv4 address without allocations. Returns -1 if value is not such address.
+         */
+        private static long parseIpv4(String ip) {
+            if (ip == null || ip.isEmpty() || ip.length() > 15) {
+                return -1;
+            }
+
+            long result = 0;
+            int octet = -1;
+            int octets = 0;
+            for (int i = 0; i < ip.length(); i++) {
+                final char character = ip.charAt(i);
+                if (character == '.') {
+                    if (octet < 0 || ++octets > 3) {
+                        return -1;
+                    }
+                    result = (result << 8) | octet;
+                    octet = -1;
+                } else if (character >= '0' && character <= '9') {
+                    octet = (octet < 0 ? 0 : octet * 10) + (character - '0');
+                    if (octet > 255) {
+                        return -1;
+                    }
+                } else {
+                    return -1;
+                }
+            }
+
+            return octet >= 0 && octets == 3 ? (result << 8) | octet : -1;
+        }
+
+        @Value(staticConstructor = "of")
+        private static class Range {
+
+            long startHigh;
+
+            long startLow;
+
+            long endHigh;
+
+            long endLow;
+
+            int location;
+
+            static Range of(IPAddress start, IPAddress end, int location) {
+                final BigInteger startValue = start.getValue();
+                final BigInteger endValue = end.getValue();
+                return Range.of(startValue.shiftRight(Long.SIZE).longValue(), startValue.longValue(),
+                        endValue.shiftRight(Long.SIZE).longValue(), endValue.longValue(), location);
+            }
+
+            /**
+             * Returns true if this range ends before the other one starts.
+             */
+            boolean isBefore(Range other) {
+                return compareIpv6(endHigh, endLow, other.startHigh, other.startLow) < 0;
+            }
+        }
+    }
+}
@@ -9,7 +9,10 @@ import com.maxmind.geoip2.record.Continent;
 import com.maxmind.geoip2.record.Country;
 import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
+import inet.ipaddr.IPAddress;
 import io.vertx.core.Future;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
@@ -21,7 +24,12 @@ import org.prebid.server.geolocation.model.GeoInfo;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.GZIPInputStream;
 
 /**
@@ -30,11 +38,27 @@ import java.util.zip.GZIPInputStream;
  */
 public class MaxMindGeoLocationService implements GeoLocationService, RemoteFileProcessor {
 
+    private static final Logger logger = LoggerFactory.getLogger(MaxMindGeoLocationService.class);
+
     private static final String VENDOR = "maxmind";
 
     private static final String DATABASE_FILE_NAME = "GeoLite2-City.mmdb";
 
-    private DatabaseReader databaseReader;
+    private final String databaseFilePath;
+
+    private volatile DatabaseReaderHolder databaseReaderHolder;
+
+    public MaxMindGeoLocationService() {
+        this(null);
+    }
+
+    /**
+     * Creates service which extracts database file from the archive to the given path and opens it memory-mapped
+     * instead of loading it into heap. If path is not specified, database is loaded into heap.
+     */
+    public MaxMindGeoLocationService(String databaseFilePath) {
+        this.databaseFilePath = databaseFilePath;
+    }
 
     public Future<?> setDataPath(String dataFilePath) {
         try (TarArchiveInputStream tarInput = new TarArchiveInputStream(new GZIPInputStream(
@@ -53,7 +77,9 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
                         .formatted(DATABASE_FILE_NAME, dataFilePath));
             }
 
-            databaseReader = new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build();
+            setDatabaseReader(databaseFilePath != null
+                    ? memoryMappedDatabaseReader(tarInput)
+                    : new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build());
             return Future.succeededFuture();
         } catch (IOException e) {
             return Future.failedFuture(
@@ -61,15 +87,68 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
         }
     }
 
+    /**
+     * Extracts database file next to the target one and moves it in place, so memory-mapped file of
+     * the previous reader is never modified.
+     */
+    private DatabaseReader memoryMappedDatabaseReader(TarArchiveInputStream tarInput) throws IOException {
+        final Path databasePath = Paths.get(databaseFilePath);
+        final Path parentPath = databasePath.toAbsolutePath().getParent();
+        Files.createDirectories(parentPath);
+
+        final Path tmpDatabasePath = Files.createTempFile(parentPath, databasePath.getFileName().toString(), null);
+        try {
+            Files.copy(tarInput, tmpDatabasePath, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tmpDatabasePath, databasePath,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmpDatabasePath);
+        }
+
+        return new DatabaseReader.Builder(databasePath.toFile()).fileMode(Reader.FileMode.MEMORY_MAPPED).build();
+    }
+
+    /**
+     * Replaces database reader atomically, previous one is closed as soon as in-flight lookups release it.
+     */
+    synchronized void setDatabaseReader(DatabaseReader databaseReader) {
+        final DatabaseReaderHolder previousHolder = databaseReaderHolder;
+        databaseReaderHolder = new DatabaseReaderHolder(databaseReader);
+        if (previousHolder != null) {
+            previousHolder.release();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return databaseReaderHolder != null;
+    }
+
     @Override
     public Future<GeoInfo> lookup(String ip, Timeout timeout) {
-        if (databaseReader == null) {
+        final InetAddress inetAddress;
+        try {
+            inetAddress = InetAddress.getByName(ip);
+        } catch (IOException e) {
+            return Future.failedFuture(e);
+        }
+
+        return lookupInetAddress(inetAddress);
+    }
+
+    @Override
+    public Future<GeoInfo> lookupAddress(IPAddress address, Timeout timeout) {
+        return lookupInetAddress(address.toInetAddress());
+    }
+
+    private Future<GeoInfo> lookupInetAddress(InetAddress inetAddress) {
+        final DatabaseReaderHolder holder = acquireDatabaseReaderHolder();
+        if (holder == null) {
             return Future.failedFuture("Geo location database file hasn't been downloaded yet, try again later");
         }
 
         try {
-            final InetAddress inetAddress = InetAddress.getByName(ip);
-            final CityResponse cityResponse = databaseReader.city(inetAddress);
+            final CityResponse cityResponse = holder.getDatabaseReader().city(inetAddress);
             final Location location = cityResponse != null ? cityResponse.getLocation() : null;
 
             return Future.succeededFuture(GeoInfo.builder()
@@ -84,9 +163,24 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
                     .build());
         } catch (IOException | GeoIp2Exception e) {
             return Future.failedFuture(e);
+        } finally {
+            holder.release();
         }
     }
 
+    /**
+     * Returns holder of the current database reader, which must be released after lookup,
+     * or null if database is not loaded yet.
+     */
+    private DatabaseReaderHolder acquireDatabaseReaderHolder() {
+        DatabaseReaderHolder holder = databaseReaderHolder;
+        // holder fails to be acquired only if it has just been replaced, so the next read gets the new one
+        while (holder != null && !holder.acquire()) {
+            holder = databaseReaderHolder;
+        }
+        return holder;
+    }
+
     private static String resolveContinent(CityResponse cityResponse) {
         final Continent continent = cityResponse != null ? cityResponse.getContinent() : null;
         final String code = continent != null ? continent.getCode() : null;
@@ -119,4 +213,43 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
         final Double longitude = location != null ? location.getLongitude() : null;
         return longitude != null ? longitude.floatValue() : null;
     }
+
+    /**
+     * Keeps count of lookups using the database reader, plus one reference held by the service itself until
+     * the reader is replaced. Reader is closed when the last reference is released.
+     */
+    private static class DatabaseReaderHolder {
+
+        private final DatabaseReader databaseReader;
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        DatabaseReaderHolder(DatabaseReader databaseReader) {
+            this.databaseReader = databaseReader;
+        }
+
+        DatabaseReader getDatabaseReader() {
+            return databaseReader;
+        }
+
+        boolean acquire() {
+            int current;
+            do {
+                current = references.get();
+                if (current == 0) {
+                    return false;
+                }
+            } while (!references.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        void release() {
+            if (references.decrementAndGet() == 0) {
+                try {
+                    databaseReader.close();
+                } catch (IOException e) {
+                    logger.warn("Could not close replaced MaxMind database reader", e);
+                }
+            }
+        }
+    }
 }
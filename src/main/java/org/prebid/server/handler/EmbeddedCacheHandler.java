@@ -0,0 +1,65 @@
+package org.prebid.server.handler;
+
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.cache.EmbeddedCache;
+import org.prebid.server.cache.model.EmbeddedCacheEntry;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.Objects;
+
+/**
+ * Serves creatives stored in {@link EmbeddedCache} the same way external Prebid Cache does.
+ */
+public class EmbeddedCacheHandler implements Handler<RoutingContext> {
+
+    private static final String UUID_PARAMETER = "uuid";
+    private static final String JSON_TYPE = "json";
+    private static final String XML_TYPE = "xml";
+    private static final String APPLICATION_XML_CONTENT_TYPE = "application/xml";
+
+    private final EmbeddedCache embeddedCache;
+
+    public EmbeddedCacheHandler(EmbeddedCache embeddedCache) {
+        this.embeddedCache = Objects.requireNonNull(embeddedCache);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final String uuid = routingContext.request().getParam(UUID_PARAMETER);
+        if (StringUtils.isBlank(uuid)) {
+            respondWith(routingContext, HttpResponseStatus.BAD_REQUEST, "Missing required parameter uuid");
+            return;
+        }
+
+        final EmbeddedCacheEntry entry = embeddedCache.get(uuid);
+        if (entry == null) {
+            respondWith(routingContext, HttpResponseStatus.NOT_FOUND, "Not found");
+            return;
+        }
+
+        HttpUtil.executeSafely(routingContext, Endpoint.cache,
+                response -> response
+                        .putHeader(HttpUtil.CONTENT_TYPE_HEADER, contentType(entry.getType()))
+                        .end(entry.getValue()));
+    }
+
+    private static CharSequence contentType(String type) {
+        return switch (StringUtils.defaultString(type)) {
+            case JSON_TYPE -> HttpUtil.APPLICATION_JSON_CONTENT_TYPE;
+            case XML_TYPE -> APPLICATION_XML_CONTENT_TYPE;
+            default -> HttpHeaderValues.TEXT_PLAIN;
+        };
+    }
+
+    private static void respondWith(RoutingContext routingContext, HttpResponseStatus status, String body) {
+        HttpUtil.executeSafely(routingContext, Endpoint.cache,
+                response -> response
+                        .setStatusCode(status.code())
+                        .end(body));
+    }
+}
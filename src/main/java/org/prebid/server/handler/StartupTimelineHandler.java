@@ -0,0 +1,47 @@
+package org.prebid.server.handler;
+
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import lombok.Value;
+import org.prebid.server.health.StartupTimeline;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Handles HTTP request for application startup phases timeline.
+ */
+public class StartupTimelineHandler implements Handler<RoutingContext> {
+
+    private final StartupTimeline startupTimeline;
+    private final String endpoint;
+    private final JacksonMapper mapper;
+
+    public StartupTimelineHandler(StartupTimeline startupTimeline, String endpoint, JacksonMapper mapper) {
+        this.startupTimeline = Objects.requireNonNull(startupTimeline);
+        this.endpoint = Objects.requireNonNull(endpoint);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final String body = mapper.encodeToString(
+                Response.of(startupTimeline.isReady(), startupTimeline.phases()));
+
+        HttpUtil.executeSafely(routingContext, endpoint,
+                response -> response
+                        .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON)
+                        .end(body));
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Response {
+
+        boolean ready;
+
+        List<StartupTimeline.Phase> phases;
+    }
+}
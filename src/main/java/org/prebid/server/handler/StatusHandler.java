@@ -6,6 +6,7 @@ import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.health.HealthChecker;
+import org.prebid.server.health.StartupTimeline;
 import org.prebid.server.health.model.StatusResponse;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.model.Endpoint;
@@ -20,15 +21,30 @@ public class StatusHandler implements Handler<RoutingContext> {
 
     private final List<HealthChecker> healthCheckers;
     private final JacksonMapper mapper;
+    private final StartupTimeline startupTimeline;
 
     public StatusHandler(List<HealthChecker> healthCheckers, JacksonMapper mapper) {
+        this(healthCheckers, mapper, null);
+    }
+
+    /**
+     * Creates handler responding with 503 status until application startup is completed according to given
+     * {@link StartupTimeline}, so it can be used as readiness probe.
+     */
+    public StatusHandler(List<HealthChecker> healthCheckers, JacksonMapper mapper, StartupTimeline startupTimeline) {
         this.healthCheckers = Objects.requireNonNull(healthCheckers);
         this.mapper = Objects.requireNonNull(mapper);
+        this.startupTimeline = startupTimeline;
     }
 
     @Override
     public void handle(RoutingContext routingContext) {
-        if (CollectionUtils.isEmpty(healthCheckers)) {
+        if (startupTimeline != null && !startupTimeline.isReady()) {
+            HttpUtil.executeSafely(routingContext, Endpoint.status,
+                    response -> response
+                            .setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code())
+                            .end());
+        } else if (CollectionUtils.isEmpty(healthCheckers)) {
             HttpUtil.executeSafely(routingContext, Endpoint.status,
                     response -> response
                             .setStatusCode(HttpResponseStatus.NO_CONTENT.code())
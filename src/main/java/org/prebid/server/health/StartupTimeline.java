@@ -0,0 +1,71 @@
+package org.prebid.server.health;
+
+import lombok.Value;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps track of application startup phases and tells if application is ready to serve requests.
+ * <p>
+ * Phase offsets are measured from the JVM start, so the whole startup timeline including Spring context creation
+ * can be seen.
+ */
+public class StartupTimeline {
+
+    private final Clock clock;
+    private final long jvmStartTime;
+
+    private final List<Phase> phases;
+    private volatile boolean ready;
+
+    public StartupTimeline(Clock clock, long jvmStartTime) {
+        this.clock = clock;
+        this.jvmStartTime = jvmStartTime;
+
+        phases = new CopyOnWriteArrayList<>();
+    }
+
+    public long currentTimeMillis() {
+        return clock.millis();
+    }
+
+    /**
+     * Records phase started at given time and finished right now.
+     */
+    public void record(String name, long startTime) {
+        phases.add(Phase.of(name, startTime - jvmStartTime, clock.millis() - startTime));
+    }
+
+    /**
+     * Records phase started with the JVM and finished right now.
+     */
+    public void recordSinceJvmStart(String name) {
+        record(name, jvmStartTime);
+    }
+
+    public void markReady() {
+        recordSinceJvmStart("ready");
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<Phase> phases() {
+        return new ArrayList<>(phases);
+    }
+
+    @Value(staticConstructor = "of")
+    public static class Phase {
+
+        String name;
+
+        long startOffsetMs;
+
+        long durationMs;
+    }
+}
@@ -0,0 +1,344 @@
+package org.prebid.server.health;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.geolocation.GeoLocationService;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.privacy.gdpr.vendorlist.VendorListService;
+import org.prebid.server.proto.openrtb.ext.request.ExtImp;
+import org.prebid.server.proto.openrtb.ext.request.ExtImpPrebid;
+import org.prebid.server.proto.openrtb.ext.request.ExtStoredAuctionResponse;
+import org.prebid.server.proto.openrtb.ext.request.ExtStoredBidResponse;
+import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.util.StreamUtil;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Warms application up before it is reported ready to serve requests.
+ * <p>
+ * Warm-up waits for external data (currency rates, geolocation database, vendor lists) to become available,
+ * populates account and stored data caches for the given identifiers and replays sample auction requests against
+ * application itself, so the first real requests are not processed by cold code. Sample requests are required
+ * to use stored auction or bid responses, so bidders are not really called. Metrics updates and analytics
+ * reporting are suspended while sample requests are replayed, which is safe since application doesn't report
+ * itself ready in the meantime.
+ * <p>
+ * Warm-up is bounded by the given time budget and never fails: its outcome is logged and reported to metrics.
+ */
+public class WarmupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupService.class);
+
+    private static final long AVAILABILITY_CHECK_PERIOD_MS = 100L;
+
+    private final List<String> accounts;
+    private final List<String> storedRequests;
+    private final List<String> storedImps;
+    private final List<Integer> vendorListVersions;
+    private final List<String> sampleRequests;
+    private final int iterations;
+    private final String auctionUrl;
+    private final long timeoutMs;
+    private final ApplicationSettings applicationSettings;
+    private final CurrencyConversionService currencyConversionService;
+    private final VendorListService<?, ?> vendorListService;
+    private final GeoLocationService geoLocationService;
+    private final AnalyticsReporterDelegator analyticsReporterDelegator;
+    private final HttpClient httpClient;
+    private final Vertx vertx;
+    private final TimeoutFactory timeoutFactory;
+    private final Clock clock;
+    private final Metrics metrics;
+
+    public WarmupService(List<String> accounts,
+                         List<String> storedRequests,
+                         List<String> storedImps,
+                         List<Integer> vendorListVersions,
+                         List<String> sampleRequests,
+                         int iterations,
+                         String auctionUrl,
+                         long timeoutMs,
+                         ApplicationSettings applicationSettings,
+                         CurrencyConversionService currencyConversionService,
+                         VendorListService<?, ?> vendorListService,
+                         GeoLocationService geoLocationService,
+                         AnalyticsReporterDelegator analyticsReporterDelegator,
+                         HttpClient httpClient,
+                         Vertx vertx,
+                         TimeoutFactory timeoutFactory,
+                         Clock clock,
+                         Metrics metrics,
+                         JacksonMapper mapper) {
+
+        this.accounts = Objects.requireNonNull(accounts);
+        this.storedRequests = Objects.requireNonNull(storedRequests);
+        this.storedImps = Objects.requireNonNull(storedImps);
+        this.vendorListVersions = Objects.requireNonNull(vendorListVersions);
+        this.sampleRequests = Objects.requireNonNull(sampleRequests);
+        this.iterations = iterations;
+        this.auctionUrl = Objects.requireNonNull(auctionUrl);
+        this.timeoutMs = timeoutMs;
+        this.applicationSettings = Objects.requireNonNull(applicationSettings);
+        this.currencyConversionService = Objects.requireNonNull(currencyConversionService);
+        this.vendorListService = Objects.requireNonNull(vendorListService);
+        this.geoLocationService = geoLocationService;
+        this.analyticsReporterDelegator = Objects.requireNonNull(analyticsReporterDelegator);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
+        this.clock = Objects.requireNonNull(clock);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        validateSampleRequests(sampleRequests, Objects.requireNonNull(mapper));
+    }
+
+    /**
+     * Makes sure each sample request is answered from stored responses: each imp has stored auction response or
+     * the only imp has stored bid response for each of its bidders.
+     */
+    private static void validateSampleRequests(List<String> sampleRequests, JacksonMapper mapper) {
+        for (int i = 0; i < sampleRequests.size(); i++) {
+            final BidRequest bidRequest;
+            try {
+                bidRequest = mapper.decodeValue(sampleRequests.get(i), BidRequest.class);
+            } catch (DecodeException e) {
+                throw new IllegalArgumentException(
+                        "Warm-up sample request #%d is not a valid bid request: %s".formatted(i, e.getMessage()));
+            }
+
+            if (!isAnsweredFromStoredResponses(bidRequest, mapper)) {
+                throw new IllegalArgumentException(("Warm-up sample request #%d should have stored auction response"
+                        + " for each imp or stored bid response for each bidder of its single imp").formatted(i));
+            }
+        }
+    }
+
+    private static boolean isAnsweredFromStoredResponses(BidRequest bidRequest, JacksonMapper mapper) {
+        final List<Imp> imps = bidRequest.getImp();
+        if (CollectionUtils.isEmpty(imps)) {
+            return false;
+        }
+
+        final List<ExtImpPrebid> extImpPrebids = imps.stream()
+                .map(imp -> extImpPrebid(imp.getExt(), mapper))
+                .toList();
+        if (extImpPrebids.stream().allMatch(WarmupService::hasStoredAuctionResponse)) {
+            return true;
+        }
+
+        // PBS supports stored bid responses only for requests with single impression
+        return extImpPrebids.size() == 1 && hasStoredBidResponsesForAllBidders(extImpPrebids.get(0));
+    }
+
+    private static ExtImpPrebid extImpPrebid(ObjectNode impExt, JacksonMapper mapper) {
+        try {
+            final ExtImp extImp = impExt != null ? mapper.mapper().treeToValue(impExt, ExtImp.class) : null;
+            return extImp != null ? extImp.getPrebid() : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static boolean hasStoredAuctionResponse(ExtImpPrebid extImpPrebid) {
+        final ExtStoredAuctionResponse storedAuctionResponse = extImpPrebid != null
+                ? extImpPrebid.getStoredAuctionResponse()
+                : null;
+        return storedAuctionResponse != null && storedAuctionResponse.getId() != null;
+    }
+
+    private static boolean hasStoredBidResponsesForAllBidders(ExtImpPrebid extImpPrebid) {
+        final List<ExtStoredBidResponse> storedBidResponses = extImpPrebid != null
+                ? extImpPrebid.getStoredBidResponse()
+                : null;
+        if (CollectionUtils.isEmpty(storedBidResponses)) {
+            return false;
+        }
+
+        final Set<String> storedResponseBidders = storedBidResponses.stream()
+                .map(ExtStoredBidResponse::getBidder)
+                .collect(Collectors.toSet());
+        final ObjectNode bidders = extImpPrebid.getBidder();
+        return bidders != null && !bidders.isEmpty()
+                && StreamUtil.asStream(bidders.fieldNames()).allMatch(storedResponseBidders::contains);
+    }
+
+    /**
+     * Performs warm-up. Returned future is always succeeded and completed within the time budget.
+     */
+    public Future<Void> warmup() {
+        final long startTime = clock.millis();
+        final Timeout timeout = timeoutFactory.create(startTime, timeoutMs);
+
+        logger.info("Warming up application within {0,number,#} ms", timeoutMs);
+
+        final Future<Void> preparation = CompositeFuture.join(awaitDataAvailability(timeout), populateCaches(timeout))
+                .onFailure(exception -> logger.warn("Warm-up data was not prepared: {0}", exception.getMessage()))
+                .mapEmpty();
+
+        // sample requests are replayed even if some data is missing, since they still warm the code up
+        return preparation.otherwiseEmpty()
+                .compose(ignored -> replaySampleRequests(timeout))
+                .onFailure(exception -> logger.warn("Warm-up was stopped: {0}", exception.getMessage()))
+                .map(ignored -> preparation.succeeded())
+                .otherwise(false)
+                .map(completed -> {
+                    final long duration = clock.millis() - startTime;
+                    metrics.updateWarmupMetrics(duration, completed);
+                    logger.info("Warm-up {0} in {1,number,#} ms",
+                            completed ? "completed" : "finished partially", duration);
+                    return null;
+                });
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Future<Void> awaitDataAvailability(Timeout timeout) {
+        final List<Future> availabilities = new ArrayList<>();
+        if (currencyConversionService.isExternalRatesActive()) {
+            availabilities.add(awaitAvailability("currency rates", this::currencyRatesAvailability, timeout));
+        }
+        if (geoLocationService != null) {
+            availabilities.add(awaitAvailability("geolocation database", this::geoLocationAvailability, timeout));
+        }
+        for (Integer version : vendorListVersions) {
+            availabilities.add(awaitAvailability("vendor list " + version,
+                    () -> vendorListService.forVersion(version), timeout));
+        }
+
+        return CompositeFuture.all(availabilities).mapEmpty();
+    }
+
+    private Future<Void> currencyRatesAvailability() {
+        return currencyConversionService.getLastUpdated() != null
+                ? Future.succeededFuture()
+                : Future.failedFuture("Currency rates are not loaded yet");
+    }
+
+    private Future<Void> geoLocationAvailability() {
+        return geoLocationService.isReady()
+                ? Future.succeededFuture()
+                : Future.failedFuture("Geolocation database is not loaded yet");
+    }
+
+    /**
+     * Repeats given check periodically until it succeeds or timeout expires.
+     */
+    private Future<Void> awaitAvailability(String name, Supplier<Future<?>> check, Timeout timeout) {
+        final Promise<Void> promise = Promise.promise();
+        checkAvailability(name, check, timeout, promise);
+        return promise.future();
+    }
+
+    private void checkAvailability(String name, Supplier<Future<?>> check, Timeout timeout, Promise<Void> promise) {
+        check.get().onComplete(result -> {
+            if (result.succeeded()) {
+                promise.tryComplete();
+            } else if (timeout.remaining() <= AVAILABILITY_CHECK_PERIOD_MS) {
+                promise.tryFail("%s is not available: %s".formatted(name, result.cause().getMessage()));
+            } else {
+                vertx.setTimer(AVAILABILITY_CHECK_PERIOD_MS,
+                        ignored -> checkAvailability(name, check, timeout, promise));
+            }
+        });
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Future<Void> populateCaches(Timeout timeout) {
+        final List<Future> populations = new ArrayList<>();
+        for (String account : accounts) {
+            populations.add(applicationSettings.getAccountById(account, timeout));
+        }
+        if (!storedRequests.isEmpty() || !storedImps.isEmpty()) {
+            populations.add(applicationSettings.getStoredData(
+                    null, new HashSet<>(storedRequests), new HashSet<>(storedImps), timeout));
+        }
+
+        return CompositeFuture.all(populations).mapEmpty();
+    }
+
+    /**
+     * Sends sample requests one by one, so warm-up load doesn't compete with the rest of startup too much.
+     * <p>
+     * Metrics and analytics are suspended meanwhile. Note that HTTP server and client metrics maintained by
+     * Vert.x itself are not affected.
+     */
+    private Future<Void> replaySampleRequests(Timeout timeout) {
+        if (sampleRequests.isEmpty() || iterations <= 0) {
+            return Future.succeededFuture();
+        }
+
+        metrics.suspendUpdates();
+        analyticsReporterDelegator.suspendReporting();
+
+        final AtomicInteger failedRequests = new AtomicInteger();
+        final MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+                .add(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON);
+
+        Future<Void> result = Future.succeededFuture();
+        for (int i = 0; i < iterations; i++) {
+            for (String sampleRequest : sampleRequests) {
+                result = result.compose(ignored -> sendSampleRequest(sampleRequest, headers, timeout, failedRequests));
+            }
+        }
+
+        return result
+                .onComplete(ignored -> {
+                    analyticsReporterDelegator.resumeReporting();
+                    metrics.resumeUpdates();
+                })
+                .onSuccess(ignored -> {
+                    if (failedRequests.get() > 0) {
+                        logger.warn("{0} of warm-up requests failed", failedRequests.get());
+                    }
+                });
+    }
+
+    private Future<Void> sendSampleRequest(String sampleRequest,
+                                           MultiMap headers,
+                                           Timeout timeout,
+                                           AtomicInteger failedRequests) {
+
+        final long remainingTimeout = timeout.remaining();
+        if (remainingTimeout <= 0) {
+            return Future.failedFuture("Time budget exhausted while replaying sample requests");
+        }
+
+        return httpClient.post(auctionUrl, headers, sampleRequest, remainingTimeout)
+                .map(HttpClientResponse::getStatusCode)
+                .otherwise(exception -> 0)
+                .map(statusCode -> {
+                    if (statusCode != 200) {
+                        failedRequests.incrementAndGet();
+                    }
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,18 @@
+package org.prebid.server.hooks.execution;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Execution group of the combined host and account plans with its hooks resolved ahead of time.
+ */
+@Value(staticConstructor = "of")
+class CompiledExecutionGroup {
+
+    Long timeout;
+
+    boolean independent;
+
+    List<CompiledHook> hooks;
+}
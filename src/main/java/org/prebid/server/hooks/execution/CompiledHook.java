@@ -0,0 +1,23 @@
+package org.prebid.server.hooks.execution;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.Value;
+import org.prebid.server.hooks.execution.model.HookId;
+import org.prebid.server.hooks.v1.Hook;
+import org.prebid.server.hooks.v1.InvocationContext;
+
+/**
+ * Hook of the execution plan with its implementation and account config of its module resolved ahead of time.
+ */
+@Value(staticConstructor = "of")
+class CompiledHook {
+
+    HookId hookId;
+
+    /**
+     * Null if hook implementation does not exist or disabled.
+     */
+    Hook<?, ? extends InvocationContext> hook;
+
+    ObjectNode accountConfig;
+}
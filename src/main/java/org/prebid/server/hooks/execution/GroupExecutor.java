@@ -1,11 +1,16 @@
 package org.prebid.server.hooks.execution;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.logging.LoggerFactory;
-import org.prebid.server.hooks.execution.model.ExecutionGroup;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookId;
 import org.prebid.server.hooks.v1.Hook;
@@ -13,7 +18,12 @@ import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.InvocationResult;
 import org.prebid.server.log.ConditionalLogger;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -23,29 +33,34 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     private static final ConditionalLogger conditionalLogger =
             new ConditionalLogger(LoggerFactory.getLogger(GroupExecutor.class));
 
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME_SUPPORTED = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+
+    private final TimeoutFactory timeoutFactory;
     private final Vertx vertx;
     private final Clock clock;
 
-    private ExecutionGroup group;
+    private CompiledExecutionGroup group;
     private PAYLOAD initialPayload;
-    private Function<HookId, Hook<PAYLOAD, CONTEXT>> hookProvider;
     private InvocationContextProvider<CONTEXT> invocationContextProvider;
     private HookExecutionContext hookExecutionContext;
     private boolean rejectAllowed;
 
-    private GroupExecutor(Vertx vertx, Clock clock) {
+    private GroupExecutor(TimeoutFactory timeoutFactory, Vertx vertx, Clock clock) {
+        this.timeoutFactory = timeoutFactory;
         this.vertx = vertx;
         this.clock = clock;
     }
 
     public static <PAYLOAD, CONTEXT extends InvocationContext> GroupExecutor<PAYLOAD, CONTEXT> create(
+            TimeoutFactory timeoutFactory,
             Vertx vertx,
             Clock clock) {
 
-        return new GroupExecutor<>(vertx, clock);
+        return new GroupExecutor<>(timeoutFactory, vertx, clock);
     }
 
-    public GroupExecutor<PAYLOAD, CONTEXT> withGroup(ExecutionGroup group) {
+    public GroupExecutor<PAYLOAD, CONTEXT> withGroup(CompiledExecutionGroup group) {
         this.group = group;
         return this;
     }
@@ -55,11 +70,6 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return this;
     }
 
-    public GroupExecutor<PAYLOAD, CONTEXT> withHookProvider(Function<HookId, Hook<PAYLOAD, CONTEXT>> hookProvider) {
-        this.hookProvider = hookProvider;
-        return this;
-    }
-
     public GroupExecutor<PAYLOAD, CONTEXT> withInvocationContextProvider(
             InvocationContextProvider<CONTEXT> invocationContextProvider) {
 
@@ -78,40 +88,138 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     }
 
     public Future<GroupResult<PAYLOAD>> execute() {
+        // all hooks of the group are invoked at once, so they share the same timeout
+        final Timeout timeout = timeoutFactory.create(group.getTimeout());
+
+        return group.isIndependent()
+                ? executeIndependentHooks(timeout)
+                : executeHooks(timeout);
+    }
+
+    private Future<GroupResult<PAYLOAD>> executeHooks(Timeout timeout) {
         final GroupResult<PAYLOAD> initialGroupResult = GroupResult.of(initialPayload, rejectAllowed);
         Future<GroupResult<PAYLOAD>> groupFuture = Future.succeededFuture(initialGroupResult);
 
-        for (final HookId hookId : group.getHookSequence()) {
-            final Hook<PAYLOAD, CONTEXT> hook = hookProvider.apply(hookId);
-
-            final long startTime = clock.millis();
+        for (final CompiledHook hook : group.getHooks()) {
+            final HookInvocation invocation = new HookInvocation(hook.getHookId(), clock.millis());
             final Future<InvocationResult<PAYLOAD>> invocationResult =
-                    executeHook(hook, group.getTimeout(), initialGroupResult, hookId);
+                    executeHook(hook, timeout, initialGroupResult, invocation);
 
             groupFuture = groupFuture.compose(groupResult ->
-                    applyInvocationResult(invocationResult, hookId, startTime, groupResult));
+                    applyInvocationResult(invocationResult, invocation, groupResult));
         }
 
         return groupFuture.recover(GroupExecutor::restoreResultFromRejection);
     }
 
+    /**
+     * Executes hooks of independent group concurrently on worker threads with single timeout timer for the whole
+     * group. Hooks results are not chained, outcomes (including analytics tags) are collected in hook sequence order.
+     */
+    private Future<GroupResult<PAYLOAD>> executeIndependentHooks(Timeout timeout) {
+        final GroupResult<PAYLOAD> groupResult = GroupResult.ofIndependent(initialPayload);
+
+        final List<CompiledHook> hooks = group.getHooks();
+        final List<HookInvocation> invocations = new ArrayList<>(hooks.size());
+        final List<Future> invocationResults = new ArrayList<>(hooks.size());
+
+        final long startTime = clock.millis();
+        final long timeoutTimerId = vertx.setTimer(group.getTimeout(), id -> invocations.stream()
+                .map(HookInvocation::promise)
+                .forEach(GroupExecutor::failWithTimeout));
+
+        for (final CompiledHook hook : hooks) {
+            final HookInvocation invocation = new HookInvocation(hook.getHookId(), startTime);
+            invocations.add(invocation);
+
+            final Promise<Future<InvocationResult<PAYLOAD>>> workerPromise = Promise.promise();
+            vertx.executeBlocking(
+                    promise -> promise.complete(callHook(hook, timeout, groupResult, invocation)),
+                    false,
+                    workerPromise);
+
+            workerPromise.future()
+                    .compose(Function.identity())
+                    .onComplete(result -> completeIfNotCompleted(invocation.promise(), result));
+
+            invocationResults.add(invocation.promise().future());
+        }
+
+        final Promise<GroupResult<PAYLOAD>> groupPromise = Promise.promise();
+        CompositeFuture.join(invocationResults).onComplete(ignored -> {
+            vertx.cancelTimer(timeoutTimerId);
+
+            for (HookInvocation invocation : invocations) {
+                applyCompletedInvocationResult(invocation, groupResult);
+            }
+            groupPromise.complete(groupResult);
+        });
+
+        return groupPromise.future();
+    }
+
+    private void applyCompletedInvocationResult(HookInvocation invocation, GroupResult<PAYLOAD> groupResult) {
+        final Future<InvocationResult<PAYLOAD>> invocationResult = invocation.promise().future();
+        final HookId hookId = invocation.hookId();
+
+        if (invocationResult.succeeded()) {
+            saveModuleContext(hookId, invocationResult.result());
+            groupResult.applyInvocationResult(
+                    invocationResult.result(), hookId, invocation.executionTime(), invocation.cpuTimeMicros());
+        } else {
+            groupResult.applyFailure(
+                    invocationResult.cause(), hookId, invocation.executionTime(), invocation.cpuTimeMicros());
+        }
+    }
+
     private Future<InvocationResult<PAYLOAD>> executeHook(
-            Hook<PAYLOAD, CONTEXT> hook,
-            Long timeout,
+            CompiledHook hook,
+            Timeout timeout,
             GroupResult<PAYLOAD> groupResult,
-            HookId hookId) {
+            HookInvocation invocation) {
+
+        return executeWithTimeout(() -> callHook(hook, timeout, groupResult, invocation), group.getTimeout());
+    }
 
+    /**
+     * Calls the hook and measures CPU time the calling thread spent until hook returned its result future.
+     */
+    @SuppressWarnings("unchecked")
+    private Future<InvocationResult<PAYLOAD>> callHook(CompiledHook compiledHook,
+                                                       Timeout timeout,
+                                                       GroupResult<PAYLOAD> groupResult,
+                                                       HookInvocation invocation) {
+
+        final HookId hookId = invocation.hookId();
+        // hooks are resolved for the stage being executed, so they accept its payload and invocation context
+        final Hook<PAYLOAD, CONTEXT> hook = (Hook<PAYLOAD, CONTEXT>) compiledHook.getHook();
         if (hook == null) {
             conditionalLogger.error("Hook implementation %s does not exist or disabled".formatted(hookId), 0.01d);
 
             return Future.failedFuture(new FailedException("Hook implementation does not exist or disabled"));
         }
 
-        return executeWithTimeout(
-                () -> hook.call(
-                        groupResult.payload(),
-                        invocationContextProvider.apply(timeout, hookId, moduleContextFor(hookId))),
-                timeout);
+        return executeSafely(() -> {
+            final CONTEXT invocationContext = invocationContextProvider.apply(
+                    timeout, hookId, compiledHook.getAccountConfig(), moduleContextFor(hookId));
+
+            final long cpuStartTime = currentThreadCpuTime();
+            try {
+                return hook.call(groupResult.payload(), invocationContext);
+            } finally {
+                invocation.cpuTimeMicros(cpuTimeMicrosSince(cpuStartTime));
+            }
+        });
+    }
+
+    private static long currentThreadCpuTime() {
+        return CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1L;
+    }
+
+    private static Long cpuTimeMicrosSince(long cpuStartTime) {
+        return cpuStartTime >= 0
+                ? TimeUnit.NANOSECONDS.toMicros(THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuStartTime)
+                : null;
     }
 
     private <T> Future<T> executeWithTimeout(Supplier<Future<T>> action, Long timeout) {
@@ -119,7 +227,7 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
         final long timeoutTimerId = vertx.setTimer(timeout, id -> failWithTimeout(promise));
 
-        executeSafely(action)
+        action.get()
                 .onComplete(result -> completeWithActionResult(promise, timeoutTimerId, result));
 
         return promise.future();
@@ -144,6 +252,10 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     private <T> void completeWithActionResult(Promise<T> promise, long timeoutTimerId, AsyncResult<T> result) {
         vertx.cancelTimer(timeoutTimerId);
 
+        completeIfNotCompleted(promise, result);
+    }
+
+    private static <T> void completeIfNotCompleted(Promise<T> promise, AsyncResult<T> result) {
         // check is to avoid harmless exception if timeout exceeds before successful result becomes ready
         if (!promise.future().isComplete()) {
             promise.handle(result);
@@ -156,16 +268,20 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
     private Future<GroupResult<PAYLOAD>> applyInvocationResult(
             Future<InvocationResult<PAYLOAD>> invocationResult,
-            HookId hookId,
-            long startTime,
+            HookInvocation invocation,
             GroupResult<PAYLOAD> groupResult) {
 
+        final HookId hookId = invocation.hookId();
+        final long startTime = invocation.startTime();
+
         return invocationResult
                 .map(result -> {
                     saveModuleContext(hookId, result);
-                    return groupResult.applyInvocationResult(result, hookId, executionTime(startTime));
+                    return groupResult.applyInvocationResult(
+                            result, hookId, executionTime(startTime), invocation.cpuTimeMicros());
                 })
-                .otherwise(throwable -> groupResult.applyFailure(throwable, hookId, executionTime(startTime)))
+                .otherwise(throwable -> groupResult.applyFailure(
+                        throwable, hookId, executionTime(startTime), invocation.cpuTimeMicros()))
                 .compose(this::propagateRejection);
     }
 
@@ -191,4 +307,30 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
         return Future.failedFuture(throwable);
     }
+
+    /**
+     * Holds state of single hook invocation within the group.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private class HookInvocation {
+
+        private final HookId hookId;
+
+        private final long startTime;
+
+        private final Promise<InvocationResult<PAYLOAD>> promise = Promise.promise();
+
+        @Setter
+        private volatile Long cpuTimeMicros;
+
+        private volatile long executionTime;
+
+        HookInvocation(HookId hookId, long startTime) {
+            this.hookId = hookId;
+            this.startTime = startTime;
+
+            promise.future().onComplete(ignored -> executionTime = GroupExecutor.this.executionTime(startTime));
+        }
+    }
 }
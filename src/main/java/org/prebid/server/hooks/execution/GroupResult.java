@@ -33,39 +33,50 @@ class GroupResult<T> {
 
     private final boolean rejectAllowed;
 
+    private final boolean updateAllowed;
+
     private final List<HookExecutionOutcome> hookExecutionOutcomes = new ArrayList<>();
 
-    private GroupResult(T payload, boolean rejectAllowed) {
+    private GroupResult(T payload, boolean rejectAllowed, boolean updateAllowed) {
         this.shouldReject = false;
         this.payload = payload;
         this.rejectAllowed = rejectAllowed;
+        this.updateAllowed = updateAllowed;
     }
 
     public static <T> GroupResult<T> of(T payload, boolean rejectAllowed) {
-        return new GroupResult<>(payload, rejectAllowed);
+        return new GroupResult<>(payload, rejectAllowed, true);
+    }
+
+    /**
+     * Creates result of group with independent hooks, which are allowed neither to update nor to reject payload.
+     */
+    public static <T> GroupResult<T> ofIndependent(T payload) {
+        return new GroupResult<>(payload, false, false);
     }
 
     public GroupResult<T> applyInvocationResult(InvocationResult<T> invocationResult,
                                                 HookId hookId,
-                                                long executionTime) {
+                                                long executionTime,
+                                                Long cpuTimeMicros) {
 
         if (invocationResult.status() == InvocationStatus.success && invocationResult.action() != null) {
             try {
                 applyAction(hookId, invocationResult.action(), invocationResult.payloadUpdate());
             } catch (Exception e) {
-                hookExecutionOutcomes.add(toExecutionOutcome(e, hookId, executionTime));
+                hookExecutionOutcomes.add(toExecutionOutcome(e, hookId, executionTime, cpuTimeMicros));
 
                 return this;
             }
         }
 
-        hookExecutionOutcomes.add(toExecutionOutcome(invocationResult, hookId, executionTime));
+        hookExecutionOutcomes.add(toExecutionOutcome(invocationResult, hookId, executionTime, cpuTimeMicros));
 
         return this;
     }
 
-    public GroupResult<T> applyFailure(Throwable throwable, HookId hookId, long executionTime) {
-        hookExecutionOutcomes.add(toExecutionOutcome(throwable, hookId, executionTime));
+    public GroupResult<T> applyFailure(Throwable throwable, HookId hookId, long executionTime, Long cpuTimeMicros) {
+        hookExecutionOutcomes.add(toExecutionOutcome(throwable, hookId, executionTime, cpuTimeMicros));
 
         return this;
     }
@@ -75,6 +86,15 @@ class GroupResult<T> {
     }
 
     private void applyAction(HookId hookId, InvocationAction action, PayloadUpdate<T> payloadUpdate) {
+        if (!updateAllowed && action != InvocationAction.no_action) {
+            conditionalLogger.error(
+                    "Hook implementation %s requested to %s an entity being executed in independent group"
+                            .formatted(hookId, action),
+                    LOG_SAMPLING_RATE);
+
+            throw new PayloadUpdateException("Payload update and rejection are not allowed in independent group");
+        }
+
         switch (action) {
             case reject -> applyReject(hookId);
             case update -> applyPayloadUpdate(hookId, payloadUpdate);
@@ -119,11 +139,13 @@ class GroupResult<T> {
 
     private static HookExecutionOutcome toExecutionOutcome(InvocationResult<?> invocationResult,
                                                            HookId hookId,
-                                                           long executionTime) {
+                                                           long executionTime,
+                                                           Long cpuTimeMicros) {
 
         return HookExecutionOutcome.builder()
                 .hookId(hookId)
                 .executionTime(executionTime)
+                .cpuTimeMicros(cpuTimeMicros)
                 .status(toExecutionStatus(invocationResult.status()))
                 .message(invocationResult.message())
                 .action(toExecutionAction(invocationResult.action()))
@@ -134,10 +156,15 @@ class GroupResult<T> {
                 .build();
     }
 
-    private static HookExecutionOutcome toExecutionOutcome(Throwable throwable, HookId hookId, long executionTime) {
+    private static HookExecutionOutcome toExecutionOutcome(Throwable throwable,
+                                                           HookId hookId,
+                                                           long executionTime,
+                                                           Long cpuTimeMicros) {
+
         return HookExecutionOutcome.builder()
                 .hookId(hookId)
                 .executionTime(executionTime)
+                .cpuTimeMicros(cpuTimeMicros)
                 .status(toFailureType(throwable))
                 .message(throwable.getMessage())
                 .build();
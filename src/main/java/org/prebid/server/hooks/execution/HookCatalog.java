@@ -1,38 +1,65 @@
 package org.prebid.server.hooks.execution;
 
+import lombok.Value;
 import org.prebid.server.hooks.execution.model.StageWithHookType;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.Module;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provides simple access to all {@link Hook}s registered in application.
+ * <p>
+ * Hook is looked up for each invocation, so lookup results are remembered to not scan all modules every time.
  */
 public class HookCatalog {
 
     private final Collection<Module> modules;
 
+    private final Map<HookKey, Optional<Hook<?, ? extends InvocationContext>>> hooks;
+
     public HookCatalog(Collection<Module> modules) {
         this.modules = Objects.requireNonNull(modules);
+
+        hooks = new ConcurrentHashMap<>();
     }
 
+    @SuppressWarnings("unchecked")
     public <HOOK extends Hook<?, ? extends InvocationContext>> HOOK hookById(
             String moduleCode,
             String hookImplCode,
             StageWithHookType<HOOK> stage) {
 
-        Class<HOOK> clazz = stage.hookType();
+        final HookKey key = HookKey.of(moduleCode, hookImplCode, stage.hookType());
+        final Optional<Hook<?, ? extends InvocationContext>> hook = hooks.get(key);
+
+        return (HOOK) (hook != null ? hook : hooks.computeIfAbsent(key, ignored -> findHook(key))).orElse(null);
+    }
+
+    private Optional<Hook<?, ? extends InvocationContext>> findHook(HookKey key) {
+        final Class<? extends Hook<?, ? extends InvocationContext>> clazz = key.getHookType();
         return modules.stream()
-                .filter(module -> Objects.equals(module.code(), moduleCode))
+                .filter(module -> Objects.equals(module.code(), key.getModuleCode()))
                 .map(Module::hooks)
                 .flatMap(Collection::stream)
-                .filter(hook -> Objects.equals(hook.code(), hookImplCode))
+                .filter(hook -> Objects.equals(hook.code(), key.getHookImplCode()))
                 .filter(clazz::isInstance)
-                .map(clazz::cast)
                 .findFirst()
-                .orElse(null);
+                .map(hook -> (Hook<?, ? extends InvocationContext>) hook);
+    }
+
+    @Value(staticConstructor = "of")
+    private static class HookKey {
+
+        String moduleCode;
+
+        String hookImplCode;
+
+        Class<? extends Hook<?, ? extends InvocationContext>> hookType;
     }
 }
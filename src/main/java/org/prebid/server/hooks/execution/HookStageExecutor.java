@@ -1,6 +1,8 @@
 package org.prebid.server.hooks.execution;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.BidResponse;
 import io.vertx.core.Future;
@@ -54,6 +56,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Stream;
 
 public class HookStageExecutor {
@@ -63,6 +66,7 @@ public class HookStageExecutor {
     private static final String ENTITY_AUCTION_RESPONSE = "auction-response";
     private static final String ENTITY_ALL_PROCESSED_BID_RESPONSES = "all-processed-bid-responses";
     private static final Account EMPTY_ACCOUNT = Account.empty(StringUtils.EMPTY);
+    private static final int COMPILED_PLANS_CACHE_SIZE = 10_000;
 
     private final ExecutionPlan hostExecutionPlan;
     private final ExecutionPlan defaultAccountExecutionPlan;
@@ -71,6 +75,10 @@ public class HookStageExecutor {
     private final Vertx vertx;
     private final Clock clock;
 
+    private final CompiledExecutionPlan hostCompiledPlan;
+    private final CompiledExecutionPlan defaultAccountCompiledPlan;
+    private final Cache<String, CompiledExecutionPlan> compiledPlans;
+
     private HookStageExecutor(ExecutionPlan hostExecutionPlan,
                               ExecutionPlan defaultAccountExecutionPlan,
                               HookCatalog hookCatalog,
@@ -84,6 +92,13 @@ public class HookStageExecutor {
         this.timeoutFactory = timeoutFactory;
         this.vertx = vertx;
         this.clock = clock;
+
+        hostCompiledPlan = new CompiledExecutionPlan(null, ExecutionPlan.empty(), Collections.emptyMap());
+        defaultAccountCompiledPlan =
+                new CompiledExecutionPlan(null, defaultAccountExecutionPlan, Collections.emptyMap());
+        compiledPlans = Caffeine.newBuilder()
+                .maximumSize(COMPILED_PLANS_CACHE_SIZE)
+                .build();
     }
 
     public static HookStageExecutor create(String hostExecutionPlan,
@@ -254,7 +269,7 @@ public class HookStageExecutor {
             String entity,
             HookExecutionContext context) {
 
-        return StageExecutor.<PAYLOAD, CONTEXT>create(hookCatalog, vertx, clock)
+        return StageExecutor.<PAYLOAD, CONTEXT>create(timeoutFactory, vertx, clock)
                 .withStage(stage)
                 .withEntity(entity)
                 .withHookExecutionContext(context);
@@ -317,12 +332,69 @@ public class HookStageExecutor {
         }
     }
 
-    private StageExecutionPlan planForEntrypointStage(Endpoint endpoint) {
-        return effectiveStagePlanFrom(ExecutionPlan.empty(), endpoint, Stage.entrypoint);
+    private List<CompiledExecutionGroup> planForEntrypointStage(Endpoint endpoint) {
+        return hostCompiledPlan.stagePlan(endpoint, Stage.entrypoint);
+    }
+
+    private List<CompiledExecutionGroup> planForStage(Account account, Endpoint endpoint, Stage stage) {
+        return compiledPlanFor(account).stagePlan(endpoint, stage);
     }
 
-    private StageExecutionPlan planForStage(Account account, Endpoint endpoint, Stage stage) {
-        return effectiveStagePlanFrom(effectiveExecutionPlanFor(account), endpoint, stage);
+    /**
+     * Returns plan combined from host and account plans.
+     * <p>
+     * Accounts without hooks configuration share compiled default account plan. Other compiled plans are cached by
+     * account id and reused while account keeps the same hooks configuration. Configuration is compared by reference
+     * first, so deep comparison happens only for accounts fetched from settings without caching.
+     */
+    private CompiledExecutionPlan compiledPlanFor(Account account) {
+        final AccountHooksConfiguration hooksConfiguration = account.getHooks();
+        if (hooksConfiguration == null) {
+            return defaultAccountCompiledPlan;
+        }
+
+        final String accountId = StringUtils.defaultString(account.getId());
+        final CompiledExecutionPlan compiledPlan = compiledPlans.getIfPresent(accountId);
+        if (compiledPlan != null && compiledPlan.isCompiledFrom(hooksConfiguration)) {
+            return compiledPlan;
+        }
+
+        final ExecutionPlan accountExecutionPlan = hooksConfiguration.getExecutionPlan();
+        final Map<String, ObjectNode> modulesConfiguration = hooksConfiguration.getModules();
+        final CompiledExecutionPlan newCompiledPlan = new CompiledExecutionPlan(
+                hooksConfiguration,
+                accountExecutionPlan != null ? accountExecutionPlan : defaultAccountExecutionPlan,
+                modulesConfiguration != null ? modulesConfiguration : Collections.emptyMap());
+        compiledPlans.put(accountId, newCompiledPlan);
+        return newCompiledPlan;
+    }
+
+    private List<CompiledExecutionGroup> compileStagePlan(StageExecutionPlan stagePlan,
+                                                          Stage stage,
+                                                          Map<String, ObjectNode> modulesConfiguration) {
+
+        final StageWithHookType<? extends Hook<?, ? extends InvocationContext>> stageWithHookType =
+                StageWithHookType.forStage(stage);
+
+        return stagePlan.getGroups().stream()
+                .map(group -> CompiledExecutionGroup.of(
+                        group.getTimeout(),
+                        Boolean.TRUE.equals(group.getIndependent()),
+                        group.getHookSequence().stream()
+                                .map(hookId -> compileHook(hookId, stageWithHookType, modulesConfiguration))
+                                .toList()))
+                .toList();
+    }
+
+    private CompiledHook compileHook(HookId hookId,
+                                     StageWithHookType<? extends Hook<?, ? extends InvocationContext>> stage,
+                                     Map<String, ObjectNode> modulesConfiguration) {
+
+        final String moduleCode = hookId.getModuleCode();
+        return CompiledHook.of(
+                hookId,
+                hookCatalog.hookById(moduleCode, hookId.getHookImplCode(), stage),
+                modulesConfiguration.get(moduleCode));
     }
 
     private StageExecutionPlan effectiveStagePlanFrom(
@@ -353,40 +425,28 @@ public class HookStageExecutor {
                 .getOrDefault(stage, StageExecutionPlan.empty());
     }
 
-    private ExecutionPlan effectiveExecutionPlanFor(Account account) {
-        final AccountHooksConfiguration hooksAccountConfig = account.getHooks();
-        final ExecutionPlan accountExecutionPlan =
-                hooksAccountConfig != null ? hooksAccountConfig.getExecutionPlan() : null;
-
-        return accountExecutionPlan != null ? accountExecutionPlan : defaultAccountExecutionPlan;
-    }
-
-    private InvocationContextProvider<InvocationContext> invocationContextProvider(Endpoint endpoint) {
-        return (timeout, hookId, moduleContext) -> invocationContext(endpoint, timeout);
-    }
-
-    private InvocationContextImpl invocationContext(Endpoint endpoint, Long timeout) {
-        return InvocationContextImpl.of(createTimeout(timeout), endpoint);
+    private static InvocationContextProvider<InvocationContext> invocationContextProvider(Endpoint endpoint) {
+        return (timeout, hookId, accountConfig, moduleContext) -> InvocationContextImpl.of(timeout, endpoint);
     }
 
     private InvocationContextProvider<AuctionInvocationContext> auctionInvocationContextProvider(
             Endpoint endpoint,
             AuctionContext auctionContext) {
 
-        return (timeout, hookId, moduleContext) -> auctionInvocationContext(
-                endpoint, timeout, auctionContext, hookId, moduleContext);
+        return (timeout, hookId, accountConfig, moduleContext) -> auctionInvocationContext(
+                endpoint, timeout, auctionContext, accountConfig, moduleContext);
     }
 
-    private AuctionInvocationContextImpl auctionInvocationContext(Endpoint endpoint,
-                                                                  Long timeout,
-                                                                  AuctionContext auctionContext,
-                                                                  HookId hookId,
-                                                                  Object moduleContext) {
+    private static AuctionInvocationContextImpl auctionInvocationContext(Endpoint endpoint,
+                                                                         Timeout timeout,
+                                                                         AuctionContext auctionContext,
+                                                                         ObjectNode accountConfig,
+                                                                         Object moduleContext) {
 
         return AuctionInvocationContextImpl.of(
-                invocationContext(endpoint, timeout),
+                InvocationContextImpl.of(timeout, endpoint),
                 auctionContext.getDebugContext().isDebugEnabled(),
-                accountConfigFor(auctionContext.getAccount(), hookId),
+                accountConfig,
                 moduleContext);
     }
 
@@ -395,20 +455,52 @@ public class HookStageExecutor {
             AuctionContext auctionContext,
             String bidder) {
 
-        return (timeout, hookId, moduleContext) -> BidderInvocationContextImpl.of(
-                auctionInvocationContext(endpoint, timeout, auctionContext, hookId, moduleContext),
+        return (timeout, hookId, accountConfig, moduleContext) -> BidderInvocationContextImpl.of(
+                auctionInvocationContext(endpoint, timeout, auctionContext, accountConfig, moduleContext),
                 bidder);
     }
 
-    private Timeout createTimeout(Long timeout) {
-        return timeoutFactory.create(timeout);
-    }
+    /**
+     * Stage plans combined from host and account plans with hooks and their module configs resolved,
+     * each of them is compiled on the first use only.
+     */
+    private class CompiledExecutionPlan {
 
-    private static ObjectNode accountConfigFor(Account account, HookId hookId) {
-        final AccountHooksConfiguration accountHooksConfiguration = account.getHooks();
-        final Map<String, ObjectNode> modulesConfiguration =
-                accountHooksConfiguration != null ? accountHooksConfiguration.getModules() : Collections.emptyMap();
+        private static final Endpoint[] ENDPOINTS = Endpoint.values();
+        private static final Stage[] STAGES = Stage.values();
 
-        return modulesConfiguration != null ? modulesConfiguration.get(hookId.getModuleCode()) : null;
+        private final AccountHooksConfiguration hooksConfiguration;
+        private final ExecutionPlan accountExecutionPlan;
+        private final Map<String, ObjectNode> modulesConfiguration;
+        private final AtomicReferenceArray<List<CompiledExecutionGroup>> stagePlans;
+
+        CompiledExecutionPlan(AccountHooksConfiguration hooksConfiguration,
+                              ExecutionPlan accountExecutionPlan,
+                              Map<String, ObjectNode> modulesConfiguration) {
+
+            this.hooksConfiguration = hooksConfiguration;
+            this.accountExecutionPlan = accountExecutionPlan;
+            this.modulesConfiguration = modulesConfiguration;
+            this.stagePlans = new AtomicReferenceArray<>(ENDPOINTS.length * STAGES.length);
+        }
+
+        boolean isCompiledFrom(AccountHooksConfiguration hooksConfiguration) {
+            return this.hooksConfiguration == hooksConfiguration
+                    || Objects.equals(this.hooksConfiguration, hooksConfiguration);
+        }
+
+        List<CompiledExecutionGroup> stagePlan(Endpoint endpoint, Stage stage) {
+            final int index = endpoint.ordinal() * STAGES.length + stage.ordinal();
+            final List<CompiledExecutionGroup> stagePlan = stagePlans.get(index);
+            if (stagePlan != null) {
+                return stagePlan;
+            }
+
+            // concurrent compiling of the same stage plan is harmless, results are equal
+            final List<CompiledExecutionGroup> compiledStagePlan = compileStagePlan(
+                    effectiveStagePlanFrom(accountExecutionPlan, endpoint, stage), stage, modulesConfiguration);
+            stagePlans.set(index, compiledStagePlan);
+            return compiledStagePlan;
+        }
     }
 }
@@ -1,10 +1,12 @@
 package org.prebid.server.hooks.execution;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.prebid.server.execution.Timeout;
 import org.prebid.server.hooks.execution.model.HookId;
 import org.prebid.server.hooks.v1.InvocationContext;
 
 @FunctionalInterface
 interface InvocationContextProvider<CONTEXT extends InvocationContext> {
 
-    CONTEXT apply(Long timeout, HookId hookId, Object moduleContext);
+    CONTEXT apply(Timeout timeout, HookId hookId, ObjectNode accountConfig, Object moduleContext);
 }
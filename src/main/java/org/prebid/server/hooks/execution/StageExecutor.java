@@ -2,43 +2,43 @@ package org.prebid.server.hooks.execution;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
-import org.prebid.server.hooks.execution.model.ExecutionGroup;
+import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
-import org.prebid.server.hooks.execution.model.StageExecutionPlan;
 import org.prebid.server.hooks.execution.model.StageWithHookType;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
 
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.List;
 
 class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
-    private final HookCatalog hookCatalog;
+    private final TimeoutFactory timeoutFactory;
     private final Vertx vertx;
     private final Clock clock;
 
     private StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage;
     private String entity;
-    private StageExecutionPlan executionPlan;
+    private List<CompiledExecutionGroup> executionPlan;
     private PAYLOAD initialPayload;
     private InvocationContextProvider<CONTEXT> invocationContextProvider;
     private HookExecutionContext hookExecutionContext;
     private boolean rejectAllowed;
 
-    private StageExecutor(HookCatalog hookCatalog, Vertx vertx, Clock clock) {
-        this.hookCatalog = hookCatalog;
+    private StageExecutor(TimeoutFactory timeoutFactory, Vertx vertx, Clock clock) {
+        this.timeoutFactory = timeoutFactory;
         this.vertx = vertx;
         this.clock = clock;
     }
 
     public static <PAYLOAD, CONTEXT extends InvocationContext> StageExecutor<PAYLOAD, CONTEXT> create(
-            HookCatalog hookCatalog,
+            TimeoutFactory timeoutFactory,
             Vertx vertx,
             Clock clock) {
 
-        return new StageExecutor<>(hookCatalog, vertx, clock);
+        return new StageExecutor<>(timeoutFactory, vertx, clock);
     }
 
     public StageExecutor<PAYLOAD, CONTEXT> withStage(StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage) {
@@ -51,7 +51,7 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return this;
     }
 
-    public StageExecutor<PAYLOAD, CONTEXT> withExecutionPlan(StageExecutionPlan executionPlan) {
+    public StageExecutor<PAYLOAD, CONTEXT> withExecutionPlan(List<CompiledExecutionGroup> executionPlan) {
         this.executionPlan = executionPlan;
         return this;
     }
@@ -81,7 +81,7 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     public Future<HookStageExecutionResult<PAYLOAD>> execute() {
         Future<StageResult<PAYLOAD>> stageFuture = Future.succeededFuture(StageResult.of(initialPayload, entity));
 
-        for (final ExecutionGroup group : executionPlan.getGroups()) {
+        for (final CompiledExecutionGroup group : executionPlan) {
             stageFuture = stageFuture.compose(stageResult ->
                     executeGroup(group, stageResult.payload())
                             .map(stageResult::applyGroupResult)
@@ -93,12 +93,10 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
                 .map(this::toHookStageExecutionResult);
     }
 
-    private Future<GroupResult<PAYLOAD>> executeGroup(ExecutionGroup group, PAYLOAD initialPayload) {
-        return GroupExecutor.<PAYLOAD, CONTEXT>create(vertx, clock)
+    private Future<GroupResult<PAYLOAD>> executeGroup(CompiledExecutionGroup group, PAYLOAD initialPayload) {
+        return GroupExecutor.<PAYLOAD, CONTEXT>create(timeoutFactory, vertx, clock)
                 .withGroup(group)
                 .withInitialPayload(initialPayload)
-                .withHookProvider(
-                        hookId -> hookCatalog.hookById(hookId.getModuleCode(), hookId.getHookImplCode(), stage))
                 .withInvocationContextProvider(invocationContextProvider)
                 .withHookExecutionContext(hookExecutionContext)
                 .withRejectAllowed(rejectAllowed)
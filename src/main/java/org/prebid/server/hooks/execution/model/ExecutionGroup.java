@@ -12,4 +12,14 @@ public class ExecutionGroup {
 
     @JsonProperty("hook-sequence")
     List<HookId> hookSequence;
+
+    /**
+     * Marks group of read-only hooks (e.g. analytics-only hooks) not depending on each other.
+     * Such hooks are executed concurrently on worker threads and are not allowed to update or reject payload.
+     */
+    Boolean independent;
+
+    public static ExecutionGroup of(Long timeout, List<HookId> hookSequence) {
+        return of(timeout, hookSequence, null);
+    }
 }
@@ -14,6 +14,11 @@ public class HookExecutionOutcome {
 
     Long executionTime;
 
+    /**
+     * CPU time in microseconds spent by the thread invoking the hook until it returned its result future.
+     */
+    Long cpuTimeMicros;
+
     ExecutionStatus status;
 
     String message;
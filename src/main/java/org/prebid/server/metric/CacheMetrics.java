@@ -12,6 +12,7 @@ class CacheMetrics extends UpdatableMetrics {
 
     private final RequestMetrics requestsMetrics;
     private final CacheCreativeSizeMetrics cacheCreativeSizeMetrics;
+    private final EmbeddedCacheMetrics embeddedCacheMetrics;
 
     CacheMetrics(MetricRegistry metricRegistry, CounterType counterType) {
         super(
@@ -21,6 +22,7 @@ class CacheMetrics extends UpdatableMetrics {
 
         requestsMetrics = new RequestMetrics(metricRegistry, counterType, createPrefix());
         cacheCreativeSizeMetrics = new CacheCreativeSizeMetrics(metricRegistry, counterType, createPrefix());
+        embeddedCacheMetrics = new EmbeddedCacheMetrics(metricRegistry, counterType, createPrefix());
     }
 
     CacheMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
@@ -31,6 +33,7 @@ class CacheMetrics extends UpdatableMetrics {
 
         requestsMetrics = new RequestMetrics(metricRegistry, counterType, createPrefix(prefix));
         cacheCreativeSizeMetrics = new CacheCreativeSizeMetrics(metricRegistry, counterType, createPrefix(prefix));
+        embeddedCacheMetrics = new EmbeddedCacheMetrics(metricRegistry, counterType, createPrefix(prefix));
     }
 
     private static String createPrefix(String prefix) {
@@ -52,4 +55,22 @@ class CacheMetrics extends UpdatableMetrics {
     CacheCreativeSizeMetrics creativeSize() {
         return cacheCreativeSizeMetrics;
     }
+
+    EmbeddedCacheMetrics embedded() {
+        return embeddedCacheMetrics;
+    }
+
+    static class EmbeddedCacheMetrics extends UpdatableMetrics {
+
+        EmbeddedCacheMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+            super(
+                    metricRegistry,
+                    counterType,
+                    nameCreator(createEmbeddedCachePrefix(prefix)));
+        }
+
+        private static String createEmbeddedCachePrefix(String prefix) {
+            return prefix + ".embedded";
+        }
+    }
 }
@@ -14,18 +14,36 @@ public enum MetricName {
 
     // database
     db_query_time,
+    db_connection_acquire_time,
+    db_query_execution_time,
+    rows,
+
+    // blocking executor
+    blocking_tasks_in_flight,
+
+    // remote file syncer
+    remote_file_download_size,
+    remote_file_download_time,
+
+    // warm-up
+    warmup_time,
+    warmup_incomplete,
 
     // geo location
     geolocation_requests,
     geolocation_request_time,
     geolocation_successful,
     geolocation_fail,
+    geolocation_cache_hit,
+    geolocation_cache_miss,
 
     // auction
     requests,
     app_requests,
     no_cookie_requests,
     request_time,
+    response_size,
+    serialization_time,
     prices,
     imps_requested,
     imps_banner,
@@ -101,6 +119,8 @@ public enum MetricName {
     // vendor list
     missing,
     fallback,
+    prefetched,
+    latest_version("latest-version"),
 
     // stored data
     stored_requests_found,
@@ -112,6 +132,17 @@ public enum MetricName {
     json,
     xml,
 
+    // cache batching
+    batch_size,
+    batch_added_latency,
+
+    // embedded cache
+    entries,
+    bytes,
+    chars,
+    evictions,
+    conflicts,
+
     // account.*.requests.
     rejected_by_invalid_account("rejected.invalid-account"),
     rejected_by_invalid_stored_impr("rejected.invalid-stored-impr"),
@@ -138,6 +169,7 @@ public enum MetricName {
     failure,
     execution_error("execution-error"),
     duration,
+    cpu_time,
 
     // price-floors
     price_floors("price-floors"),
@@ -58,11 +58,18 @@ public class Metrics extends UpdatableMetrics {
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
     private final HooksMetrics hooksMetrics;
     private final PgMetrics pgMetrics;
+    private final SuspendableMetricRegistry suspendableMetricRegistry;
 
     public Metrics(MetricRegistry metricRegistry, CounterType counterType,
                    AccountMetricsVerbosityResolver accountMetricsVerbosityResolver) {
+        this(new SuspendableMetricRegistry(metricRegistry), counterType, accountMetricsVerbosityResolver);
+    }
+
+    private Metrics(SuspendableMetricRegistry metricRegistry, CounterType counterType,
+                    AccountMetricsVerbosityResolver accountMetricsVerbosityResolver) {
         super(metricRegistry, counterType, MetricName::toString);
 
+        this.suspendableMetricRegistry = metricRegistry;
         this.accountMetricsVerbosityResolver = Objects.requireNonNull(accountMetricsVerbosityResolver);
 
         requestMetricsCreator = requestType -> new RequestStatusMetrics(metricRegistry, counterType, requestType);
@@ -223,6 +230,12 @@ public class Metrics extends UpdatableMetrics {
         forRequestType(requestType).incCounter(requestStatus);
     }
 
+    public void updateResponseSerializationMetrics(MetricName requestType, long sizeBytes, long serializationMicros) {
+        final RequestStatusMetrics requestTypeMetrics = forRequestType(requestType);
+        requestTypeMetrics.updateHistogram(MetricName.response_size, sizeBytes);
+        requestTypeMetrics.updateHistogram(MetricName.serialization_time, serializationMicros);
+    }
+
     public void updateRequestBidderCardinalityMetric(int bidderCardinality) {
         forBidderCardinality(bidderCardinality).incCounter(MetricName.requests);
     }
@@ -427,6 +440,10 @@ public class Metrics extends UpdatableMetrics {
         privacy().tcf().incCounter(MetricName.invalid);
     }
 
+    public void updatePrivacyTcfConsentCacheMetric(boolean hit) {
+        privacy().tcf().consentCache().incCounter(hit ? MetricName.hit : MetricName.miss);
+    }
+
     public void updatePrivacyTcfRequestsMetric(int version) {
         final UpdatableMetrics versionMetrics = privacy().tcf().fromVersion(version);
         versionMetrics.incCounter(MetricName.requests);
@@ -458,6 +475,14 @@ public class Metrics extends UpdatableMetrics {
         updatePrivacyTcfVendorListMetric(version, MetricName.fallback);
     }
 
+    public void updatePrivacyTcfVendorListPrefetchedMetric(int version) {
+        updatePrivacyTcfVendorListMetric(version, MetricName.prefetched);
+    }
+
+    public void createPrivacyTcfVendorListLatestVersionGauge(int version, LongSupplier latestVersionSupplier) {
+        privacy().tcf().fromVersion(version).vendorList().createGauge(MetricName.latest_version, latestVersionSupplier);
+    }
+
     private void updatePrivacyTcfVendorListMetric(int version, MetricName metricName) {
         final TcfMetrics tcfMetrics = privacy().tcf();
         tcfMetrics.fromVersion(version).vendorList().incCounter(metricName);
@@ -471,6 +496,42 @@ public class Metrics extends UpdatableMetrics {
         updateTimer(MetricName.db_query_time, millis);
     }
 
+    public void updateDatabaseConnectionAcquireTimeMetric(long millis) {
+        updateTimer(MetricName.db_connection_acquire_time, millis);
+    }
+
+    public void updateDatabaseQueryExecutionTimeMetric(long millis) {
+        updateTimer(MetricName.db_query_execution_time, millis);
+    }
+
+    public void createBlockingTasksInFlightGauge(LongSupplier inFlightSupplier) {
+        createGauge(MetricName.blocking_tasks_in_flight, inFlightSupplier);
+    }
+
+    public void updateRemoteFileDownloadMetrics(long sizeBytes, long millis) {
+        updateHistogram(MetricName.remote_file_download_size, sizeBytes);
+        updateTimer(MetricName.remote_file_download_time, millis);
+    }
+
+    public void updateWarmupMetrics(long millis, boolean completed) {
+        updateTimer(MetricName.warmup_time, millis);
+        if (!completed) {
+            incCounter(MetricName.warmup_incomplete);
+        }
+    }
+
+    /**
+     * Makes all further updates be dropped until {@link #resumeUpdates()} is called, so synthetic traffic is not
+     * reported. Gauges stay reported.
+     */
+    public void suspendUpdates() {
+        suspendableMetricRegistry.suspend();
+    }
+
+    public void resumeUpdates() {
+        suspendableMetricRegistry.resume();
+    }
+
     public void createDatabaseCircuitBreakerGauge(BooleanSupplier stateSupplier) {
         forCircuitBreakerType(MetricName.db)
                 .createGauge(MetricName.opened, () -> stateSupplier.getAsBoolean() ? 1 : 0);
@@ -551,6 +612,10 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateGeoLocationCacheMetric(boolean hit) {
+        incCounter(hit ? MetricName.geolocation_cache_hit : MetricName.geolocation_cache_miss);
+    }
+
     public void createGeoLocationCircuitBreakerGauge(BooleanSupplier stateSupplier) {
         forCircuitBreakerType(MetricName.geo)
                 .createGauge(MetricName.opened, () -> stateSupplier.getAsBoolean() ? 1 : 0);
@@ -587,6 +652,42 @@ public class Metrics extends UpdatableMetrics {
         forAccount(accountId).cache().creativeSize().updateHistogram(creativeType, creativeSize);
     }
 
+    public void updateCacheBatchSize(int batchSize) {
+        cache().updateHistogram(MetricName.batch_size, batchSize);
+    }
+
+    public void updateCacheBatchAddedLatency(long timeElapsed) {
+        cache().updateTimer(MetricName.batch_added_latency, timeElapsed);
+    }
+
+    public void updateCacheEmbeddedLookupMetric(boolean hit) {
+        cache().embedded().incCounter(hit ? MetricName.hit : MetricName.miss);
+    }
+
+    public void updateCacheEmbeddedEvictionMetric() {
+        cache().embedded().incCounter(MetricName.evictions);
+    }
+
+    public void updateCacheEmbeddedConflictMetric() {
+        cache().embedded().incCounter(MetricName.conflicts);
+    }
+
+    public void createCacheEmbeddedEntriesGauge(LongSupplier entriesSupplier) {
+        cache().embedded().createGauge(MetricName.entries, entriesSupplier);
+    }
+
+    public void createCacheEmbeddedBytesGauge(LongSupplier bytesSupplier) {
+        cache().embedded().createGauge(MetricName.bytes, bytesSupplier);
+    }
+
+    public void createSettingsCacheSnapshotEntriesGauge(MetricName cacheType, LongSupplier entriesSupplier) {
+        forSettingsCacheType(cacheType).snapshot().createGauge(MetricName.entries, entriesSupplier);
+    }
+
+    public void createSettingsCacheSnapshotCharsGauge(MetricName cacheType, LongSupplier charsSupplier) {
+        forSettingsCacheType(cacheType).snapshot().createGauge(MetricName.chars, charsSupplier);
+    }
+
     public void updateTimeoutNotificationMetric(boolean success) {
         if (success) {
             timeoutNotificationMetrics.incCounter(MetricName.ok);
@@ -603,6 +704,10 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).forRefreshType(refreshType).updateTimer(MetricName.db_query_time, timeElapsed);
     }
 
+    public void updateSettingsCacheRefreshRowsMetric(MetricName cacheType, MetricName refreshType, long rows) {
+        forSettingsCacheType(cacheType).forRefreshType(refreshType).incCounter(MetricName.rows, rows);
+    }
+
     public void updateSettingsCacheRefreshErrorMetric(MetricName cacheType, MetricName refreshType) {
         forSettingsCacheType(cacheType).forRefreshType(refreshType).incCounter(MetricName.err);
     }
@@ -630,6 +735,11 @@ public class Metrics extends UpdatableMetrics {
         hookImplMetrics.updateTimer(MetricName.duration, executionTime);
     }
 
+    public void updateHookCpuTimeMetric(String moduleCode, Stage stage, String hookImplCode, long cpuTimeMicros) {
+        hooks().module(moduleCode).stage(stage).hookImpl(hookImplCode)
+                .updateHistogram(MetricName.cpu_time, cpuTimeMicros);
+    }
+
     public void updateAccountHooksMetrics(
             Account account,
             String moduleCode,
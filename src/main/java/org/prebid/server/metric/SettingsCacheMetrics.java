@@ -14,6 +14,7 @@ class SettingsCacheMetrics extends UpdatableMetrics {
 
     private final Function<MetricName, RefreshSettingsCacheMetrics> refreshSettingsCacheMetricsCreator;
     private final Map<MetricName, RefreshSettingsCacheMetrics> refreshSettingsCacheMetrics;
+    private final SnapshotSettingsCacheMetrics snapshotSettingsCacheMetrics;
 
     SettingsCacheMetrics(MetricRegistry metricRegistry, CounterType counterType, MetricName type) {
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
@@ -22,12 +23,18 @@ class SettingsCacheMetrics extends UpdatableMetrics {
         refreshSettingsCacheMetricsCreator = refreshType ->
                 new RefreshSettingsCacheMetrics(metricRegistry, counterType, createPrefix(type), refreshType);
         refreshSettingsCacheMetrics = new HashMap<>();
+        snapshotSettingsCacheMetrics =
+                new SnapshotSettingsCacheMetrics(metricRegistry, counterType, createPrefix(type));
     }
 
     RefreshSettingsCacheMetrics forRefreshType(MetricName refreshType) {
         return refreshSettingsCacheMetrics.computeIfAbsent(refreshType, refreshSettingsCacheMetricsCreator);
     }
 
+    SnapshotSettingsCacheMetrics snapshot() {
+        return snapshotSettingsCacheMetrics;
+    }
+
     private static String createPrefix(MetricName type) {
         return "settings.cache." + type.toString();
     }
@@ -55,4 +62,16 @@ class SettingsCacheMetrics extends UpdatableMetrics {
             return metricName -> "%s.%s".formatted(prefix, metricName);
         }
     }
+
+    static class SnapshotSettingsCacheMetrics extends UpdatableMetrics {
+
+        SnapshotSettingsCacheMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+            super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                    nameCreator(Objects.requireNonNull(prefix) + ".snapshot"));
+        }
+
+        private static Function<MetricName, String> nameCreator(String prefix) {
+            return metricName -> "%s.%s".formatted(prefix, metricName);
+        }
+    }
 }
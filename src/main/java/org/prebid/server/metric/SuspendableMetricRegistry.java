@@ -0,0 +1,77 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.codahale.metrics.UniformReservoir;
+
+import java.util.Objects;
+
+/**
+ * {@link MetricRegistry} view used by {@link Metrics} to submit updates to the underlying registry.
+ * <p>
+ * While updates are suspended, counters, meters, timers and histograms are looked up in detached instances, which
+ * are never reported, so updates made in the meantime are dropped. Gauges and metric removal are not affected.
+ */
+class SuspendableMetricRegistry extends MetricRegistry {
+
+    private static final Counter DETACHED_COUNTER = new Counter();
+    private static final Meter DETACHED_METER = new Meter();
+    private static final Timer DETACHED_TIMER = new Timer();
+    private static final Histogram DETACHED_HISTOGRAM = new Histogram(new UniformReservoir());
+
+    private final MetricRegistry metricRegistry;
+
+    private volatile boolean suspended;
+
+    SuspendableMetricRegistry(MetricRegistry metricRegistry) {
+        this.metricRegistry = Objects.requireNonNull(metricRegistry);
+    }
+
+    void suspend() {
+        suspended = true;
+    }
+
+    void resume() {
+        suspended = false;
+    }
+
+    @Override
+    public Counter counter(String name) {
+        return suspended ? DETACHED_COUNTER : metricRegistry.counter(name);
+    }
+
+    @Override
+    public Counter counter(String name, MetricSupplier<Counter> supplier) {
+        return suspended ? DETACHED_COUNTER : metricRegistry.counter(name, supplier);
+    }
+
+    @Override
+    public Meter meter(String name) {
+        return suspended ? DETACHED_METER : metricRegistry.meter(name);
+    }
+
+    @Override
+    public Timer timer(String name) {
+        return suspended ? DETACHED_TIMER : metricRegistry.timer(name);
+    }
+
+    @Override
+    public Histogram histogram(String name) {
+        return suspended ? DETACHED_HISTOGRAM : metricRegistry.histogram(name);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Gauge gauge(String name, MetricSupplier<Gauge> supplier) {
+        return metricRegistry.gauge(name, supplier);
+    }
+
+    @Override
+    public boolean remove(String name) {
+        return metricRegistry.remove(name);
+    }
+}
@@ -0,0 +1,103 @@
+package org.prebid.server.privacy.gdpr;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iabtcf.decoder.TCString;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes TCF consent strings.
+ * <p>
+ * Decoded TCF v2 consent strings can be cached, since a large share of the traffic carries identical consent
+ * string produced by the same CMP. Cache is bounded by the total length of cached consent strings, which
+ * the size of decoded consent is proportional to. Vendor list version is encoded in the consent string itself,
+ * so the consent string is sufficient as a cache key.
+ */
+public class TcStringDecoder {
+
+    private static final int TCF_V2_VERSION = 2;
+
+    private final Metrics metrics;
+
+    private final Cache<String, TCString> cache;
+
+    private TcStringDecoder(Cache<String, TCString> cache, Metrics metrics) {
+        this.cache = cache;
+        this.metrics = metrics;
+    }
+
+    public static TcStringDecoder create() {
+        return new TcStringDecoder(null, null);
+    }
+
+    public static TcStringDecoder caching(long maxSizeBytes, long ttlMs, Metrics metrics) {
+        final Cache<String, TCString> cache = Caffeine.newBuilder()
+                .maximumWeight(maxSizeBytes)
+                .<String, TCString>weigher((consentString, ignored) -> consentString.length())
+                .expireAfterAccess(ttlMs, TimeUnit.MILLISECONDS)
+                .build();
+
+        return new TcStringDecoder(cache, Objects.requireNonNull(metrics));
+    }
+
+    /**
+     * Returns decoded {@link TCString}. Throws the same exceptions as {@link TCString#decode}.
+     */
+    public TCString decode(String consentString) {
+        if (cache == null) {
+            return TCString.decode(consentString);
+        }
+
+        final TCString cachedTcString = cache.getIfPresent(consentString);
+        metrics.updatePrivacyTcfConsentCacheMetric(cachedTcString != null);
+        if (cachedTcString != null) {
+            return cachedTcString;
+        }
+
+        final TCString tcString = TCString.decode(consentString);
+        if (tcString.getVersion() == TCF_V2_VERSION && fullyDecoded(tcString)) {
+            cache.put(consentString, tcString);
+        }
+
+        return tcString;
+    }
+
+    /**
+     * Decoded {@link TCString} reads its fields lazily and memoizes them without synchronization, so it is forced
+     * to read all of them before being shared between threads.
+     */
+    private static boolean fullyDecoded(TCString tcString) {
+        try {
+            tcString.getCreated();
+            tcString.getLastUpdated();
+            tcString.getCmpId();
+            tcString.getCmpVersion();
+            tcString.getConsentScreen();
+            tcString.getConsentLanguage();
+            tcString.getVendorListVersion();
+            tcString.getTcfPolicyVersion();
+            tcString.isServiceSpecific();
+            tcString.getUseNonStandardStacks();
+            tcString.getSpecialFeatureOptIns();
+            tcString.getPurposesConsent();
+            tcString.getPurposesLITransparency();
+            tcString.getPurposeOneTreatment();
+            tcString.getPublisherCC();
+            tcString.getVendorConsent();
+            tcString.getVendorLegitimateInterest();
+            tcString.getPublisherRestrictions();
+            tcString.getAllowedVendors();
+            tcString.getDisclosedVendors();
+            tcString.getPubPurposesConsent();
+            tcString.getPubPurposesLITransparency();
+            tcString.getCustomPurposesConsent();
+            tcString.getCustomPurposesLITransparency();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
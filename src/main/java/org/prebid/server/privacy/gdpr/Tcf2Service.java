@@ -10,6 +10,7 @@ import org.prebid.server.privacy.gdpr.model.VendorPermission;
 import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeStrategy;
 import org.prebid.server.privacy.gdpr.tcfstrategies.specialfeature.SpecialFeaturesStrategy;
+import org.prebid.server.privacy.gdpr.vendorlist.VendorListIndex;
 import org.prebid.server.privacy.gdpr.vendorlist.VendorListServiceV2;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorV2;
@@ -100,11 +101,10 @@ public class Tcf2Service {
         final VendorPermissionsByType<VendorPermission> vendorPermissionsByType = toVendorPermissionsByType(
                 vendorPermissions, accountGdprConfig);
 
-        return vendorListServiceV2.forVersion(tcfConsent.getVendorListVersion())
-                .map(vendorGvlPermissions -> wrapWithGVL(vendorPermissionsByType, vendorGvlPermissions))
-
-                .compose(gvlResult -> processSupportedPurposeStrategies(tcfConsent, gvlResult, mergedPurposes,
-                                purposeOneTreatmentInterpretation),
+        return vendorListServiceV2.indexForVersion(tcfConsent.getVendorListVersion())
+                .compose(vendorListIndex -> processSupportedPurposeStrategies(tcfConsent,
+                                wrapWithGVL(vendorPermissionsByType, vendorListIndex.getVendors()), vendorListIndex,
+                                mergedPurposes, purposeOneTreatmentInterpretation),
                         ignoredFailed -> processDowngradedSupportedPurposeStrategies(tcfConsent,
                                 vendorPermissionsByType, mergedPurposes, mergedPurposeOneTreatmentInterpretation))
 
@@ -166,6 +166,7 @@ public class Tcf2Service {
     private Future<Collection<VendorPermission>> processSupportedPurposeStrategies(
             TCString tcfConsent,
             VendorPermissionsByType<VendorPermissionWithGvl> vendorPermissionsByType,
+            VendorListIndex vendorListIndex,
             Purposes purposes,
             PurposeOneTreatmentInterpretation purposeOneTreatmentInterpretation) {
 
@@ -178,9 +179,9 @@ public class Tcf2Service {
                     .getStandardPermissions();
             final Collection<VendorPermissionWithGvl> weakPermissions = vendorPermissionsByType.getWeakPermissions();
 
-            processPurposeStrategy(tcfConsent, standardPermissions, purposeById, purposeStrategy,
+            processPurposeStrategy(tcfConsent, standardPermissions, vendorListIndex, purposeById, purposeStrategy,
                     purposeOneTreatmentInterpretation, false);
-            processPurposeStrategy(tcfConsent, weakPermissions, weakPurpose, purposeStrategy,
+            processPurposeStrategy(tcfConsent, weakPermissions, vendorListIndex, weakPurpose, purposeStrategy,
                     purposeOneTreatmentInterpretation, true);
         }
 
@@ -208,9 +209,9 @@ public class Tcf2Service {
             final Collection<VendorPermissionWithGvl> weakPermissions = vendorPermissionsWithGvlByType
                     .getWeakPermissions();
 
-            processPurposeStrategy(tcfConsent, standardPermissions, downgradedPurposeById, purposeStrategy,
+            processPurposeStrategy(tcfConsent, standardPermissions, null, downgradedPurposeById, purposeStrategy,
                     purposeOneTreatmentInterpretation, true);
-            processPurposeStrategy(tcfConsent, weakPermissions, weakPurpose, purposeStrategy,
+            processPurposeStrategy(tcfConsent, weakPermissions, null, weakPurpose, purposeStrategy,
                     purposeOneTreatmentInterpretation, true);
         }
 
@@ -219,6 +220,7 @@ public class Tcf2Service {
 
     private void processPurposeStrategy(TCString tcfConsent,
                                         Collection<VendorPermissionWithGvl> vendorPermissionsWithGvl,
+                                        VendorListIndex vendorListIndex,
                                         Purpose purpose,
                                         PurposeStrategy purposeStrategy,
                                         PurposeOneTreatmentInterpretation purposeOneTreatmentInterpretation,
@@ -233,9 +235,11 @@ public class Tcf2Service {
                     purpose,
                     purposeStrategy,
                     vendorPermissionsWithGvl,
+                    vendorListIndex,
                     wasDowngraded);
         } else {
-            purposeStrategy.processTypePurposeStrategy(tcfConsent, purpose, vendorPermissionsWithGvl, wasDowngraded);
+            purposeStrategy.processTypePurposeStrategy(
+                    tcfConsent, purpose, vendorPermissionsWithGvl, vendorListIndex, wasDowngraded);
         }
     }
 
@@ -244,6 +248,7 @@ public class Tcf2Service {
                                             Purpose purposeOne,
                                             PurposeStrategy purposeOneStrategy,
                                             Collection<VendorPermissionWithGvl> vendorPermissionsWithGvl,
+                                            VendorListIndex vendorListIndex,
                                             boolean wasDowngraded) {
 
         switch (purposeOneTreatmentInterpretation) {
@@ -253,7 +258,7 @@ public class Tcf2Service {
                 // no need for special processing of no-access-allowed since everything is disallowed from the beginning
             }
             case ignore -> purposeOneStrategy.processTypePurposeStrategy(
-                    tcfConsent, purposeOne, vendorPermissionsWithGvl, wasDowngraded);
+                    tcfConsent, purposeOne, vendorPermissionsWithGvl, vendorListIndex, wasDowngraded);
         }
     }
 
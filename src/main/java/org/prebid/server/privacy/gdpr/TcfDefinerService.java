@@ -56,6 +56,7 @@ public class TcfDefinerService {
     private final String gdprDefaultValue;
     private final boolean consentStringMeansInScope;
     private final Tcf2Service tcf2Service;
+    private final TcStringDecoder tcStringDecoder;
     private final Set<String> eeaCountries;
     private final GeoLocationService geoLocationService;
     private final BidderCatalog bidderCatalog;
@@ -65,6 +66,7 @@ public class TcfDefinerService {
     public TcfDefinerService(GdprConfig gdprConfig,
                              Set<String> eeaCountries,
                              Tcf2Service tcf2Service,
+                             TcStringDecoder tcStringDecoder,
                              GeoLocationService geoLocationService,
                              BidderCatalog bidderCatalog,
                              IpAddressHelper ipAddressHelper,
@@ -75,6 +77,7 @@ public class TcfDefinerService {
         this.consentStringMeansInScope = gdprConfig != null
                 && BooleanUtils.isTrue(gdprConfig.getConsentStringMeansInScope());
         this.tcf2Service = Objects.requireNonNull(tcf2Service);
+        this.tcStringDecoder = Objects.requireNonNull(tcStringDecoder);
         this.eeaCountries = Objects.requireNonNull(eeaCountries);
         this.geoLocationService = geoLocationService;
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
@@ -343,7 +346,7 @@ public class TcfDefinerService {
 
     private TCString decodeTcString(String consentString, RequestLogInfo requestLogInfo, List<String> warnings) {
         try {
-            return TCString.decode(consentString);
+            return tcStringDecoder.decode(consentString);
         } catch (Exception e) {
             logWarn(consentString, e.getMessage(), requestLogInfo);
             warnings.add("Parsing consent string:\"%s\" - failed. %s".formatted(consentString, e.getMessage()));
@@ -9,6 +9,7 @@ import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.BasicEnforcePurposeStrategy;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.FullEnforcePurposeStrategy;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.NoEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.vendorlist.VendorListIndex;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.settings.model.EnforcePurpose;
 import org.prebid.server.settings.model.Purpose;
@@ -52,18 +53,34 @@ public abstract class PurposeStrategy {
             Collection<VendorPermissionWithGvl> vendorPermissions,
             boolean wasDowngraded) {
 
+        return processTypePurposeStrategy(vendorConsent, purpose, vendorPermissions, null, wasDowngraded);
+    }
+
+    /**
+     * Given {@link VendorListIndex} of the vendor list the permissions were wrapped with lets full enforcement
+     * evaluate vendors without publisher restrictions at once.
+     */
+    public Collection<VendorPermission> processTypePurposeStrategy(
+            TCString vendorConsent,
+            Purpose purpose,
+            Collection<VendorPermissionWithGvl> vendorPermissions,
+            VendorListIndex vendorListIndex,
+            boolean wasDowngraded) {
+
         final Collection<VendorPermissionWithGvl> excludedVendors = excludedVendors(vendorPermissions, purpose);
-        final Collection<VendorPermissionWithGvl> vendorForPurpose = vendorPermissions.stream()
+        final Collection<VendorPermissionWithGvl> vendorForPurpose = excludedVendors.isEmpty()
+                ? vendorPermissions
+                : vendorPermissions.stream()
                 .filter(vendorPermission -> !excludedVendors.contains(vendorPermission))
                 .toList();
 
-        allowedByTypeStrategy(vendorConsent, purpose, vendorForPurpose, excludedVendors).stream()
+        allowedByTypeStrategy(vendorConsent, purpose, vendorForPurpose, excludedVendors, vendorListIndex).stream()
                 .map(VendorPermission::getPrivacyEnforcementAction)
                 .forEach(this::allow);
 
         final Collection<VendorPermission> naturalVendorPermission = wasDowngraded
                 ? allowedByBasicTypeStrategy(vendorConsent, true, vendorForPurpose, excludedVendors)
-                : allowedByFullTypeStrategy(vendorConsent, true, vendorForPurpose, excludedVendors);
+                : allowedByFullTypeStrategy(vendorConsent, true, vendorForPurpose, excludedVendors, vendorListIndex);
 
         naturalVendorPermission.stream()
                 .map(VendorPermission::getPrivacyEnforcementAction)
@@ -77,7 +94,8 @@ public abstract class PurposeStrategy {
     private Collection<VendorPermission> allowedByTypeStrategy(TCString vendorConsent,
                                                                Purpose purpose,
                                                                Collection<VendorPermissionWithGvl> vendorForPurpose,
-                                                               Collection<VendorPermissionWithGvl> excludedVendors) {
+                                                               Collection<VendorPermissionWithGvl> excludedVendors,
+                                                               VendorListIndex vendorListIndex) {
         final boolean isEnforceVendors = BooleanUtils.isNotFalse(purpose.getEnforceVendors());
 
         final EnforcePurpose purposeType = purpose.getEnforcePurpose();
@@ -91,7 +109,8 @@ public abstract class PurposeStrategy {
 
         // Full by default
         if (purposeType == null || purposeType.equals(EnforcePurpose.full)) {
-            return allowedByFullTypeStrategy(vendorConsent, isEnforceVendors, vendorForPurpose, excludedVendors);
+            return allowedByFullTypeStrategy(
+                    vendorConsent, isEnforceVendors, vendorForPurpose, excludedVendors, vendorListIndex);
         }
 
         throw new IllegalArgumentException("Invalid type strategy provided. no/base/full != " + purposeType);
@@ -132,10 +151,11 @@ public abstract class PurposeStrategy {
             TCString vendorConsent,
             boolean isEnforceVendors,
             Collection<VendorPermissionWithGvl> vendorForPurpose,
-            Collection<VendorPermissionWithGvl> excludedVendors) {
+            Collection<VendorPermissionWithGvl> excludedVendors,
+            VendorListIndex vendorListIndex) {
 
         return fullEnforcePurposeStrategy.allowedByTypeStrategy(
-                getPurpose(), vendorConsent, vendorForPurpose, excludedVendors, isEnforceVendors);
+                getPurpose(), vendorConsent, vendorForPurpose, excludedVendors, isEnforceVendors, vendorListIndex);
     }
 }
 
@@ -1,21 +1,22 @@
 package org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies;
 
 import com.iabtcf.decoder.TCString;
-import com.iabtcf.v2.PublisherRestriction;
+import com.iabtcf.utils.BitSetIntIterable;
+import com.iabtcf.utils.IntIterable;
+import com.iabtcf.utils.IntIterator;
 import com.iabtcf.v2.RestrictionType;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.privacy.gdpr.model.VendorPermission;
 import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
+import org.prebid.server.privacy.gdpr.vendorlist.VendorListIndex;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorV2;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
 
@@ -25,70 +26,141 @@ public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
                                                               Collection<VendorPermissionWithGvl> excludedVendors,
                                                               boolean isEnforceVendors) {
 
-        final List<PublisherRestriction> publisherRestrictions = vendorConsent.getPublisherRestrictions().stream()
-                .filter(publisherRestriction -> publisherRestriction.getPurposeId() == purpose.code())
-                .toList();
-
-        final List<VendorPermission> allowedExcluded = allowedExcludedVendorPermission(excludedVendors,
-                publisherRestrictions);
+        return allowedByTypeStrategy(purpose, vendorConsent, vendorsForPurpose, excludedVendors, isEnforceVendors,
+                null);
+    }
 
-        final Map<VendorPermissionWithGvl, RestrictionType> vendorPermissionToRestriction = mapVendorPermission(
-                vendorsForPurpose, publisherRestrictions);
+    /**
+     * When {@link VendorListIndex} is given, vendors without publisher restrictions for the purpose are checked
+     * against allowed vendors evaluated once for the whole vendor list, otherwise each vendor is checked
+     * against its GVL declarations.
+     */
+    public Collection<VendorPermission> allowedByTypeStrategy(PurposeCode purpose,
+                                                              TCString vendorConsent,
+                                                              Collection<VendorPermissionWithGvl> vendorsForPurpose,
+                                                              Collection<VendorPermissionWithGvl> excludedVendors,
+                                                              boolean isEnforceVendors,
+                                                              VendorListIndex vendorListIndex) {
+
+        final PurposeRestrictions purposeRestrictions = PurposeRestrictions.of(purpose, vendorConsent);
+        final BitSet allowedVendors = vendorListIndex != null
+                ? allowedVendors(purpose, isEnforceVendors, vendorConsent, vendorListIndex)
+                : null;
+
+        // vendors for purpose and excluded vendors don't intersect, so there is no need to deduplicate them
+        final List<VendorPermission> allowedVendorPermissions = new ArrayList<>();
+        for (VendorPermissionWithGvl excludedVendor : excludedVendors) {
+            final VendorPermission vendorPermission = excludedVendor.getVendorPermission();
+            if (!purposeRestrictions.isNotAllowed(vendorPermission.getVendorId())) {
+                allowedVendorPermissions.add(vendorPermission);
+            }
+        }
+        for (VendorPermissionWithGvl vendorPermissionWithGvl : vendorsForPurpose) {
+            if (isAllowed(purpose, isEnforceVendors, vendorPermissionWithGvl, vendorConsent, purposeRestrictions,
+                    allowedVendors)) {
 
-        final List<VendorPermission> allowedVendorPermissions = vendorPermissionToRestriction.entrySet().stream()
-                .filter(permissionAndRestriction ->
-                        isAllowedByPublisherRestrictionAndFlexible(purpose, isEnforceVendors,
-                                permissionAndRestriction.getKey(), vendorConsent, permissionAndRestriction.getValue()))
-                .map(Map.Entry::getKey)
-                .map(VendorPermissionWithGvl::getVendorPermission)
-                .toList();
+                allowedVendorPermissions.add(vendorPermissionWithGvl.getVendorPermission());
+            }
+        }
 
-        return CollectionUtils.union(allowedExcluded, allowedVendorPermissions);
+        return allowedVendorPermissions;
     }
 
-    private List<VendorPermission> allowedExcludedVendorPermission(
-            Collection<VendorPermissionWithGvl> excludedVendors,
-            Collection<PublisherRestriction> publisherRestrictions) {
-
-        final List<Integer> notAllowedVendorIds = publisherRestrictions.stream()
-                .filter(publisherRestriction -> publisherRestriction.getRestrictionType()
-                        .equals(RestrictionType.NOT_ALLOWED))
-                .map(PublisherRestriction::getVendorIds)
-                .flatMap(vendorIds -> StreamSupport.stream(vendorIds.spliterator(), false))
-                .toList();
-
-        return excludedVendors.stream()
-                .map(VendorPermissionWithGvl::getVendorPermission)
-                .filter(vendorPermissionWithGvl -> isNotRestricted(notAllowedVendorIds, vendorPermissionWithGvl))
-                .toList();
+    private boolean isAllowed(PurposeCode purpose,
+                              boolean isEnforceVendor,
+                              VendorPermissionWithGvl vendorPermissionWithGvl,
+                              TCString tcString,
+                              PurposeRestrictions purposeRestrictions,
+                              BitSet allowedVendors) {
+
+        final Integer vendorId = vendorPermissionWithGvl.getVendorPermission().getVendorId();
+        if (allowedVendors != null && vendorId != null && vendorId >= 0
+                && !purposeRestrictions.isRestricted(vendorId)) {
+
+            return allowedVendors.get(vendorId);
+        }
+
+        return isAllowedByPublisherRestrictionAndFlexible(
+                purpose, isEnforceVendor, vendorPermissionWithGvl, tcString, purposeRestrictions);
     }
 
-    private boolean isNotRestricted(List<Integer> notAllowedVendorIds, VendorPermission vendorPermission) {
-        final Integer vendorId = vendorPermission.getVendorId();
-        return vendorId == null || !notAllowedVendorIds.contains(vendorId);
+    /**
+     * Evaluates the same rules as {@link #isAllowedByPublisherRestrictionAndFlexible} with
+     * {@link RestrictionType#UNDEFINED} restriction for all vendors of the vendor list at once:
+     * <li>vendors declaring purpose for consent and not as flexible are allowed by consent;</li>
+     * <li>vendors declaring purpose only for legitimate interest and not as flexible are allowed
+     * by legitimate interest;</li>
+     * <li>vendors declaring purpose as flexible are allowed by consent or legitimate interest.</li>
+     */
+    private static BitSet allowedVendors(PurposeCode purpose,
+                                         boolean isEnforceVendors,
+                                         TCString tcString,
+                                         VendorListIndex vendorListIndex) {
+
+        final BitSet purposeVendors = vendorListIndex.purposeVendors(purpose);
+        final BitSet legIntPurposeVendors = vendorListIndex.legIntPurposeVendors(purpose);
+        final BitSet flexiblePurposeVendors = vendorListIndex.flexiblePurposeVendors(purpose);
+
+        final BitSet declaringVendors = (BitSet) purposeVendors.clone();
+        declaringVendors.or(legIntPurposeVendors);
+
+        final BitSet consentVendors = vendorsAllowedByConsents(purpose, isEnforceVendors, declaringVendors,
+                tcString.getPurposesConsent(), tcString.getVendorConsent());
+        final BitSet legitimateInterestVendors = vendorsAllowedByConsents(purpose, isEnforceVendors,
+                declaringVendors, tcString.getPurposesLITransparency(), tcString.getVendorLegitimateInterest());
+
+        // flexible: consent or legitimate interest
+        final BitSet allowedVendors = (BitSet) consentVendors.clone();
+        allowedVendors.or(legitimateInterestVendors);
+        allowedVendors.and(flexiblePurposeVendors);
+
+        // not flexible, declared for consent: consent only
+        consentVendors.and(purposeVendors);
+        consentVendors.andNot(flexiblePurposeVendors);
+        allowedVendors.or(consentVendors);
+
+        // not flexible, declared only for legitimate interest: legitimate interest only
+        legitimateInterestVendors.and(legIntPurposeVendors);
+        legitimateInterestVendors.andNot(purposeVendors);
+        legitimateInterestVendors.andNot(flexiblePurposeVendors);
+        allowedVendors.or(legitimateInterestVendors);
+
+        return allowedVendors;
     }
 
-    private Map<VendorPermissionWithGvl, RestrictionType> mapVendorPermission(
-            Collection<VendorPermissionWithGvl> vendorsForPurpose,
-            Collection<PublisherRestriction> publisherRestrictions) {
+    private static BitSet vendorsAllowedByConsents(PurposeCode purpose,
+                                                   boolean isEnforceVendors,
+                                                   BitSet declaringVendors,
+                                                   IntIterable purposesConsent,
+                                                   IntIterable vendorConsent) {
+
+        if (!purposesConsent.contains(purpose.code())) {
+            return new BitSet();
+        }
+
+        final BitSet allowedVendors = (BitSet) declaringVendors.clone();
+        if (isEnforceVendors) {
+            allowedVendors.and(toBitSet(vendorConsent));
+        }
 
-        return vendorsForPurpose.stream()
-                .collect(Collectors.toMap(
-                        Function.identity(),
-                        vendorPermissionWithGvl -> restrictionType(vendorPermissionWithGvl, publisherRestrictions)));
+        return allowedVendors;
     }
 
-    private RestrictionType restrictionType(VendorPermissionWithGvl vendorPermissionWithGvl,
-                                            Collection<PublisherRestriction> publisherRestrictions) {
+    private static BitSet toBitSet(IntIterable intIterable) {
+        if (intIterable instanceof BitSetIntIterable bitSetIntIterable) {
+            return bitSetIntIterable.toBitSet();
+        }
 
-        final VendorPermission vendorPermission = vendorPermissionWithGvl.getVendorPermission();
-        final Integer vendorId = vendorPermission.getVendorId();
+        final BitSet bitSet = new BitSet();
+        final IntIterator iterator = intIterable.intIterator();
+        while (iterator.hasNext()) {
+            final int value = iterator.nextInt();
+            if (value >= 0) {
+                bitSet.set(value);
+            }
+        }
 
-        return publisherRestrictions.stream()
-                .filter(publisherRestriction -> publisherRestriction.getVendorIds().contains(vendorId))
-                .map(PublisherRestriction::getRestrictionType)
-                .findFirst()
-                .orElse(RestrictionType.UNDEFINED);
+        return bitSet;
     }
 
     /**
@@ -110,13 +182,14 @@ public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
                                                                boolean isEnforceVendor,
                                                                VendorPermissionWithGvl vendorPermissionWithGvl,
                                                                TCString tcString,
-                                                               RestrictionType restrictionType) {
+                                                               PurposeRestrictions purposeRestrictions) {
 
+        final Integer vendorId = vendorPermissionWithGvl.getVendorPermission().getVendorId();
+        final RestrictionType restrictionType = purposeRestrictions.restrictionType(vendorId);
         if (restrictionType.equals(RestrictionType.NOT_ALLOWED)) {
             return false;
         }
 
-        final Integer vendorId = vendorPermissionWithGvl.getVendorPermission().getVendorId();
         final VendorV2 vendorGvl = vendorPermissionWithGvl.getVendorV2();
 
         final EnumSet<PurposeCode> flexiblePurposes = vendorGvl.getFlexiblePurposes();
@@ -0,0 +1,103 @@
+package org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies;
+
+import com.iabtcf.decoder.TCString;
+import com.iabtcf.v2.PublisherRestriction;
+import com.iabtcf.v2.RestrictionType;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Publisher restrictions of the consent string for a single purpose.
+ * <p>
+ * Restrictions are selected once per purpose, and vendors listed in restrictions are flattened into bitsets,
+ * so checking a vendor doesn't require scanning of all restrictions and their vendor lists.
+ */
+class PurposeRestrictions {
+
+    private final List<PublisherRestriction> publisherRestrictions;
+
+    private BitSet restrictedVendors;
+    private BitSet notAllowedVendors;
+
+    private PurposeRestrictions(List<PublisherRestriction> publisherRestrictions) {
+        this.publisherRestrictions = publisherRestrictions;
+    }
+
+    static PurposeRestrictions of(PurposeCode purpose, TCString tcString) {
+        final List<PublisherRestriction> publisherRestrictions = new ArrayList<>();
+        for (PublisherRestriction publisherRestriction : tcString.getPublisherRestrictions()) {
+            if (publisherRestriction.getPurposeId() == purpose.code()) {
+                publisherRestrictions.add(publisherRestriction);
+            }
+        }
+
+        return new PurposeRestrictions(publisherRestrictions);
+    }
+
+    /**
+     * Returns type of the first restriction given vendor is listed in, or {@link RestrictionType#UNDEFINED}.
+     */
+    RestrictionType restrictionType(Integer vendorId) {
+        if (vendorId == null) {
+            return RestrictionType.UNDEFINED;
+        }
+
+        for (PublisherRestriction publisherRestriction : publisherRestrictions) {
+            if (publisherRestriction.getVendorIds().contains(vendorId)) {
+                return publisherRestriction.getRestrictionType();
+            }
+        }
+
+        return RestrictionType.UNDEFINED;
+    }
+
+    /**
+     * Returns true if given vendor is listed in any restriction.
+     */
+    boolean isRestricted(int vendorId) {
+        if (vendorId < 0 || publisherRestrictions.isEmpty()) {
+            return false;
+        }
+
+        if (restrictedVendors == null) {
+            restrictedVendors = vendorsRestrictedBy(publisherRestrictions, null);
+        }
+
+        return restrictedVendors.get(vendorId);
+    }
+
+    /**
+     * Returns true if given vendor is listed in any {@link RestrictionType#NOT_ALLOWED} restriction.
+     */
+    boolean isNotAllowed(Integer vendorId) {
+        if (vendorId == null || vendorId < 0 || publisherRestrictions.isEmpty()) {
+            return false;
+        }
+
+        if (notAllowedVendors == null) {
+            notAllowedVendors = vendorsRestrictedBy(publisherRestrictions, RestrictionType.NOT_ALLOWED);
+        }
+
+        return notAllowedVendors.get(vendorId);
+    }
+
+    /**
+     * Collects vendors listed in restrictions of given type, or in all restrictions if type is null.
+     */
+    private static BitSet vendorsRestrictedBy(List<PublisherRestriction> publisherRestrictions,
+                                              RestrictionType restrictionType) {
+
+        final BitSet vendors = new BitSet();
+        for (PublisherRestriction publisherRestriction : publisherRestrictions) {
+            if (restrictionType == null || publisherRestriction.getRestrictionType() == restrictionType) {
+                publisherRestriction.getVendorIds().spliterator()
+                        .forEachRemaining((Integer vendorId) -> vendors.set(vendorId));
+            }
+        }
+
+        return vendors;
+    }
+}
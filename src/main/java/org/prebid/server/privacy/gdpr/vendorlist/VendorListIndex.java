@@ -0,0 +1,90 @@
+package org.prebid.server.privacy.gdpr.vendorlist;
+
+import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorV2;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Vendor list of a single version precompiled for enforcement.
+ * <p>
+ * Besides vendors by id, it holds for each purpose bitsets of vendor ids that declare the purpose for consent,
+ * for legitimate interest and as flexible, so purpose enforcement can be evaluated for all vendors at once
+ * with bitset operations.
+ */
+public class VendorListIndex {
+
+    private static final BitSet EMPTY = new BitSet();
+
+    private final Map<Integer, VendorV2> vendors;
+
+    private final Map<PurposeCode, BitSet> purposeVendors;
+    private final Map<PurposeCode, BitSet> legIntPurposeVendors;
+    private final Map<PurposeCode, BitSet> flexiblePurposeVendors;
+
+    private VendorListIndex(Map<Integer, VendorV2> vendors) {
+        this.vendors = vendors;
+
+        purposeVendors = new EnumMap<>(PurposeCode.class);
+        legIntPurposeVendors = new EnumMap<>(PurposeCode.class);
+        flexiblePurposeVendors = new EnumMap<>(PurposeCode.class);
+
+        for (Map.Entry<Integer, VendorV2> entry : vendors.entrySet()) {
+            final Integer vendorId = entry.getKey();
+            final VendorV2 vendor = entry.getValue();
+            if (vendorId == null || vendorId < 0 || vendor == null) {
+                continue;
+            }
+
+            index(purposeVendors, vendor.getPurposes(), vendorId);
+            index(legIntPurposeVendors, vendor.getLegIntPurposes(), vendorId);
+            index(flexiblePurposeVendors, vendor.getFlexiblePurposes(), vendorId);
+        }
+    }
+
+    public static VendorListIndex of(Map<Integer, VendorV2> vendors) {
+        return new VendorListIndex(Objects.requireNonNull(vendors));
+    }
+
+    private static void index(Map<PurposeCode, BitSet> purposeToVendors,
+                              Collection<PurposeCode> purposes,
+                              int vendorId) {
+
+        if (purposes == null) {
+            return;
+        }
+
+        for (PurposeCode purpose : purposes) {
+            purposeToVendors.computeIfAbsent(purpose, ignored -> new BitSet()).set(vendorId);
+        }
+    }
+
+    public Map<Integer, VendorV2> getVendors() {
+        return vendors;
+    }
+
+    /**
+     * Returns ids of vendors declaring given purpose for consent. Returned bitset must not be modified.
+     */
+    public BitSet purposeVendors(PurposeCode purpose) {
+        return purposeVendors.getOrDefault(purpose, EMPTY);
+    }
+
+    /**
+     * Returns ids of vendors declaring given purpose for legitimate interest. Returned bitset must not be modified.
+     */
+    public BitSet legIntPurposeVendors(PurposeCode purpose) {
+        return legIntPurposeVendors.getOrDefault(purpose, EMPTY);
+    }
+
+    /**
+     * Returns ids of vendors declaring given purpose as flexible. Returned bitset must not be modified.
+     */
+    public BitSet flexiblePurposeVendors(PurposeCode purpose) {
+        return flexiblePurposeVendors.getOrDefault(purpose, EMPTY);
+    }
+}
@@ -24,11 +24,11 @@ import org.prebid.server.vertx.http.model.HttpClientResponse;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * Works with GDPR Vendor List.
@@ -41,12 +41,19 @@ import java.util.stream.Collectors;
  * So, on service creation we initialize in-memory cache from previously loaded vendor list on file system.
  * If request asks version that is absent in cache, we respond with failed result but start background process
  * to download new version and then put it to cache.
+ * <p>
+ * Every downloaded vendor list is also stored on file system as a compact snapshot containing only the vendors
+ * data used for enforcement, so it can be loaded on startup without parsing the whole vendor list again.
+ * <p>
+ * Optionally, the version following the latest known one is polled periodically, so new vendor list is usually
+ * available before the first request referring to it.
  */
 public abstract class VendorListService<T, V> {
 
     private static final Logger logger = LoggerFactory.getLogger(VendorListService.class);
 
     private static final String JSON_SUFFIX = ".json";
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
     private static final String VERSION_PLACEHOLDER = "{VERSION}";
 
     private final String cacheDir;
@@ -68,11 +75,13 @@ public abstract class VendorListService<T, V> {
 
     private final Map<Integer, V> fallbackVendorList;
     private final Set<Integer> versionsToFallback;
+    private final Set<Integer> versionsInProgress;
 
     public VendorListService(String cacheDir,
                              String endpointTemplate,
                              int defaultTimeoutMs,
                              long refreshMissingListPeriodMs,
+                             long prefetchPeriodMs,
                              boolean deprecated,
                              Integer gdprHostVendorId,
                              String fallbackVendorListPath,
@@ -104,6 +113,12 @@ public abstract class VendorListService<T, V> {
         }
         versionsToFallback = fallbackVendorList != null
                 ? ConcurrentHashMap.newKeySet() : null;
+        versionsInProgress = ConcurrentHashMap.newKeySet();
+
+        metrics.createPrivacyTcfVendorListLatestVersionGauge(getTcfVersion(), this::latestVersion);
+        if (prefetchPeriodMs > 0 && !deprecated) {
+            vertx.setPeriodic(prefetchPeriodMs, ignored -> prefetchNextVersion());
+        }
     }
 
     private void validateFallbackVendorListIfDeprecatedVersion() {
@@ -153,6 +168,16 @@ public abstract class VendorListService<T, V> {
      */
     protected abstract Map<Integer, V> filterVendorIdToVendors(T vendorList);
 
+    /**
+     * Creates compact snapshot content holding only the vendors data used for enforcement.
+     */
+    protected abstract String toSnapshot(Map<Integer, V> vendorIdToVendors);
+
+    /**
+     * Creates a Map of vendor id to Vendors from snapshot content or throw {@link PreBidException}.
+     */
+    protected abstract Map<Integer, V> fromSnapshot(String content);
+
     /**
      * Verifies all significant fields of given {@link T} object.
      */
@@ -181,32 +206,54 @@ public abstract class VendorListService<T, V> {
 
     /**
      * Creates the cache from previously downloaded vendor lists.
+     * <p>
+     * Snapshot is preferred over vendor list file if present. Missing or broken snapshot is recreated
+     * from the vendor list file.
      */
     private Map<Integer, Map<Integer, V>> createCache(FileSystem fileSystem, String cacheDir) {
-        final Map<String, String> versionToFileContent = readFileSystemCache(fileSystem, cacheDir);
+        final Set<String> filepaths = new HashSet<>(fileSystem.readDirBlocking(cacheDir));
 
         final Map<Integer, Map<Integer, V>> cache = Caffeine.newBuilder()
                 .<Integer, Map<Integer, V>>build()
                 .asMap();
 
-        for (Map.Entry<String, String> versionAndFileContent : versionToFileContent.entrySet()) {
-            final T vendorList = toVendorList(versionAndFileContent.getValue());
-            final Map<Integer, V> vendorIdToVendors = filterVendorIdToVendors(vendorList);
+        for (String filepath : filepaths) {
+            if (filepath.endsWith(JSON_SUFFIX)) {
+                final String version = StringUtils.removeEnd(new File(filepath).getName(), JSON_SUFFIX);
+                final String snapshotPath = StringUtils.removeEnd(filepath, JSON_SUFFIX) + SNAPSHOT_SUFFIX;
 
-            cache.put(Integer.valueOf(versionAndFileContent.getKey()), vendorIdToVendors);
+                final Map<Integer, V> snapshot = filepaths.contains(snapshotPath) ? readSnapshot(snapshotPath) : null;
+                final Map<Integer, V> vendorIdToVendors = snapshot != null
+                        ? snapshot
+                        : createSnapshot(fileSystem.readFileBlocking(filepath).toString(), snapshotPath);
+
+                cache.put(Integer.valueOf(version), vendorIdToVendors);
+            }
         }
         return cache;
     }
 
-    /**
-     * Reads files with .json extension in configured directory and
-     * returns a {@link Map} where key is a file name without .json extension and value is file content.
-     */
-    private Map<String, String> readFileSystemCache(FileSystem fileSystem, String dir) {
-        return fileSystem.readDirBlocking(dir).stream()
-                .filter(filepath -> filepath.endsWith(JSON_SUFFIX))
-                .collect(Collectors.toMap(filepath -> StringUtils.removeEnd(new File(filepath).getName(), JSON_SUFFIX),
-                        filename -> fileSystem.readFileBlocking(filename).toString()));
+    private Map<Integer, V> readSnapshot(String snapshotPath) {
+        try {
+            return fromSnapshot(fileSystem.readFileBlocking(snapshotPath).toString());
+        } catch (RuntimeException e) {
+            logger.warn("Cannot read TCF {0} vendor list snapshot {1}: {2}", getTcfVersion(), snapshotPath,
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    private Map<Integer, V> createSnapshot(String vendorListContent, String snapshotPath) {
+        final Map<Integer, V> vendorIdToVendors = filterVendorIdToVendors(toVendorList(vendorListContent));
+
+        try {
+            fileSystem.writeFileBlocking(snapshotPath, Buffer.buffer(toSnapshot(vendorIdToVendors)));
+        } catch (RuntimeException e) {
+            logger.warn("Cannot write TCF {0} vendor list snapshot {1}: {2}", getTcfVersion(), snapshotPath,
+                    e.getMessage());
+        }
+
+        return vendorIdToVendors;
     }
 
     private Map<Integer, V> readFallbackVendorList(String fallbackVendorListPath) {
@@ -223,17 +270,57 @@ public abstract class VendorListService<T, V> {
         return deprecated || (versionsToFallback != null && versionsToFallback.contains(version));
     }
 
+    private long latestVersion() {
+        return cache.keySet().stream()
+                .mapToInt(Integer::intValue)
+                .max()
+                .orElse(0);
+    }
+
+    /**
+     * Proceeds obtaining the vendor list following the latest known version, if it is not available yet.
+     */
+    private void prefetchNextVersion() {
+        final long latestVersion = latestVersion();
+        if (latestVersion <= 0) {
+            return;
+        }
+
+        final int nextVersion = (int) latestVersion + 1;
+        if (cache.containsKey(nextVersion) || !versionsInProgress.add(nextVersion)) {
+            return;
+        }
+
+        fetchVendorList(nextVersion)
+                .map(vendorListResult -> {
+                    metrics.updatePrivacyTcfVendorListPrefetchedMetric(getTcfVersion());
+                    return updateCache(vendorListResult);
+                })
+                // next version is usually not published yet, so failures are expected here
+                .otherwise(exception -> handlePrefetchError(exception, nextVersion))
+                .onComplete(ignored -> versionsInProgress.remove(nextVersion));
+    }
+
     /**
      * Proceeds obtaining new vendor list from HTTP resource.
      */
     private void fetchNewVendorListFor(int version) {
+        if (!versionsInProgress.add(version)) {
+            return;
+        }
+
+        fetchVendorList(version)
+                .map(this::updateCache)
+                .otherwise(exception -> handleError(exception, version))
+                .onComplete(ignored -> versionsInProgress.remove(version));
+    }
+
+    private Future<VendorListResult<T>> fetchVendorList(int version) {
         final String url = endpointTemplate.replace(VERSION_PLACEHOLDER, String.valueOf(version));
 
-        httpClient.get(url, defaultTimeoutMs)
+        return httpClient.get(url, defaultTimeoutMs)
                 .map(response -> processResponse(response, version))
-                .compose(this::saveToFile)
-                .map(this::updateCache)
-                .otherwise(exception -> handleError(exception, version));
+                .compose(this::saveToFile);
     }
 
     /**
@@ -285,8 +372,10 @@ public abstract class VendorListService<T, V> {
 
     private Void updateCache(VendorListResult<T> vendorListResult) {
         final int version = vendorListResult.getVersion();
+        final Map<Integer, V> vendorIdToVendors = filterVendorIdToVendors(vendorListResult.getVendorList());
 
-        cache.put(version, filterVendorIdToVendors(vendorListResult.getVendorList()));
+        cache.put(version, vendorIdToVendors);
+        saveSnapshot(version, vendorIdToVendors);
 
         final int tcf = getTcfVersion();
 
@@ -299,6 +388,28 @@ public abstract class VendorListService<T, V> {
         return null;
     }
 
+    /**
+     * Saves snapshot of the given vendor list on file system. Failure is not critical, since snapshot
+     * will be recreated from the vendor list file on the next startup.
+     */
+    private void saveSnapshot(int version, Map<Integer, V> vendorIdToVendors) {
+        final String filepath = new File(cacheDir, version + SNAPSHOT_SUFFIX).getPath();
+
+        fileSystem.writeFile(filepath, Buffer.buffer(toSnapshot(vendorIdToVendors)), result -> {
+            if (result.failed()) {
+                logger.warn("Could not create TCF {0} vendor list snapshot for version {1}, file: {2}",
+                        getTcfVersion(), version, filepath);
+            }
+        });
+    }
+
+    private Void handlePrefetchError(Throwable exception, int version) {
+        logger.debug("TCF {0} vendor list for version {1} is not prefetched: {2}",
+                getTcfVersion(), version, exception.getMessage());
+
+        return null;
+    }
+
     /**
      * Handles errors occurred while HTTP or File System processing.
      */
@@ -1,20 +1,27 @@
 package org.prebid.server.privacy.gdpr.vendorlist;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorListV2;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorV2;
 import org.prebid.server.vertx.http.HttpClient;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -24,10 +31,18 @@ public class VendorListServiceV2 extends VendorListService<VendorListV2, VendorV
 
     private static final int TCF_VERSION = 2;
 
+    private static final String SNAPSHOT_FORMAT = "tcf2-vendors-v1";
+    private static final char SNAPSHOT_SEPARATOR = ',';
+
+    private final Cache<Map<Integer, VendorV2>, VendorListIndex> indexes = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
     public VendorListServiceV2(String cacheDir,
                                String endpointTemplate,
                                int defaultTimeoutMs,
                                long refreshMissingListPeriodMs,
+                               long prefetchPeriodMs,
                                boolean deprecated,
                                Integer gdprHostVendorId,
                                String fallbackVendorListPath,
@@ -43,6 +58,7 @@ public class VendorListServiceV2 extends VendorListService<VendorListV2, VendorV
                 endpointTemplate,
                 defaultTimeoutMs,
                 refreshMissingListPeriodMs,
+                prefetchPeriodMs,
                 deprecated,
                 gdprHostVendorId,
                 fallbackVendorListPath,
@@ -54,6 +70,15 @@ public class VendorListServiceV2 extends VendorListService<VendorListV2, VendorV
                 mapper);
     }
 
+    /**
+     * Returns vendor list of given version precompiled for enforcement.
+     * <p>
+     * Index is built once per vendor list held by the service and is dropped together with it.
+     */
+    public Future<VendorListIndex> indexForVersion(int version) {
+        return forVersion(version).map(vendors -> indexes.get(vendors, VendorListIndex::of));
+    }
+
     protected VendorListV2 toVendorList(String content) {
         try {
             return mapper.mapper().readValue(content, VendorListV2.class);
@@ -65,9 +90,89 @@ public class VendorListServiceV2 extends VendorListService<VendorListV2, VendorV
         }
     }
 
+    /**
+     * Keeps only vendors data used for enforcement: purposes declared for consent, legitimate interest
+     * and flexible purposes.
+     */
     protected Map<Integer, VendorV2> filterVendorIdToVendors(VendorListV2 vendorList) {
         return vendorList.getVendors().entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> enforcementData(entry.getValue())));
+    }
+
+    private static VendorV2 enforcementData(VendorV2 vendor) {
+        return enforcementData(vendor.getId(), vendor.getPurposes(), vendor.getLegIntPurposes(),
+                vendor.getFlexiblePurposes());
+    }
+
+    private static VendorV2 enforcementData(Integer id,
+                                            EnumSet<PurposeCode> purposes,
+                                            EnumSet<PurposeCode> legIntPurposes,
+                                            EnumSet<PurposeCode> flexiblePurposes) {
+
+        return VendorV2.empty(id).toBuilder()
+                .purposes(purposes)
+                .legIntPurposes(legIntPurposes)
+                .flexiblePurposes(flexiblePurposes)
+                .build();
+    }
+
+    /**
+     * Writes snapshot as a format line followed by a line per vendor with its id and purposes as bit masks
+     * of purpose codes: {@code id,purposes,legIntPurposes,flexiblePurposes}.
+     */
+    protected String toSnapshot(Map<Integer, VendorV2> vendorIdToVendors) {
+        final StringBuilder snapshot = new StringBuilder(SNAPSHOT_FORMAT);
+        vendorIdToVendors.forEach((id, vendor) -> snapshot.append('\n')
+                .append(id).append(SNAPSHOT_SEPARATOR)
+                .append(toMask(vendor.getPurposes())).append(SNAPSHOT_SEPARATOR)
+                .append(toMask(vendor.getLegIntPurposes())).append(SNAPSHOT_SEPARATOR)
+                .append(toMask(vendor.getFlexiblePurposes())));
+        return snapshot.toString();
+    }
+
+    protected Map<Integer, VendorV2> fromSnapshot(String content) {
+        final String[] lines = StringUtils.split(content, '\n');
+        if (lines.length < 2 || !SNAPSHOT_FORMAT.equals(lines[0])) {
+            throw new PreBidException("Vendor list snapshot has unknown format");
+        }
+
+        final Map<Integer, VendorV2> vendorIdToVendors = new HashMap<>(lines.length * 4 / 3 + 1);
+        for (int i = 1; i < lines.length; i++) {
+            final String[] values = StringUtils.split(lines[i], SNAPSHOT_SEPARATOR);
+            if (values.length != 4) {
+                throw new PreBidException("Vendor list snapshot has invalid line: " + lines[i]);
+            }
+
+            try {
+                final Integer id = Integer.valueOf(values[0]);
+                vendorIdToVendors.put(id, enforcementData(id,
+                        fromMask(Integer.parseInt(values[1])),
+                        fromMask(Integer.parseInt(values[2])),
+                        fromMask(Integer.parseInt(values[3]))));
+            } catch (NumberFormatException e) {
+                throw new PreBidException("Vendor list snapshot has invalid line: " + lines[i], e);
+            }
+        }
+
+        return vendorIdToVendors;
+    }
+
+    private static int toMask(EnumSet<PurposeCode> purposes) {
+        int mask = 0;
+        for (PurposeCode purpose : purposes) {
+            mask |= 1 << purpose.code();
+        }
+        return mask;
+    }
+
+    private static EnumSet<PurposeCode> fromMask(int mask) {
+        final EnumSet<PurposeCode> purposes = EnumSet.noneOf(PurposeCode.class);
+        for (PurposeCode purpose : PurposeCode.values()) {
+            if ((mask & (1 << purpose.code())) != 0) {
+                purposes.add(purpose);
+            }
+        }
+        return purposes;
     }
 
     protected boolean isValid(VendorListV2 vendorList) {
@@ -23,6 +23,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Adds caching functionality for {@link ApplicationSettings} implementation.
@@ -177,16 +178,13 @@ public class CachingApplicationSettings implements ApplicationSettings {
         final String normalizedAccountId = StringUtils.stripToNull(accountId);
 
         // search in cache
-        final Map<String, Set<StoredItem>> requestCache = cache.getRequestCache();
-        final Map<String, Set<StoredItem>> impCache = cache.getImpCache();
-
         final Set<String> missedRequestIds = new HashSet<>();
         final Map<String, String> storedIdToRequest = getFromCacheOrAddMissedIds(normalizedAccountId, requestIds,
-                requestCache, missedRequestIds);
+                cache::getRequest, missedRequestIds);
 
         final Set<String> missedImpIds = new HashSet<>();
-        final Map<String, String> storedIdToImp = getFromCacheOrAddMissedIds(normalizedAccountId, impIds, impCache,
-                missedImpIds);
+        final Map<String, String> storedIdToImp = getFromCacheOrAddMissedIds(normalizedAccountId, impIds,
+                cache::getImp, missedImpIds);
 
         if (missedRequestIds.isEmpty() && missedImpIds.isEmpty()) {
             return Future.succeededFuture(
@@ -224,14 +222,14 @@ public class CachingApplicationSettings implements ApplicationSettings {
 
     private static Map<String, String> getFromCacheOrAddMissedIds(String accountId,
                                                                   Set<String> ids,
-                                                                  Map<String, Set<StoredItem>> cache,
+                                                                  Function<String, Set<StoredItem>> cache,
                                                                   Set<String> missedIds) {
 
         final Map<String, String> idToStoredItem = new HashMap<>(ids.size());
 
         for (String id : ids) {
             try {
-                final StoredItem resolvedStoredItem = StoredItemResolver.resolve(null, accountId, id, cache.get(id));
+                final StoredItem resolvedStoredItem = StoredItemResolver.resolve(null, accountId, id, cache.apply(id));
                 idToStoredItem.put(id, resolvedStoredItem.getData());
             } catch (PreBidException e) {
                 missedIds.add(id);
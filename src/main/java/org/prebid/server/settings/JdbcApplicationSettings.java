@@ -17,6 +17,7 @@ import org.prebid.server.settings.model.StoredResponseDataResult;
 import org.prebid.server.vertx.jdbc.JdbcClient;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -185,12 +186,13 @@ public class JdbcApplicationSettings implements ApplicationSettings {
      */
     @Override
     public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
+        final List<Object> bucketedResponseIds = bucketed(responseIds);
         final String queryResolvedWithParameters = selectStoredResponsesQuery.replaceAll(RESPONSE_ID_PLACEHOLDER,
-                parameterHolders(responseIds.size()));
+                parameterHolders(bucketedResponseIds.size()));
 
         final List<Object> idsQueryParameters = new ArrayList<>();
         IntStream.rangeClosed(1, StringUtils.countMatches(selectStoredResponsesQuery, RESPONSE_ID_PLACEHOLDER))
-                .forEach(i -> idsQueryParameters.addAll(responseIds));
+                .forEach(i -> idsQueryParameters.addAll(bucketedResponseIds));
 
         return jdbcClient.executeQuery(queryResolvedWithParameters, idsQueryParameters,
                 result -> JdbcStoredResponseResultMapper.map(result, responseIds), timeout);
@@ -207,13 +209,17 @@ public class JdbcApplicationSettings implements ApplicationSettings {
             future = Future.succeededFuture(
                     StoredDataResult.of(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList()));
         } else {
+            final List<Object> bucketedRequestIds = bucketed(requestIds);
+            final List<Object> bucketedImpIds = bucketed(impIds);
+
             final List<Object> idsQueryParameters = new ArrayList<>();
             IntStream.rangeClosed(1, StringUtils.countMatches(query, REQUEST_ID_PLACEHOLDER))
-                    .forEach(i -> idsQueryParameters.addAll(requestIds));
+                    .forEach(i -> idsQueryParameters.addAll(bucketedRequestIds));
             IntStream.rangeClosed(1, StringUtils.countMatches(query, IMP_ID_PLACEHOLDER))
-                    .forEach(i -> idsQueryParameters.addAll(impIds));
+                    .forEach(i -> idsQueryParameters.addAll(bucketedImpIds));
 
-            final String parametrizedQuery = createParametrizedQuery(query, requestIds.size(), impIds.size());
+            final String parametrizedQuery = createParametrizedQuery(
+                    query, bucketedRequestIds.size(), bucketedImpIds.size());
             future = jdbcClient.executeQuery(parametrizedQuery, idsQueryParameters,
                     result -> JdbcStoredDataResultMapper.map(result, accountId, requestIds, impIds),
                     timeout);
@@ -232,6 +238,26 @@ public class JdbcApplicationSettings implements ApplicationSettings {
                 .replace(IMP_ID_PLACEHOLDER, parameterHolders(impIdsSize));
     }
 
+    /**
+     * Pads given ids up to the next power of two by repeating the last one.
+     * <p>
+     * This keeps the number of distinct query texts small, so prepared statements cached by the database driver
+     * are reused instead of being re-created for each new number of ids. Repeated ids don't affect IN-list result.
+     */
+    private static List<Object> bucketed(Collection<String> ids) {
+        final List<Object> result = new ArrayList<>(CollectionUtils.emptyIfNull(ids));
+        if (result.isEmpty()) {
+            return result;
+        }
+
+        final int bucketSize = Integer.highestOneBit(result.size() - 1) << 1;
+        final Object lastId = result.get(result.size() - 1);
+        while (result.size() < bucketSize) {
+            result.add(lastId);
+        }
+        return result;
+    }
+
     /**
      * Returns string for parametrized placeholder.
      */
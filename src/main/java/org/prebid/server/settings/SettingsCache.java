@@ -44,6 +44,14 @@ public class SettingsCache implements CacheNotificationListener {
         return impCache;
     }
 
+    Set<StoredItem> getRequest(String id) {
+        return requestCache.get(id);
+    }
+
+    Set<StoredItem> getImp(String id) {
+        return impCache.get(id);
+    }
+
     void saveRequestCache(String accountId, String requestId, String requestValue) {
         saveCachedValue(requestCache, accountId, requestId, requestValue);
     }
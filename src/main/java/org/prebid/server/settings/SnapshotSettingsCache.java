@@ -0,0 +1,136 @@
+package org.prebid.server.settings;
+
+import lombok.Value;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.StoredItem;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link SettingsCache} which keeps the whole dataset pushed by periodic refresh services as an immutable snapshot.
+ * <p>
+ * Snapshot entries are owned by refresh service, so they are never expired or evicted: each save or invalidation
+ * builds new snapshot and swaps it, while lookups read the current one without any locking. Stored data fetched
+ * on snapshot misses is still kept in the regular expiring cache.
+ */
+public class SnapshotSettingsCache extends SettingsCache {
+
+    private volatile Snapshot requestSnapshot;
+    private volatile Snapshot impSnapshot;
+
+    public SnapshotSettingsCache(int ttl, int size, MetricName cacheType, Metrics metrics) {
+        super(ttl, size);
+
+        requestSnapshot = Snapshot.EMPTY;
+        impSnapshot = Snapshot.EMPTY;
+
+        metrics.createSettingsCacheSnapshotEntriesGauge(
+                cacheType, () -> requestSnapshot.size() + impSnapshot.size());
+        metrics.createSettingsCacheSnapshotCharsGauge(
+                cacheType, () -> requestSnapshot.getChars() + impSnapshot.getChars());
+    }
+
+    @Override
+    Set<StoredItem> getRequest(String id) {
+        final Set<StoredItem> storedItems = requestSnapshot.get(id);
+        return storedItems != null ? storedItems : super.getRequest(id);
+    }
+
+    @Override
+    Set<StoredItem> getImp(String id) {
+        final Set<StoredItem> storedItems = impSnapshot.get(id);
+        return storedItems != null ? storedItems : super.getImp(id);
+    }
+
+    /**
+     * Saves given stored requests and imps for NULL account to the snapshot.
+     */
+    @Override
+    public synchronized void save(Map<String, String> requests, Map<String, String> imps) {
+        if (MapUtils.isNotEmpty(requests)) {
+            requestSnapshot = requestSnapshot.with(requests);
+        }
+        if (MapUtils.isNotEmpty(imps)) {
+            impSnapshot = impSnapshot.with(imps);
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(List<String> requests, List<String> imps) {
+        super.invalidate(requests, imps);
+
+        if (CollectionUtils.isNotEmpty(requests)) {
+            requestSnapshot = requestSnapshot.without(requests);
+        }
+        if (CollectionUtils.isNotEmpty(imps)) {
+            impSnapshot = impSnapshot.without(imps);
+        }
+    }
+
+    /**
+     * Values are wrapped to {@link StoredItem}s once on save, so lookups return them as is.
+     */
+    @Value
+    private static class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Collections.emptyMap(), 0L);
+
+        Map<String, Set<StoredItem>> values;
+
+        long chars;
+
+        int size() {
+            return values.size();
+        }
+
+        Set<StoredItem> get(String id) {
+            return values.get(id);
+        }
+
+        Snapshot with(Map<String, String> saved) {
+            final Map<String, Set<StoredItem>> updated = new HashMap<>(values);
+            long updatedChars = chars;
+            for (Map.Entry<String, String> entry : saved.entrySet()) {
+                final String id = entry.getKey();
+                final String value = entry.getValue();
+
+                final Set<StoredItem> previous = value != null
+                        ? updated.put(id, Collections.singleton(StoredItem.of(null, value)))
+                        : updated.remove(id);
+
+                updatedChars += charsOf(id, value) - (previous != null ? charsOf(id, valueOf(previous)) : 0L);
+            }
+            return new Snapshot(Collections.unmodifiableMap(updated), updatedChars);
+        }
+
+        Snapshot without(Collection<String> invalidated) {
+            final Map<String, Set<StoredItem>> updated = new HashMap<>(values);
+            long updatedChars = chars;
+            for (String id : invalidated) {
+                final Set<StoredItem> previous = updated.remove(id);
+                if (previous != null) {
+                    updatedChars -= charsOf(id, valueOf(previous));
+                }
+            }
+            return updated.size() != values.size()
+                    ? new Snapshot(Collections.unmodifiableMap(updated), updatedChars)
+                    : this;
+        }
+
+        private static String valueOf(Set<StoredItem> storedItems) {
+            return storedItems.iterator().next().getData();
+        }
+
+        private static long charsOf(String id, String value) {
+            return value != null ? id.length() + value.length() : 0L;
+        }
+    }
+}
@@ -116,6 +116,43 @@ public class JdbcStoredDataResultMapper {
         return map(resultSet, null, Collections.emptySet(), Collections.emptySet());
     }
 
+    /**
+     * Maps single row of query result fetching all records and puts its data to stored requests or imps map
+     * depending on type. Intended for results processed row by row, without {@link ResultSet} materialization.
+     *
+     * @param row               - single row of SQL query result.
+     * @param storedIdToRequest - stored requests collected so far.
+     * @param storedIdToImp     - stored imps collected so far.
+     * @throws PreBidException if row has unexpected structure.
+     */
+    public static void mapRow(JsonArray row, Map<String, String> storedIdToRequest, Map<String, String> storedIdToImp) {
+        final String id;
+        final String data;
+        final String typeAsString;
+        try {
+            id = row.getString(1);
+            data = row.getString(2);
+            typeAsString = row.getString(3);
+        } catch (IndexOutOfBoundsException | ClassCastException e) {
+            throw new PreBidException("Error occurred while mapping stored request data: " + e.getMessage());
+        }
+
+        final StoredDataType type;
+        try {
+            type = StoredDataType.valueOf(typeAsString);
+        } catch (IllegalArgumentException e) {
+            logger.error("Stored request data with id={0} has invalid type: ''{1}'' and will be ignored.", e,
+                    id, typeAsString);
+            return;
+        }
+
+        if (type == StoredDataType.request) {
+            storedIdToRequest.put(id, data);
+        } else {
+            storedIdToImp.put(id, data);
+        }
+    }
+
     private static void addStoredItem(String accountId, String id, String data,
                                       Map<String, Set<StoredItem>> idToStoredItems) {
         final StoredItem storedItem = StoredItem.of(accountId, data);
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -91,14 +92,23 @@ public class HttpPeriodicRefreshService implements Initializable {
 
     @Override
     public void initialize() {
-        getAll();
+        initialize(Promise.promise());
+    }
+
+    /**
+     * Loads all stored data and sets timer for periodic updates. Given promise is completed when initial load is
+     * finished, regardless of its result.
+     */
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        getAll().onComplete(ignored -> initializePromise.tryComplete());
         if (refreshPeriod > 0) {
             vertx.setPeriodic(refreshPeriod, aLong -> refresh());
         }
     }
 
-    private void getAll() {
-        httpClient.get(refreshUrl, timeout)
+    private Future<Void> getAll() {
+        return httpClient.get(refreshUrl, timeout)
                 .map(this::processResponse)
                 .map(this::save)
                 .map(ignored -> setLastUpdateTime(Instant.now()))
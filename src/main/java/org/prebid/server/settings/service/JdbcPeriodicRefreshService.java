@@ -1,7 +1,9 @@
 package org.prebid.server.settings.service;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.lang3.StringUtils;
@@ -19,9 +21,12 @@ import java.time.Clock;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -67,6 +72,11 @@ public class JdbcPeriodicRefreshService implements Initializable {
     private final String updateQuery;
     private final long refreshPeriod;
     private final long timeout;
+    /**
+     * Number of rows fetched from database at once by the initial query, which is processed row by row so the whole
+     * dataset is never materialized as a query result.
+     */
+    private final int fetchSize;
     private final MetricName cacheType;
     private final CacheNotificationListener cacheNotificationListener;
     private final Vertx vertx;
@@ -81,6 +91,7 @@ public class JdbcPeriodicRefreshService implements Initializable {
                                       String updateQuery,
                                       long refreshPeriod,
                                       long timeout,
+                                      int fetchSize,
                                       MetricName cacheType,
                                       CacheNotificationListener cacheNotificationListener,
                                       Vertx vertx,
@@ -93,6 +104,10 @@ public class JdbcPeriodicRefreshService implements Initializable {
         this.updateQuery = Objects.requireNonNull(StringUtils.stripToNull(updateQuery));
         this.refreshPeriod = refreshPeriod;
         this.timeout = timeout;
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("fetchSize must be positive");
+        }
+        this.fetchSize = fetchSize;
         this.cacheType = Objects.requireNonNull(cacheType);
         this.cacheNotificationListener = Objects.requireNonNull(cacheNotificationListener);
         this.vertx = Objects.requireNonNull(vertx);
@@ -104,25 +119,72 @@ public class JdbcPeriodicRefreshService implements Initializable {
 
     @Override
     public void initialize() {
-        getAll();
+        initialize(Promise.promise());
+    }
+
+    /**
+     * Loads all stored data and sets timer for periodic updates. Given promise is completed when initial load is
+     * finished, regardless of its result.
+     */
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        getAll().onComplete(ignored -> initializePromise.tryComplete());
         if (refreshPeriod > 0) {
             vertx.setPeriodic(refreshPeriod, aLong -> refresh());
         }
     }
 
-    private void getAll() {
+    private Future<Void> getAll() {
         final long startTime = clock.millis();
+        final Map<String, String> storedIdToRequest = new HashMap<>();
+        final Map<String, String> storedIdToImp = new HashMap<>();
 
-        jdbcClient.executeQuery(
+        return jdbcClient.executeStreamingQuery(
                         initQuery,
                         Collections.emptyList(),
-                        JdbcStoredDataResultMapper::map,
+                        fetchSize,
+                        initialRowConsumer(storedIdToRequest, storedIdToImp),
                         createTimeout())
-                .map(storedDataResult ->
-                        handleResult(storedDataResult, Instant.now(clock), startTime, MetricName.initialize))
+                .map(rows -> handleInitialResult(rows, storedIdToRequest, storedIdToImp, startTime))
                 .recover(exception -> handleFailure(exception, startTime, MetricName.initialize));
     }
 
+    /**
+     * Maps rows of initial query as soon as they are fetched and reports loading progress every fetched portion.
+     */
+    private Consumer<JsonArray> initialRowConsumer(Map<String, String> storedIdToRequest,
+                                                   Map<String, String> storedIdToImp) {
+
+        final AtomicLong rows = new AtomicLong();
+        return row -> {
+            JdbcStoredDataResultMapper.mapRow(row, storedIdToRequest, storedIdToImp);
+            if (rows.incrementAndGet() % fetchSize == 0) {
+                metrics.updateSettingsCacheRefreshRowsMetric(cacheType, MetricName.initialize, fetchSize);
+            }
+        };
+    }
+
+    private Void handleInitialResult(long rows,
+                                     Map<String, String> storedIdToRequest,
+                                     Map<String, String> storedIdToImp,
+                                     long startTime) {
+
+        final long notReportedRows = rows % fetchSize;
+        if (notReportedRows > 0) {
+            metrics.updateSettingsCacheRefreshRowsMetric(cacheType, MetricName.initialize, notReportedRows);
+        }
+
+        final long elapsed = clock.millis() - startTime;
+        logger.info("Loaded {0} rows of {1} in {2} ms ({3} rows per second)",
+                rows, cacheType, elapsed, elapsed > 0 ? rows * 1000 / elapsed : rows);
+
+        return handleResult(
+                StoredDataResult.of(storedIdToRequest, storedIdToImp, Collections.emptyList()),
+                Instant.now(clock),
+                startTime,
+                MetricName.initialize);
+    }
+
     private Void handleResult(StoredDataResult storedDataResult,
                               Instant updateTime,
                               long startTime,
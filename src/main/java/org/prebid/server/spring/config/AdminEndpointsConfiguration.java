@@ -22,8 +22,10 @@ import org.prebid.server.handler.HttpInteractionLogHandler;
 import org.prebid.server.handler.LineItemStatusHandler;
 import org.prebid.server.handler.LoggerControlKnobHandler;
 import org.prebid.server.handler.SettingsCacheNotificationHandler;
+import org.prebid.server.handler.StartupTimelineHandler;
 import org.prebid.server.handler.TracerLogHandler;
 import org.prebid.server.handler.VersionHandler;
+import org.prebid.server.health.StartupTimeline;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.CriteriaManager;
 import org.prebid.server.log.HttpInteractionLogger;
@@ -83,6 +85,24 @@ public class AdminEndpointsConfiguration {
                 .withCredentials(adminEndpointCredentials);
     }
 
+    @Bean
+    @ConditionalOnExpression("${admin-endpoints.startup-timeline.enabled} == true")
+    CustomizedAdminEndpoint startupTimelineEndpoint(
+            StartupTimeline startupTimeline,
+            JacksonMapper mapper,
+            @Value("${admin-endpoints.startup-timeline.path}") String path,
+            @Value("${admin-endpoints.startup-timeline.on-application-port}") boolean isOnApplicationPort,
+            @Value("${admin-endpoints.startup-timeline.protected}") boolean isProtected,
+            @Autowired(required = false) Map<String, String> adminEndpointCredentials) {
+
+        return new CustomizedAdminEndpoint(
+                path,
+                new StartupTimelineHandler(startupTimeline, path, mapper),
+                isOnApplicationPort,
+                isProtected)
+                .withCredentials(adminEndpointCredentials);
+    }
+
     @Bean
     @ConditionalOnExpression("${settings.in-memory-cache.notification-endpoints-enabled:false}"
             + " and ${admin-endpoints.storedrequest.enabled} == true")
@@ -782,6 +782,10 @@ public class DealsConfiguration {
         private Integer batchesIntervalMs;
         @NotNull
         private Boolean requestCompressionEnabled;
+        @NotNull
+        private Boolean incrementalReportsEnabled;
+        @NotNull
+        private Integer maxReportSizeBytes;
         @NotBlank
         private String username;
         @NotBlank
@@ -796,6 +800,8 @@ public class DealsConfiguration {
                     .reportsIntervalMs(getReportsIntervalMs())
                     .batchesIntervalMs(getBatchesIntervalMs())
                     .requestCompressionEnabled(getRequestCompressionEnabled())
+                    .incrementalReportsEnabled(getIncrementalReportsEnabled())
+                    .maxReportSizeBytes(getMaxReportSizeBytes())
                     .username(getUsername())
                     .password(getPassword())
                     .build();
@@ -4,14 +4,19 @@ import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClientOptions;
 import lombok.experimental.UtilityClass;
 import org.prebid.server.execution.RemoteFileSyncer;
+import org.prebid.server.geolocation.CachingGeoLocationService;
 import org.prebid.server.geolocation.CircuitBreakerSecuredGeoLocationService;
 import org.prebid.server.geolocation.CountryCodeMapper;
 import org.prebid.server.geolocation.GeoLocationService;
+import org.prebid.server.geolocation.IpRangeGeoLocationService;
 import org.prebid.server.geolocation.MaxMindGeoLocationService;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.spring.config.model.CircuitBreakerProperties;
+import org.prebid.server.spring.config.model.GeoLocationCacheProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
 import org.prebid.server.spring.config.model.RemoteFileSyncerProperties;
+import org.prebid.server.vertx.BlockingExecutor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
@@ -48,13 +53,26 @@ public class GeoLocationConfiguration {
             return new RemoteFileSyncerProperties();
         }
 
+        @Bean
+        @ConditionalOnProperty(prefix = "geolocation.cache", name = "enabled", havingValue = "true")
+        @ConfigurationProperties(prefix = "geolocation.cache")
+        GeoLocationCacheProperties geoLocationCacheProperties() {
+            return new GeoLocationCacheProperties();
+        }
+
         @Bean
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
-        GeoLocationService basicGeoLocationService(RemoteFileSyncerProperties fileSyncerProperties,
-                                                   Vertx vertx) {
+        GeoLocationService basicGeoLocationService(
+                RemoteFileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.database-filepath:#{null}}") String databaseFilePath,
+                @Autowired(required = false) GeoLocationCacheProperties cacheProperties,
+                Metrics metrics,
+                Vertx vertx,
+                BlockingExecutor blockingExecutor) {
 
-            return createGeoLocationService(fileSyncerProperties, vertx);
+            return createGeoLocationService(
+                    fileSyncerProperties, databaseFilePath, cacheProperties, metrics, vertx, blockingExecutor);
         }
 
         @Bean
@@ -63,35 +81,136 @@ public class GeoLocationConfiguration {
                 Vertx vertx,
                 Metrics metrics,
                 RemoteFileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.database-filepath:#{null}}") String databaseFilePath,
+                @Autowired(required = false) GeoLocationCacheProperties cacheProperties,
                 @Qualifier("maxMindCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
-                Clock clock) {
+                Clock clock,
+                BlockingExecutor blockingExecutor) {
 
             return new CircuitBreakerSecuredGeoLocationService(vertx,
-                    createGeoLocationService(fileSyncerProperties, vertx), metrics,
-                    circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
-                    circuitBreakerProperties.getClosingIntervalMs(), clock);
+                    createGeoLocationService(
+                            fileSyncerProperties, databaseFilePath, cacheProperties, metrics, vertx, blockingExecutor),
+                    metrics, circuitBreakerProperties.getOpeningThreshold(),
+                    circuitBreakerProperties.getOpeningIntervalMs(), circuitBreakerProperties.getClosingIntervalMs(),
+                    clock);
         }
 
         private GeoLocationService createGeoLocationService(RemoteFileSyncerProperties fileSyncerProperties,
-                                                            Vertx vertx) {
-
-            final HttpClientProperties httpClientProperties = fileSyncerProperties.getHttpClient();
-            final HttpClientOptions httpClientOptions = new HttpClientOptions()
-                    .setConnectTimeout(httpClientProperties.getConnectTimeoutMs())
-                    .setMaxRedirects(httpClientProperties.getMaxRedirects());
-
-            final RemoteFileSyncer remoteFileSyncer = RemoteFileSyncer.create(fileSyncerProperties.getDownloadUrl(),
-                    fileSyncerProperties.getSaveFilepath(), fileSyncerProperties.getTmpFilepath(),
-                    fileSyncerProperties.getRetryCount(), fileSyncerProperties.getRetryIntervalMs(),
-                    fileSyncerProperties.getTimeoutMs(), fileSyncerProperties.getUpdateIntervalMs(),
-                    vertx.createHttpClient(httpClientOptions), vertx, vertx.fileSystem());
-            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
-
-            remoteFileSyncer.syncForFilepath(maxMindGeoLocationService);
-            return maxMindGeoLocationService;
+                                                            String databaseFilePath,
+                                                            GeoLocationCacheProperties cacheProperties,
+                                                            Metrics metrics,
+                                                            Vertx vertx,
+                                                            BlockingExecutor blockingExecutor) {
+
+            final MaxMindGeoLocationService maxMindGeoLocationService =
+                    new MaxMindGeoLocationService(databaseFilePath);
+
+            createRemoteFileSyncer(fileSyncerProperties, vertx, blockingExecutor, metrics)
+                    .syncForFilepath(maxMindGeoLocationService);
+            return withCache(maxMindGeoLocationService, cacheProperties, metrics);
         }
     }
 
+    @Configuration
+    @ConditionalOnExpression("${geolocation.enabled} == true and '${geolocation.type}' == 'ip-range'")
+    static class IpRangeGeoLocationConfiguration {
+
+        @Bean
+        @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "true")
+        @ConfigurationProperties(prefix = "geolocation.circuit-breaker")
+        CircuitBreakerProperties ipRangeCircuitBreakerProperties() {
+            return new CircuitBreakerProperties();
+        }
+
+        @Bean
+        @ConfigurationProperties(prefix = "geolocation.ip-range.remote-file-syncer")
+        RemoteFileSyncerProperties ipRangeRemoteFileSyncerProperties() {
+            return new RemoteFileSyncerProperties();
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "geolocation.cache", name = "enabled", havingValue = "true")
+        @ConfigurationProperties(prefix = "geolocation.cache")
+        GeoLocationCacheProperties ipRangeGeoLocationCacheProperties() {
+            return new GeoLocationCacheProperties();
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
+                matchIfMissing = true)
+        GeoLocationService ipRangeGeoLocationService(
+                @Qualifier("ipRangeRemoteFileSyncerProperties") RemoteFileSyncerProperties fileSyncerProperties,
+                @Autowired(required = false) GeoLocationCacheProperties cacheProperties,
+                Vertx vertx,
+                BlockingExecutor blockingExecutor,
+                Metrics metrics) {
+
+            return createGeoLocationService(fileSyncerProperties, cacheProperties, metrics, vertx, blockingExecutor);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "true")
+        CircuitBreakerSecuredGeoLocationService ipRangeCircuitBreakerSecuredGeoLocationService(
+                Vertx vertx,
+                Metrics metrics,
+                @Qualifier("ipRangeRemoteFileSyncerProperties") RemoteFileSyncerProperties fileSyncerProperties,
+                @Autowired(required = false) GeoLocationCacheProperties cacheProperties,
+                @Qualifier("ipRangeCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
+                Clock clock,
+                BlockingExecutor blockingExecutor) {
+
+            return new CircuitBreakerSecuredGeoLocationService(vertx,
+                    createGeoLocationService(fileSyncerProperties, cacheProperties, metrics, vertx, blockingExecutor),
+                    metrics, circuitBreakerProperties.getOpeningThreshold(),
+                    circuitBreakerProperties.getOpeningIntervalMs(), circuitBreakerProperties.getClosingIntervalMs(),
+                    clock);
+        }
+
+        private GeoLocationService createGeoLocationService(RemoteFileSyncerProperties fileSyncerProperties,
+                                                            GeoLocationCacheProperties cacheProperties,
+                                                            Metrics metrics,
+                                                            Vertx vertx,
+                                                            BlockingExecutor blockingExecutor) {
+
+            final IpRangeGeoLocationService ipRangeGeoLocationService = new IpRangeGeoLocationService();
+
+            createRemoteFileSyncer(fileSyncerProperties, vertx, blockingExecutor, metrics)
+                    .syncForFilepath(ipRangeGeoLocationService);
+            return withCache(ipRangeGeoLocationService, cacheProperties, metrics);
+        }
+    }
+
+    private static GeoLocationService withCache(GeoLocationService geoLocationService,
+                                                GeoLocationCacheProperties cacheProperties,
+                                                Metrics metrics) {
+
+        if (cacheProperties == null) {
+            return geoLocationService;
+        }
+
+        return new CachingGeoLocationService(geoLocationService,
+                cacheProperties.getMaxSize(), cacheProperties.getTtlMs(),
+                cacheProperties.getIpv4PrefixLength(), cacheProperties.getIpv6PrefixLength(), metrics);
+    }
+
+    private static RemoteFileSyncer createRemoteFileSyncer(RemoteFileSyncerProperties fileSyncerProperties,
+                                                           Vertx vertx,
+                                                           BlockingExecutor blockingExecutor,
+                                                           Metrics metrics) {
+
+        final HttpClientProperties httpClientProperties = fileSyncerProperties.getHttpClient();
+        final HttpClientOptions httpClientOptions = new HttpClientOptions()
+                .setConnectTimeout(httpClientProperties.getConnectTimeoutMs())
+                .setMaxRedirects(httpClientProperties.getMaxRedirects());
+
+        return RemoteFileSyncer.create(fileSyncerProperties.getDownloadUrl(),
+                fileSyncerProperties.getSaveFilepath(), fileSyncerProperties.getTmpFilepath(),
+                fileSyncerProperties.getRetryCount(), fileSyncerProperties.getRetryIntervalMs(),
+                fileSyncerProperties.getTimeoutMs(), fileSyncerProperties.getUpdateIntervalMs(),
+                vertx.createHttpClient(httpClientOptions), vertx, vertx.fileSystem(), blockingExecutor,
+                metrics);
+    }
+
     @Configuration
     static class CountryCodeMapperConfiguration {
 
@@ -1,14 +1,26 @@
 package org.prebid.server.spring.config;
 
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.prebid.server.health.StartupTimeline;
+import org.prebid.server.health.WarmupService;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.ContextRunner;
 import org.prebid.server.vertx.Initializable;
 import org.prebid.server.vertx.http.HttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
 
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
 import java.util.List;
 
 /**
@@ -23,21 +35,121 @@ import java.util.List;
  * Having services that depend on {@link HttpClient} in their initialization actions initialized after dependency
  * tree is fully constructed ensures that subsequent {@link HttpClient} instance creation will not happen in the
  * middle of another bean creation process.
+ * <p>
+ * By default, services are initialized one by one on the service context and application is considered ready
+ * right after that. In parallel mode each service is initialized on its own context without blocking application
+ * startup, and application becomes ready (see {@link StartupTimeline}) once all of them report initial data loaded.
+ * <p>
+ * If {@link WarmupService} is configured, application becomes ready only after warm-up is finished.
  */
 @Configuration
 public class InitializationConfiguration {
 
+    private static final Logger logger = LoggerFactory.getLogger(InitializationConfiguration.class);
+
     @Autowired
     private ContextRunner contextRunner;
 
+    @Autowired
+    private Vertx vertx;
+
     @Autowired
     private List<Initializable> initializables;
 
+    @Autowired
+    private StartupTimeline startupTimeline;
+
+    @Autowired(required = false)
+    private WarmupService warmupService;
+
+    @Value("${startup.parallel-initialization}")
+    private boolean parallelInitialization;
+
+    @Bean
+    static StartupTimeline startupTimeline(Clock clock) {
+        return new StartupTimeline(clock, ManagementFactory.getRuntimeMXBean().getStartTime());
+    }
+
     @EventListener(ContextRefreshedEvent.class)
     public void initializeServices() {
+        startupTimeline.recordSinceJvmStart("application-context");
+
+        if (parallelInitialization) {
+            initializeInParallel();
+        } else {
+            initializeSequentially();
+        }
+    }
+
+    private void initializeSequentially() {
+        final long startTime = startupTimeline.currentTimeMillis();
         contextRunner.runOnServiceContext(promise -> {
-            initializables.forEach(Initializable::initialize);
+            initializables.forEach(this::initialize);
             promise.complete();
         });
+        startupTimeline.record("initialization", startTime);
+        completeStartup();
+    }
+
+    private void initialize(Initializable initializable) {
+        final long startTime = startupTimeline.currentTimeMillis();
+        initializable.initialize();
+        startupTimeline.record(phaseName(initializable), startTime);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void initializeInParallel() {
+        final long startTime = startupTimeline.currentTimeMillis();
+        final List<Future> initializations = initializables.stream()
+                .map(this::initializeOnNewContext)
+                .map(Future.class::cast)
+                .toList();
+
+        CompositeFuture.join(initializations).onComplete(ignored -> {
+            startupTimeline.record("initialization", startTime);
+            completeStartup();
+        });
+    }
+
+    private Future<Void> initializeOnNewContext(Initializable initializable) {
+        final Promise<Void> promise = Promise.promise();
+        final long startTime = startupTimeline.currentTimeMillis();
+
+        vertx.getOrCreateContext().runOnContext(ignored -> {
+            try {
+                initializable.initialize(promise);
+            } catch (RuntimeException e) {
+                promise.tryFail(e);
+            }
+        });
+
+        return promise.future().onComplete(result -> {
+            startupTimeline.record(phaseName(initializable), startTime);
+            if (result.failed()) {
+                logger.error("Initialization of {0} failed", result.cause(), phaseName(initializable));
+            }
+        });
+    }
+
+    private void completeStartup() {
+        if (warmupService == null) {
+            markReady();
+            return;
+        }
+
+        final long startTime = startupTimeline.currentTimeMillis();
+        vertx.runOnContext(ignored -> warmupService.warmup().onComplete(result -> {
+            startupTimeline.record("warmup", startTime);
+            markReady();
+        }));
+    }
+
+    private void markReady() {
+        startupTimeline.markReady();
+        logger.info("Application is ready to serve requests");
+    }
+
+    private static String phaseName(Initializable initializable) {
+        return "initialize:" + initializable.getClass().getSimpleName();
     }
 }
@@ -8,6 +8,7 @@ import org.prebid.server.geolocation.GeoLocationService;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.HostVendorTcfDefinerService;
+import org.prebid.server.privacy.gdpr.TcStringDecoder;
 import org.prebid.server.privacy.gdpr.Tcf2Service;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeEightStrategy;
@@ -54,6 +55,7 @@ public class PrivacyServiceConfiguration {
             @Value("${gdpr.vendorlist.v2.http-endpoint-template}") String endpointTemplate,
             @Value("${gdpr.vendorlist.default-timeout-ms}") int defaultTimeoutMs,
             @Value("${gdpr.vendorlist.v2.refresh-missing-list-period-ms}") int refreshMissingListPeriodMs,
+            @Value("${gdpr.vendorlist.v2.prefetch-period-ms}") long prefetchPeriodMs,
             @Value("${gdpr.host-vendor-id:#{null}}") Integer hostVendorId,
             @Value("${gdpr.vendorlist.v2.fallback-vendor-list-path:#{null}}") String fallbackVendorListPath,
             @Value("${gdpr.vendorlist.v2.deprecated}") boolean deprecated,
@@ -69,6 +71,7 @@ public class PrivacyServiceConfiguration {
                 endpointTemplate,
                 defaultTimeoutMs,
                 refreshMissingListPeriodMs,
+                prefetchPeriodMs,
                 deprecated,
                 hostVendorId,
                 fallbackVendorListPath,
@@ -91,11 +94,24 @@ public class PrivacyServiceConfiguration {
                 bidderCatalog);
     }
 
+    @Bean
+    TcStringDecoder tcStringDecoder(
+            @Value("${gdpr.consent-cache.enabled}") boolean cacheEnabled,
+            @Value("${gdpr.consent-cache.max-size-bytes}") long cacheMaxSizeBytes,
+            @Value("${gdpr.consent-cache.ttl-ms}") long cacheTtlMs,
+            Metrics metrics) {
+
+        return cacheEnabled
+                ? TcStringDecoder.caching(cacheMaxSizeBytes, cacheTtlMs, metrics)
+                : TcStringDecoder.create();
+    }
+
     @Bean
     TcfDefinerService tcfDefinerService(
             GdprConfig gdprConfig,
             @Value("${gdpr.eea-countries}") String eeaCountriesAsString,
             Tcf2Service tcf2Service,
+            TcStringDecoder tcStringDecoder,
             @Autowired(required = false) GeoLocationService geoLocationService,
             BidderCatalog bidderCatalog,
             IpAddressHelper ipAddressHelper,
@@ -107,6 +123,7 @@ public class PrivacyServiceConfiguration {
                 gdprConfig,
                 eeaCountries,
                 tcf2Service,
+                tcStringDecoder,
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
@@ -10,6 +10,7 @@ import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.net.JksOptions;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
 import org.prebid.server.auction.AmpResponsePostProcessor;
 import org.prebid.server.auction.BidResponseCreator;
 import org.prebid.server.auction.BidResponsePostProcessor;
@@ -50,7 +51,9 @@ import org.prebid.server.bidder.BidderErrorNotifier;
 import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
 import org.prebid.server.bidder.HttpBidderRequestEnricher;
 import org.prebid.server.bidder.HttpBidderRequester;
+import org.prebid.server.cache.CacheRequestBatcher;
 import org.prebid.server.cache.CacheService;
+import org.prebid.server.cache.EmbeddedCache;
 import org.prebid.server.cache.model.CacheTtl;
 import org.prebid.server.cookie.CookieSyncService;
 import org.prebid.server.cookie.CoopSyncProvider;
@@ -67,6 +70,8 @@ import org.prebid.server.floors.PriceFloorEnforcer;
 import org.prebid.server.floors.PriceFloorProcessor;
 import org.prebid.server.floors.PriceFloorsConfigResolver;
 import org.prebid.server.geolocation.CountryCodeMapper;
+import org.prebid.server.geolocation.GeoLocationService;
+import org.prebid.server.health.WarmupService;
 import org.prebid.server.hooks.execution.HookStageExecutor;
 import org.prebid.server.identity.IdGenerator;
 import org.prebid.server.identity.NoneIdGenerator;
@@ -82,6 +87,7 @@ import org.prebid.server.optout.GoogleRecaptchaVerifier;
 import org.prebid.server.privacy.HostVendorTcfDefinerService;
 import org.prebid.server.privacy.PrivacyExtractor;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
+import org.prebid.server.privacy.gdpr.vendorlist.VendorListServiceV2;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.settings.model.BidValidationEnforcement;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
@@ -109,6 +115,7 @@ import org.springframework.context.annotation.ScopedProxyMode;
 
 import javax.validation.constraints.Min;
 import java.io.IOException;
+import java.net.URL;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -139,6 +146,10 @@ public class ServiceConfiguration {
             @Value("${cache.banner-ttl-seconds:#{null}}") Integer bannerCacheTtl,
             @Value("${cache.video-ttl-seconds:#{null}}") Integer videoCacheTtl,
             @Value("${auction.cache.expected-request-time-ms}") long expectedCacheTimeMs,
+            @Value("${cache.batch.enabled}") boolean batchEnabled,
+            @Value("${cache.batch.max-size}") int batchMaxSize,
+            @Value("${cache.batch.max-bytes}") long batchMaxBytes,
+            @Autowired(required = false) EmbeddedCache embeddedCache,
             VastModifier vastModifier,
             EventsService eventsService,
             HttpClient httpClient,
@@ -146,10 +157,18 @@ public class ServiceConfiguration {
             Clock clock,
             JacksonMapper mapper) {
 
+        final URL endpointUrl = CacheService.getCacheEndpointUrl(scheme, host, path);
+        final CacheRequestBatcher requestBatcher = batchEnabled
+                ? new CacheRequestBatcher(
+                httpClient, endpointUrl.toString(), batchMaxSize, batchMaxBytes, metrics, clock, mapper)
+                : null;
+
         return new CacheService(
                 CacheTtl.of(bannerCacheTtl, videoCacheTtl),
                 httpClient,
-                CacheService.getCacheEndpointUrl(scheme, host, path),
+                requestBatcher,
+                embeddedCache,
+                endpointUrl,
                 CacheService.getCachedAssetUrlTemplate(scheme, host, path, query),
                 expectedCacheTimeMs,
                 vastModifier,
@@ -160,6 +179,16 @@ public class ServiceConfiguration {
                 mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.embedded", name = "enabled", havingValue = "true")
+    EmbeddedCache embeddedCache(@Value("${cache.embedded.max-size-bytes}") long maxSizeBytes,
+                                @Value("${cache.embedded.default-ttl-seconds}") int defaultTtlSeconds,
+                                Metrics metrics,
+                                JacksonMapper mapper) {
+
+        return new EmbeddedCache(maxSizeBytes, defaultTtlSeconds, new UUIDIdGenerator(), metrics, mapper);
+    }
+
     @Bean
     VastModifier vastModifier(BidderCatalog bidderCatalog, EventsService eventsService, Metrics metrics) {
         return new VastModifier(bidderCatalog, eventsService, metrics);
@@ -987,6 +1016,56 @@ public class ServiceConfiguration {
                 mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "startup.warmup", name = "enabled", havingValue = "true")
+    WarmupService warmupService(
+            @Value("${startup.warmup.accounts}") String accounts,
+            @Value("${startup.warmup.stored-requests}") String storedRequests,
+            @Value("${startup.warmup.stored-imps}") String storedImps,
+            @Value("${startup.warmup.vendor-list-versions}") String vendorListVersions,
+            @Value("${startup.warmup.request-files}") String requestFiles,
+            @Value("${startup.warmup.iterations}") int iterations,
+            @Value("${startup.warmup.auction-url}") String auctionUrl,
+            @Value("${startup.warmup.timeout-ms}") long timeoutMs,
+            ApplicationSettings applicationSettings,
+            CurrencyConversionService currencyConversionService,
+            VendorListServiceV2 vendorListServiceV2,
+            @Autowired(required = false) GeoLocationService geoLocationService,
+            AnalyticsReporterDelegator analyticsReporterDelegator,
+            FileSystem fileSystem,
+            HttpClient httpClient,
+            Vertx vertx,
+            TimeoutFactory timeoutFactory,
+            Clock clock,
+            Metrics metrics,
+            JacksonMapper mapper) {
+
+        final List<String> sampleRequests = splitToList(requestFiles).stream()
+                .map(path -> fileSystem.readFileBlocking(path).toString())
+                .toList();
+
+        return new WarmupService(
+                splitToList(accounts),
+                splitToList(storedRequests),
+                splitToList(storedImps),
+                splitToList(vendorListVersions).stream().map(Integer::valueOf).toList(),
+                sampleRequests,
+                iterations,
+                auctionUrl,
+                timeoutMs,
+                applicationSettings,
+                currencyConversionService,
+                vendorListServiceV2,
+                geoLocationService,
+                analyticsReporterDelegator,
+                httpClient,
+                vertx,
+                timeoutFactory,
+                clock,
+                metrics,
+                mapper);
+    }
+
     @Bean
     HttpInteractionLogger httpInteractionLogger(JacksonMapper mapper) {
         return new HttpInteractionLogger(mapper);
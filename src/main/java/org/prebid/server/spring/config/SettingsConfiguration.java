@@ -1,5 +1,7 @@
 package org.prebid.server.spring.config;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.json.JsonObject;
@@ -23,12 +25,15 @@ import org.prebid.server.settings.FileApplicationSettings;
 import org.prebid.server.settings.HttpApplicationSettings;
 import org.prebid.server.settings.JdbcApplicationSettings;
 import org.prebid.server.settings.SettingsCache;
+import org.prebid.server.settings.SnapshotSettingsCache;
 import org.prebid.server.settings.service.HttpPeriodicRefreshService;
 import org.prebid.server.settings.service.JdbcPeriodicRefreshService;
 import org.prebid.server.spring.config.model.CircuitBreakerProperties;
+import org.prebid.server.vertx.BlockingExecutor;
 import org.prebid.server.vertx.ContextRunner;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.jdbc.BasicJdbcClient;
+import org.prebid.server.vertx.jdbc.BlockingJdbcClient;
 import org.prebid.server.vertx.jdbc.CircuitBreakerSecuredJdbcClient;
 import org.prebid.server.vertx.jdbc.JdbcClient;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,6 +47,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
+import javax.validation.Valid;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -98,10 +104,16 @@ public class SettingsConfiguration {
         @Bean
         @ConditionalOnProperty(prefix = "settings.database.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
-        BasicJdbcClient basicJdbcClient(
-                Vertx vertx, JDBCClient vertxJdbcClient, Metrics metrics, Clock clock, ContextRunner contextRunner) {
-
-            return createBasicJdbcClient(vertx, vertxJdbcClient, metrics, clock, contextRunner);
+        JdbcClient basicJdbcClient(Vertx vertx,
+                                   @Autowired(required = false) JDBCClient vertxJdbcClient,
+                                   @Autowired(required = false) HikariDataSource databaseDataSource,
+                                   BlockingExecutor blockingExecutor,
+                                   Metrics metrics,
+                                   Clock clock,
+                                   ContextRunner contextRunner) {
+
+            return createJdbcClient(
+                    vertx, vertxJdbcClient, databaseDataSource, blockingExecutor, metrics, clock, contextRunner);
         }
 
         @Bean
@@ -114,18 +126,45 @@ public class SettingsConfiguration {
         @Bean
         @ConditionalOnProperty(prefix = "settings.database.circuit-breaker", name = "enabled", havingValue = "true")
         CircuitBreakerSecuredJdbcClient circuitBreakerSecuredJdbcClient(
-                Vertx vertx, JDBCClient vertxJdbcClient, Metrics metrics, Clock clock, ContextRunner contextRunner,
+                Vertx vertx,
+                @Autowired(required = false) JDBCClient vertxJdbcClient,
+                @Autowired(required = false) HikariDataSource databaseDataSource,
+                BlockingExecutor blockingExecutor,
+                Metrics metrics,
+                Clock clock,
+                ContextRunner contextRunner,
                 @Qualifier("databaseCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties) {
 
-            final JdbcClient jdbcClient = createBasicJdbcClient(vertx, vertxJdbcClient, metrics, clock, contextRunner);
+            final JdbcClient jdbcClient = createJdbcClient(
+                    vertx, vertxJdbcClient, databaseDataSource, blockingExecutor, metrics, clock, contextRunner);
             return new CircuitBreakerSecuredJdbcClient(vertx, jdbcClient, metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                     circuitBreakerProperties.getClosingIntervalMs(), clock);
         }
 
-        private static BasicJdbcClient createBasicJdbcClient(
-                Vertx vertx, JDBCClient vertxJdbcClient, Metrics metrics, Clock clock, ContextRunner contextRunner) {
-            final BasicJdbcClient basicJdbcClient = new BasicJdbcClient(vertx, vertxJdbcClient, metrics, clock);
+        /**
+         * Creates {@link BlockingJdbcClient} if data source is configured for the blocking executor, otherwise
+         * falls back to {@link BasicJdbcClient} over Vert.x JDBC client.
+         */
+        private static JdbcClient createJdbcClient(Vertx vertx,
+                                                   JDBCClient vertxJdbcClient,
+                                                   HikariDataSource databaseDataSource,
+                                                   BlockingExecutor blockingExecutor,
+                                                   Metrics metrics,
+                                                   Clock clock,
+                                                   ContextRunner contextRunner) {
+
+            if (databaseDataSource != null) {
+                final BlockingJdbcClient blockingJdbcClient =
+                        new BlockingJdbcClient(vertx, databaseDataSource, blockingExecutor, metrics, clock);
+
+                contextRunner.<Void>runOnServiceContext(promise -> blockingJdbcClient.initialize().onComplete(promise));
+
+                return blockingJdbcClient;
+            }
+
+            final BasicJdbcClient basicJdbcClient = new BasicJdbcClient(
+                    vertx, Objects.requireNonNull(vertxJdbcClient), metrics, clock);
 
             contextRunner.<Void>runOnServiceContext(promise -> basicJdbcClient.initialize().onComplete(promise));
 
@@ -133,24 +172,99 @@ public class SettingsConfiguration {
         }
 
         @Bean
+        @ConditionalOnProperty(prefix = "vertx", name = "blocking-executor", havingValue = "worker",
+                matchIfMissing = true)
         JDBCClient vertxJdbcClient(Vertx vertx, DatabaseSourceProperties databaseSourceProperties) {
-            final String jdbcUrl = "%s//%s:%d/%s?%s%s".formatted(
-                    databaseSourceProperties.getType().jdbcUrlPrefix,
-                    databaseSourceProperties.getHost(),
-                    databaseSourceProperties.getPort(),
-                    databaseSourceProperties.getDbname(),
-                    databaseSourceProperties.getType().jdbcUrlSuffix,
-                    databaseSourceProperties.getProviderClass().jdbcUrlSuffix);
-
-            return JDBCClient.createShared(vertx, new JsonObject()
-                    .put(databaseSourceProperties.getProviderClass().url, jdbcUrl)
+            final JsonObject config = new JsonObject()
+                    .put(databaseSourceProperties.getProviderClass().url,
+                            jdbcUrl(databaseSourceProperties, databaseSourceProperties.getProviderClass()))
                     .put(databaseSourceProperties.getProviderClass().user, databaseSourceProperties.getUser())
                     .put("password", databaseSourceProperties.getPassword())
                     .put("driver_class", databaseSourceProperties.getType().jdbcDriver)
                     .put("initial_pool_size", databaseSourceProperties.getPoolSize())
                     .put("min_pool_size", databaseSourceProperties.getPoolSize())
                     .put("max_pool_size", databaseSourceProperties.getPoolSize())
-                    .put("provider_class", databaseSourceProperties.getProviderClass().jdbcCP));
+                    .put("provider_class", databaseSourceProperties.getProviderClass().jdbcCP);
+
+            return JDBCClient.createShared(vertx, databaseSourceProperties.getProviderClass() == DbPoolType.hikari
+                    ? config.mergeIn(hikariConfig(databaseSourceProperties))
+                    : config.put("max_statements_per_connection", databaseSourceProperties.getStatementCacheSize()));
+        }
+
+        /**
+         * Plain Hikari connection pool used by {@link BlockingJdbcClient} when blocking work runs on virtual threads.
+         * Connections are opened lazily, so database unavailability doesn't prevent application from starting.
+         */
+        @Bean(destroyMethod = "close")
+        @ConditionalOnProperty(prefix = "vertx", name = "blocking-executor", havingValue = "virtual-threads")
+        HikariDataSource databaseDataSource(DatabaseSourceProperties databaseSourceProperties) {
+            final JsonObject hikariConfig = hikariConfig(databaseSourceProperties);
+            final HikariProperties hikari = databaseSourceProperties.getHikari();
+
+            final HikariConfig config = new HikariConfig();
+            config.setPoolName("database");
+            config.setJdbcUrl(jdbcUrl(databaseSourceProperties, DbPoolType.hikari));
+            config.setUsername(databaseSourceProperties.getUser());
+            config.setPassword(databaseSourceProperties.getPassword());
+            config.setDriverClassName(databaseSourceProperties.getType().jdbcDriver);
+            config.setMaximumPoolSize(hikariConfig.getInteger("maximumPoolSize"));
+            config.setMinimumIdle(hikariConfig.getInteger("minimumIdle"));
+            config.setInitializationFailTimeout(-1);
+            if (hikari.getConnectionTimeoutMs() != null) {
+                config.setConnectionTimeout(hikari.getConnectionTimeoutMs());
+            }
+            if (hikari.getIdleTimeoutMs() != null) {
+                config.setIdleTimeout(hikari.getIdleTimeoutMs());
+            }
+            if (hikari.getMaxLifetimeMs() != null) {
+                config.setMaxLifetime(hikari.getMaxLifetimeMs());
+            }
+            final JsonObject dataSourceProperties = hikariConfig.getJsonObject("datasource");
+            if (dataSourceProperties != null) {
+                dataSourceProperties.forEach(entry -> config.addDataSourceProperty(entry.getKey(), entry.getValue()));
+            }
+
+            return new HikariDataSource(config);
+        }
+
+        private static String jdbcUrl(DatabaseSourceProperties databaseSourceProperties, DbPoolType poolType) {
+            return "%s//%s:%d/%s?%s%s".formatted(
+                    databaseSourceProperties.getType().jdbcUrlPrefix,
+                    databaseSourceProperties.getHost(),
+                    databaseSourceProperties.getPort(),
+                    databaseSourceProperties.getDbname(),
+                    databaseSourceProperties.getType().jdbcUrlSuffix,
+                    poolType.jdbcUrlSuffix);
+        }
+
+        /**
+         * Hikari data source provider doesn't understand generic pool size options, so pool is configured with its
+         * own ones. Statement cache is configured on the driver side via data source properties.
+         */
+        private static JsonObject hikariConfig(DatabaseSourceProperties databaseSourceProperties) {
+            final HikariProperties hikari = databaseSourceProperties.getHikari();
+            final JsonObject config = new JsonObject()
+                    .put("maximumPoolSize", databaseSourceProperties.getPoolSize())
+                    .put("minimumIdle", ObjectUtils.defaultIfNull(
+                            hikari.getMinimumIdle(), databaseSourceProperties.getPoolSize()));
+
+            if (hikari.getConnectionTimeoutMs() != null) {
+                config.put("connectionTimeout", hikari.getConnectionTimeoutMs());
+            }
+            if (hikari.getIdleTimeoutMs() != null) {
+                config.put("idleTimeout", hikari.getIdleTimeoutMs());
+            }
+            if (hikari.getMaxLifetimeMs() != null) {
+                config.put("maxLifetime", hikari.getMaxLifetimeMs());
+            }
+
+            final int statementCacheSize = databaseSourceProperties.getStatementCacheSize();
+            if (statementCacheSize > 0) {
+                config.put("datasource",
+                        databaseSourceProperties.getType().statementCacheProperties(statementCacheSize));
+            }
+
+            return config;
         }
 
         @Component
@@ -178,16 +292,49 @@ public class SettingsConfiguration {
             private String password;
             @NotNull
             private DbPoolType providerClass;
+            @NotNull
+            @Min(0)
+            private Integer statementCacheSize;
+            @NotNull
+            @Valid
+            private HikariProperties hikari = new HikariProperties();
+        }
+
+        @Data
+        @NoArgsConstructor
+        private static class HikariProperties {
+
+            @Min(1)
+            private Integer minimumIdle;
+            @Min(250)
+            private Long connectionTimeoutMs;
+            @Min(0)
+            private Long idleTimeoutMs;
+            @Min(0)
+            private Long maxLifetimeMs;
         }
 
         @AllArgsConstructor
         private enum DbType {
             postgres("org.postgresql.Driver", "jdbc:postgresql:", "ssl=false&socketTimeout=1&tcpKeepAlive=true"),
-            mysql("com.mysql.cj.jdbc.Driver", "jdbc:mysql:", "useSSL=false&socketTimeout=1000&tcpKeepAlive=true");
+            mysql("com.mysql.cj.jdbc.Driver", "jdbc:mysql:",
+                    "useSSL=false&socketTimeout=1000&tcpKeepAlive=true&useCursorFetch=true");
 
             private final String jdbcDriver;
             private final String jdbcUrlPrefix;
             private final String jdbcUrlSuffix;
+
+            private JsonObject statementCacheProperties(int statementCacheSize) {
+                final String size = String.valueOf(statementCacheSize);
+                return switch (this) {
+                    case postgres -> new JsonObject().put("preparedStatementCacheQueries", size);
+                    case mysql -> new JsonObject()
+                            .put("cachePrepStmts", "true")
+                            .put("useServerPrepStmts", "true")
+                            .put("prepStmtCacheSize", size)
+                            .put("prepStmtCacheSqlLimit", "2048");
+                };
+            }
         }
 
         @AllArgsConstructor
@@ -271,6 +418,9 @@ public class SettingsConfiguration {
         @Value("${settings.in-memory-cache.jdbc-update.timeout}")
         long timeout;
 
+        @Value("${settings.in-memory-cache.jdbc-update.fetch-size:1000}")
+        int fetchSize;
+
         @Autowired
         Vertx vertx;
 
@@ -297,6 +447,7 @@ public class SettingsConfiguration {
                     updateQuery,
                     refreshPeriod,
                     timeout,
+                    fetchSize,
                     MetricName.stored_request,
                     settingsCache,
                     vertx,
@@ -317,6 +468,7 @@ public class SettingsConfiguration {
                     ampUpdateQuery,
                     refreshPeriod,
                     timeout,
+                    fetchSize,
                     MetricName.amp_stored_request,
                     ampSettingsCache,
                     vertx,
@@ -412,14 +564,14 @@ public class SettingsConfiguration {
 
         @Bean
         @Qualifier("settingsCache")
-        SettingsCache settingsCache(ApplicationSettingsCacheProperties cacheProperties) {
-            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize());
+        SettingsCache settingsCache(ApplicationSettingsCacheProperties cacheProperties, Metrics metrics) {
+            return createRefreshableCache(cacheProperties, MetricName.stored_request, metrics);
         }
 
         @Bean
         @Qualifier("ampSettingsCache")
-        SettingsCache ampSettingsCache(ApplicationSettingsCacheProperties cacheProperties) {
-            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize());
+        SettingsCache ampSettingsCache(ApplicationSettingsCacheProperties cacheProperties, Metrics metrics) {
+            return createRefreshableCache(cacheProperties, MetricName.amp_stored_request, metrics);
         }
 
         @Bean
@@ -427,6 +579,17 @@ public class SettingsConfiguration {
         SettingsCache videoSettingCache(ApplicationSettingsCacheProperties cacheProperties) {
             return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize());
         }
+
+        private static SettingsCache createRefreshableCache(ApplicationSettingsCacheProperties cacheProperties,
+                                                            MetricName cacheType,
+                                                            Metrics metrics) {
+
+            final int ttl = cacheProperties.getTtlSeconds();
+            final int size = cacheProperties.getCacheSize();
+            return cacheProperties.isSnapshotEnabled()
+                    ? new SnapshotSettingsCache(ttl, size, cacheType, metrics)
+                    : new SettingsCache(ttl, size);
+        }
     }
 
     @Component
@@ -443,5 +606,7 @@ public class SettingsConfiguration {
         @NotNull
         @Min(1)
         private Integer cacheSize;
+
+        private boolean snapshotEnabled;
     }
 }
@@ -10,10 +10,15 @@ import io.vertx.ext.dropwizard.DropwizardMetricsOptions;
 import io.vertx.ext.dropwizard.Match;
 import io.vertx.ext.dropwizard.MatchType;
 import io.vertx.ext.web.handler.BodyHandler;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.spring.config.metrics.MetricsConfiguration;
+import org.prebid.server.vertx.BlockingExecutor;
 import org.prebid.server.vertx.ContextRunner;
 import org.prebid.server.vertx.LocalMessageCodec;
+import org.prebid.server.vertx.VirtualThreadBlockingExecutor;
+import org.prebid.server.vertx.WorkerPoolBlockingExecutor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -60,6 +65,21 @@ public class VertxConfiguration {
         return BodyHandler.create(uploadsDir);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "vertx", name = "blocking-executor", havingValue = "worker", matchIfMissing = true)
+    BlockingExecutor workerPoolBlockingExecutor(Vertx vertx, Metrics metrics) {
+        return new WorkerPoolBlockingExecutor(vertx, metrics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "vertx", name = "blocking-executor", havingValue = "virtual-threads")
+    BlockingExecutor virtualThreadBlockingExecutor(Vertx vertx,
+                                                   Metrics metrics,
+                                                   @Value("${vertx.worker-pool-size}") int workerPoolSize) {
+
+        return new VirtualThreadBlockingExecutor(vertx, metrics, workerPoolSize);
+    }
+
     @Bean
     ContextRunner contextRunner(Vertx vertx, @Value("${vertx.init-timeout-ms}") long initTimeoutMs) {
         return new ContextRunner(vertx, initTimeoutMs);
@@ -10,6 +10,7 @@ import io.vertx.ext.web.handler.CorsHandler;
 import io.vertx.ext.web.handler.StaticHandler;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
 import org.prebid.server.auction.AmpResponsePostProcessor;
 import org.prebid.server.auction.ExchangeService;
@@ -20,6 +21,7 @@ import org.prebid.server.auction.requestfactory.AuctionRequestFactory;
 import org.prebid.server.auction.requestfactory.VideoRequestFactory;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.cache.CacheService;
+import org.prebid.server.cache.EmbeddedCache;
 import org.prebid.server.cookie.CookieSyncService;
 import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.deals.UserService;
@@ -28,6 +30,7 @@ import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.handler.BidderParamHandler;
 import org.prebid.server.handler.CookieSyncHandler;
 import org.prebid.server.handler.CustomizedAdminEndpoint;
+import org.prebid.server.handler.EmbeddedCacheHandler;
 import org.prebid.server.handler.ExceptionHandler;
 import org.prebid.server.handler.GetuidsHandler;
 import org.prebid.server.handler.NoCacheHandler;
@@ -42,6 +45,7 @@ import org.prebid.server.handler.openrtb2.AmpHandler;
 import org.prebid.server.handler.openrtb2.VideoHandler;
 import org.prebid.server.health.HealthChecker;
 import org.prebid.server.health.PeriodicHealthChecker;
+import org.prebid.server.health.StartupTimeline;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.metric.Metrics;
@@ -53,6 +57,7 @@ import org.prebid.server.validation.BidderParamValidator;
 import org.prebid.server.version.PrebidVersionProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -125,6 +130,8 @@ public class WebConfiguration {
                   BiddersHandler biddersHandler,
                   BidderDetailsHandler bidderDetailsHandler,
                   NotificationEventHandler notificationEventHandler,
+                  @Autowired(required = false) EmbeddedCacheHandler embeddedCacheHandler,
+                  @Value("${cache.path}") String cachePath,
                   List<CustomizedAdminEndpoint> customizedAdminEndpoints,
                   StaticHandler staticHandler) {
 
@@ -146,6 +153,10 @@ public class WebConfiguration {
         router.get("/info/bidders").handler(biddersHandler);
         router.get("/info/bidders/:bidderName").handler(bidderDetailsHandler);
         router.get("/event").handler(notificationEventHandler);
+        if (embeddedCacheHandler != null) {
+            // creatives are served at the same path they are referred to by cached asset URLs
+            router.get(StringUtils.prependIfMissing(cachePath, "/")).handler(embeddedCacheHandler);
+        }
 
         customizedAdminEndpoints.stream()
                 .filter(CustomizedAdminEndpoint::isOnApplicationPort)
@@ -250,12 +261,19 @@ public class WebConfiguration {
     }
 
     @Bean
-    StatusHandler statusHandler(List<HealthChecker> healthCheckers, JacksonMapper mapper) {
+    StatusHandler statusHandler(List<HealthChecker> healthCheckers,
+                                JacksonMapper mapper,
+                                StartupTimeline startupTimeline,
+                                @Value("${startup.parallel-initialization}") boolean parallelInitialization,
+                                @Value("${startup.warmup.enabled}") boolean warmupEnabled) {
+
         healthCheckers.stream()
                 .filter(PeriodicHealthChecker.class::isInstance)
                 .map(PeriodicHealthChecker.class::cast)
                 .forEach(PeriodicHealthChecker::initialize);
-        return new StatusHandler(healthCheckers, mapper);
+        // neither parallel initialization nor warm-up is awaited, so readiness is reported by status endpoint
+        final boolean reportReadiness = parallelInitialization || warmupEnabled;
+        return new StatusHandler(healthCheckers, mapper, reportReadiness ? startupTimeline : null);
     }
 
     @Bean
@@ -334,6 +352,12 @@ public class WebConfiguration {
                 mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.embedded", name = "enabled", havingValue = "true")
+    EmbeddedCacheHandler embeddedCacheHandler(EmbeddedCache embeddedCache) {
+        return new EmbeddedCacheHandler(embeddedCache);
+    }
+
     @Bean
     OptoutHandler optoutHandler(
             @Value("${external-url}") String externalUrl,
@@ -0,0 +1,33 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class GeoLocationCacheProperties {
+
+    @NotNull
+    @Min(1)
+    private Integer maxSize;
+
+    @NotNull
+    @Min(1)
+    private Long ttlMs;
+
+    @NotNull
+    @Min(1)
+    @Max(32)
+    private Integer ipv4PrefixLength;
+
+    @NotNull
+    @Min(1)
+    @Max(128)
+    private Integer ipv6PrefixLength;
+}
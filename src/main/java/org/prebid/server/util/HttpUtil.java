@@ -66,6 +66,9 @@ public final class HttpUtil {
     public static final CharSequence CONNECTION_HEADER = HttpHeaders.createOptimized("Connection");
     public static final CharSequence ACCEPT_ENCODING_HEADER = HttpHeaders.createOptimized("Accept-Encoding");
     public static final CharSequence CONTENT_ENCODING_HEADER = HttpHeaders.createOptimized("Content-Encoding");
+    public static final CharSequence RANGE_HEADER = HttpHeaders.createOptimized("Range");
+    public static final CharSequence IF_RANGE_HEADER = HttpHeaders.createOptimized("If-Range");
+    public static final CharSequence DIGEST_HEADER = HttpHeaders.createOptimized("Digest");
     public static final CharSequence X_OPENRTB_VERSION_HEADER = HttpHeaders.createOptimized("x-openrtb-version");
     public static final CharSequence X_PREBID_HEADER = HttpHeaders.createOptimized("x-prebid");
     private static final Set<String> SENSITIVE_HEADERS = Set.of(AUTHORIZATION_HEADER.toString());
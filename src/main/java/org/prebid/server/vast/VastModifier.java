@@ -12,6 +12,7 @@ import org.prebid.server.exception.PreBidException;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -23,6 +24,9 @@ public class VastModifier {
     private static final String WRAPPER_TAG = "<Wrapper>";
     private static final String WRAPPER_CLOSE_TAG = "</Wrapper>";
     private static final String IMPRESSION_CLOSE_TAG = "</Impression>";
+    private static final String IMPRESSION_TAG_PREFIX = "<Impression><![CDATA[";
+    private static final String IMPRESSION_TAG_SUFFIX = "]]></Impression>";
+
     private final BidderCatalog bidderCatalog;
     private final EventsService eventsService;
     private final Metrics metrics;
@@ -102,45 +106,123 @@ public class VastModifier {
                 : bidAdm;
     }
 
+    /**
+     * Inserts impression tag with the given tracking URL after the last existing impression tag, or before
+     * the closing InLine (or Wrapper, if there is no InLine) tag.
+     * <p>
+     * All insertion points are located in a single scan over the tags of the document, and the result
+     * is written once into a buffer of the final size, since VAST documents may be large.
+     */
     private String appendTrackingUrlToVastXml(String vastXml, String vastUrlTracking, String bidder) {
-        final int inLineTagIndex = StringUtils.indexOfIgnoreCase(vastXml, IN_LINE_TAG);
-        final int wrapperTagIndex = StringUtils.indexOfIgnoreCase(vastXml, WRAPPER_TAG);
+        final VastXmlTags tags = VastXmlTags.scan(vastXml);
+
+        final IntList closeTagIndexes;
+        final String closeTag;
+        if (tags.inLineTagIndex != -1) {
+            closeTagIndexes = tags.inLineCloseTagIndexes;
+            closeTag = IN_LINE_CLOSE_TAG;
+        } else if (tags.wrapperTagIndex != -1) {
+            closeTagIndexes = tags.wrapperCloseTagIndexes;
+            closeTag = WRAPPER_CLOSE_TAG;
+        } else {
+            throw new PreBidException("VastXml does not contain neither InLine nor Wrapper for %s response"
+                    .formatted(bidder));
+        }
 
-        if (inLineTagIndex != -1) {
-            return appendTrackingUrl(vastXml, vastUrlTracking, IN_LINE_CLOSE_TAG);
-        } else if (wrapperTagIndex != -1) {
-            return appendTrackingUrl(vastXml, vastUrlTracking, WRAPPER_CLOSE_TAG);
+        final String impressionTag = IMPRESSION_TAG_PREFIX + vastUrlTracking + IMPRESSION_TAG_SUFFIX;
+        if (tags.lastImpressionCloseTagIndex != -1) {
+            return insertAt(vastXml, impressionTag, tags.lastImpressionCloseTagIndex + IMPRESSION_CLOSE_TAG.length());
         }
-        throw new PreBidException("VastXml does not contain neither InLine nor Wrapper for %s response"
-                .formatted(bidder));
+
+        return insertBeforeCloseTags(vastXml, impressionTag, closeTagIndexes, closeTag.length());
     }
 
-    private static String appendTrackingUrl(String vastXml, String vastUrlTracking, String elementCloseTag) {
-        if (vastXml.contains(IMPRESSION_CLOSE_TAG)) {
-            return insertAfterExistingImpressionTag(vastXml, vastUrlTracking);
-        }
-        return insertBeforeElementCloseTag(vastXml, vastUrlTracking, elementCloseTag);
+    private static String insertAt(String vastXml, String impressionTag, int index) {
+        return new StringBuilder(vastXml.length() + impressionTag.length())
+                .append(vastXml, 0, index)
+                .append(impressionTag)
+                .append(vastXml, index, vastXml.length())
+                .toString();
     }
 
-    private static String insertAfterExistingImpressionTag(String vastXml, String vastUrlTracking) {
-        final String impressionTag = "<Impression><![CDATA[" + vastUrlTracking + "]]></Impression>";
-        final int replacementStart = vastXml.lastIndexOf(IMPRESSION_CLOSE_TAG);
+    /**
+     * Inserts impression tag before each close tag spelled exactly as the first one.
+     */
+    private static String insertBeforeCloseTags(String vastXml,
+                                                String impressionTag,
+                                                IntList closeTagIndexes,
+                                                int closeTagLength) {
+
+        if (closeTagIndexes.size == 0) {
+            return vastXml;
+        }
+
+        final int firstCloseTagIndex = closeTagIndexes.values[0];
+        final int resultLength = vastXml.length() + impressionTag.length() * closeTagIndexes.size;
+        final StringBuilder result = new StringBuilder(resultLength);
+        int copiedUpTo = 0;
+        for (int i = 0; i < closeTagIndexes.size; i++) {
+            final int closeTagIndex = closeTagIndexes.values[i];
+            if (i == 0 || vastXml.regionMatches(closeTagIndex, vastXml, firstCloseTagIndex, closeTagLength)) {
+                result.append(vastXml, copiedUpTo, closeTagIndex).append(impressionTag);
+                copiedUpTo = closeTagIndex;
+            }
+        }
 
-        return vastXml.substring(0, replacementStart) + IMPRESSION_CLOSE_TAG + impressionTag
-                + vastXml.substring(replacementStart + IMPRESSION_CLOSE_TAG.length());
+        return result.append(vastXml, copiedUpTo, vastXml.length()).toString();
     }
 
-    private static String insertBeforeElementCloseTag(String vastXml, String vastUrlTracking, String elementCloseTag) {
-        final int indexOfCloseTag = StringUtils.indexOfIgnoreCase(vastXml, elementCloseTag);
+    /**
+     * Positions of the tags {@link VastModifier} is interested in.
+     */
+    private static class VastXmlTags {
+
+        int inLineTagIndex = -1;
+
+        int wrapperTagIndex = -1;
+
+        int lastImpressionCloseTagIndex = -1;
+
+        final IntList inLineCloseTagIndexes = new IntList();
+
+        final IntList wrapperCloseTagIndexes = new IntList();
+
+        static VastXmlTags scan(String vastXml) {
+            final VastXmlTags tags = new VastXmlTags();
+            for (int i = vastXml.indexOf('<'); i != -1; i = vastXml.indexOf('<', i + 1)) {
+                if (vastXml.startsWith("</", i)) {
+                    if (vastXml.startsWith(IMPRESSION_CLOSE_TAG, i)) {
+                        tags.lastImpressionCloseTagIndex = i;
+                    } else if (regionMatchesIgnoreCase(vastXml, i, IN_LINE_CLOSE_TAG)) {
+                        tags.inLineCloseTagIndexes.add(i);
+                    } else if (regionMatchesIgnoreCase(vastXml, i, WRAPPER_CLOSE_TAG)) {
+                        tags.wrapperCloseTagIndexes.add(i);
+                    }
+                } else if (tags.inLineTagIndex == -1 && regionMatchesIgnoreCase(vastXml, i, IN_LINE_TAG)) {
+                    tags.inLineTagIndex = i;
+                } else if (tags.wrapperTagIndex == -1 && regionMatchesIgnoreCase(vastXml, i, WRAPPER_TAG)) {
+                    tags.wrapperTagIndex = i;
+                }
+            }
+            return tags;
+        }
 
-        if (indexOfCloseTag == -1) {
-            return vastXml;
+        private static boolean regionMatchesIgnoreCase(String vastXml, int index, String tag) {
+            return vastXml.regionMatches(true, index, tag, 0, tag.length());
         }
+    }
 
-        final String caseSpecificCloseTag =
-                vastXml.substring(indexOfCloseTag, indexOfCloseTag + elementCloseTag.length());
-        final String impressionTag = "<Impression><![CDATA[" + vastUrlTracking + "]]></Impression>";
+    private static class IntList {
 
-        return vastXml.replace(caseSpecificCloseTag, impressionTag + caseSpecificCloseTag);
+        int[] values = new int[1];
+
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
     }
 }
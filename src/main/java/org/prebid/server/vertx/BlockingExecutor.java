@@ -0,0 +1,18 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Future;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Runs blocking code (JDBC calls, file processing, etc.) outside of Vert.x event loop.
+ */
+public interface BlockingExecutor {
+
+    /**
+     * Executes given task and returns {@link Future} eventually holding its result.
+     * <p>
+     * Result is delivered on the Vert.x context of the caller.
+     */
+    <T> Future<T> execute(Callable<T> task);
+}
@@ -1,6 +1,7 @@
 package org.prebid.server.vertx;
 
 import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 
 /**
  * Denotes components requiring initialization after they have been created.
@@ -12,4 +13,13 @@ import io.vertx.core.Handler;
 public interface Initializable {
 
     void initialize();
+
+    /**
+     * Initializes component and completes given promise when component is ready to serve requests, e.g. its initial
+     * data is loaded. Components without such data are ready right after {@link #initialize()}.
+     */
+    default void initialize(Promise<Void> initializePromise) {
+        initialize();
+        initializePromise.tryComplete();
+    }
 }
@@ -0,0 +1,92 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link BlockingExecutor} running each task in its own virtual thread, so blocking tasks never wait in a queue
+ * for a free worker.
+ * <p>
+ * Virtual threads require JDK 21+. On older JVMs fixed pool of platform threads of the given size is used instead.
+ */
+public class VirtualThreadBlockingExecutor implements BlockingExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadBlockingExecutor.class);
+
+    private final Vertx vertx;
+    private final ExecutorService executorService;
+
+    private final AtomicLong inFlight;
+
+    public VirtualThreadBlockingExecutor(Vertx vertx, Metrics metrics, int fallbackPoolSize) {
+        this(vertx, metrics, createExecutorService(fallbackPoolSize));
+    }
+
+    VirtualThreadBlockingExecutor(Vertx vertx, Metrics metrics, ExecutorService executorService) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.executorService = Objects.requireNonNull(executorService);
+
+        inFlight = new AtomicLong();
+        metrics.createBlockingTasksInFlightGauge(inFlight::get);
+    }
+
+    private static ExecutorService createExecutorService(int fallbackPoolSize) {
+        if (fallbackPoolSize < 1) {
+            throw new IllegalArgumentException("Fallback pool size must be positive");
+        }
+
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Virtual threads are not supported by JVM {0}, pool of {1} platform threads will be used"
+                    + " instead", System.getProperty("java.version"), fallbackPoolSize);
+
+            return Executors.newFixedThreadPool(fallbackPoolSize, new BasicThreadFactory.Builder()
+                    .namingPattern("blocking-executor-%d")
+                    .daemon(true)
+                    .build());
+        }
+    }
+
+    @Override
+    public <T> Future<T> execute(Callable<T> task) {
+        final Context context = vertx.getOrCreateContext();
+        final Promise<T> promise = Promise.promise();
+
+        inFlight.incrementAndGet();
+        try {
+            executorService.execute(() -> {
+                final AsyncResult<T> result = call(task);
+                inFlight.decrementAndGet();
+                context.runOnContext(ignored -> promise.handle(result));
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.decrementAndGet();
+            promise.fail(e);
+        }
+
+        return promise.future();
+    }
+
+    private static <T> AsyncResult<T> call(Callable<T> task) {
+        try {
+            return Future.succeededFuture(task.call());
+        } catch (Throwable e) {
+            return Future.failedFuture(e);
+        }
+    }
+}
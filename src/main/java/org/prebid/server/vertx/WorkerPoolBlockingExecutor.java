@@ -0,0 +1,49 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link BlockingExecutor} running tasks on Vert.x worker pool, so its size is limited by `vertx.worker-pool-size`.
+ */
+public class WorkerPoolBlockingExecutor implements BlockingExecutor {
+
+    private final Vertx vertx;
+
+    private final AtomicLong inFlight;
+
+    public WorkerPoolBlockingExecutor(Vertx vertx, Metrics metrics) {
+        this.vertx = Objects.requireNonNull(vertx);
+
+        inFlight = new AtomicLong();
+        metrics.createBlockingTasksInFlightGauge(inFlight::get);
+    }
+
+    @Override
+    public <T> Future<T> execute(Callable<T> task) {
+        final Promise<T> promise = Promise.promise();
+
+        inFlight.incrementAndGet();
+        vertx.<T>executeBlocking(
+                blockingPromise -> {
+                    try {
+                        blockingPromise.complete(task.call());
+                    } catch (Exception e) {
+                        blockingPromise.fail(e);
+                    }
+                },
+                false,
+                result -> {
+                    inFlight.decrementAndGet();
+                    promise.handle(result);
+                });
+
+        return promise.future();
+    }
+}
@@ -10,6 +10,8 @@ import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.jdbc.JDBCClient;
 import io.vertx.ext.sql.ResultSet;
 import io.vertx.ext.sql.SQLConnection;
+import io.vertx.ext.sql.SQLOptions;
+import io.vertx.ext.sql.SQLRowStream;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.metric.Metrics;
 
@@ -17,7 +19,11 @@ import java.time.Clock;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Wrapper over {@link JDBCClient} that supports setting query timeout in milliseconds.
@@ -66,20 +72,41 @@ public class BasicJdbcClient implements JdbcClient {
         // https://groups.google.com/d/msg/vertx/eSf3AQagGGU/K7pztnjLc_EJ
         final long timerId = vertx.setTimer(remainingTimeout, id -> timedOutResult(queryResultPromise, startTime));
 
-        final Promise<SQLConnection> connectionPromise = Promise.promise();
-        jdbcClient.getConnection(connectionPromise);
-        connectionPromise.future()
-                .recover(BasicJdbcClient::logConnectionError)
-                .compose(connection -> makeQuery(connection, query, params))
+        acquireConnection()
+                .compose(connection -> timedQuery(() -> makeQuery(connection, query, params)))
                 .onComplete(result -> handleResult(result, queryResultPromise, timerId, startTime));
 
         return queryResultPromise.future().map(mapper);
     }
 
+    @Override
+    public Future<Long> executeStreamingQuery(String query,
+                                              List<Object> params,
+                                              int fetchSize,
+                                              Consumer<JsonArray> rowConsumer,
+                                              Timeout timeout) {
+
+        final long remainingTimeout = timeout.remaining();
+        if (remainingTimeout <= 0) {
+            return Future.failedFuture(timeoutException());
+        }
+        final long startTime = clock.millis();
+        final Promise<Long> queryResultPromise = Promise.promise();
+
+        final long timerId = vertx.setTimer(remainingTimeout, id -> timedOutResult(queryResultPromise, startTime));
+
+        acquireConnection()
+                .compose(connection -> timedQuery(() -> makeStreamingQuery(
+                        connection, query, params, fetchSize, rowConsumer, queryResultPromise.future())))
+                .onComplete(result -> handleResult(result, queryResultPromise, timerId, startTime));
+
+        return queryResultPromise.future();
+    }
+
     /**
      * Fails result {@link Promise} with timeout exception.
      */
-    private void timedOutResult(Promise<ResultSet> queryResultPromise, long startTime) {
+    private <T> void timedOutResult(Promise<T> queryResultPromise, long startTime) {
         // no need for synchronization since timer is fired on the same event loop thread
         if (!queryResultPromise.future().isComplete()) {
             metrics.updateDatabaseQueryTimeMetric(clock.millis() - startTime);
@@ -87,6 +114,24 @@ public class BasicJdbcClient implements JdbcClient {
         }
     }
 
+    /**
+     * Acquires connection from the pool, tracking time spent waiting for it separately from query execution.
+     */
+    private Future<SQLConnection> acquireConnection() {
+        final long startTime = clock.millis();
+        final Promise<SQLConnection> connectionPromise = Promise.promise();
+        jdbcClient.getConnection(connectionPromise);
+        return connectionPromise.future()
+                .onSuccess(ignored -> metrics.updateDatabaseConnectionAcquireTimeMetric(clock.millis() - startTime))
+                .recover(BasicJdbcClient::logConnectionError);
+    }
+
+    private <T> Future<T> timedQuery(Supplier<Future<T>> query) {
+        final long startTime = clock.millis();
+        return query.get()
+                .onComplete(ignored -> metrics.updateDatabaseQueryExecutionTimeMetric(clock.millis() - startTime));
+    }
+
     private static Future<SQLConnection> logConnectionError(Throwable exception) {
         logger.warn("Cannot connect to database", exception);
         return Future.failedFuture(exception);
@@ -106,10 +151,92 @@ public class BasicJdbcClient implements JdbcClient {
     }
 
     /**
-     * Propagates responded {@link ResultSet} (or failure) to result {@link Promise}.
+     * Performs query to DB passing fetched rows to consumer as soon as they arrive.
+     * <p>
+     * Query runs with auto-commit disabled, otherwise drivers (e.g. PostgreSQL) ignore fetch size and load the whole
+     * result at once. Auto-commit is restored before connection is returned to the pool.
+     * <p>
+     * Stops fetching once query result is already completed (e.g. timed out) or consumer fails.
+     */
+    private static Future<Long> makeStreamingQuery(SQLConnection connection,
+                                                   String query,
+                                                   List<Object> params,
+                                                   int fetchSize,
+                                                   Consumer<JsonArray> rowConsumer,
+                                                   Future<Long> queryResult) {
+
+        final Promise<Long> rowsPromise = Promise.promise();
+        final AtomicBoolean connectionClosed = new AtomicBoolean();
+        final Runnable closeConnection = () -> {
+            if (connectionClosed.compareAndSet(false, true)) {
+                connection.setAutoCommit(true, ignored -> connection.close());
+            }
+        };
+
+        connection.setOptions(new SQLOptions().setFetchSize(fetchSize));
+        connection.setAutoCommit(false, autoCommitResult -> {
+            if (autoCommitResult.failed()) {
+                connectionClosed.set(true);
+                connection.close();
+                rowsPromise.fail(autoCommitResult.cause());
+                return;
+            }
+
+            streamRows(connection, query, params, rowConsumer, queryResult, rowsPromise, closeConnection);
+        });
+        return rowsPromise.future();
+    }
+
+    private static void streamRows(SQLConnection connection,
+                                   String query,
+                                   List<Object> params,
+                                   Consumer<JsonArray> rowConsumer,
+                                   Future<Long> queryResult,
+                                   Promise<Long> rowsPromise,
+                                   Runnable closeConnection) {
+
+        connection.queryStreamWithParams(query, new JsonArray(params), ar -> {
+            if (ar.failed()) {
+                closeConnection.run();
+                rowsPromise.fail(ar.cause());
+                return;
+            }
+
+            final SQLRowStream rowStream = ar.result();
+            final AtomicLong rows = new AtomicLong();
+            rowStream
+                    .exceptionHandler(exception -> {
+                        closeConnection.run();
+                        rowsPromise.tryFail(exception);
+                    })
+                    .endHandler(ignored -> {
+                        closeConnection.run();
+                        rowsPromise.tryComplete(rows.get());
+                    })
+                    .handler(row -> {
+                        if (rowsPromise.future().isComplete()) {
+                            return;
+                        }
+
+                        try {
+                            if (queryResult.isComplete()) {
+                                throw new IllegalStateException("Query result is already completed");
+                            }
+                            rowConsumer.accept(row);
+                            rows.incrementAndGet();
+                        } catch (Exception e) {
+                            rowsPromise.tryFail(e);
+                            rowStream.close(ignored -> closeConnection.run());
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Propagates responded result (or failure) to result {@link Promise}.
      */
-    private void handleResult(
-            AsyncResult<ResultSet> result, Promise<ResultSet> queryResultPromise, long timerId, long startTime) {
+    private <T> void handleResult(
+            AsyncResult<T> result, Promise<T> queryResultPromise, long timerId, long startTime) {
 
         vertx.cancelTimer(timerId);
 
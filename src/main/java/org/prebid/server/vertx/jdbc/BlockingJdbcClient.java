@@ -0,0 +1,355 @@
+package org.prebid.server.vertx.jdbc;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.ext.sql.ResultSet;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.BlockingExecutor;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link JdbcClient} working with plain JDBC {@link DataSource} (e.g. Hikari connection pool) and running blocking
+ * JDBC calls on {@link BlockingExecutor} instead of Vert.x JDBC client worker pool.
+ * <p>
+ * Result rows are converted to the same representation as Vert.x JDBC client has, so result mappers can be shared.
+ */
+public class BlockingJdbcClient implements JdbcClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlockingJdbcClient.class);
+
+    private final Vertx vertx;
+    private final DataSource dataSource;
+    private final BlockingExecutor blockingExecutor;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    public BlockingJdbcClient(Vertx vertx,
+                              DataSource dataSource,
+                              BlockingExecutor blockingExecutor,
+                              Metrics metrics,
+                              Clock clock) {
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.blockingExecutor = Objects.requireNonNull(blockingExecutor);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Triggers connection creation. Should be called during application initialization to detect connection issues as
+     * early as possible.
+     */
+    public Future<Void> initialize() {
+        return blockingExecutor.execute(this::checkConnection)
+                .recover(BlockingJdbcClient::logConnectionError)
+                .mapEmpty();
+    }
+
+    private Void checkConnection() throws SQLException {
+        dataSource.getConnection().close();
+        return null;
+    }
+
+    @Override
+    public <T> Future<T> executeQuery(String query, List<Object> params, Function<ResultSet, T> mapper,
+                                      Timeout timeout) {
+        final long remainingTimeout = timeout.remaining();
+        if (remainingTimeout <= 0) {
+            return Future.failedFuture(timeoutException());
+        }
+        final long startTime = clock.millis();
+        final Promise<ResultSet> queryResultPromise = Promise.promise();
+
+        final long timerId = vertx.setTimer(remainingTimeout, id -> timedOutResult(queryResultPromise, startTime));
+
+        blockingExecutor.execute(() -> query(query, params, remainingTimeout))
+                .onComplete(result -> handleResult(result, queryResultPromise, timerId, startTime));
+
+        return queryResultPromise.future().map(mapper);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Rows are passed to consumer on the blocking executor thread.
+     */
+    @Override
+    public Future<Long> executeStreamingQuery(String query,
+                                              List<Object> params,
+                                              int fetchSize,
+                                              Consumer<JsonArray> rowConsumer,
+                                              Timeout timeout) {
+
+        final long remainingTimeout = timeout.remaining();
+        if (remainingTimeout <= 0) {
+            return Future.failedFuture(timeoutException());
+        }
+        final long startTime = clock.millis();
+        final Promise<Long> queryResultPromise = Promise.promise();
+
+        final long timerId = vertx.setTimer(remainingTimeout, id -> timedOutResult(queryResultPromise, startTime));
+
+        final Future<Long> queryResult = queryResultPromise.future();
+        blockingExecutor.execute(() ->
+                        streamingQuery(query, params, fetchSize, rowConsumer, remainingTimeout, queryResult))
+                .onComplete(result -> handleResult(result, queryResultPromise, timerId, startTime));
+
+        return queryResult;
+    }
+
+    /**
+     * Performs query to DB. Must be called on blocking executor thread.
+     */
+    private ResultSet query(String query, List<Object> params, long timeoutMs) throws SQLException {
+        try (Connection connection = acquireConnection()) {
+            final long startTime = clock.millis();
+            try (PreparedStatement statement = prepareStatement(connection, query, params, timeoutMs);
+                 java.sql.ResultSet resultSet = statement.executeQuery()) {
+
+                final int columnCount = resultSet.getMetaData().getColumnCount();
+                final List<JsonArray> rows = new ArrayList<>();
+                while (resultSet.next()) {
+                    rows.add(toRow(resultSet, columnCount));
+                }
+                return new ResultSet(columnNames(resultSet.getMetaData()), rows, null);
+            } finally {
+                metrics.updateDatabaseQueryExecutionTimeMetric(clock.millis() - startTime);
+            }
+        }
+    }
+
+    /**
+     * Performs query to DB passing fetched rows to consumer. Must be called on blocking executor thread.
+     * <p>
+     * Query runs with auto-commit disabled, otherwise drivers (e.g. PostgreSQL) ignore fetch size and load the whole
+     * result at once. Auto-commit is restored before connection is returned to the pool.
+     * <p>
+     * Stops fetching once query result is already completed (e.g. timed out) or consumer fails.
+     */
+    private long streamingQuery(String query,
+                                List<Object> params,
+                                int fetchSize,
+                                Consumer<JsonArray> rowConsumer,
+                                long timeoutMs,
+                                Future<Long> queryResult) throws SQLException {
+
+        try (Connection connection = acquireConnection()) {
+            final long startTime = clock.millis();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = prepareStatement(connection, query, params, timeoutMs)) {
+                statement.setFetchSize(fetchSize);
+
+                try (java.sql.ResultSet resultSet = statement.executeQuery()) {
+                    final int columnCount = resultSet.getMetaData().getColumnCount();
+                    long rows = 0;
+                    while (resultSet.next()) {
+                        if (queryResult.isComplete()) {
+                            throw new IllegalStateException("Query result is already completed");
+                        }
+                        rowConsumer.accept(toRow(resultSet, columnCount));
+                        rows++;
+                    }
+                    return rows;
+                }
+            } finally {
+                metrics.updateDatabaseQueryExecutionTimeMetric(clock.millis() - startTime);
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private Connection acquireConnection() throws SQLException {
+        final long startTime = clock.millis();
+        final Connection connection = dataSource.getConnection();
+        metrics.updateDatabaseConnectionAcquireTimeMetric(clock.millis() - startTime);
+        return connection;
+    }
+
+    private static PreparedStatement prepareStatement(Connection connection,
+                                                      String query,
+                                                      List<Object> params,
+                                                      long timeoutMs) throws SQLException {
+
+        final PreparedStatement statement = connection.prepareStatement(query);
+        try {
+            statement.setQueryTimeout((int) Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(timeoutMs)));
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, toSqlParam(params.get(i)));
+            }
+            return statement;
+        } catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+    }
+
+    private static Object toSqlParam(Object param) {
+        if (param instanceof Instant instant) {
+            return Timestamp.from(instant);
+        }
+        if (param != null && param.getClass() == Date.class) {
+            return new Timestamp(((Date) param).getTime());
+        }
+        return param;
+    }
+
+    private static List<String> columnNames(ResultSetMetaData metaData) throws SQLException {
+        final int columnCount = metaData.getColumnCount();
+        final List<String> columnNames = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            columnNames.add(metaData.getColumnLabel(i));
+        }
+        return columnNames;
+    }
+
+    private static JsonArray toRow(java.sql.ResultSet resultSet, int columnCount) throws SQLException {
+        final JsonArray row = new JsonArray(new ArrayList<>(columnCount));
+        for (int i = 1; i <= columnCount; i++) {
+            row.add(toJsonValue(resultSet.getObject(i)));
+        }
+        return row;
+    }
+
+    /**
+     * Converts SQL value to JSON-compatible one exactly the way Vert.x JDBC client does
+     * (see {@code io.vertx.ext.jdbc.impl.actions.JDBCStatementHelper#convertSqlValue}).
+     */
+    static Object toJsonValue(Object value) throws SQLException {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Boolean || value instanceof String || value instanceof byte[]) {
+            return value;
+        }
+        if (value instanceof Number) {
+            if (value instanceof BigDecimal decimal) {
+                return decimal.scale() == 0 ? decimal.toBigInteger() : decimal.doubleValue();
+            }
+            return value;
+        }
+        if (value instanceof Time time) {
+            return time.toLocalTime().atOffset(ZoneOffset.UTC).format(DateTimeFormatter.ISO_LOCAL_TIME);
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate().format(DateTimeFormatter.ISO_LOCAL_DATE);
+        }
+        if (value instanceof Timestamp timestamp) {
+            return OffsetDateTime.ofInstant(timestamp.toInstant(), ZoneOffset.UTC)
+                    .format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        }
+        if (value instanceof Clob clob) {
+            try {
+                return clob.getSubString(1, (int) clob.length());
+            } finally {
+                free(clob::free);
+            }
+        }
+        if (value instanceof Blob blob) {
+            try {
+                return blob.getBytes(1, (int) blob.length());
+            } finally {
+                free(blob::free);
+            }
+        }
+        if (value instanceof Array array) {
+            try {
+                final Object[] elements = (Object[]) array.getArray();
+                if (elements != null) {
+                    final JsonArray jsonArray = new JsonArray();
+                    for (Object element : elements) {
+                        jsonArray.add(toJsonValue(element));
+                    }
+                    return jsonArray;
+                }
+            } finally {
+                array.free();
+            }
+        }
+        return value.toString();
+    }
+
+    /**
+     * Releases SQL object resources, tolerating drivers which don't support it.
+     */
+    private static void free(SqlAction action) throws SQLException {
+        try {
+            action.run();
+        } catch (AbstractMethodError | SQLFeatureNotSupportedException e) {
+            // not supported by driver
+        }
+    }
+
+    @FunctionalInterface
+    private interface SqlAction {
+
+        void run() throws SQLException;
+    }
+
+    /**
+     * Fails result {@link Promise} with timeout exception.
+     */
+    private <T> void timedOutResult(Promise<T> queryResultPromise, long startTime) {
+        // no need for synchronization since timer is fired on the same event loop thread
+        if (!queryResultPromise.future().isComplete()) {
+            metrics.updateDatabaseQueryTimeMetric(clock.millis() - startTime);
+            queryResultPromise.fail(timeoutException());
+        }
+    }
+
+    /**
+     * Propagates responded result (or failure) to result {@link Promise}.
+     */
+    private <T> void handleResult(
+            AsyncResult<T> result, Promise<T> queryResultPromise, long timerId, long startTime) {
+
+        vertx.cancelTimer(timerId);
+
+        // check is to avoid harmless exception if timeout exceeds before successful result becomes ready
+        if (!queryResultPromise.future().isComplete()) {
+            metrics.updateDatabaseQueryTimeMetric(clock.millis() - startTime);
+            queryResultPromise.handle(result);
+        }
+    }
+
+    private static Future<Void> logConnectionError(Throwable exception) {
+        logger.warn("Cannot connect to database", exception);
+        return Future.failedFuture(exception);
+    }
+
+    private static TimeoutException timeoutException() {
+        return new TimeoutException("Timed out while executing SQL query");
+    }
+}
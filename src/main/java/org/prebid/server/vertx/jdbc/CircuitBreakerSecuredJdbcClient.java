@@ -2,6 +2,7 @@ package org.prebid.server.vertx.jdbc;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.sql.ResultSet;
@@ -14,6 +15,7 @@ import java.time.Clock;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -63,6 +65,17 @@ public class CircuitBreakerSecuredJdbcClient implements JdbcClient {
         return breaker.execute(promise -> jdbcClient.executeQuery(query, params, mapper, timeout).onComplete(promise));
     }
 
+    @Override
+    public Future<Long> executeStreamingQuery(String query,
+                                              List<Object> params,
+                                              int fetchSize,
+                                              Consumer<JsonArray> rowConsumer,
+                                              Timeout timeout) {
+
+        return breaker.execute(promise ->
+                jdbcClient.executeStreamingQuery(query, params, fetchSize, rowConsumer, timeout).onComplete(promise));
+    }
+
     private void circuitOpened() {
         conditionalLogger.warn("Database is unavailable, circuit opened.", LOG_PERIOD_SECONDS, TimeUnit.SECONDS);
     }
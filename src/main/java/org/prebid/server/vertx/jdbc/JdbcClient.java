@@ -1,10 +1,12 @@
 package org.prebid.server.vertx.jdbc;
 
 import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
 import io.vertx.ext.sql.ResultSet;
 import org.prebid.server.execution.Timeout;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -18,4 +20,25 @@ public interface JdbcClient {
      * object by provided mapper.
      */
     <T> Future<T> executeQuery(String query, List<Object> params, Function<ResultSet, T> mapper, Timeout timeout);
+
+    /**
+     * Executes query with parameters and passes result rows one by one to provided consumer, so the whole result is
+     * never kept in memory. Returns {@link Future<Long>} eventually holding number of processed rows.
+     * <p>
+     * Rows are fetched from database by portions of given size, if supported by driver. Default implementation
+     * falls back to {@link #executeQuery(String, List, Function, Timeout)}.
+     * <p>
+     * Consumer is never called concurrently, but implementation may call it outside of Vert.x event loop.
+     */
+    default Future<Long> executeStreamingQuery(String query,
+                                               List<Object> params,
+                                               int fetchSize,
+                                               Consumer<JsonArray> rowConsumer,
+                                               Timeout timeout) {
+
+        return executeQuery(query, params, resultSet -> {
+            resultSet.getResults().forEach(rowConsumer);
+            return (long) resultSet.getNumRows();
+        }, timeout);
+    }
 }
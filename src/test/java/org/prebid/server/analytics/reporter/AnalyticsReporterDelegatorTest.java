@@ -107,6 +107,34 @@ public class AnalyticsReporterDelegatorTest {
         assertThat(captureEvent(secondReporter)).isSameAs(EVENT);
     }
 
+    @Test
+    public void shouldDropEventsWhileReportingIsSuspended() {
+        // given
+        target.suspendReporting();
+
+        // when
+        target.processEvent(EVENT);
+        target.processEvent(EVENT, TcfContext.empty());
+
+        // then
+        verify(vertx, never()).runOnContext(any());
+        verify(privacyEnforcementService, never()).resultForVendorIds(any(), any());
+    }
+
+    @Test
+    public void shouldPassEventsToDelegatesWhenReportingIsResumed() {
+        // given
+        target.suspendReporting();
+        target.resumeReporting();
+
+        // when
+        target.processEvent(EVENT);
+
+        // then
+        verify(vertx, times(2)).runOnContext(any());
+        assertThat(captureEvent(firstReporter)).isSameAs(EVENT);
+    }
+
     @Test
     public void shouldTolerateInvalidExtPrebidAnalyticsNode() {
         // given
@@ -3983,6 +3983,8 @@ public class ExchangeServiceTest extends VertxTest {
                 eq(ExecutionStatus.success),
                 eq(4L),
                 eq(ExecutionAction.no_action));
+        verify(metrics).updateHookCpuTimeMetric(anyString(), any(), any(), anyLong());
+        verify(metrics).updateHookCpuTimeMetric("module1", Stage.entrypoint, "hook1", 150L);
         verify(metrics, never()).updateAccountHooksMetrics(any(), any(), any(), any());
         verify(metrics, never()).updateAccountModuleDurationMetric(any(), any(), any());
     }
@@ -4689,6 +4691,7 @@ public class ExchangeServiceTest extends VertxTest {
                                 HookExecutionOutcome.builder()
                                         .hookId(HookId.of("module1", "hook1"))
                                         .executionTime(4L)
+                                        .cpuTimeMicros(150L)
                                         .status(ExecutionStatus.success)
                                         .message("Message 1-1")
                                         .action(ExecutionAction.update)
@@ -561,6 +561,49 @@ public class OrtbTypesResolverTest extends VertxTest {
         assertThat(fpd.path("app")).isEqualTo(requestFpdApp);
     }
 
+    @Test
+    public void isNormalizationRequiredShouldReturnFalseForRequestWithExpectedTypes() {
+        // given
+        final String bidRequest = """
+                {"id":"1","imp":[{"id":"imp1","ext":{"prebid":{"bidder":{"rubicon":{}}}}}],\
+                "site":{"page":"page","keywords":"k1,k2","content":{"data":[{"id":"1"}]},"ext":{"data":{}}},\
+                "user":{"gender":null,"data":[{"id":"2"}]},\
+                "ext":{"prebid":{"bidderconfig":null,"debug":1},"other":[1,2]}}""";
+
+        // when and then
+        assertThat(ortbTypesResolver.isNormalizationRequired(bidRequest)).isFalse();
+    }
+
+    @Test
+    public void isNormalizationRequiredShouldReturnTrueWhenFieldShouldBeConvertedFromArray() {
+        assertThat(ortbTypesResolver.isNormalizationRequired("{\"user\":{\"gender\":[\"m\"]}}")).isTrue();
+        assertThat(ortbTypesResolver.isNormalizationRequired("{\"site\":{\"keywords\":[\"k1\"]}}")).isTrue();
+        assertThat(ortbTypesResolver.isNormalizationRequired("{\"app\":{\"bundle\":1}}")).isTrue();
+    }
+
+    @Test
+    public void isNormalizationRequiredShouldReturnTrueWhenDataShouldBeMovedToExt() {
+        assertThat(ortbTypesResolver.isNormalizationRequired("{\"app\":{\"data\":{\"a\":1}}}")).isTrue();
+    }
+
+    @Test
+    public void isNormalizationRequiredShouldReturnTrueWhenContainerIsNotObject() {
+        assertThat(ortbTypesResolver.isNormalizationRequired("{\"site\":null}")).isTrue();
+        assertThat(ortbTypesResolver.isNormalizationRequired("{\"user\":\"user\"}")).isTrue();
+    }
+
+    @Test
+    public void isNormalizationRequiredShouldReturnTrueWhenBidderConfigIsPresent() {
+        assertThat(ortbTypesResolver.isNormalizationRequired("{\"ext\":{\"prebid\":{\"bidderconfig\":[]}}}"))
+                .isTrue();
+    }
+
+    @Test
+    public void isNormalizationRequiredShouldReturnTrueForMalformedRequest() {
+        assertThat(ortbTypesResolver.isNormalizationRequired("{\"id\":")).isTrue();
+        assertThat(ortbTypesResolver.isNormalizationRequired("body")).isTrue();
+    }
+
     private static ArrayNode array(String... fields) {
         final ArrayNode arrayNode = mapper.createArrayNode();
         Arrays.stream(fields).forEach(arrayNode::add);
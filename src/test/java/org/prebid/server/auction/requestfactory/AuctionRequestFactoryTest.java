@@ -3,6 +3,7 @@ package org.prebid.server.auction.requestfactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.App;
 import com.iab.openrtb.request.BidRequest;
@@ -48,7 +49,9 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidData;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidDataEidPermissions;
 import org.prebid.server.settings.model.Account;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.List;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -63,6 +66,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
 
@@ -484,6 +489,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
     public void shouldCallOrtbFieldsResolver() {
         // given
         givenValidBidRequest();
+        given(ortbTypesResolver.isNormalizationRequired(any())).willReturn(true);
 
         // when
         target.fromRequest(routingContext, 0L).result();
@@ -492,6 +498,47 @@ public class AuctionRequestFactoryTest extends VertxTest {
         verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any());
     }
 
+    @Test
+    public void shouldNotCallOrtbFieldsResolverWhenNormalizationIsNotRequired() {
+        // given
+        givenValidBidRequest();
+        given(ortbTypesResolver.isNormalizationRequired(any())).willReturn(false);
+
+        // when
+        final Future<AuctionContext> result = target.fromRequest(routingContext, 0L);
+
+        // then
+        verify(ortbTypesResolver, never()).normalizeBidRequest(any(), any(), any());
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    public void shouldKeepDecimalsScaleWhetherOrNotNormalizationIsRequired() throws JsonProcessingException {
+        // given
+        givenValidBidRequest();
+        given(routingContext.getBodyAsString())
+                .willReturn("{\"imp\":[{\"id\":\"1\",\"bidfloor\":1.50,\"ext\":{\"value\":1.10}}]}");
+        given(ortbTypesResolver.isNormalizationRequired(any())).willReturn(false, true);
+
+        // when
+        target.fromRequest(routingContext, 0L);
+        target.fromRequest(routingContext, 0L);
+
+        // then
+        final ArgumentCaptor<BidRequest> captor = ArgumentCaptor.forClass(BidRequest.class);
+        verify(ortb2RequestFactory, times(2)).enrichAuctionContext(any(), any(), captor.capture(), anyLong());
+
+        final List<BidRequest> capturedRequests = captor.getAllValues();
+        assertThat(capturedRequests.get(0).getImp().get(0).getBidfloor()).isEqualTo(new BigDecimal("1.50"));
+        assertThat(capturedRequests.get(1).getImp().get(0).getBidfloor()).isEqualTo(new BigDecimal("1.50"));
+        assertThat(capturedRequests.get(0).getImp().get(0).getExt().get("value"))
+                .isEqualTo(DecimalNode.valueOf(new BigDecimal("1.10")));
+        assertThat(capturedRequests.get(1)).isEqualTo(capturedRequests.get(0));
+        assertThat(mapper.writeValueAsString(capturedRequests.get(1)))
+                .isEqualTo(mapper.writeValueAsString(capturedRequests.get(0)))
+                .contains("\"value\":1.10");
+    }
+
     @Test
     public void shouldReturnFailedFutureIfOrtb2RequestFactoryReturnedFailedFuture() {
         // given
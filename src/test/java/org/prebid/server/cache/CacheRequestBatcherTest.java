@@ -0,0 +1,267 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.proto.request.BidCacheRequest;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.cache.proto.response.BidCacheResponse;
+import org.prebid.server.cache.proto.response.CacheObject;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class CacheRequestBatcherTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private Metrics metrics;
+
+    private TimeoutFactory timeoutFactory;
+
+    private Vertx vertx;
+
+    private CacheRequestBatcher requestBatcher;
+
+    @Before
+    public void setUp() {
+        final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        timeoutFactory = new TimeoutFactory(clock);
+        vertx = Vertx.vertx();
+
+        requestBatcher = new CacheRequestBatcher(
+                httpClient, "http://cache-service/cache", 10, 1000L, metrics, clock, jacksonMapper);
+    }
+
+    @After
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMaxBatchSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new CacheRequestBatcher(
+                httpClient, "http://cache-service/cache", 0, 1000L, metrics, Clock.systemUTC(), jacksonMapper));
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMaxBatchBytes() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new CacheRequestBatcher(
+                httpClient, "http://cache-service/cache", 10, 0L, metrics, Clock.systemUTC(), jacksonMapper));
+    }
+
+    @Test
+    public void putShouldSendRequestImmediatelyWhenCalledOutsideOfVertxContext() throws JsonProcessingException {
+        // given
+        givenHttpClientReturnsResponse(200, BidCacheResponse.of(singletonList(CacheObject.of("uuid1"))));
+
+        // when
+        final Future<BidCacheResponse> future = requestBatcher.put(
+                singletonList(givenPutObject("value1")), 6, timeoutFactory.create(500L));
+
+        // then
+        assertThat(future.result()).isEqualTo(BidCacheResponse.of(singletonList(CacheObject.of("uuid1"))));
+        verify(httpClient).post(eq("http://cache-service/cache"), any(), anyString(), eq(500L));
+        verify(metrics).updateCacheBatchSize(1);
+    }
+
+    @Test
+    public void putShouldFailWhenTimeoutAlreadyExpired() {
+        // given
+        final Timeout expiredTimeout = timeoutFactory.create(
+                Instant.now().minusMillis(1500L).toEpochMilli(), 1000L);
+
+        // when
+        final Future<BidCacheResponse> future = requestBatcher.put(
+                singletonList(givenPutObject("value1")), 6, expiredTimeout);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(TimeoutException.class).hasMessage("Timeout has been exceeded");
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    public void putShouldFailWhenResponseCodeIsNot200() throws JsonProcessingException {
+        // given
+        givenHttpClientReturnsResponse(503, BidCacheResponse.of(singletonList(CacheObject.of("uuid1"))));
+
+        // when
+        final Future<BidCacheResponse> future = requestBatcher.put(
+                singletonList(givenPutObject("value1")), 6, timeoutFactory.create(500L));
+
+        // then
+        assertThat(future.cause()).isInstanceOf(PreBidException.class).hasMessage("HTTP status code 503");
+    }
+
+    @Test
+    public void putShouldFailWhenNumberOfCacheObjectsDoesNotMatchPutObjects() throws JsonProcessingException {
+        // given
+        givenHttpClientReturnsResponse(200, BidCacheResponse.of(singletonList(CacheObject.of("uuid1"))));
+
+        // when
+        final Future<BidCacheResponse> future = requestBatcher.put(
+                asList(givenPutObject("value1"), givenPutObject("value2")), 12, timeoutFactory.create(500L));
+
+        // then
+        assertThat(future.cause()).isInstanceOf(PreBidException.class)
+                .hasMessage("The number of response cache objects doesn't match with bids");
+    }
+
+    @Test
+    public void putShouldMergeRequestsMadeOnTheSameContextAndSplitResponse() throws Exception {
+        // given
+        givenHttpClientReturnsResponse(200, BidCacheResponse.of(asList(
+                CacheObject.of("uuid1"), CacheObject.of("uuid2"), CacheObject.of("uuid3"))));
+
+        // when
+        final List<Future<BidCacheResponse>> futures = runOnContext(() -> asList(
+                requestBatcher.put(singletonList(givenPutObject("value1")), 6, timeoutFactory.create(500L)),
+                requestBatcher.put(asList(givenPutObject("value2"), givenPutObject("value3")), 12,
+                        timeoutFactory.create(300L))));
+
+        // then
+        assertThat(awaitResult(futures.get(0)))
+                .isEqualTo(BidCacheResponse.of(singletonList(CacheObject.of("uuid1"))));
+        assertThat(awaitResult(futures.get(1)))
+                .isEqualTo(BidCacheResponse.of(asList(CacheObject.of("uuid2"), CacheObject.of("uuid3"))));
+
+        final ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(httpClient).post(anyString(), any(), bodyCaptor.capture(), eq(300L));
+        assertThat(mapper.readValue(bodyCaptor.getValue(), BidCacheRequest.class).getPuts())
+                .containsExactly(givenPutObject("value1"), givenPutObject("value2"), givenPutObject("value3"));
+
+        verify(metrics).updateCacheBatchSize(3);
+        verify(metrics, times(2)).updateCacheBatchAddedLatency(anyLong());
+    }
+
+    @Test
+    public void putShouldSendBatchWhenMaxSizeIsReached() throws Exception {
+        // given
+        requestBatcher = new CacheRequestBatcher(
+                httpClient, "http://cache-service/cache", 2, 1000L, metrics, Clock.systemUTC(), jacksonMapper);
+        givenHttpClientReturnsResponse(200, BidCacheResponse.of(singletonList(CacheObject.of("uuid"))));
+
+        // when
+        final List<Future<BidCacheResponse>> futures = runOnContext(() -> asList(
+                requestBatcher.put(singletonList(givenPutObject("value1")), 6, timeoutFactory.create(500L)),
+                requestBatcher.put(singletonList(givenPutObject("value2")), 6, timeoutFactory.create(500L)),
+                requestBatcher.put(singletonList(givenPutObject("value3")), 6, timeoutFactory.create(500L))));
+
+        // then
+        awaitCompletion(futures.get(0));
+        awaitCompletion(futures.get(2));
+        verify(httpClient, times(2)).post(anyString(), any(), anyString(), anyLong());
+        verify(metrics).updateCacheBatchSize(2);
+        verify(metrics).updateCacheBatchSize(1);
+    }
+
+    @Test
+    public void putShouldSendBatchWhenMaxBytesIsReached() throws Exception {
+        // given
+        givenHttpClientReturnsResponse(200, BidCacheResponse.of(singletonList(CacheObject.of("uuid"))));
+
+        // when
+        final List<Future<BidCacheResponse>> futures = runOnContext(() -> asList(
+                requestBatcher.put(singletonList(givenPutObject("value1")), 1000, timeoutFactory.create(500L)),
+                requestBatcher.put(singletonList(givenPutObject("value2")), 6, timeoutFactory.create(500L))));
+
+        // then
+        assertThat(awaitResult(futures.get(0)))
+                .isEqualTo(BidCacheResponse.of(singletonList(CacheObject.of("uuid"))));
+        assertThat(awaitResult(futures.get(1)))
+                .isEqualTo(BidCacheResponse.of(singletonList(CacheObject.of("uuid"))));
+        verify(httpClient, times(2)).post(anyString(), any(), anyString(), anyLong());
+    }
+
+    @Test
+    public void putShouldFailAllMergedRequestsWhenHttpRequestFails() throws Exception {
+        // given
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.failedFuture(new RuntimeException("Request exception")));
+
+        // when
+        final List<Future<BidCacheResponse>> futures = runOnContext(() -> asList(
+                requestBatcher.put(singletonList(givenPutObject("value1")), 6, timeoutFactory.create(500L)),
+                requestBatcher.put(singletonList(givenPutObject("value2")), 6, timeoutFactory.create(500L))));
+
+        // then
+        for (Future<BidCacheResponse> future : futures) {
+            awaitCompletion(future);
+            assertThat(future.cause()).isInstanceOf(RuntimeException.class).hasMessage("Request exception");
+        }
+        verify(httpClient).post(anyString(), any(), anyString(), anyLong());
+    }
+
+    private <T> T runOnContext(Supplier<T> supplier) throws Exception {
+        final Context context = vertx.getOrCreateContext();
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        context.runOnContext(ignored -> result.complete(supplier.get()));
+        return result.get(5, TimeUnit.SECONDS);
+    }
+
+    private static <T> T awaitResult(Future<T> future) throws Exception {
+        awaitCompletion(future);
+        return future.result();
+    }
+
+    private static void awaitCompletion(Future<?> future) throws Exception {
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        future.onComplete(ignored -> completion.complete(null));
+        completion.get(5, TimeUnit.SECONDS);
+    }
+
+    private void givenHttpClientReturnsResponse(int statusCode, BidCacheResponse response)
+            throws JsonProcessingException {
+
+        given(httpClient.post(anyString(), any(), anyString(), anyLong())).willReturn(Future.succeededFuture(
+                HttpClientResponse.of(statusCode, null, mapper.writeValueAsString(response))));
+    }
+
+    private static PutObject givenPutObject(String value) {
+        return PutObject.builder()
+                .type("xml")
+                .value(new TextNode(value))
+                .build();
+    }
+}
@@ -69,6 +69,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
@@ -86,6 +87,10 @@ public class CacheServiceTest extends VertxTest {
     @Mock
     private HttpClient httpClient;
     @Mock
+    private CacheRequestBatcher requestBatcher;
+    @Mock
+    private EmbeddedCache embeddedCache;
+    @Mock
     private EventsService eventsService;
     @Mock
     private VastModifier vastModifier;
@@ -111,6 +116,8 @@ public class CacheServiceTest extends VertxTest {
         cacheService = new CacheService(
                 mediaTypeCacheTtl,
                 httpClient,
+                null,
+                null,
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
@@ -557,6 +564,8 @@ public class CacheServiceTest extends VertxTest {
         cacheService = new CacheService(
                 CacheTtl.of(20, null),
                 httpClient,
+                null,
+                null,
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
@@ -598,6 +607,8 @@ public class CacheServiceTest extends VertxTest {
         cacheService = new CacheService(
                 CacheTtl.of(10, null),
                 httpClient,
+                null,
+                null,
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
@@ -635,6 +646,8 @@ public class CacheServiceTest extends VertxTest {
         cacheService = new CacheService(
                 CacheTtl.of(10, null),
                 httpClient,
+                null,
+                null,
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
@@ -708,6 +721,99 @@ public class CacheServiceTest extends VertxTest {
                 .containsEntry(bidInfo.getBid(), CacheInfo.of("uuid1", null, null, null));
     }
 
+    @Test
+    public void cacheBidsOpenrtbShouldPutCacheObjectsToBatcherWhenConfigured() throws MalformedURLException {
+        // given
+        givenCacheServiceWithBatcher();
+        given(requestBatcher.put(any(), anyInt(), any())).willReturn(Future.succeededFuture(
+                BidCacheResponse.of(singletonList(CacheObject.of("uuid1")))));
+
+        final BidInfo bidInfo = givenBidInfo(bidBuilder -> bidBuilder.id("bidId1"));
+
+        // when
+        final Future<CacheServiceResult> future = cacheService.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        verifyNoInteractions(httpClient);
+        verify(requestBatcher).put(
+                eq(singletonList(PutObject.builder()
+                        .aid("auctionId")
+                        .type("json")
+                        .value(mapper.valueToTree(bidInfo.getBid()))
+                        .build())),
+                anyInt(),
+                eq(timeout));
+        verify(metrics).updateCacheRequestSuccessTime(eq("accountId"), anyLong());
+
+        final CacheServiceResult result = future.result();
+        assertThat(result.getCacheBids()).hasSize(1)
+                .containsEntry(bidInfo.getBid(), CacheInfo.of("uuid1", null, null, null));
+        assertThat(result.getHttpCall().getRequestBody()).isNull();
+        assertThat(result.getHttpCall().getResponseBody()).isNull();
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldTolerateBatcherFailure() throws MalformedURLException {
+        // given
+        givenCacheServiceWithBatcher();
+        given(requestBatcher.put(any(), anyInt(), any()))
+                .willReturn(Future.failedFuture(new PreBidException("HTTP status code 503")));
+
+        // when
+        final Future<CacheServiceResult> future = cacheService.cacheBidsOpenrtb(
+                singletonList(givenBidInfo(bidBuilder -> bidBuilder.id("bidId1"))),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        verify(metrics).updateCacheRequestFailedTime(eq("accountId"), anyLong());
+
+        final CacheServiceResult result = future.result();
+        assertThat(result.getCacheBids()).isEmpty();
+        assertThat(result.getError()).isInstanceOf(PreBidException.class).hasMessage("HTTP status code 503");
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldStoreCacheObjectsInEmbeddedCacheWhenConfigured() throws MalformedURLException {
+        // given
+        givenCacheServiceWithEmbeddedCache();
+        given(embeddedCache.put(any())).willReturn(BidCacheResponse.of(singletonList(CacheObject.of("uuid1"))));
+
+        final BidInfo bidInfo = givenBidInfo(bidBuilder -> bidBuilder.id("bidId1"));
+
+        // when
+        final Future<CacheServiceResult> future = cacheService.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        verifyNoInteractions(httpClient);
+        verify(embeddedCache).put(singletonList(PutObject.builder()
+                .aid("auctionId")
+                .type("json")
+                .value(mapper.valueToTree(bidInfo.getBid()))
+                .build()));
+        verify(metrics).updateCacheRequestSuccessTime(eq("accountId"), anyLong());
+
+        final CacheServiceResult result = future.result();
+        assertThat(result.getCacheBids()).hasSize(1)
+                .containsEntry(bidInfo.getBid(), CacheInfo.of("uuid1", null, null, null));
+        assertThat(result.getHttpCall().getRequestBody()).isNull();
+    }
+
     @Test
     public void cacheBidsOpenrtbShouldReturnExpectedResultForVideoBids() {
         // given
@@ -895,6 +1001,30 @@ public class CacheServiceTest extends VertxTest {
         assertThat(result.result().getResponses()).isEmpty();
     }
 
+    @Test
+    public void cachePutObjectsShouldStorePutObjectsInEmbeddedCacheWhenConfigured() throws MalformedURLException {
+        // given
+        givenCacheServiceWithEmbeddedCache();
+        final BidCacheResponse bidCacheResponse = BidCacheResponse.of(singletonList(CacheObject.of("uuid1")));
+        given(embeddedCache.put(any())).willReturn(bidCacheResponse);
+        given(vastModifier.modifyVastXml(any(), any(), any(), any(), any())).willReturn(new TextNode("vast"));
+
+        // when
+        final Future<BidCacheResponse> future = cacheService.cachePutObjects(
+                singletonList(PutObject.builder().type("xml").value(new TextNode("vast")).build()),
+                true,
+                emptySet(),
+                "account",
+                "pbjs",
+                timeout);
+
+        // then
+        verifyNoInteractions(httpClient);
+        verify(embeddedCache).put(singletonList(PutObject.builder().type("xml").value(new TextNode("vast")).build()));
+        verify(metrics).updateCacheRequestSuccessTime(eq("account"), anyLong());
+        assertThat(future.result()).isSameAs(bidCacheResponse);
+    }
+
     @Test
     public void cachePutObjectsShouldModifyVastAndCachePutObjects() throws IOException {
         // given
@@ -1044,6 +1174,40 @@ public class CacheServiceTest extends VertxTest {
                 mapper.writeValueAsString(BidCacheRequest.of(putObjects)));
     }
 
+    private void givenCacheServiceWithBatcher() throws MalformedURLException {
+        cacheService = new CacheService(
+                mediaTypeCacheTtl,
+                httpClient,
+                requestBatcher,
+                null,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper);
+    }
+
+    private void givenCacheServiceWithEmbeddedCache() throws MalformedURLException {
+        cacheService = new CacheService(
+                mediaTypeCacheTtl,
+                httpClient,
+                null,
+                embeddedCache,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper);
+    }
+
     private void givenHttpClientReturnsResponse(int statusCode, String response) {
         final HttpClientResponse httpClientResponse = HttpClientResponse.of(statusCode, null, response);
         given(httpClient.post(anyString(), any(), any(), anyLong()))
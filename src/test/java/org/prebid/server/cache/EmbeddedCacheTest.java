@@ -0,0 +1,171 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.model.EmbeddedCacheEntry;
+import org.prebid.server.cache.proto.request.PutObject;
+import org.prebid.server.cache.proto.response.BidCacheResponse;
+import org.prebid.server.cache.proto.response.CacheObject;
+import org.prebid.server.identity.IdGenerator;
+import org.prebid.server.metric.Metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+public class EmbeddedCacheTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private IdGenerator idGenerator;
+    @Mock
+    private Metrics metrics;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private EmbeddedCache embeddedCache;
+
+    @Before
+    public void setUp() {
+        given(idGenerator.generateId()).willReturn("uuid1", "uuid2");
+
+        embeddedCache = new EmbeddedCache(1000L, 300, idGenerator, metrics, jacksonMapper, ticker());
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveDefaultTtl() {
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                new EmbeddedCache(1000L, 0, idGenerator, metrics, jacksonMapper));
+    }
+
+    @Test
+    public void creationShouldCreateGauges() {
+        // then
+        verify(metrics).createCacheEmbeddedEntriesGauge(any());
+        verify(metrics).createCacheEmbeddedBytesGauge(any());
+    }
+
+    @Test
+    public void putShouldReturnGeneratedKeysInTheOrderOfPutObjects() {
+        // when
+        final BidCacheResponse result = embeddedCache.put(asList(
+                PutObject.builder().type("xml").value(new TextNode("<VAST/>")).build(),
+                PutObject.builder().type("xml").value(new TextNode("<VAST/>")).build()));
+
+        // then
+        assertThat(result.getResponses()).containsExactly(CacheObject.of("uuid1"), CacheObject.of("uuid2"));
+    }
+
+    @Test
+    public void putShouldUseKeyOfPutObjectIfPresent() {
+        // when
+        final BidCacheResponse result = embeddedCache.put(singletonList(
+                PutObject.builder().type("xml").key("customKey").value(new TextNode("<VAST/>")).build()));
+
+        // then
+        assertThat(result.getResponses()).containsExactly(CacheObject.of("customKey"));
+        assertThat(embeddedCache.get("customKey")).isEqualTo(EmbeddedCacheEntry.of("xml", "<VAST/>", 300));
+    }
+
+    @Test
+    public void putShouldNotOverwriteEntryWithTheSameKeyAndReturnEmptyKeyForIt() {
+        // given
+        embeddedCache.put(singletonList(
+                PutObject.builder().type("xml").key("customKey").value(new TextNode("<VAST/>")).build()));
+
+        // when
+        final BidCacheResponse result = embeddedCache.put(asList(
+                PutObject.builder().type("xml").key("customKey").value(new TextNode("<VAST>other</VAST>")).build(),
+                PutObject.builder().type("xml").value(new TextNode("<VAST/>")).build()));
+
+        // then
+        assertThat(result.getResponses()).containsExactly(CacheObject.of(""), CacheObject.of("uuid1"));
+        assertThat(embeddedCache.get("customKey")).isEqualTo(EmbeddedCacheEntry.of("xml", "<VAST/>", 300));
+        verify(metrics).updateCacheEmbeddedConflictMetric();
+    }
+
+    @Test
+    public void putShouldStoreJsonValueAsJsonAndOtherValuesAsText() {
+        // when
+        embeddedCache.put(asList(
+                PutObject.builder().type("json").value(mapper.createObjectNode().put("id", "bidId")).build(),
+                PutObject.builder().type("xml").value(new TextNode("<VAST/>")).expiry(60).build()));
+
+        // then
+        assertThat(embeddedCache.get("uuid1")).isEqualTo(EmbeddedCacheEntry.of("json", "{\"id\":\"bidId\"}", 300));
+        assertThat(embeddedCache.get("uuid2")).isEqualTo(EmbeddedCacheEntry.of("xml", "<VAST/>", 60));
+    }
+
+    @Test
+    public void getShouldReturnNullAndUpdateMetricWhenEntryIsMissing() {
+        // when
+        final EmbeddedCacheEntry result = embeddedCache.get("uuid");
+
+        // then
+        assertThat(result).isNull();
+        verify(metrics).updateCacheEmbeddedLookupMetric(false);
+    }
+
+    @Test
+    public void getShouldUpdateMetricWhenEntryIsFound() {
+        // given
+        embeddedCache.put(singletonList(PutObject.builder().type("xml").value(new TextNode("<VAST/>")).build()));
+
+        // when
+        embeddedCache.get("uuid1");
+
+        // then
+        verify(metrics).updateCacheEmbeddedLookupMetric(true);
+    }
+
+    @Test
+    public void getShouldNotReturnEntryAfterItsTtl() {
+        // given
+        embeddedCache.put(asList(
+                PutObject.builder().type("xml").value(new TextNode("<VAST/>")).ttlseconds(10).build(),
+                PutObject.builder().type("xml").value(new TextNode("<VAST/>")).build()));
+
+        // when
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(11));
+
+        // then
+        assertThat(embeddedCache.get("uuid1")).isNull();
+        assertThat(embeddedCache.get("uuid2")).isNotNull();
+    }
+
+    @Test
+    public void putShouldEvictEntriesAndUpdateMetricWhenMaxSizeIsExceeded() {
+        // given
+        embeddedCache = new EmbeddedCache(20L, 300, idGenerator, metrics, jacksonMapper, ticker());
+
+        // when
+        embeddedCache.put(asList(
+                PutObject.builder().type("xml").value(new TextNode("0123456789")).build(),
+                PutObject.builder().type("xml").value(new TextNode("0123456789")).build()));
+        embeddedCache.get("uuid1");
+        embeddedCache.get("uuid2");
+
+        // then
+        verify(metrics).updateCacheEmbeddedEvictionMetric();
+    }
+
+    private Ticker ticker() {
+        return nanos::get;
+    }
+}
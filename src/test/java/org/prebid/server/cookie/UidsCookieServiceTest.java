@@ -7,6 +7,7 @@ import io.vertx.ext.web.RoutingContext;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -25,13 +26,17 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static java.util.function.Function.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -106,6 +111,60 @@ public class UidsCookieServiceTest extends VertxTest {
         assertThat(uidsCookie.uidFrom(ADNXS)).isEqualTo("12345");
     }
 
+    @Test
+    public void parseFromRequestShouldStoreParsedUidsInRoutingContext() {
+        // given
+        // this uids cookie value stands for {"uids":{"rubicon":"J5VLCWQP-26-CWFT","adnxs":"12345"}}
+        given(routingContext.cookieMap()).willReturn(singletonMap("uids", Cookie.cookie(
+                "uids",
+                "eyJ1aWRzIjp7InJ1Ymljb24iOiJKNVZMQ1dRUC0yNi1DV0ZUIiwiYWRueHMiOiIxMjM0NSJ9fQ==")));
+
+        // when
+        uidsCookieService.parseFromRequest(routingContext);
+
+        // then
+        final ArgumentCaptor<Optional<Uids>> parsedUidsCaptor = ArgumentCaptor.forClass(Optional.class);
+        verify(routingContext).put(eq("parsedUids"), parsedUidsCaptor.capture());
+        assertThat(parsedUidsCaptor.getValue())
+                .get()
+                .extracting(Uids::getUidsLegacy)
+                .isEqualTo(Map.of(RUBICON, "J5VLCWQP-26-CWFT", ADNXS, "12345"));
+    }
+
+    @Test
+    public void parseFromRequestShouldReuseUidsAlreadyParsedForRequest() {
+        // given
+        given(routingContext.cookieMap()).willReturn(singletonMap("uids", Cookie.cookie("uids", "invalid")));
+        given(routingContext.<Optional<Uids>>get("parsedUids")).willReturn(Optional.of(Uids.builder()
+                .uids(Map.of(RUBICON, UidWithExpiry.live("J5VLCWQP-26-CWFT")))
+                .build()));
+
+        // when
+        final UidsCookie uidsCookie = uidsCookieService.parseFromRequest(routingContext);
+
+        // then
+        assertThat(uidsCookie.uidFrom(RUBICON)).isEqualTo("J5VLCWQP-26-CWFT");
+        verify(routingContext, never()).put(any(), any());
+    }
+
+    @Test
+    public void shouldReturnUidsCookieFromLargeCookieValue() throws JsonProcessingException {
+        // given
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        for (int i = 0; i < 40; i++) {
+            uids.put("family-" + i, UidWithExpiry.live("some-rather-long-user-id-" + i));
+        }
+        final String cookieValue = encodeUids(Uids.builder().uids(uids).build());
+        given(routingContext.cookieMap()).willReturn(singletonMap("uids", Cookie.cookie("uids", cookieValue)));
+
+        // when
+        final UidsCookie uidsCookie = uidsCookieService.parseFromRequest(routingContext);
+
+        // then
+        assertThat(cookieValue.length()).isGreaterThan(3000);
+        assertThat(uidsCookie.getCookieUids().getUids()).isEqualTo(uids);
+    }
+
     @Test
     public void shouldReturnNonNullUidsCookieIfUidsCookieIsMissing() {
         // when
@@ -127,6 +186,22 @@ public class UidsCookieServiceTest extends VertxTest {
         assertThat(uidsCookie).isNotNull();
     }
 
+    @Test
+    public void parseUidsShouldReturnNullIfUidsCookieHasNonAsciiCharacter() throws JsonProcessingException {
+        // given
+        final String uidsCookieBase64 = encodeUids(Uids.builder()
+                .uids(singletonMap(RUBICON, UidWithExpiry.live("J5VLCWQP-26-CWFT")))
+                .build());
+        // low byte of the replacement character is the original Base64 character
+        final String nonAsciiCookieValue = (char) (uidsCookieBase64.charAt(0) | 0x100) + uidsCookieBase64.substring(1);
+
+        // when
+        final Uids uids = uidsCookieService.parseUids(singletonMap("uids", nonAsciiCookieValue));
+
+        // then
+        assertThat(uids).isNull();
+    }
+
     @Test
     public void shouldReturnNonNullUidsCookieIfUidsCookieIsNonJson() {
         // given
@@ -777,6 +852,50 @@ public class UidsCookieServiceTest extends VertxTest {
                 .containsExactlyInAnyOrder("family", "another-very-very-very-long-family");
     }
 
+    @Test
+    public void updateUidsCookieShouldTrimManyFamiliesToTheLimitStartingFromEarliestExpiration() {
+        // given
+        uidsCookieService = new UidsCookieService(
+                "trp_optout",
+                "true",
+                RUBICON,
+                "khaos",
+                "cookie-domain",
+                90,
+                4096,
+                prioritizedCoopSyncProvider,
+                metrics,
+                jacksonMapper);
+        given(prioritizedCoopSyncProvider.hasPrioritizedBidders()).willReturn(false);
+
+        final ZonedDateTime now = ZonedDateTime.now(Clock.systemUTC());
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        for (int i = 0; i < 64; i++) {
+            uids.put("family-" + i, new UidWithExpiry("uid-" + i, now.plusMinutes(10 + i)));
+        }
+        final UidsCookie uidsCookie = givenUidsCookie(uids);
+
+        // when
+        final UidsCookieUpdateResult result = uidsCookieService.updateUidsCookie(
+                uidsCookie, "family", "uid");
+
+        // then
+        final UidsCookie updatedCookie = result.getUidsCookie();
+        final Map<String, UidWithExpiry> updatedUids = updatedCookie.getCookieUids().getUids();
+        assertThat(uidsCookieService.toCookie(updatedCookie).encode().getBytes().length).isLessThanOrEqualTo(4096);
+        assertThat(updatedUids).containsKey("family").hasSizeLessThan(65);
+
+        // removing the next family should not be required, so previous one must have overflowed the limit
+        final int removedCount = 65 - updatedUids.size();
+        for (int i = 0; i < removedCount; i++) {
+            assertThat(updatedUids).doesNotContainKey("family-" + i);
+            verify(metrics).updateUserSyncSizedOutMetric("family-" + i);
+        }
+        final UidsCookie lastRemovedRestored = updatedCookie.updateUid(
+                "family-" + (removedCount - 1), "uid-" + (removedCount - 1));
+        assertThat(uidsCookieService.toCookie(lastRemovedRestored).encode().getBytes().length).isGreaterThan(4096);
+    }
+
     private UidsCookie givenUidsCookie(Map<String, UidWithExpiry> uids) {
         return new UidsCookie(Uids.builder().uids(uids).build(), jacksonMapper);
     }
@@ -0,0 +1,113 @@
+package org.prebid.server.cookie;
+
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UidsCookieSizeTest extends VertxTest {
+
+    private static final int COOKIE_OVERHEAD_BYTES = 100;
+
+    @Test
+    public void totalBytesShouldReturnExpectedSizeForEmptyUids() {
+        // given
+        final UidsCookie uidsCookie = givenUidsCookie(emptyMap());
+
+        // when
+        final UidsCookieSize cookieSize = UidsCookieSize.of(uidsCookie, COOKIE_OVERHEAD_BYTES, jacksonMapper);
+
+        // then
+        assertThat(cookieSize.totalBytes()).isEqualTo(expectedTotalBytes(uidsCookie));
+    }
+
+    @Test
+    public void totalBytesShouldReturnExpectedSizeForManyUids() {
+        // given
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        for (int i = 0; i < 64; i++) {
+            uids.put("family-" + i, UidWithExpiry.live("uid-" + i));
+        }
+        final UidsCookie uidsCookie = givenUidsCookie(uids);
+
+        // when
+        final UidsCookieSize cookieSize = UidsCookieSize.of(uidsCookie, COOKIE_OVERHEAD_BYTES, jacksonMapper);
+
+        // then
+        assertThat(cookieSize.totalBytes()).isEqualTo(expectedTotalBytes(uidsCookie));
+    }
+
+    @Test
+    public void removeUidShouldDecreaseSizeToTheSizeOfCookieWithoutThatUid() {
+        // given
+        final UidWithExpiry removedUid = UidWithExpiry.live("uid-\"escaped\"");
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        uids.put("family", UidWithExpiry.live("uid"));
+        uids.put("removed-family", removedUid);
+        uids.put("another-family", UidWithExpiry.expired("another-uid"));
+        final UidsCookie uidsCookie = givenUidsCookie(uids);
+
+        final UidsCookieSize cookieSize = UidsCookieSize.of(uidsCookie, COOKIE_OVERHEAD_BYTES, jacksonMapper);
+
+        // when
+        cookieSize.removeUid(cookieSize.uidBytes("removed-family", removedUid));
+
+        // then
+        assertThat(cookieSize.totalBytes())
+                .isEqualTo(expectedTotalBytes(uidsCookie.deleteUid("removed-family")));
+    }
+
+    @Test
+    public void removeUidShouldDecreaseSizeToTheSizeOfCookieWithoutUidsWhenLastUidRemoved() {
+        // given
+        final UidWithExpiry uid = UidWithExpiry.live("uid");
+        final UidsCookie uidsCookie = givenUidsCookie(Map.of("family", uid));
+
+        final UidsCookieSize cookieSize = UidsCookieSize.of(uidsCookie, COOKIE_OVERHEAD_BYTES, jacksonMapper);
+
+        // when
+        cookieSize.removeUid(cookieSize.uidBytes("family", uid));
+
+        // then
+        assertThat(cookieSize.totalBytes()).isEqualTo(expectedTotalBytes(uidsCookie.deleteUid("family")));
+    }
+
+    @Test
+    public void exceedsShouldReturnFalseWhenLimitIsNotConfigured() {
+        // given
+        final UidsCookieSize cookieSize = UidsCookieSize.of(
+                givenUidsCookie(Map.of("family", UidWithExpiry.live("uid"))), COOKIE_OVERHEAD_BYTES, jacksonMapper);
+
+        // when and then
+        assertThat(cookieSize.exceeds(0)).isFalse();
+    }
+
+    @Test
+    public void exceedsShouldReturnTrueWhenSizeIsGreaterThanLimit() {
+        // given
+        final UidsCookieSize cookieSize = UidsCookieSize.of(
+                givenUidsCookie(Map.of("family", UidWithExpiry.live("uid"))), COOKIE_OVERHEAD_BYTES, jacksonMapper);
+
+        // when and then
+        assertThat(cookieSize.exceeds(cookieSize.totalBytes() - 1)).isTrue();
+        assertThat(cookieSize.exceeds(cookieSize.totalBytes())).isFalse();
+    }
+
+    private static UidsCookie givenUidsCookie(Map<String, UidWithExpiry> uids) {
+        return new UidsCookie(
+                Uids.builder().uids(uids).optout(false).bday(ZonedDateTime.now()).build(),
+                jacksonMapper);
+    }
+
+    private static int expectedTotalBytes(UidsCookie uidsCookie) {
+        return COOKIE_OVERHEAD_BYTES + Base64.getUrlEncoder().encode(uidsCookie.toJson().getBytes()).length;
+    }
+}
@@ -12,6 +12,7 @@ import org.prebid.server.deals.lineitem.LineItem;
 import org.prebid.server.deals.lineitem.LineItemStatus;
 import org.prebid.server.deals.lineitem.LostToLineItem;
 import org.prebid.server.deals.model.DeploymentProperties;
+import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.deals.proto.DeliverySchedule;
 import org.prebid.server.deals.proto.LineItemMetaData;
 import org.prebid.server.deals.proto.Token;
@@ -27,6 +28,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.LongAdder;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -193,6 +195,43 @@ public class DeliveryProgressReportFactoryTest extends VertxTest {
                 .containsOnly(1, 2);
     }
 
+    @Test
+    public void batchFromDeliveryProgressShouldReportOnlyUpdatedLineItemsWhenRequested() {
+        // given
+        given(lineItemService.getLineItemById(anyString()))
+                .willReturn(LineItem.of(
+                        LineItemMetaData.builder()
+                                .accountId("accountId")
+                                .deliverySchedules(singletonList(DeliverySchedule.builder()
+                                        .startTimeStamp(now.minusHours(1))
+                                        .endTimeStamp(now.plusHours(1))
+                                        .updatedTimeStamp(now.minusHours(1))
+                                        .build()))
+                                .source("rubicon")
+                                .build(),
+                        null, null, now));
+
+        final DeliveryProgress deliveryProgress = DeliveryProgress.of(now.minusHours(3), lineItemService);
+        deliveryProgress.setEndTimeStamp(now.minusHours(2));
+
+        deliveryProgress.getLineItemStatuses().put("lineItemId1", LineItemStatus.of("lineItemId1"));
+        deliveryProgress.getLineItemStatuses().put("lineItemId2", LineItemStatus.of("lineItemId2"));
+
+        final TxnLog txnLog = TxnLog.create();
+        txnLog.lineItemsSentToClient().add("lineItemId1");
+        deliveryProgress.recordTransactionLog(txnLog, emptyMap(), "accountId");
+
+        // when
+        final DeliveryProgressReportBatch deliveryProgressReportBatch = deliveryProgressReportFactory
+                .batchFromDeliveryProgress(deliveryProgress, null, now, 2, false, true);
+
+        // then
+        assertThat(deliveryProgressReportBatch.getReports())
+                .flatExtracting(DeliveryProgressReport::getLineItemStatus)
+                .extracting(org.prebid.server.deals.proto.report.LineItemStatus::getLineItemId)
+                .containsExactly("lineItemId1");
+    }
+
     private static LongAdder makeLongAdderWithValue(Long value) {
         final LongAdder longAdder = new LongAdder();
         longAdder.add(value);
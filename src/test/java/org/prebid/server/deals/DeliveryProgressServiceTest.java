@@ -14,6 +14,7 @@ import org.prebid.server.deals.lineitem.DeliveryPlan;
 import org.prebid.server.deals.lineitem.DeliveryProgress;
 import org.prebid.server.deals.lineitem.DeliveryToken;
 import org.prebid.server.deals.lineitem.LineItem;
+import org.prebid.server.deals.lineitem.LineItemSlots;
 import org.prebid.server.deals.lineitem.LineItemStatus;
 import org.prebid.server.deals.lineitem.LostToLineItem;
 import org.prebid.server.deals.model.DeliveryProgressProperties;
@@ -329,6 +330,42 @@ public class DeliveryProgressServiceTest extends VertxTest {
                 .containsOnly(tuple("win", 1L));
     }
 
+    @Test
+    public void createDeliveryProgressReportsShouldNotReportSlotCountersOfInvalidatedLineItems() {
+        // given
+        givenDeliveryProgressServiceWithLineItemSlots("lineItemId1", "lineItemId2");
+        recordLineItemsSentToClient("lineItemId1", "lineItemId2");
+
+        // when
+        deliveryProgressService.invalidateLineItemsByIds(singletonList("lineItemId1"));
+        deliveryProgressService.createDeliveryProgressReports(now);
+
+        // then
+        final ArgumentCaptor<DeliveryProgress> progressCaptor = ArgumentCaptor.forClass(DeliveryProgress.class);
+        verify(deliveryStatsService).addDeliveryProgress(progressCaptor.capture(), any());
+
+        final Map<String, LineItemStatus> lineItemStatuses = progressCaptor.getValue().getLineItemStatuses();
+        assertThat(lineItemStatuses).containsOnlyKeys("lineItemId2");
+        assertThat(lineItemStatuses.get("lineItemId2").getSentToClient().sum()).isOne();
+    }
+
+    @Test
+    public void createDeliveryProgressReportsShouldNotReportSlotCountersWhenAllLineItemsInvalidated() {
+        // given
+        givenDeliveryProgressServiceWithLineItemSlots("lineItemId1", "lineItemId2");
+        recordLineItemsSentToClient("lineItemId1", "lineItemId2");
+
+        // when
+        deliveryProgressService.invalidateLineItems();
+        deliveryProgressService.createDeliveryProgressReports(now);
+
+        // then
+        final ArgumentCaptor<DeliveryProgress> progressCaptor = ArgumentCaptor.forClass(DeliveryProgress.class);
+        verify(deliveryStatsService).addDeliveryProgress(progressCaptor.capture(), any());
+
+        assertThat(progressCaptor.getValue().getLineItemStatuses()).isEmpty();
+    }
+
     @Test
     public void getLineItemStatusReportShouldReturnExpectedResult() {
         // given
@@ -413,6 +450,27 @@ public class DeliveryProgressServiceTest extends VertxTest {
                 .containsOnly(values);
     }
 
+    private void givenDeliveryProgressServiceWithLineItemSlots(String... lineItemIds) {
+        given(lineItemService.getLineItemSlots()).willReturn(LineItemSlots.of(asList(lineItemIds)));
+
+        deliveryProgressService = new DeliveryProgressService(
+                DeliveryProgressProperties.of(200L, 20),
+                lineItemService,
+                deliveryStatsService,
+                deliveryProgressReportFactory,
+                clock,
+                criteriaLogManager);
+    }
+
+    private void recordLineItemsSentToClient(String... lineItemIds) {
+        final TxnLog txnLog = TxnLog.create();
+        txnLog.lineItemsSentToClient().addAll(asList(lineItemIds));
+        deliveryProgressService.processAuctionEvent(AuctionContext.builder()
+                .account(Account.empty("1001"))
+                .txnLog(txnLog)
+                .build());
+    }
+
     private void recordLineItemsServed(int times, String... lineItemIds) {
         final TxnLog txnLog = TxnLog.create();
         AuctionContext auctionContext = AuctionContext.builder()
@@ -35,6 +35,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.HashSet;
 import java.util.NavigableSet;
+import java.util.UUID;
 import java.util.concurrent.TimeoutException;
 import java.util.zip.GZIPInputStream;
 
@@ -43,12 +44,14 @@ import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -111,7 +114,8 @@ public class DeliveryStatsServiceTest extends VertxTest {
         // given
         givenDeliveryProgressHttpResponse(httpClient, 200, null);
 
-        given(deliveryProgressReportFactory.batchFromDeliveryProgress(any(), any(), any(), anyInt(), anyBoolean()))
+        given(deliveryProgressReportFactory.batchFromDeliveryProgress(
+                any(), any(), any(), anyInt(), anyBoolean(), anyBoolean()))
                 .willReturn(
                         DeliveryProgressReportBatch.of(singleton(DeliveryProgressReport.builder().reportId("1")
                                         .lineItemStatus(emptySet())
@@ -145,7 +149,8 @@ public class DeliveryStatsServiceTest extends VertxTest {
         final DeliveryProgress deliveryProgress1 = DeliveryProgress.of(now.minusHours(3), lineItemService);
         final DeliveryProgress deliveryProgress2 = DeliveryProgress.of(now.minusHours(2), lineItemService);
 
-        given(deliveryProgressReportFactory.batchFromDeliveryProgress(any(), any(), any(), anyInt(), anyBoolean()))
+        given(deliveryProgressReportFactory.batchFromDeliveryProgress(
+                any(), any(), any(), anyInt(), anyBoolean(), anyBoolean()))
                 .willReturn(
                         DeliveryProgressReportBatch.of(singleton(DeliveryProgressReport.builder().reportId("1")
                                         .lineItemStatus(emptySet())
@@ -180,7 +185,8 @@ public class DeliveryStatsServiceTest extends VertxTest {
         final DeliveryProgress deliveryProgress1 = DeliveryProgress.of(now.minusHours(3), lineItemService);
         final DeliveryProgress deliveryProgress2 = DeliveryProgress.of(now.minusHours(2), lineItemService);
 
-        given(deliveryProgressReportFactory.batchFromDeliveryProgress(any(), any(), any(), anyInt(), anyBoolean()))
+        given(deliveryProgressReportFactory.batchFromDeliveryProgress(
+                any(), any(), any(), anyInt(), anyBoolean(), anyBoolean()))
                 .willReturn(
                         DeliveryProgressReportBatch.of(
                                 new HashSet<>(asList(DeliveryProgressReport.builder().reportId("1")
@@ -226,7 +232,8 @@ public class DeliveryStatsServiceTest extends VertxTest {
     @Test
     public void sendDeliveryProgressReportShouldHandleFailedBatchesCacheLimitWhenResponseStatusIsBadRequest() {
         // given
-        given(deliveryProgressReportFactory.batchFromDeliveryProgress(any(), any(), any(), anyInt(), anyBoolean()))
+        given(deliveryProgressReportFactory.batchFromDeliveryProgress(
+                any(), any(), any(), anyInt(), anyBoolean(), anyBoolean()))
                 .willReturn(
                         DeliveryProgressReportBatch.of(singleton(DeliveryProgressReport.builder().reportId("1")
                                         .dataWindowEndTimeStamp(now.minusHours(4).toString()).build()), "1",
@@ -268,7 +275,8 @@ public class DeliveryStatsServiceTest extends VertxTest {
         // given
         givenDeliveryProgressHttpResponse(httpClient, 409, null);
 
-        given(deliveryProgressReportFactory.batchFromDeliveryProgress(any(), any(), any(), anyInt(), anyBoolean()))
+        given(deliveryProgressReportFactory.batchFromDeliveryProgress(
+                any(), any(), any(), anyInt(), anyBoolean(), anyBoolean()))
                 .willReturn(DeliveryProgressReportBatch.of(singleton(DeliveryProgressReport.builder().reportId("1")
                                 .lineItemStatus(emptySet())
                                 .dataWindowEndTimeStamp(now.minusHours(2).toString()).build()), "1",
@@ -289,7 +297,8 @@ public class DeliveryStatsServiceTest extends VertxTest {
     @Test
     public void sendDeliveryProgressReportShouldCallAlertServiceWhenRequestFailed() {
         // given
-        given(deliveryProgressReportFactory.batchFromDeliveryProgress(any(), any(), any(), anyInt(), anyBoolean()))
+        given(deliveryProgressReportFactory.batchFromDeliveryProgress(
+                any(), any(), any(), anyInt(), anyBoolean(), anyBoolean()))
                 .willReturn(DeliveryProgressReportBatch.of(singleton(DeliveryProgressReport.builder().reportId("1")
                                 .dataWindowEndTimeStamp(now.minusHours(2).toString()).build()), "1",
                         now.minusHours(2).toString()));
@@ -316,7 +325,8 @@ public class DeliveryStatsServiceTest extends VertxTest {
         // given
         givenDeliveryProgressHttpResponse(httpClient, 200, null);
 
-        given(deliveryProgressReportFactory.batchFromDeliveryProgress(any(), any(), any(), anyInt(), anyBoolean()))
+        given(deliveryProgressReportFactory.batchFromDeliveryProgress(
+                any(), any(), any(), anyInt(), anyBoolean(), anyBoolean()))
                 .willReturn(DeliveryProgressReportBatch.of(singleton(DeliveryProgressReport.builder().reportId("1")
                                 .lineItemStatus(emptySet())
                                 .dataWindowEndTimeStamp(now.minusHours(2).toString()).build()), "1",
@@ -335,7 +345,8 @@ public class DeliveryStatsServiceTest extends VertxTest {
     @Test
     public void suspendShouldSetSuspendFlagAndReportShouldNotBeSent() {
         // given
-        given(deliveryProgressReportFactory.batchFromDeliveryProgress(any(), any(), any(), anyInt(), anyBoolean()))
+        given(deliveryProgressReportFactory.batchFromDeliveryProgress(
+                any(), any(), any(), anyInt(), anyBoolean(), anyBoolean()))
                 .willReturn(DeliveryProgressReportBatch.of(singleton(DeliveryProgressReport.builder().reportId("1")
                                 .dataWindowEndTimeStamp(now.minusHours(4).toString()).build()), "1",
                         now.minusHours(4).toString()));
@@ -379,7 +390,8 @@ public class DeliveryStatsServiceTest extends VertxTest {
                 .lineItemStatus(emptySet())
                 .dataWindowEndTimeStamp(now.minusHours(2).toString()).build();
         given(deliveryProgressReportFactory.updateReportTimeStamp(any(), any())).willReturn(deliveryProgressReport);
-        given(deliveryProgressReportFactory.batchFromDeliveryProgress(any(), any(), any(), anyInt(), anyBoolean()))
+        given(deliveryProgressReportFactory.batchFromDeliveryProgress(
+                any(), any(), any(), anyInt(), anyBoolean(), anyBoolean()))
                 .willReturn(
                         DeliveryProgressReportBatch.of(singleton(deliveryProgressReport), "1",
                                 now.minusHours(2).toString()));
@@ -404,6 +416,147 @@ public class DeliveryStatsServiceTest extends VertxTest {
         assertThat(headers.get(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
     }
 
+    @Test
+    public void addDeliveryProgressShouldRequestOnlyUpdatedLineItemsWhenIncrementalReportsEnabled() {
+        // given
+        final DeliveryStatsService deliveryStatsService = new DeliveryStatsService(
+                DeliveryStatsProperties.builder()
+                        .endpoint("localhost/delivery")
+                        .lineItemsPerReport(25)
+                        .incrementalReportsEnabled(true)
+                        .username("username")
+                        .password("password")
+                        .build(),
+                deliveryProgressReportFactory,
+                alertHttpService,
+                httpClient,
+                metrics,
+                clock,
+                vertx,
+                jacksonMapper);
+
+        given(deliveryProgressReportFactory.batchFromDeliveryProgress(
+                any(), any(), any(), anyInt(), anyBoolean(), anyBoolean()))
+                .willReturn(DeliveryProgressReportBatch.of(emptySet(), "1", now.toString()));
+
+        final DeliveryProgress deliveryProgress = DeliveryProgress.of(now.minusHours(3), lineItemService);
+
+        // when
+        deliveryStatsService.addDeliveryProgress(deliveryProgress, emptyMap());
+
+        // then
+        verify(deliveryProgressReportFactory).batchFromDeliveryProgress(
+                eq(deliveryProgress), eq(emptyMap()), isNull(), eq(25), eq(false), eq(true));
+    }
+
+    @Test
+    public void sendDeliveryProgressReportShouldSplitReportExceedingMaxSize() {
+        // given
+        final DeliveryStatsService deliveryStatsService = new DeliveryStatsService(
+                DeliveryStatsProperties.builder()
+                        .endpoint("localhost/delivery")
+                        .cachedReportsNumber(3)
+                        .timeoutMs(500L)
+                        .maxReportSizeBytes(100)
+                        .username("username")
+                        .password("password")
+                        .build(),
+                deliveryProgressReportFactory,
+                alertHttpService,
+                httpClient,
+                metrics,
+                clock,
+                vertx,
+                jacksonMapper);
+
+        givenDeliveryProgressHttpResponse(httpClient, 200, null);
+
+        final DeliveryProgressReport deliveryProgressReport = DeliveryProgressReport.builder().reportId("1")
+                .lineItemStatus(new HashSet<>(asList(
+                        LineItemStatus.builder().lineItemId("lineItemId1").build(),
+                        LineItemStatus.builder().lineItemId("lineItemId2").build())))
+                .dataWindowEndTimeStamp(now.minusHours(2).toString()).build();
+        given(deliveryProgressReportFactory.updateReportTimeStamp(any(), any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        given(deliveryProgressReportFactory.batchFromDeliveryProgress(
+                any(), any(), any(), anyInt(), anyBoolean(), anyBoolean()))
+                .willReturn(DeliveryProgressReportBatch.of(singleton(deliveryProgressReport), "1",
+                        now.minusHours(2).toString()));
+
+        final DeliveryProgress deliveryProgress = DeliveryProgress.of(now.minusHours(3), lineItemService);
+
+        // when
+        deliveryStatsService.addDeliveryProgress(deliveryProgress, emptyMap());
+        deliveryStatsService.sendDeliveryProgressReports();
+
+        // then
+        final ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(httpClient, times(2)).post(anyString(), any(), bodyCaptor.capture(), anyLong());
+        assertThat(bodyCaptor.getAllValues())
+                .extracting(body -> jacksonMapper.decodeValue(body, DeliveryProgressReport.class))
+                .extracting(DeliveryProgressReport::getReportId, report -> report.getLineItemStatus().size())
+                .containsExactly(tuple(partReportId("1", 0), 1), tuple(partReportId("1", 1), 1));
+        verify(metrics, times(2)).updateDeliveryRequestMetric(eq(true));
+    }
+
+    @Test
+    public void sendDeliveryProgressReportShouldResendOnlyFailedPartOfSplitReport() {
+        // given
+        final DeliveryStatsService deliveryStatsService = new DeliveryStatsService(
+                DeliveryStatsProperties.builder()
+                        .endpoint("localhost/delivery")
+                        .cachedReportsNumber(3)
+                        .timeoutMs(500L)
+                        .maxReportSizeBytes(100)
+                        .username("username")
+                        .password("password")
+                        .build(),
+                deliveryProgressReportFactory,
+                alertHttpService,
+                httpClient,
+                metrics,
+                clock,
+                vertx,
+                jacksonMapper);
+
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)),
+                        Future.succeededFuture(HttpClientResponse.of(500, null, null)),
+                        Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+
+        final DeliveryProgressReport deliveryProgressReport = DeliveryProgressReport.builder().reportId("1")
+                .lineItemStatus(new HashSet<>(asList(
+                        LineItemStatus.builder().lineItemId("lineItemId1").build(),
+                        LineItemStatus.builder().lineItemId("lineItemId2").build())))
+                .dataWindowEndTimeStamp(now.minusHours(2).toString()).build();
+        given(deliveryProgressReportFactory.updateReportTimeStamp(any(), any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        given(deliveryProgressReportFactory.batchFromDeliveryProgress(
+                any(), any(), any(), anyInt(), anyBoolean(), anyBoolean()))
+                .willReturn(DeliveryProgressReportBatch.of(new HashSet<>(singleton(deliveryProgressReport)), "1",
+                        now.minusHours(2).toString()));
+
+        final DeliveryProgress deliveryProgress = DeliveryProgress.of(now.minusHours(3), lineItemService);
+
+        // when
+        deliveryStatsService.addDeliveryProgress(deliveryProgress, emptyMap());
+        deliveryStatsService.sendDeliveryProgressReports();
+        deliveryStatsService.sendDeliveryProgressReports();
+
+        // then
+        final ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(httpClient, times(3)).post(anyString(), any(), bodyCaptor.capture(), anyLong());
+        assertThat(bodyCaptor.getAllValues())
+                .extracting(body -> jacksonMapper.decodeValue(body, DeliveryProgressReport.class))
+                .extracting(DeliveryProgressReport::getReportId)
+                .containsExactly(partReportId("1", 0), partReportId("1", 1), partReportId("1", 1));
+    }
+
+    private static String partReportId(String reportId, int partIndex) {
+        return UUID.nameUUIDFromBytes((reportId + "-part-" + partIndex).getBytes(StandardCharsets.UTF_8))
+                .toString();
+    }
+
     private static String decompress(byte[] byteArray) {
         final StringBuilder body = new StringBuilder();
         try (
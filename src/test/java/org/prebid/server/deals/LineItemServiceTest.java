@@ -20,6 +20,7 @@ import org.prebid.server.deals.events.ApplicationEventService;
 import org.prebid.server.deals.lineitem.DeliveryPlan;
 import org.prebid.server.deals.lineitem.DeliveryToken;
 import org.prebid.server.deals.lineitem.LineItem;
+import org.prebid.server.deals.lineitem.LineItemSlots;
 import org.prebid.server.deals.model.DeepDebugLog;
 import org.prebid.server.deals.model.MatchLineItemsResult;
 import org.prebid.server.deals.model.TxnLog;
@@ -164,6 +165,43 @@ public class LineItemServiceTest extends VertxTest {
         assertThat(lineItemService.getLineItemById("lineItem2")).isNotNull();
     }
 
+    @Test
+    public void updateLineItemsShouldAssignSlotsToInstalledLineItems() {
+        // given
+        final List<LineItemMetaData> planResponse = asList(
+                givenLineItemMetaData("lineItem1", now, "1",
+                        singletonList(givenDeliverySchedule("planId1", now.minusHours(1),
+                                now.plusHours(1), now, singleton(Token.of(1, 100)))), Function.identity()),
+                givenLineItemMetaData("lineItem2", now, "2",
+                        singletonList(givenDeliverySchedule("planId1", now.minusHours(1),
+                                now.plusHours(1), now, singleton(Token.of(1, 100)))),
+                        builder -> builder.status("inactive")));
+
+        // when
+        lineItemService.updateLineItems(planResponse, true);
+
+        // then
+        final LineItemSlots lineItemSlots = lineItemService.getLineItemSlots();
+        assertThat(lineItemSlots.size()).isOne();
+        assertThat(lineItemSlots.lineItemIdOf(lineItemSlots.slotOf("lineItem1"))).isEqualTo("lineItem1");
+        assertThat(lineItemSlots.slotOf("lineItem2")).isEqualTo(-1);
+    }
+
+    @Test
+    public void invalidateLineItemsShouldRemoveLineItemSlots() {
+        // given
+        lineItemService.updateLineItems(singletonList(
+                givenLineItemMetaData("lineItem1", now, "1",
+                        singletonList(givenDeliverySchedule("planId1", now.minusHours(1),
+                                now.plusHours(1), now, singleton(Token.of(1, 100)))), Function.identity())), true);
+
+        // when
+        lineItemService.invalidateLineItems();
+
+        // then
+        assertThat(lineItemService.getLineItemSlots().size()).isZero();
+    }
+
     @Test
     public void updateLineItemsShouldRemoveLineItemIfItHasEndTimeInPastInMemory() {
         // given
@@ -23,12 +23,16 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public class DeliveryProgressTest extends VertxTest {
 
@@ -107,6 +111,86 @@ public class DeliveryProgressTest extends VertxTest {
                 .containsOnly("lineItemId1Plan");
     }
 
+    @Test
+    public void recordTransactionLogShouldCountRequestsOnlyWhenTxnLogIsEmpty() {
+        // when
+        deliveryProgress.recordTransactionLog(TxnLog.create(), emptyMap(), "1001");
+
+        // then
+        assertThat(deliveryProgress.getRequests().sum()).isEqualTo(1L);
+        assertThat(deliveryProgress.getRequestsPerAccount().get("1001").sum()).isEqualTo(1L);
+        assertThat(deliveryProgress.getLineItemStatuses()).isEmpty();
+        verify(lineItemService, never()).getLineItemById(any());
+    }
+
+    @Test
+    public void recordTransactionLogShouldCountLineItemsWithSlotsInStatusesOnlyAfterFlush() {
+        // given
+        given(lineItemService.getLineItemSlots()).willReturn(LineItemSlots.of(singleton("lineItemId1")));
+        deliveryProgress = DeliveryProgress.of(now, lineItemService);
+
+        final TxnLog txnLog = TxnLog.create();
+        txnLog.lineItemsMatchedDomainTargeting().add("lineItemId1");
+        txnLog.lineItemsSentToBidder().get("rubicon").add("lineItemId1");
+        txnLog.lineItemsSentToBidder().get("appnexus").add("lineItemId1");
+        txnLog.lineItemsSentToClient().add("lineItemId2");
+
+        // when
+        deliveryProgress.recordTransactionLog(txnLog, emptyMap(), "1001");
+
+        // then
+        assertThat(deliveryProgress.getLineItemStatuses()).containsOnlyKeys("lineItemId2");
+        assertThat(deliveryProgress.getUpdatedLineItemIds()).containsOnly("lineItemId2");
+
+        deliveryProgress.flushSlotCounters();
+
+        final LineItemStatus lineItemStatus = deliveryProgress.getLineItemStatuses().get("lineItemId1");
+        assertThat(lineItemStatus.getDomainMatched().sum()).isEqualTo(1L);
+        assertThat(lineItemStatus.getSentToBidder().sum()).isEqualTo(2L);
+        assertThat(lineItemStatus.getSentToClient().sum()).isZero();
+        assertThat(deliveryProgress.getLineItemStatuses().get("lineItemId2").getSentToClient().sum()).isEqualTo(1L);
+        assertThat(deliveryProgress.getUpdatedLineItemIds()).containsOnly("lineItemId1", "lineItemId2");
+    }
+
+    @Test
+    public void flushSlotCountersShouldNotCountSameIncrementsTwice() {
+        // given
+        given(lineItemService.getLineItemSlots()).willReturn(LineItemSlots.of(singleton("lineItemId1")));
+        deliveryProgress = DeliveryProgress.of(now, lineItemService);
+
+        final TxnLog txnLog = TxnLog.create();
+        txnLog.lineItemsMatchedWholeTargeting().add("lineItemId1");
+        deliveryProgress.recordTransactionLog(txnLog, emptyMap(), "1001");
+
+        // when
+        deliveryProgress.flushSlotCounters();
+        deliveryProgress.flushSlotCounters();
+
+        // then
+        assertThat(deliveryProgress.getLineItemStatuses().get("lineItemId1").getTargetMatched().sum())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    public void mergeFromShouldAddNotFlushedSlotCountersOfAnotherDeliveryProgress() {
+        // given
+        given(lineItemService.getLineItemSlots()).willReturn(LineItemSlots.of(singleton("lineItemId1")));
+        final DeliveryProgress anotherDeliveryProgress = DeliveryProgress.of(now, lineItemService);
+
+        final TxnLog txnLog = TxnLog.create();
+        txnLog.lineItemsPacingDeferred().add("lineItemId1");
+        anotherDeliveryProgress.recordTransactionLog(txnLog, emptyMap(), "1001");
+
+        // when
+        deliveryProgress.mergeFrom(anotherDeliveryProgress);
+
+        // then
+        assertThat(deliveryProgress.getLineItemStatuses().get("lineItemId1").getPacingDeferred().sum())
+                .isEqualTo(1L);
+        assertThat(deliveryProgress.getUpdatedLineItemIds()).containsOnly("lineItemId1");
+        assertThat(anotherDeliveryProgress.getLineItemStatuses()).isEmpty();
+    }
+
     @Test
     public void cleanLineItemStatusesShouldRemoveExpiredLineItemStatuses() {
         // given
@@ -0,0 +1,61 @@
+package org.prebid.server.deals.model;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TxnLogTest {
+
+    @Test
+    public void isEmptyShouldReturnTrueForNewTxnLog() {
+        assertThat(TxnLog.create().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void isEmptyShouldReturnTrueWhenOnlyEmptyCollectionsWereAccessed() {
+        // given
+        final TxnLog txnLog = TxnLog.create();
+        txnLog.lineItemsSentToClient();
+        txnLog.lineItemsSentToBidder();
+
+        // when and then
+        assertThat(txnLog.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void isEmptyShouldReturnFalseWhenLineItemWasRecorded() {
+        // given
+        final TxnLog txnLog = TxnLog.create();
+        txnLog.lostAuctionToLineItems().get("lineItemId1").add("lineItemId2");
+
+        // when and then
+        assertThat(txnLog.isEmpty()).isFalse();
+    }
+
+    @Test
+    public void equalsShouldTreatNotAccessedCollectionsAsEmpty() {
+        // given
+        final TxnLog txnLog = TxnLog.create();
+        txnLog.lineItemsSentToClient();
+        txnLog.lineItemsReceivedFromBidder();
+
+        // when and then
+        assertThat(txnLog).isEqualTo(TxnLog.create());
+        assertThat(txnLog.hashCode()).isEqualTo(TxnLog.create().hashCode());
+    }
+
+    @Test
+    public void equalsShouldCompareRecordedLineItems() {
+        // given
+        final TxnLog txnLog1 = TxnLog.create();
+        txnLog1.lineItemsSentToBidder().get("bidder").add("lineItemId1");
+        final TxnLog txnLog2 = TxnLog.create();
+        txnLog2.lineItemsSentToBidder().get("bidder").add("lineItemId1");
+        final TxnLog txnLog3 = TxnLog.create();
+        txnLog3.lineItemsSentToBidder().get("bidder").add("lineItemId2");
+
+        // when and then
+        assertThat(txnLog1).isEqualTo(txnLog2);
+        assertThat(txnLog1).isNotEqualTo(txnLog3);
+    }
+}
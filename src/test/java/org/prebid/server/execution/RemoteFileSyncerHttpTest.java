@@ -0,0 +1,247 @@
+package org.prebid.server.execution;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.WorkerPoolBlockingExecutor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Checks {@link RemoteFileSyncer} download protocol against local HTTP server.
+ */
+@RunWith(VertxUnitRunner.class)
+public class RemoteFileSyncerHttpTest {
+
+    private static final byte[] CONTENT = "0123456789".repeat(1000).getBytes(StandardCharsets.UTF_8);
+    private static final String CONTENT_DIGEST = "sha-256=" + Base64.getEncoder()
+            .encodeToString(DigestUtils.sha256(CONTENT));
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+    private HttpServer server;
+    private Handler<HttpServerRequest> requestHandler;
+    private List<ReceivedRequest> receivedRequests;
+    private List<String> processedPaths;
+
+    private String saveFilePath;
+    private String tmpFilePath;
+
+    @Before
+    public void setUp(TestContext context) {
+        vertx = Vertx.vertx();
+        receivedRequests = new CopyOnWriteArrayList<>();
+        processedPaths = new CopyOnWriteArrayList<>();
+
+        server = vertx.createHttpServer()
+                .requestHandler(request -> {
+                    receivedRequests.add(new ReceivedRequest(request.method(), request.headers()));
+                    requestHandler.handle(request);
+                })
+                .listen(0, context.asyncAssertSuccess());
+
+        saveFilePath = new File(temporaryFolder.getRoot(), "file.db").getPath();
+        tmpFilePath = new File(temporaryFolder.getRoot(), "tmp/file.db").getPath();
+    }
+
+    @After
+    public void tearDown(TestContext context) {
+        vertx.close(context.asyncAssertSuccess());
+    }
+
+    @Test
+    public void syncForFilepathShouldProcessDownloadedFileWithValidChecksum() throws Exception {
+        // given
+        requestHandler = request -> request.response()
+                .putHeader(HttpUtil.DIGEST_HEADER, CONTENT_DIGEST)
+                .end(Buffer.buffer(CONTENT));
+
+        // when
+        createSyncer(0L).syncForFilepath(this::process);
+
+        // then
+        awaitUntil(() -> processedPaths.size() == 1);
+        assertThat(processedPaths).containsExactly(saveFilePath);
+        assertThat(Files.readAllBytes(new File(saveFilePath).toPath())).isEqualTo(CONTENT);
+        verify(metrics).updateRemoteFileDownloadMetrics(eq((long) CONTENT.length), anyLong());
+    }
+
+    @Test
+    public void syncForFilepathShouldNotProcessDownloadedFileWithInvalidChecksum() throws Exception {
+        // given
+        requestHandler = request -> request.response()
+                .putHeader(HttpUtil.DIGEST_HEADER, "sha-256=invalid")
+                .end(Buffer.buffer(CONTENT));
+
+        // when
+        createSyncer(0L).syncForFilepath(this::process);
+
+        // then
+        awaitUntil(() -> requestsCount(HttpMethod.GET) == 2 && !new File(tmpFilePath).exists());
+        assertThat(processedPaths).isEmpty();
+        assertThat(new File(saveFilePath)).doesNotExist();
+        // corrupted file is downloaded from scratch
+        assertThat(receivedRequests.get(1).getHeaders().contains(HttpUtil.RANGE_HEADER)).isFalse();
+    }
+
+    @Test
+    public void syncForFilepathShouldResumeInterruptedDownloadWithRangeRequest() throws Exception {
+        // given
+        final int half = CONTENT.length / 2;
+        requestHandler = request -> {
+            if (request.headers().contains(HttpUtil.RANGE_HEADER)) {
+                request.response()
+                        .setStatusCode(206)
+                        .putHeader(HttpHeaders.ETAG, "\"v1\"")
+                        .putHeader(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d"
+                                .formatted(half, CONTENT.length - 1, CONTENT.length))
+                        .end(Buffer.buffer(CONTENT).slice(half, CONTENT.length));
+            } else {
+                request.response()
+                        .putHeader(HttpHeaders.ETAG, "\"v1\"")
+                        .putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(CONTENT.length))
+                        .write(Buffer.buffer(CONTENT).slice(0, half), ignored -> request.connection().close());
+            }
+        };
+
+        // when
+        createSyncer(0L).syncForFilepath(this::process);
+
+        // then
+        awaitUntil(() -> processedPaths.size() == 1);
+        assertThat(Files.readAllBytes(new File(saveFilePath).toPath())).isEqualTo(CONTENT);
+
+        final MultiMap resumeHeaders = receivedRequests.get(1).getHeaders();
+        assertThat(resumeHeaders.get(HttpUtil.RANGE_HEADER)).isEqualTo("bytes=%d-".formatted(half));
+        assertThat(resumeHeaders.get(HttpUtil.IF_RANGE_HEADER)).isEqualTo("\"v1\"");
+    }
+
+    @Test
+    public void syncForFilepathShouldNotDownloadFileWhenServerRespondsNotModified() throws Exception {
+        // given
+        requestHandler = request -> {
+            if (request.method() == HttpMethod.HEAD && "\"v1\"".equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+                request.response().setStatusCode(304).end();
+            } else {
+                request.response().putHeader(HttpHeaders.ETAG, "\"v1\"").end(Buffer.buffer(CONTENT));
+            }
+        };
+
+        // when
+        createSyncer(50L).syncForFilepath(this::process);
+
+        // then
+        awaitUntil(() -> requestsCount(HttpMethod.HEAD) >= 2);
+        assertThat(requestsCount(HttpMethod.GET)).isEqualTo(1);
+        assertThat(processedPaths).hasSize(1);
+    }
+
+    @Test
+    public void syncForFilepathShouldNotProcessUpdatedFileWithUnchangedContent() throws Exception {
+        // given
+        final AtomicInteger version = new AtomicInteger();
+        requestHandler = request -> {
+            final String etag = "\"v%d\"".formatted(version.incrementAndGet());
+            if (request.method() == HttpMethod.HEAD) {
+                request.response().putHeader(HttpHeaders.ETAG, etag).end();
+            } else {
+                request.response().putHeader(HttpHeaders.ETAG, etag).end(Buffer.buffer(CONTENT));
+            }
+        };
+
+        // when
+        createSyncer(50L).syncForFilepath(this::process);
+
+        // then
+        // next update check means the previous one is completed
+        awaitUntil(() -> requestsCount(HttpMethod.HEAD) >= 2);
+        assertThat(requestsCount(HttpMethod.GET)).isGreaterThanOrEqualTo(2);
+        assertThat(processedPaths).hasSize(1);
+    }
+
+    private RemoteFileSyncer createSyncer(long updatePeriod) {
+        return RemoteFileSyncer.create("http://localhost:%d/file.db".formatted(server.actualPort()),
+                saveFilePath, tmpFilePath, 1, 10L, 5000L, updatePeriod, vertx.createHttpClient(), vertx,
+                vertx.fileSystem(), new WorkerPoolBlockingExecutor(vertx, metrics), metrics);
+    }
+
+    private Future<?> process(String path) {
+        processedPaths.add(path);
+        return Future.succeededFuture();
+    }
+
+    private long requestsCount(HttpMethod method) {
+        return receivedRequests.stream().filter(request -> request.getMethod() == method).count();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException, IOException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10L);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new IOException("Condition was not met in time");
+            }
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+    }
+
+    private static class ReceivedRequest {
+
+        private final HttpMethod method;
+
+        private final MultiMap headers;
+
+        ReceivedRequest(HttpMethod method, MultiMap headers) {
+            this.method = method;
+            this.headers = MultiMap.caseInsensitiveMultiMap().addAll(headers);
+        }
+
+        HttpMethod getMethod() {
+            return method;
+        }
+
+        MultiMap getHeaders() {
+            return headers;
+        }
+    }
+}
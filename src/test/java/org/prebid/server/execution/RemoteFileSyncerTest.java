@@ -20,8 +20,11 @@ import org.mockito.junit.MockitoRule;
 import org.mockito.stubbing.Answer;
 import org.prebid.server.VertxTest;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.BlockingExecutor;
 
 import java.io.File;
+import java.util.concurrent.Callable;
 
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
@@ -66,6 +69,10 @@ public class RemoteFileSyncerTest extends VertxTest {
     @Mock
     private RemoteFileProcessor remoteFileProcessor;
     @Mock
+    private BlockingExecutor blockingExecutor;
+    @Mock
+    private Metrics metrics;
+    @Mock
     private AsyncFile asyncFile;
 
     @Mock
@@ -82,34 +89,48 @@ public class RemoteFileSyncerTest extends VertxTest {
     @Before
     public void setUp() {
         when(vertx.fileSystem()).thenReturn(fileSystem);
+        given(blockingExecutor.execute(any())).willAnswer(invocation -> {
+            try {
+                return Future.succeededFuture(invocation.<Callable<?>>getArgument(0).call());
+            } catch (Exception e) {
+                return Future.failedFuture(e);
+            }
+        });
         remoteFileSyncer = RemoteFileSyncer.create(SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_COUNT, RETRY_INTERVAL,
-                TIMEOUT, 0, httpClient, vertx, fileSystem);
+                TIMEOUT, 0, httpClient, vertx, fileSystem, blockingExecutor, metrics);
     }
 
     @Test
     public void shouldThrowNullPointerExceptionWhenIllegalArgumentsWhenNullArguments() {
         assertThatNullPointerException().isThrownBy(
                 () -> RemoteFileSyncer.create(SOURCE_URL, null, TMP_FILE_PATH, RETRY_COUNT, RETRY_INTERVAL, TIMEOUT,
-                        UPDATE_INTERVAL, httpClient, vertx, fileSystem));
+                        UPDATE_INTERVAL, httpClient, vertx, fileSystem, blockingExecutor, metrics));
+        assertThatNullPointerException().isThrownBy(
+                () -> RemoteFileSyncer.create(SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_COUNT, RETRY_INTERVAL,
+                        TIMEOUT, UPDATE_INTERVAL, null, vertx, fileSystem, blockingExecutor, metrics));
+        assertThatNullPointerException().isThrownBy(
+                () -> RemoteFileSyncer.create(SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_COUNT, RETRY_INTERVAL,
+                        TIMEOUT, UPDATE_INTERVAL, httpClient, null, fileSystem, blockingExecutor, metrics));
         assertThatNullPointerException().isThrownBy(
                 () -> RemoteFileSyncer.create(SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_COUNT, RETRY_INTERVAL,
-                        TIMEOUT, UPDATE_INTERVAL, null, vertx, fileSystem));
+                        TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, null, blockingExecutor, metrics));
         assertThatNullPointerException().isThrownBy(
                 () -> RemoteFileSyncer.create(SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_COUNT, RETRY_INTERVAL,
-                        TIMEOUT, UPDATE_INTERVAL, httpClient, null, fileSystem));
+                        TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, fileSystem, null, metrics));
         assertThatNullPointerException().isThrownBy(
                 () -> RemoteFileSyncer.create(SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_COUNT, RETRY_INTERVAL,
-                        TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, null));
+                        TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, fileSystem, blockingExecutor, null));
     }
 
     @Test
     public void shouldThrowIllegalArgumentExceptionWhenIllegalArguments() {
         assertThatIllegalArgumentException().isThrownBy(
                 () -> RemoteFileSyncer.create(null, FILE_PATH, TMP_FILE_PATH, RETRY_COUNT, RETRY_INTERVAL,
-                        TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, fileSystem));
+                        TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, fileSystem, blockingExecutor, metrics));
         assertThatIllegalArgumentException().isThrownBy(
                 () -> RemoteFileSyncer.create("bad url", FILE_PATH, TMP_FILE_PATH, RETRY_COUNT,
-                        RETRY_INTERVAL, TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, fileSystem));
+                        RETRY_INTERVAL, TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, fileSystem, blockingExecutor,
+                        metrics));
     }
 
     @Test
@@ -120,7 +141,7 @@ public class RemoteFileSyncerTest extends VertxTest {
 
         // when
         RemoteFileSyncer.create(SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_COUNT, RETRY_INTERVAL, TIMEOUT,
-                UPDATE_INTERVAL, httpClient, vertx, fileSystem);
+                UPDATE_INTERVAL, httpClient, vertx, fileSystem, blockingExecutor, metrics);
 
         // then
         verify(fileSystem).mkdirsBlocking(eq(DIR_PATH));
@@ -137,7 +158,7 @@ public class RemoteFileSyncerTest extends VertxTest {
 
         // when
         RemoteFileSyncer.create(SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_COUNT, RETRY_INTERVAL, TIMEOUT,
-                UPDATE_INTERVAL, httpClient, vertx, fileSystem);
+                UPDATE_INTERVAL, httpClient, vertx, fileSystem, blockingExecutor, metrics);
 
         // then
         verify(fileSystem).mkdirsBlocking(eq(DIR_PATH));
@@ -152,7 +173,7 @@ public class RemoteFileSyncerTest extends VertxTest {
 
         // when and then
         assertThatThrownBy(() -> RemoteFileSyncer.create(SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_COUNT,
-                RETRY_INTERVAL, TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, fileSystem))
+                RETRY_INTERVAL, TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, fileSystem, blockingExecutor, metrics))
                 .isInstanceOf(PreBidException.class);
     }
 
@@ -196,7 +217,7 @@ public class RemoteFileSyncerTest extends VertxTest {
     public void syncForFilepathShouldNotUpdateWhenHeadRequestReturnInvalidHead() {
         // given
         remoteFileSyncer = RemoteFileSyncer.create(SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_COUNT, RETRY_INTERVAL,
-                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, fileSystem);
+                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, fileSystem, blockingExecutor, metrics);
 
         givenTriggerUpdate();
 
@@ -218,7 +239,7 @@ public class RemoteFileSyncerTest extends VertxTest {
     public void syncForFilepathShouldNotUpdateWhenPropsIsFailed() {
         // given
         remoteFileSyncer = RemoteFileSyncer.create(SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_COUNT, RETRY_INTERVAL,
-                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, fileSystem);
+                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, fileSystem, blockingExecutor, metrics);
 
         givenTriggerUpdate();
 
@@ -245,7 +266,7 @@ public class RemoteFileSyncerTest extends VertxTest {
     public void syncForFilepathShouldNotUpdateServiceWhenSizeEqualsContentLength() {
         // given
         remoteFileSyncer = RemoteFileSyncer.create(SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_COUNT, RETRY_INTERVAL,
-                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, fileSystem);
+                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, fileSystem, blockingExecutor, metrics);
 
         givenTriggerUpdate();
 
@@ -274,7 +295,7 @@ public class RemoteFileSyncerTest extends VertxTest {
     public void syncForFilepathShouldUpdateServiceWhenSizeNotEqualsContentLength() {
         // given
         remoteFileSyncer = RemoteFileSyncer.create(SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_COUNT, RETRY_INTERVAL,
-                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, fileSystem);
+                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, fileSystem, blockingExecutor, metrics);
 
         givenTriggerUpdate();
 
@@ -0,0 +1,147 @@
+package org.prebid.server.geolocation;
+
+import inet.ipaddr.IPAddressString;
+import io.vertx.core.Future;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class CachingGeoLocationServiceTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private GeoLocationService wrappedGeoLocationService;
+    @Mock
+    private Metrics metrics;
+
+    private CachingGeoLocationService geoLocationService;
+
+    @Before
+    public void setUp() {
+        geoLocationService = new CachingGeoLocationService(wrappedGeoLocationService, 100, 60000L, 32, 128, metrics);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidPrefixLength() {
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                new CachingGeoLocationService(wrappedGeoLocationService, 100, 60000L, 33, 128, metrics));
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                new CachingGeoLocationService(wrappedGeoLocationService, 100, 60000L, 32, 0, metrics));
+    }
+
+    @Test
+    public void isReadyShouldReturnReadinessOfWrappedService() {
+        // given
+        given(wrappedGeoLocationService.isReady()).willReturn(false);
+
+        // when and then
+        assertThat(geoLocationService.isReady()).isFalse();
+    }
+
+    @Test
+    public void lookupShouldReturnCachedResultForTheSameIp() {
+        // given
+        final GeoInfo geoInfo = GeoInfo.builder().vendor("vendor").country("country").build();
+        given(wrappedGeoLocationService.lookupAddress(any(), any())).willReturn(Future.succeededFuture(geoInfo));
+
+        // when
+        geoLocationService.lookup("192.168.0.1", null);
+        final Future<GeoInfo> result = geoLocationService.lookup("192.168.0.1", null);
+
+        // then
+        assertThat(result.result()).isSameAs(geoInfo);
+        verify(wrappedGeoLocationService).lookupAddress(any(), any());
+        verify(metrics).updateGeoLocationCacheMetric(false);
+        verify(metrics).updateGeoLocationCacheMetric(true);
+    }
+
+    @Test
+    public void lookupShouldNotReturnCachedResultForAnotherIpWhenCachedPerIp() {
+        // given
+        given(wrappedGeoLocationService.lookupAddress(any(), any()))
+                .willReturn(Future.succeededFuture(GeoInfo.builder().vendor("vendor").build()));
+
+        // when
+        geoLocationService.lookup("192.168.0.1", null);
+        geoLocationService.lookup("192.168.0.2", null);
+
+        // then
+        verify(wrappedGeoLocationService, times(2)).lookupAddress(any(), any());
+    }
+
+    @Test
+    public void lookupShouldReturnCachedResultForIpsFromTheSameNetworkPrefix() {
+        // given
+        geoLocationService = new CachingGeoLocationService(wrappedGeoLocationService, 100, 60000L, 24, 48, metrics);
+
+        final GeoInfo geoInfo = GeoInfo.builder().vendor("vendor").country("country").build();
+        given(wrappedGeoLocationService.lookupAddress(any(), any())).willReturn(Future.succeededFuture(geoInfo));
+
+        // when
+        geoLocationService.lookup("192.168.0.1", null);
+        final Future<GeoInfo> ipv4Result = geoLocationService.lookup("192.168.0.200", null);
+        geoLocationService.lookup("2001:db8:1::1", null);
+        final Future<GeoInfo> ipv6Result = geoLocationService.lookup("2001:db8:1:ffff::1", null);
+
+        // then
+        assertThat(ipv4Result.result()).isSameAs(geoInfo);
+        assertThat(ipv6Result.result()).isSameAs(geoInfo);
+        verify(wrappedGeoLocationService, times(2)).lookupAddress(any(), any());
+    }
+
+    @Test
+    public void lookupShouldNotCacheFailedResult() {
+        // given
+        given(wrappedGeoLocationService.lookupAddress(any(), any())).willReturn(Future.failedFuture("failed"));
+
+        // when
+        geoLocationService.lookup("192.168.0.1", null);
+        final Future<GeoInfo> result = geoLocationService.lookup("192.168.0.1", null);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        verify(wrappedGeoLocationService, times(2)).lookupAddress(any(), any());
+    }
+
+    @Test
+    public void lookupShouldBypassCacheForInvalidIp() {
+        // given
+        given(wrappedGeoLocationService.lookup(any(), any())).willReturn(Future.failedFuture("failed"));
+
+        // when
+        geoLocationService.lookup("invalid", null);
+
+        // then
+        verify(wrappedGeoLocationService).lookup("invalid", null);
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void lookupShouldPassParsedAddressToWrappedService() {
+        // given
+        given(wrappedGeoLocationService.lookupAddress(any(), any())).willReturn(Future.failedFuture("failed"));
+
+        // when
+        geoLocationService.lookup("192.168.0.1", null);
+
+        // then
+        verify(wrappedGeoLocationService).lookupAddress(new IPAddressString("192.168.0.1").getAddress(), null);
+        verify(wrappedGeoLocationService, never()).lookup(any(), any());
+    }
+}
@@ -1,5 +1,7 @@
 package org.prebid.server.geolocation;
 
+import inet.ipaddr.IPAddress;
+import inet.ipaddr.IPAddressString;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.ext.unit.Async;
@@ -26,6 +28,7 @@ import java.util.function.BooleanSupplier;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -58,6 +61,16 @@ public class CircuitBreakerSecuredGeoLocationServiceTest {
         vertx.close(context.asyncAssertSuccess());
     }
 
+    @Test
+    public void isReadyShouldReturnReadinessOfWrappedServiceWithoutLookups() {
+        // given
+        given(wrappedGeoLocationService.isReady()).willReturn(false);
+
+        // when and then
+        assertThat(geoLocationService.isReady()).isFalse();
+        verify(wrappedGeoLocationService, never()).lookup(any(), any());
+    }
+
     @Test
     public void lookupShouldSucceedsIfCircuitIsClosedAndWrappedGeoLocationSucceeds(TestContext context) {
         // given
@@ -168,6 +181,25 @@ public class CircuitBreakerSecuredGeoLocationServiceTest {
         assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception2");
     }
 
+    @Test
+    public void lookupAddressShouldPassParsedAddressToWrappedService(TestContext context) {
+        // given
+        final IPAddress address = new IPAddressString("192.168.0.1").getAddress();
+        given(wrappedGeoLocationService.lookupAddress(any(), any()))
+                .willReturn(Future.succeededFuture(GeoInfo.builder().vendor("vendor").build()));
+
+        // when
+        final Async async = context.async();
+        final Future<GeoInfo> future = geoLocationService.lookupAddress(address, null);
+        future.onComplete(ar -> async.complete());
+        async.await();
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        verify(wrappedGeoLocationService).lookupAddress(address, null);
+        verify(wrappedGeoLocationService, never()).lookup(any(), any());
+    }
+
     @Test
     public void circuitBreakerGaugeShouldReportOpenedWhenCircuitOpen(TestContext context) {
         // given
@@ -0,0 +1,237 @@
+package org.prebid.server.geolocation;
+
+import inet.ipaddr.IPAddressString;
+import io.vertx.core.Future;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.prebid.server.geolocation.model.GeoInfo;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IpRangeGeoLocationServiceTest {
+
+    private static final String IP_RANGES = """
+            # start,end,country,region
+            1.0.0.0,1.0.0.0,FR,IDF
+            10.0.0.0,10.0.0.255,FR,IDF
+
+            10.0.2.0,10.0.3.255,US
+            2001:db8::,2001:db8:0:ffff:ffff:ffff:ffff:ffff,GB,ENG
+            255.255.255.0,255.255.255.255,DE,BE
+            ffff::,ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff,JP
+            """;
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private IpRangeGeoLocationService ipRangeGeoLocationService;
+
+    @Before
+    public void setUp() {
+        ipRangeGeoLocationService = new IpRangeGeoLocationService();
+    }
+
+    @Test
+    public void lookupShouldReturnFailedFutureWhenDataWasNotSet() {
+        // when
+        final Future<GeoInfo> result = ipRangeGeoLocationService.lookup("10.0.0.1", null);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause())
+                .hasMessage("Geo location database file hasn't been downloaded yet, try again later");
+    }
+
+    @Test
+    public void setDataPathShouldReturnFailedFutureIfFileNotFound() {
+        // when
+        final Future<?> result = ipRangeGeoLocationService.setDataPath("no_file");
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessageStartingWith("Exception occurred while trying to read IP ranges file");
+    }
+
+    @Test
+    public void setDataPathShouldReturnFailedFutureIfRangeIsInvalid() throws IOException {
+        // given
+        final File file = givenFile("ranges.csv", "10.0.0.255,10.0.0.0,FR");
+
+        // when
+        final Future<?> result = ipRangeGeoLocationService.setDataPath(file.getPath());
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessageEndingWith("Invalid IP range at line 1: 10.0.0.255,10.0.0.0,FR");
+    }
+
+    @Test
+    public void setDataPathShouldReturnFailedFutureIfRangesOverlap() throws IOException {
+        // given
+        final File file = givenFile("ranges.csv", """
+                10.0.0.0,10.0.0.255,FR
+                10.0.0.128,10.0.1.255,US
+                """);
+
+        // when
+        final Future<?> result = ipRangeGeoLocationService.setDataPath(file.getPath());
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessageEndingWith(
+                "IP range at line 2 overlaps or precedes previous range: 10.0.0.128,10.0.1.255,US");
+    }
+
+    @Test
+    public void setDataPathShouldReturnFailedFutureIfRangesAreNotSorted() throws IOException {
+        // given
+        final File file = givenFile("ranges.csv", """
+                10.0.1.0,10.0.1.255,US
+                2001:db8::,2001:db8::ffff,GB
+                10.0.0.0,10.0.0.255,FR
+                """);
+
+        // when
+        final Future<?> result = ipRangeGeoLocationService.setDataPath(file.getPath());
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessageEndingWith(
+                "IP range at line 3 overlaps or precedes previous range: 10.0.0.0,10.0.0.255,FR");
+    }
+
+    @Test
+    public void setDataPathShouldReturnFailedFutureIfGzippedFileIsCorrupted() throws IOException {
+        // given
+        final File file = givenFile("ranges.csv.gz", IP_RANGES);
+
+        // when
+        final Future<?> result = ipRangeGeoLocationService.setDataPath(file.getPath());
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessageStartingWith("Exception occurred while trying to read IP ranges file");
+    }
+
+    @Test
+    public void isReadyShouldReturnFalseWhenDataWasNotSet() {
+        // when and then
+        assertThat(ipRangeGeoLocationService.isReady()).isFalse();
+    }
+
+    @Test
+    public void isReadyShouldReturnTrueWhenDataWasSet() throws IOException {
+        // given
+        givenIpRanges();
+
+        // when and then
+        assertThat(ipRangeGeoLocationService.isReady()).isTrue();
+    }
+
+    @Test
+    public void lookupShouldReturnCountryAndRegionOfIpv4Range() throws IOException {
+        // given
+        givenIpRanges();
+
+        // when and then
+        assertThat(ipRangeGeoLocationService.lookup("10.0.0.0", null).result())
+                .isEqualTo(GeoInfo.builder().vendor("iprange").country("fr").region("IDF").build());
+        assertThat(ipRangeGeoLocationService.lookup("10.0.0.255", null).result())
+                .isEqualTo(GeoInfo.builder().vendor("iprange").country("fr").region("IDF").build());
+        assertThat(ipRangeGeoLocationService.lookup("10.0.3.1", null).result())
+                .isEqualTo(GeoInfo.builder().vendor("iprange").country("us").build());
+        assertThat(ipRangeGeoLocationService.lookup("1.0.0.0", null).result())
+                .isEqualTo(GeoInfo.builder().vendor("iprange").country("fr").region("IDF").build());
+        assertThat(ipRangeGeoLocationService.lookup("255.255.255.255", null).result())
+                .isEqualTo(GeoInfo.builder().vendor("iprange").country("de").region("BE").build());
+    }
+
+    @Test
+    public void lookupShouldReturnFailedFutureWhenIpDoesNotBelongToAnyRange() throws IOException {
+        // given
+        givenIpRanges();
+
+        // when and then
+        assertThat(ipRangeGeoLocationService.lookup("10.0.1.1", null).cause())
+                .hasMessage("IP address is not found in IP ranges: 10.0.1.1");
+        assertThat(ipRangeGeoLocationService.lookup("0.0.0.1", null).failed()).isTrue();
+        assertThat(ipRangeGeoLocationService.lookup("2001:db9::1", null).failed()).isTrue();
+    }
+
+    @Test
+    public void lookupShouldReturnCountryAndRegionOfIpv6Range() throws IOException {
+        // given
+        givenIpRanges();
+
+        // when and then
+        assertThat(ipRangeGeoLocationService.lookup("2001:db8::1", null).result())
+                .isEqualTo(GeoInfo.builder().vendor("iprange").country("gb").region("ENG").build());
+        assertThat(ipRangeGeoLocationService.lookup("ffff::ffff", null).result())
+                .isEqualTo(GeoInfo.builder().vendor("iprange").country("jp").build());
+    }
+
+    @Test
+    public void lookupAddressShouldReturnCountryAndRegionOfParsedAddress() throws IOException {
+        // given
+        givenIpRanges();
+
+        // when and then
+        assertThat(ipRangeGeoLocationService.lookupAddress(new IPAddressString("10.0.2.1").getAddress(), null)
+                .result().getCountry()).isEqualTo("us");
+        assertThat(ipRangeGeoLocationService.lookupAddress(new IPAddressString("2001:db8::1").getAddress(), null)
+                .result())
+                .isEqualTo(GeoInfo.builder().vendor("iprange").country("gb").region("ENG").build());
+        assertThat(ipRangeGeoLocationService.lookupAddress(new IPAddressString("2001:db9::1").getAddress(), null)
+                .failed()).isTrue();
+    }
+
+    @Test
+    public void lookupShouldReturnFailedFutureForInvalidIp() throws IOException {
+        // given
+        givenIpRanges();
+
+        // when
+        final Future<GeoInfo> result = ipRangeGeoLocationService.lookup("10.0.0.256", null);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessage("Invalid IP address: 10.0.0.256");
+    }
+
+    @Test
+    public void setDataPathShouldReadGzippedFile() throws IOException {
+        // given
+        final File file = temporaryFolder.newFile("ranges.csv.gz");
+        try (OutputStream outputStream = new GZIPOutputStream(new FileOutputStream(file))) {
+            outputStream.write(IP_RANGES.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // when
+        final Future<?> result = ipRangeGeoLocationService.setDataPath(file.getPath());
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(ipRangeGeoLocationService.lookup("10.0.2.0", null).result().getCountry()).isEqualTo("us");
+    }
+
+    private void givenIpRanges() throws IOException {
+        final Future<?> result = ipRangeGeoLocationService.setDataPath(givenFile("ranges.csv", IP_RANGES).getPath());
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    private File givenFile(String name, String content) throws IOException {
+        final File file = temporaryFolder.newFile(name);
+        Files.writeString(file.toPath(), content);
+        return file;
+    }
+}
@@ -8,14 +8,15 @@ import com.maxmind.geoip2.record.Continent;
 import com.maxmind.geoip2.record.Country;
 import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
+import inet.ipaddr.IPAddressString;
 import io.vertx.core.Future;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
-import org.mockito.internal.util.reflection.ReflectionMemberAccessor;
 import org.prebid.server.geolocation.model.GeoInfo;
 
 import java.io.IOException;
+import java.net.InetAddress;
 import java.util.ArrayList;
 
 import static java.util.Collections.singletonList;
@@ -24,6 +25,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public class MaxMindGeoLocationServiceTest {
 
@@ -47,6 +50,12 @@ public class MaxMindGeoLocationServiceTest {
                 .hasMessage("Geo location database file hasn't been downloaded yet, try again later");
     }
 
+    @Test
+    public void isReadyShouldReturnFalseWhenDatabaseReaderWasNotSet() {
+        // when and then
+        assertThat(maxMindGeoLocationService.isReady()).isFalse();
+    }
+
     @Test
     public void setDatabaseReaderShouldReturnFailedFutureIfDatabaseArchiveNotFound() {
         // given and when
@@ -59,8 +68,7 @@ public class MaxMindGeoLocationServiceTest {
     }
 
     @Test
-    public void lookupShouldReturnCountryIsoWhenDatabaseReaderWasSet() throws NoSuchFieldException, IOException,
-            GeoIp2Exception, IllegalAccessException {
+    public void lookupShouldReturnCountryIsoWhenDatabaseReaderWasSet() throws IOException, GeoIp2Exception {
         // given
         final Country country = new Country(null, null, null, "fr", null);
         final Continent continent = new Continent(null, "eu", null, null);
@@ -75,8 +83,7 @@ public class MaxMindGeoLocationServiceTest {
         final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
         given(databaseReader.city(any())).willReturn(cityResponse);
 
-        new ReflectionMemberAccessor().set(maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
-                maxMindGeoLocationService, databaseReader);
+        maxMindGeoLocationService.setDatabaseReader(databaseReader);
 
         // when
         final Future<GeoInfo> future = maxMindGeoLocationService.lookup(TEST_IP, null);
@@ -96,14 +103,12 @@ public class MaxMindGeoLocationServiceTest {
     }
 
     @Test
-    public void lookupShouldTolerateMissingGeoInfo() throws IOException, GeoIp2Exception, NoSuchFieldException,
-            IllegalAccessException {
+    public void lookupShouldTolerateMissingGeoInfo() throws IOException, GeoIp2Exception {
         // given
         final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
         given(databaseReader.city(any())).willReturn(null);
 
-        new ReflectionMemberAccessor().set(maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
-                maxMindGeoLocationService, databaseReader);
+        maxMindGeoLocationService.setDatabaseReader(databaseReader);
 
         // when
         final Future<GeoInfo> future = maxMindGeoLocationService.lookup(TEST_IP, null);
@@ -112,4 +117,61 @@ public class MaxMindGeoLocationServiceTest {
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isEqualTo(GeoInfo.builder().vendor("maxmind").build());
     }
+
+    @Test
+    public void lookupAddressShouldLookupAlreadyParsedAddress() throws IOException, GeoIp2Exception {
+        // given
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        given(databaseReader.city(any())).willReturn(null);
+
+        maxMindGeoLocationService.setDatabaseReader(databaseReader);
+
+        // when
+        final Future<GeoInfo> future = maxMindGeoLocationService.lookupAddress(
+                new IPAddressString(TEST_IP).getAddress(), null);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        verify(databaseReader).city(InetAddress.getByName(TEST_IP));
+    }
+
+    @Test
+    public void setDatabaseReaderShouldClosePreviousReader() throws IOException {
+        // given
+        final DatabaseReader previousDatabaseReader = Mockito.mock(DatabaseReader.class);
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+
+        maxMindGeoLocationService.setDatabaseReader(previousDatabaseReader);
+
+        // when
+        maxMindGeoLocationService.setDatabaseReader(databaseReader);
+
+        // then
+        verify(previousDatabaseReader).close();
+        verify(databaseReader, never()).close();
+    }
+
+    @Test
+    public void setDatabaseReaderShouldClosePreviousReaderOnlyAfterInFlightLookupCompleted()
+            throws IOException, GeoIp2Exception {
+
+        // given
+        final DatabaseReader previousDatabaseReader = Mockito.mock(DatabaseReader.class);
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        given(previousDatabaseReader.city(any())).willAnswer(invocation -> {
+            maxMindGeoLocationService.setDatabaseReader(databaseReader);
+            verify(previousDatabaseReader, never()).close();
+            return null;
+        });
+
+        maxMindGeoLocationService.setDatabaseReader(previousDatabaseReader);
+
+        // when
+        final Future<GeoInfo> future = maxMindGeoLocationService.lookup(TEST_IP, null);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        verify(previousDatabaseReader).close();
+        verify(databaseReader, never()).close();
+    }
 }
@@ -0,0 +1,122 @@
+package org.prebid.server.handler;
+
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.cache.EmbeddedCache;
+import org.prebid.server.cache.model.EmbeddedCacheEntry;
+import org.prebid.server.util.HttpUtil;
+
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class EmbeddedCacheHandlerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private EmbeddedCache embeddedCache;
+
+    private EmbeddedCacheHandler embeddedCacheHandler;
+    @Mock
+    private RoutingContext routingContext;
+    @Mock
+    private HttpServerRequest httpServerRequest;
+    @Mock
+    private HttpServerResponse httpServerResponse;
+
+    @Before
+    public void setUp() {
+        given(routingContext.request()).willReturn(httpServerRequest);
+        given(routingContext.response()).willReturn(httpServerResponse);
+
+        given(httpServerResponse.putHeader(any(CharSequence.class), any(CharSequence.class)))
+                .willReturn(httpServerResponse);
+        given(httpServerResponse.setStatusCode(anyInt())).willReturn(httpServerResponse);
+
+        embeddedCacheHandler = new EmbeddedCacheHandler(embeddedCache);
+    }
+
+    @Test
+    public void creationShouldFailOnNullArguments() {
+        assertThatNullPointerException().isThrownBy(() -> new EmbeddedCacheHandler(null));
+    }
+
+    @Test
+    public void shouldRespondWithBadRequestWhenUuidIsMissing() {
+        // when
+        embeddedCacheHandler.handle(routingContext);
+
+        // then
+        verifyNoInteractions(embeddedCache);
+        verify(httpServerResponse).setStatusCode(400);
+        verify(httpServerResponse).end("Missing required parameter uuid");
+    }
+
+    @Test
+    public void shouldRespondWithNotFoundWhenEntryIsMissing() {
+        // given
+        given(httpServerRequest.getParam("uuid")).willReturn("uuid");
+
+        // when
+        embeddedCacheHandler.handle(routingContext);
+
+        // then
+        verify(httpServerResponse).setStatusCode(404);
+        verify(httpServerResponse).end("Not found");
+    }
+
+    @Test
+    public void shouldRespondWithJsonCreative() {
+        // given
+        given(httpServerRequest.getParam("uuid")).willReturn("uuid");
+        given(embeddedCache.get("uuid")).willReturn(EmbeddedCacheEntry.of("json", "{\"id\":\"bidId\"}", 300));
+
+        // when
+        embeddedCacheHandler.handle(routingContext);
+
+        // then
+        verify(httpServerResponse).putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_JSON_CONTENT_TYPE);
+        verify(httpServerResponse).end("{\"id\":\"bidId\"}");
+    }
+
+    @Test
+    public void shouldRespondWithXmlCreative() {
+        // given
+        given(httpServerRequest.getParam("uuid")).willReturn("uuid");
+        given(embeddedCache.get("uuid")).willReturn(EmbeddedCacheEntry.of("xml", "<VAST/>", 300));
+
+        // when
+        embeddedCacheHandler.handle(routingContext);
+
+        // then
+        verify(httpServerResponse).putHeader(HttpUtil.CONTENT_TYPE_HEADER, "application/xml");
+        verify(httpServerResponse).end("<VAST/>");
+    }
+
+    @Test
+    public void shouldRespondWithPlainTextForOtherTypes() {
+        // given
+        given(httpServerRequest.getParam("uuid")).willReturn("uuid");
+        given(embeddedCache.get("uuid")).willReturn(EmbeddedCacheEntry.of("text", "log", 300));
+
+        // when
+        embeddedCacheHandler.handle(routingContext);
+
+        // then
+        verify(httpServerResponse).putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.TEXT_PLAIN);
+        verify(httpServerResponse).end("log");
+    }
+}
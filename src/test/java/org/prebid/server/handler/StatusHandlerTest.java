@@ -7,11 +7,13 @@ import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.health.HealthChecker;
+import org.prebid.server.health.StartupTimeline;
 import org.prebid.server.health.model.StatusResponse;
 import org.prebid.server.util.HttpUtil;
 
@@ -25,8 +27,10 @@ import java.util.TreeMap;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 
 public class StatusHandlerTest extends VertxTest {
@@ -102,4 +106,23 @@ public class StatusHandlerTest extends VertxTest {
         // then
         verify(httpResponse).putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON);
     }
+
+    @Test
+    public void shouldRespondWithServiceUnavailableUntilStartupIsCompleted() {
+        // given
+        final StartupTimeline startupTimeline = new StartupTimeline(Clock.systemUTC(), 0L);
+        statusHandler = new StatusHandler(emptyList(), jacksonMapper, startupTimeline);
+        given(routingContext.response()).willReturn(httpResponse);
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
+
+        // when
+        statusHandler.handle(routingContext);
+        startupTimeline.markReady();
+        statusHandler.handle(routingContext);
+
+        // then
+        final InOrder inOrder = inOrder(httpResponse);
+        inOrder.verify(httpResponse).setStatusCode(eq(503));
+        inOrder.verify(httpResponse).setStatusCode(eq(204));
+    }
 }
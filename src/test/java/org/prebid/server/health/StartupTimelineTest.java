@@ -0,0 +1,50 @@
+package org.prebid.server.health;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StartupTimelineTest {
+
+    private Clock clock;
+
+    private StartupTimeline startupTimeline;
+
+    @Before
+    public void setUp() {
+        clock = Clock.fixed(Instant.ofEpochMilli(1500L), ZoneOffset.UTC);
+
+        startupTimeline = new StartupTimeline(clock, 1000L);
+    }
+
+    @Test
+    public void recordShouldAddPhaseWithOffsetFromJvmStartAndDuration() {
+        // when
+        startupTimeline.recordSinceJvmStart("context");
+        startupTimeline.record("initialization", 1200L);
+
+        // then
+        assertThat(startupTimeline.phases()).containsExactly(
+                StartupTimeline.Phase.of("context", 0L, 500L),
+                StartupTimeline.Phase.of("initialization", 200L, 300L));
+    }
+
+    @Test
+    public void markReadyShouldMakeApplicationReadyAndRecordPhase() {
+        // given
+        final boolean readyBefore = startupTimeline.isReady();
+
+        // when
+        startupTimeline.markReady();
+
+        // then
+        assertThat(readyBefore).isFalse();
+        assertThat(startupTimeline.isReady()).isTrue();
+        assertThat(startupTimeline.phases()).containsExactly(StartupTimeline.Phase.of("ready", 0L, 500L));
+    }
+}
@@ -0,0 +1,324 @@
+package org.prebid.server.health;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.geolocation.GeoLocationService;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.privacy.gdpr.vendorlist.VendorListServiceV2;
+import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.StoredDataResult;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class WarmupServiceTest extends VertxTest {
+
+    private static final String STORED_AUCTION_RESPONSE_SAMPLE = """
+            {"id":"1","imp":[{"id":"imp1","ext":{"prebid":{"storedauctionresponse":{"id":"response1"}}}}]}""";
+    private static final String STORED_BID_RESPONSE_SAMPLE = """
+            {"id":"2","imp":[{"id":"imp1","ext":{"prebid":{"bidder":{"generic":{}},\
+            "storedbidresponse":[{"bidder":"generic","id":"response1"}]}}}]}""";
+    private static final List<String> SAMPLE_REQUESTS = List.of(
+            STORED_AUCTION_RESPONSE_SAMPLE, STORED_BID_RESPONSE_SAMPLE);
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private ApplicationSettings applicationSettings;
+    @Mock
+    private CurrencyConversionService currencyConversionService;
+    @Mock
+    private VendorListServiceV2 vendorListService;
+    @Mock
+    private GeoLocationService geoLocationService;
+    @Mock
+    private AnalyticsReporterDelegator analyticsReporterDelegator;
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Metrics metrics;
+
+    private Clock clock;
+
+    private TimeoutFactory timeoutFactory;
+
+    @Before
+    public void setUp() {
+        clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+        timeoutFactory = new TimeoutFactory(clock);
+
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, "{}")));
+    }
+
+    @Test
+    public void warmupShouldPopulateCachesAndReplaySampleRequests() {
+        // given
+        given(applicationSettings.getAccountById(any(), any()))
+                .willReturn(Future.succeededFuture(Account.empty("accountId")));
+        given(applicationSettings.getStoredData(any(), any(), any(), any()))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(emptyMap(), emptyMap(), emptyList())));
+
+        final WarmupService warmupService = createWarmupService(
+                singletonList("accountId"), singletonList("requestId"), emptyList(), 1000L);
+
+        // when
+        final Future<Void> result = warmupService.warmup();
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verify(applicationSettings).getAccountById(eq("accountId"), any());
+        verify(applicationSettings).getStoredData(any(), eq(singleton("requestId")), eq(emptySet()), any());
+        verify(httpClient, times(4)).post(eq("http://localhost/auction"), any(), anyString(), anyLong());
+        verify(metrics).updateWarmupMetrics(anyLong(), eq(true));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void warmupShouldWaitForCurrencyRatesAvailability() {
+        // given
+        given(currencyConversionService.isExternalRatesActive()).willReturn(true);
+        given(currencyConversionService.getLastUpdated()).willReturn(null, ZonedDateTime.now(clock));
+        given(vertx.setTimer(anyLong(), any())).willAnswer(invocation -> {
+            ((Handler<Long>) invocation.getArgument(1)).handle(1L);
+            return 1L;
+        });
+
+        final WarmupService warmupService = createWarmupService(emptyList(), emptyList(), emptyList(), 1000L);
+
+        // when
+        final Future<Void> result = warmupService.warmup();
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verify(vertx).setTimer(anyLong(), any());
+        verify(metrics).updateWarmupMetrics(anyLong(), eq(true));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void warmupShouldWaitForGeoLocationServiceReadinessWithoutLookups() {
+        // given
+        given(geoLocationService.isReady()).willReturn(false, true);
+        given(vertx.setTimer(anyLong(), any())).willAnswer(invocation -> {
+            ((Handler<Long>) invocation.getArgument(1)).handle(1L);
+            return 1L;
+        });
+
+        final WarmupService warmupService = createWarmupService(
+                SAMPLE_REQUESTS, emptyList(), emptyList(), emptyList(), geoLocationService, 1000L);
+
+        // when
+        final Future<Void> result = warmupService.warmup();
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verify(geoLocationService, times(2)).isReady();
+        verify(geoLocationService, never()).lookup(any(), any());
+        verify(metrics).updateWarmupMetrics(anyLong(), eq(true));
+    }
+
+    @Test
+    public void warmupShouldSuspendMetricsAndAnalyticsWhileReplayingSampleRequests() {
+        // given
+        final WarmupService warmupService = createWarmupService(emptyList(), emptyList(), emptyList(), 1000L);
+
+        // when
+        warmupService.warmup();
+
+        // then
+        final InOrder inOrder = inOrder(metrics, analyticsReporterDelegator, httpClient);
+        inOrder.verify(metrics).suspendUpdates();
+        inOrder.verify(analyticsReporterDelegator).suspendReporting();
+        inOrder.verify(httpClient, times(4)).post(anyString(), any(), anyString(), anyLong());
+        inOrder.verify(analyticsReporterDelegator).resumeReporting();
+        inOrder.verify(metrics).resumeUpdates();
+        inOrder.verify(metrics).updateWarmupMetrics(anyLong(), eq(true));
+    }
+
+    @Test
+    public void warmupShouldResumeMetricsAndAnalyticsWhenTimeBudgetIsExhausted() {
+        // given
+        clock = mock(Clock.class);
+        given(clock.millis()).willReturn(1000L, 5000L);
+        timeoutFactory = new TimeoutFactory(clock);
+
+        final WarmupService warmupService = createWarmupService(emptyList(), emptyList(), emptyList(), 1000L);
+
+        // when
+        final Future<Void> result = warmupService.warmup();
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verifyNoInteractions(httpClient);
+        verify(metrics).suspendUpdates();
+        verify(metrics).resumeUpdates();
+        verify(analyticsReporterDelegator).resumeReporting();
+        verify(metrics).updateWarmupMetrics(anyLong(), eq(false));
+    }
+
+    @Test
+    public void creationShouldFailWhenSampleRequestIsNotValidBidRequest() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> createWarmupService(List.of(STORED_AUCTION_RESPONSE_SAMPLE, "{\"imp\":1}")))
+                .withMessageStartingWith("Warm-up sample request #1 is not a valid bid request");
+    }
+
+    @Test
+    public void creationShouldFailWhenSampleRequestImpHasNoStoredResponses() {
+        // given
+        final String sampleRequest = """
+                {"id":"1","imp":[{"id":"imp1","ext":{"prebid":{"bidder":{"generic":{}}}}}]}""";
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> createWarmupService(singletonList(sampleRequest)))
+                .withMessage("Warm-up sample request #0 should have stored auction response for each imp"
+                        + " or stored bid response for each bidder of its single imp");
+    }
+
+    @Test
+    public void creationShouldFailWhenSampleRequestHasNoStoredBidResponseForSomeBidder() {
+        // given
+        final String sampleRequest = """
+                {"id":"1","imp":[{"id":"imp1","ext":{"prebid":{"bidder":{"generic":{},"appnexus":{}},\
+                "storedbidresponse":[{"bidder":"generic","id":"response1"}]}}}]}""";
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> createWarmupService(singletonList(sampleRequest)))
+                .withMessageStartingWith("Warm-up sample request #0 should have stored auction response");
+    }
+
+    @Test
+    public void creationShouldFailWhenSampleRequestHasStoredBidResponsesForMultipleImps() {
+        // given
+        final String sampleRequest = """
+                {"id":"1","imp":[\
+                {"id":"imp1","ext":{"prebid":{"bidder":{"generic":{}},\
+                "storedbidresponse":[{"bidder":"generic","id":"response1"}]}}},\
+                {"id":"imp2","ext":{"prebid":{"bidder":{"generic":{}},\
+                "storedbidresponse":[{"bidder":"generic","id":"response2"}]}}}]}""";
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> createWarmupService(singletonList(sampleRequest)))
+                .withMessageStartingWith("Warm-up sample request #0 should have stored auction response");
+    }
+
+    @Test
+    public void warmupShouldReplaySampleRequestsAndFinishPartiallyWhenDataIsNotAvailableInTime() {
+        // given
+        given(vendorListService.forVersion(anyInt())).willReturn(Future.failedFuture("not fetched yet"));
+
+        final WarmupService warmupService = createWarmupService(emptyList(), emptyList(), singletonList(2), 50L);
+
+        // when
+        final Future<Void> result = warmupService.warmup();
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verifyNoInteractions(vertx);
+        verify(httpClient, times(4)).post(anyString(), any(), anyString(), anyLong());
+        verify(metrics).updateWarmupMetrics(anyLong(), eq(false));
+    }
+
+    @Test
+    public void warmupShouldContinueReplayingWhenSampleRequestFails() {
+        // given
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.failedFuture("connection refused"));
+
+        final WarmupService warmupService = createWarmupService(emptyList(), emptyList(), emptyList(), 1000L);
+
+        // when
+        final Future<Void> result = warmupService.warmup();
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verify(httpClient, times(4)).post(anyString(), any(), anyString(), anyLong());
+        verify(metrics).updateWarmupMetrics(anyLong(), eq(true));
+    }
+
+    private WarmupService createWarmupService(List<String> sampleRequests) {
+        return createWarmupService(sampleRequests, emptyList(), emptyList(), emptyList(), null, 1000L);
+    }
+
+    private WarmupService createWarmupService(List<String> accounts,
+                                              List<String> storedRequests,
+                                              List<Integer> vendorListVersions,
+                                              long timeoutMs) {
+
+        return createWarmupService(SAMPLE_REQUESTS, accounts, storedRequests, vendorListVersions, null, timeoutMs);
+    }
+
+    private WarmupService createWarmupService(List<String> sampleRequests,
+                                              List<String> accounts,
+                                              List<String> storedRequests,
+                                              List<Integer> vendorListVersions,
+                                              GeoLocationService geoLocationService,
+                                              long timeoutMs) {
+
+        return new WarmupService(
+                accounts,
+                storedRequests,
+                emptyList(),
+                vendorListVersions,
+                sampleRequests,
+                2,
+                "http://localhost/auction",
+                timeoutMs,
+                applicationSettings,
+                currencyConversionService,
+                vendorListService,
+                geoLocationService,
+                analyticsReporterDelegator,
+                httpClient,
+                vertx,
+                timeoutFactory,
+                clock,
+                metrics,
+                jacksonMapper);
+    }
+}
@@ -23,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public class HookCatalogTest {
 
@@ -168,6 +169,21 @@ public class HookCatalogTest {
                 .isEqualTo("sample-hook");
     }
 
+    @Test
+    public void hookByIdShouldLookUpModulesOnlyOnceForTheSameHook() {
+        // given
+        givenHook(EntrypointHook.class);
+
+        // when
+        hookCatalog.hookById("sample-module", "sample-hook", StageWithHookType.ENTRYPOINT);
+        final EntrypointHook foundHook = hookCatalog.hookById(
+                "sample-module", "sample-hook", StageWithHookType.ENTRYPOINT);
+
+        // then
+        assertThat(foundHook).isSameAs(sampleHook);
+        verify(sampleModule).hooks();
+    }
+
     private void givenHook(Class<? extends Hook<?, ? extends InvocationContext>> clazz) {
         sampleHook = mock(clazz);
         given(sampleHook.code()).willReturn("sample-hook");
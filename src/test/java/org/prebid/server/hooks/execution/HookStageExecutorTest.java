@@ -634,6 +634,109 @@ public class HookStageExecutorTest extends VertxTest {
         async.awaitSuccess();
     }
 
+    @Test
+    public void shouldExecuteIndependentEntrypointHooksWithoutPayloadChainingAndWithSharedTimeout(
+            TestContext context) {
+
+        // given
+        final TagsImpl analyticsTags = TagsImpl.of(singletonList(ActivityImpl.of(
+                "analytics",
+                "success",
+                singletonList(ResultImpl.of("success", null, AppliedToImpl.builder().request(true).build())))));
+
+        givenEntrypointHook(
+                "module-alpha",
+                "hook-a",
+                delayedHook(
+                        InvocationResultImpl.<EntrypointPayload>builder()
+                                .status(InvocationStatus.success)
+                                .action(InvocationAction.no_action)
+                                .analyticsTags(analyticsTags)
+                                .build(),
+                        50));
+
+        // hook implementation takes too long
+        givenEntrypointHook(
+                "module-alpha",
+                "hook-b",
+                delayedHook(InvocationResultImpl.noAction(), 250));
+
+        // hook implementation is not allowed to update payload
+        givenEntrypointHook(
+                "module-beta",
+                "hook-a",
+                immediateHook(InvocationResultImpl.succeeded(payload -> EntrypointPayloadImpl.of(
+                        payload.queryParams(), payload.headers(), payload.body() + "-abc"))));
+
+        final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
+
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(
+                                Stage.entrypoint,
+                                StageExecutionPlan.of(singletonList(
+                                        ExecutionGroup.of(
+                                                200L,
+                                                asList(
+                                                        HookId.of("module-alpha", "hook-a"),
+                                                        HookId.of("module-alpha", "hook-b"),
+                                                        HookId.of("module-beta", "hook-a")),
+                                                true))))))));
+
+        // when
+        final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
+                CaseInsensitiveMultiMap.empty(),
+                CaseInsensitiveMultiMap.empty(),
+                "body",
+                hookExecutionContext);
+
+        // then
+        final Async async = context.async();
+        future.onComplete(context.asyncAssertSuccess(result -> {
+            assertThat(result.getPayload()).isNotNull().satisfies(payload ->
+                    assertThat(payload.body()).isEqualTo("body"));
+
+            assertThat(hookExecutionContext.getStageOutcomes())
+                    .hasEntrySatisfying(
+                            Stage.entrypoint,
+                            stageOutcomes -> {
+                                final List<HookExecutionOutcome> hooks =
+                                        stageOutcomes.get(0).getGroups().get(0).getHooks();
+                                assertThat(hooks).hasSize(3);
+
+                                assertThat(hooks.get(0)).satisfies(hookOutcome -> {
+                                    assertThat(hookOutcome.getHookId())
+                                            .isEqualTo(HookId.of("module-alpha", "hook-a"));
+                                    assertThat(hookOutcome.getStatus()).isEqualTo(ExecutionStatus.success);
+                                    assertThat(hookOutcome.getAnalyticsTags()).isSameAs(analyticsTags);
+                                    assertThat(hookOutcome.getExecutionTime()).isBetween(50L, 70L);
+                                });
+
+                                assertThat(hooks.get(1)).satisfies(hookOutcome -> {
+                                    assertThat(hookOutcome.getHookId())
+                                            .isEqualTo(HookId.of("module-alpha", "hook-b"));
+                                    assertThat(hookOutcome.getStatus()).isEqualTo(ExecutionStatus.timeout);
+                                    assertThat(hookOutcome.getExecutionTime()).isBetween(200L, 220L);
+                                });
+
+                                assertThat(hooks.get(2)).satisfies(hookOutcome -> {
+                                    assertThat(hookOutcome.getHookId())
+                                            .isEqualTo(HookId.of("module-beta", "hook-a"));
+                                    assertThat(hookOutcome.getStatus())
+                                            .isEqualTo(ExecutionStatus.execution_failure);
+                                    assertThat(hookOutcome.getMessage()).isEqualTo(
+                                            "Payload update and rejection are not allowed in independent group");
+                                    assertThat(hookOutcome.getCpuTimeMicros()).isNotNull();
+                                });
+                            });
+
+            async.complete();
+        }));
+
+        async.awaitSuccess();
+    }
+
     @Test
     public void shouldExecuteEntrypointHooksHonoringStatusAndAction(TestContext context) {
         // given
@@ -1248,6 +1351,118 @@ public class HookStageExecutorTest extends VertxTest {
         async.awaitSuccess();
     }
 
+    @Test
+    public void shouldExecuteRawAuctionRequestHooksFromRefreshedAccountExecutionPlan(TestContext context) {
+        // given
+        final RawAuctionRequestHookImpl hookImpl = spy(
+                RawAuctionRequestHookImpl.of(immediateHook(InvocationResultImpl.noAction())));
+        given(hookCatalog.hookById(anyString(), anyString(), eq(StageWithHookType.RAW_AUCTION_REQUEST)))
+                .willReturn(hookImpl);
+
+        final HookStageExecutor executor = createExecutor(null, null);
+
+        final Account account = givenAccountWithRawAuctionRequestPlan("module-alpha", "hook-a");
+        final Account refreshedAccount = givenAccountWithRawAuctionRequestPlan("module-beta", "hook-b");
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future = executor
+                .executeRawAuctionRequestStage(givenAuctionContext(account))
+                .compose(ignored -> executor.executeRawAuctionRequestStage(givenAuctionContext(account)))
+                .compose(ignored -> executor.executeRawAuctionRequestStage(givenAuctionContext(refreshedAccount)));
+
+        // then
+        final Async async = context.async();
+        future.onComplete(context.asyncAssertSuccess(result -> {
+            verify(hookImpl, times(3)).call(any(), any());
+            verify(hookCatalog)
+                    .hookById(eq("module-alpha"), eq("hook-a"), eq(StageWithHookType.RAW_AUCTION_REQUEST));
+            verify(hookCatalog)
+                    .hookById(eq("module-beta"), eq("hook-b"), eq(StageWithHookType.RAW_AUCTION_REQUEST));
+
+            async.complete();
+        }));
+
+        async.awaitSuccess();
+    }
+
+    @Test
+    public void shouldReuseCompiledPlanForAccountFetchedAgainWithEqualHooksConfiguration(TestContext context) {
+        // given
+        final RawAuctionRequestHookImpl hookImpl = spy(
+                RawAuctionRequestHookImpl.of(immediateHook(InvocationResultImpl.noAction())));
+        given(hookCatalog.hookById(anyString(), anyString(), eq(StageWithHookType.RAW_AUCTION_REQUEST)))
+                .willReturn(hookImpl);
+
+        final HookStageExecutor executor = createExecutor(null, null);
+
+        final Account account = givenAccountWithRawAuctionRequestPlan("module-alpha", "hook-a");
+        final Account fetchedAgainAccount = givenAccountWithRawAuctionRequestPlan("module-alpha", "hook-a");
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future = executor
+                .executeRawAuctionRequestStage(givenAuctionContext(account))
+                .compose(ignored -> executor.executeRawAuctionRequestStage(givenAuctionContext(fetchedAgainAccount)));
+
+        // then
+        final Async async = context.async();
+        future.onComplete(context.asyncAssertSuccess(result -> {
+            verify(hookImpl, times(2)).call(any(), any());
+            verify(hookCatalog)
+                    .hookById(eq("module-alpha"), eq("hook-a"), eq(StageWithHookType.RAW_AUCTION_REQUEST));
+
+            async.complete();
+        }));
+
+        async.awaitSuccess();
+    }
+
+    @Test
+    public void shouldPassModuleConfigOfRefreshedAccount(TestContext context) {
+        // given
+        final RawAuctionRequestHookImpl hookImpl = spy(
+                RawAuctionRequestHookImpl.of(immediateHook(InvocationResultImpl.noAction())));
+        given(hookCatalog.hookById(anyString(), anyString(), eq(StageWithHookType.RAW_AUCTION_REQUEST)))
+                .willReturn(hookImpl);
+
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(
+                                Stage.raw_auction_request,
+                                execPlanOneGroupOneHook("module-alpha", "hook-a"))))));
+
+        final ObjectNode moduleConfig = mapper.createObjectNode().put("enabled", true);
+        final ObjectNode refreshedModuleConfig = mapper.createObjectNode().put("enabled", false);
+        final Account account = Account.builder()
+                .id("accountId")
+                .hooks(AccountHooksConfiguration.of(null, singletonMap("module-alpha", moduleConfig)))
+                .build();
+        final Account refreshedAccount = Account.builder()
+                .id("accountId")
+                .hooks(AccountHooksConfiguration.of(null, singletonMap("module-alpha", refreshedModuleConfig)))
+                .build();
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future = executor
+                .executeRawAuctionRequestStage(givenAuctionContext(account))
+                .compose(ignored -> executor.executeRawAuctionRequestStage(givenAuctionContext(refreshedAccount)));
+
+        // then
+        final Async async = context.async();
+        future.onComplete(context.asyncAssertSuccess(result -> {
+            final ArgumentCaptor<AuctionInvocationContext> invocationContextCaptor =
+                    ArgumentCaptor.forClass(AuctionInvocationContext.class);
+            verify(hookImpl, times(2)).call(any(), invocationContextCaptor.capture());
+            assertThat(invocationContextCaptor.getAllValues())
+                    .extracting(AuctionInvocationContext::accountConfig)
+                    .containsExactly(moduleConfig, refreshedModuleConfig);
+
+            async.complete();
+        }));
+
+        async.awaitSuccess();
+    }
+
     @Test
     public void shouldExecuteRawAuctionRequestHooksToleratingUnknownHookInAccountPlan(TestContext context) {
         // given
@@ -2859,6 +3074,27 @@ public class HookStageExecutorTest extends VertxTest {
         return (payload, context) -> Future.succeededFuture(result);
     }
 
+    private Account givenAccountWithRawAuctionRequestPlan(String moduleCode, String hookImplCode) {
+        final ExecutionPlan accountPlan = ExecutionPlan.of(singletonMap(
+                Endpoint.openrtb2_auction,
+                EndpointExecutionPlan.of(singletonMap(
+                        Stage.raw_auction_request,
+                        execPlanOneGroupOneHook(moduleCode, hookImplCode)))));
+        return Account.builder()
+                .id("accountId")
+                .hooks(AccountHooksConfiguration.of(accountPlan, null))
+                .build();
+    }
+
+    private static AuctionContext givenAuctionContext(Account account) {
+        return AuctionContext.builder()
+                .bidRequest(BidRequest.builder().build())
+                .account(account)
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugContext(DebugContext.empty())
+                .build();
+    }
+
     private HookStageExecutor createExecutor(String hostExecutionPlan) {
         return createExecutor(hostExecutionPlan, null);
     }
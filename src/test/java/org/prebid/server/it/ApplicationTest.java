@@ -546,6 +546,19 @@ public class ApplicationTest extends IntegrationTest {
                 .statusCode(200);
     }
 
+    @Test
+    public void startupTimelineHandlerShouldRespondWithReadyApplication() {
+        final Boolean ready = given(ADMIN_SPEC)
+                .get("/startup/timeline")
+                .then()
+                .assertThat()
+                .statusCode(200)
+                .extract()
+                .path("ready");
+
+        assertThat(ready).isTrue();
+    }
+
     @Test
     public void loggingHttpInteractionShouldRespondWithOk() {
         given(ADMIN_SPEC)
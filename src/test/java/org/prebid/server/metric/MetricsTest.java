@@ -402,6 +402,18 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("requests.networkerr.amp").getCount()).isOne();
     }
 
+    @Test
+    public void updateResponseSerializationMetricsShouldUpdateHistograms() {
+        // when
+        metrics.updateResponseSerializationMetrics(MetricName.amp, 512L, 150L);
+
+        // then
+        assertThat(metricRegistry.histogram("requests.response_size.amp").getSnapshot().getValues())
+                .containsExactly(512L);
+        assertThat(metricRegistry.histogram("requests.serialization_time.amp").getSnapshot().getValues())
+                .containsExactly(150L);
+    }
+
     @Test
     public void uupdateRequestBidderCardinalityMetricShouldIncrementMetrics() {
         // when
@@ -936,6 +948,25 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("privacy.tcf.v1.vendorlist.fallback").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void updatePrivacyTcfVendorListPrefetchedMetricShouldIncrementMetric() {
+        // when
+        metrics.updatePrivacyTcfVendorListPrefetchedMetric(2);
+
+        // then
+        assertThat(metricRegistry.counter("privacy.tcf.v2.vendorlist.prefetched").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCreatePrivacyTcfVendorListLatestVersionGauge() {
+        // when
+        metrics.createPrivacyTcfVendorListLatestVersionGauge(2, () -> 52L);
+
+        // then
+        assertThat(metricRegistry.gauge("privacy.tcf.v2.vendorlist.latest-version", () -> null).getValue())
+                .isEqualTo(52L);
+    }
+
     @Test
     public void shouldNotUpdateAccountMetricsIfVerbosityIsNone() {
         // given
@@ -998,6 +1029,80 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("db_query_time").getCount()).isOne();
     }
 
+    @Test
+    public void shouldUpdateDatabaseConnectionAcquireAndQueryExecutionTimeMetrics() {
+        // when
+        metrics.updateDatabaseConnectionAcquireTimeMetric(12L);
+        metrics.updateDatabaseQueryExecutionTimeMetric(34L);
+
+        // then
+        assertThat(metricRegistry.timer("db_connection_acquire_time").getCount()).isOne();
+        assertThat(metricRegistry.timer("db_query_execution_time").getCount()).isOne();
+    }
+
+    @Test
+    public void shouldCreateBlockingTasksInFlightGaugeMetric() {
+        // when
+        metrics.createBlockingTasksInFlightGauge(() -> 3L);
+
+        // then
+        assertThat(metricRegistry.gauge("blocking_tasks_in_flight", () -> null).getValue()).isEqualTo(3L);
+    }
+
+    @Test
+    public void shouldUpdateRemoteFileDownloadMetrics() {
+        // when
+        metrics.updateRemoteFileDownloadMetrics(1024L, 56L);
+
+        // then
+        assertThat(metricRegistry.histogram("remote_file_download_size").getSnapshot().getValues())
+                .containsOnly(1024L);
+        assertThat(metricRegistry.timer("remote_file_download_time").getCount()).isOne();
+    }
+
+    @Test
+    public void updateWarmupMetricsShouldCountIncompleteWarmup() {
+        // when
+        metrics.updateWarmupMetrics(100L, true);
+        metrics.updateWarmupMetrics(200L, false);
+
+        // then
+        assertThat(metricRegistry.timer("warmup_time").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("warmup_incomplete").getCount()).isOne();
+    }
+
+    @Test
+    public void shouldDropUpdatesWhileSuspended() {
+        // given
+        metrics.createDatabaseCircuitBreakerGauge(() -> true);
+
+        // when
+        metrics.suspendUpdates();
+        metrics.updateRequestTimeMetric(MetricName.request_time, 100L);
+        metrics.updateRequestBidderCardinalityMetric(2);
+        metrics.updateWarmupMetrics(100L, false);
+
+        // then
+        assertThat(metricRegistry.getTimers()).isEmpty();
+        assertThat(metricRegistry.getCounters()).isEmpty();
+        assertThat(metricRegistry.getGauges()).containsOnlyKeys("circuit-breaker.db.opened.count");
+    }
+
+    @Test
+    public void shouldUpdateMetricsWhenResumed() {
+        // given
+        metrics.suspendUpdates();
+        metrics.updateWarmupMetrics(100L, false);
+
+        // when
+        metrics.resumeUpdates();
+        metrics.updateWarmupMetrics(200L, false);
+
+        // then
+        assertThat(metricRegistry.timer("warmup_time").getCount()).isOne();
+        assertThat(metricRegistry.counter("warmup_incomplete").getCount()).isOne();
+    }
+
     @Test
     public void shouldCreateDatabaseCircuitBreakerGaugeMetric() {
         // when
@@ -1068,6 +1173,102 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("geolocation_requests").getCount()).isEqualTo(3);
     }
 
+    @Test
+    public void shouldIncrementGeoLocationCacheHitOrMissMetricDependingOnFlag() {
+        // when
+        metrics.updateGeoLocationCacheMetric(true);
+        metrics.updateGeoLocationCacheMetric(false);
+        metrics.updateGeoLocationCacheMetric(true);
+
+        // then
+        assertThat(metricRegistry.counter("geolocation_cache_hit").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("geolocation_cache_miss").getCount()).isOne();
+    }
+
+    @Test
+    public void shouldIncrementPrivacyTcfConsentCacheHitOrMissMetricDependingOnFlag() {
+        // when
+        metrics.updatePrivacyTcfConsentCacheMetric(true);
+        metrics.updatePrivacyTcfConsentCacheMetric(false);
+        metrics.updatePrivacyTcfConsentCacheMetric(true);
+
+        // then
+        assertThat(metricRegistry.counter("privacy.tcf.consentcache.hit").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("privacy.tcf.consentcache.miss").getCount()).isOne();
+    }
+
+    @Test
+    public void updateCacheBatchSizeShouldUpdateHistogram() {
+        // when
+        metrics.updateCacheBatchSize(10);
+
+        // then
+        assertThat(metricRegistry.histogram("prebid_cache.batch_size").getCount()).isOne();
+    }
+
+    @Test
+    public void updateCacheBatchAddedLatencyShouldUpdateTimer() {
+        // when
+        metrics.updateCacheBatchAddedLatency(1L);
+
+        // then
+        assertThat(metricRegistry.timer("prebid_cache.batch_added_latency").getCount()).isOne();
+    }
+
+    @Test
+    public void updateCacheEmbeddedLookupMetricShouldIncrementHitAndMissMetrics() {
+        // when
+        metrics.updateCacheEmbeddedLookupMetric(true);
+        metrics.updateCacheEmbeddedLookupMetric(false);
+        metrics.updateCacheEmbeddedLookupMetric(false);
+
+        // then
+        assertThat(metricRegistry.counter("prebid_cache.embedded.hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("prebid_cache.embedded.miss").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void updateCacheEmbeddedEvictionMetricShouldIncrementMetric() {
+        // when
+        metrics.updateCacheEmbeddedEvictionMetric();
+
+        // then
+        assertThat(metricRegistry.counter("prebid_cache.embedded.evictions").getCount()).isOne();
+    }
+
+    @Test
+    public void updateCacheEmbeddedConflictMetricShouldIncrementMetric() {
+        // when
+        metrics.updateCacheEmbeddedConflictMetric();
+
+        // then
+        assertThat(metricRegistry.counter("prebid_cache.embedded.conflicts").getCount()).isOne();
+    }
+
+    @Test
+    public void shouldCreateCacheEmbeddedGauges() {
+        // when
+        metrics.createCacheEmbeddedEntriesGauge(() -> 3L);
+        metrics.createCacheEmbeddedBytesGauge(() -> 100L);
+
+        // then
+        assertThat(metricRegistry.gauge("prebid_cache.embedded.entries", () -> null).getValue()).isEqualTo(3L);
+        assertThat(metricRegistry.gauge("prebid_cache.embedded.bytes", () -> null).getValue()).isEqualTo(100L);
+    }
+
+    @Test
+    public void shouldCreateSettingsCacheSnapshotGauges() {
+        // when
+        metrics.createSettingsCacheSnapshotEntriesGauge(MetricName.stored_request, () -> 3L);
+        metrics.createSettingsCacheSnapshotCharsGauge(MetricName.stored_request, () -> 100L);
+
+        // then
+        assertThat(metricRegistry.gauge("settings.cache.stored-request.snapshot.entries", () -> null).getValue())
+                .isEqualTo(3L);
+        assertThat(metricRegistry.gauge("settings.cache.stored-request.snapshot.chars", () -> null).getValue())
+                .isEqualTo(100L);
+    }
+
     @Test
     public void shouldIncrementStoredRequestFoundMetric() {
         // when
@@ -1262,6 +1463,16 @@ public class MetricsTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    public void updateHookCpuTimeMetricShouldUpdateHistogram() {
+        // when
+        metrics.updateHookCpuTimeMetric("module1", Stage.entrypoint, "hook1", 150L);
+
+        // then
+        assertThat(metricRegistry.histogram("modules.module.module1.stage.entrypoint.hook.hook1.cpu_time").getCount())
+                .isEqualTo(1);
+    }
+
     @Test
     public void updateAccountHooksMetricsShouldIncrementMetricsIfVerbosityIsDetailed() {
         // given
@@ -0,0 +1,93 @@
+package org.prebid.server.privacy.gdpr;
+
+import com.iabtcf.decoder.TCString;
+import com.iabtcf.exceptions.TCStringDecodeException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.Metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class TcStringDecoderTest {
+
+    private static final String TCF_V2_CONSENT = "CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA";
+    private static final String TCF_V1_CONSENT = "BONV8oqONXwgmADACHENAO7pqzAAppY";
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void decodeShouldReturnNewInstanceEachTimeWhenCacheIsNotConfigured() {
+        // given
+        final TcStringDecoder tcStringDecoder = TcStringDecoder.create();
+
+        // when
+        final TCString first = tcStringDecoder.decode(TCF_V2_CONSENT);
+        final TCString second = tcStringDecoder.decode(TCF_V2_CONSENT);
+
+        // then
+        assertThat(first).isNotSameAs(second).isEqualTo(second);
+    }
+
+    @Test
+    public void decodeShouldReturnCachedInstanceForTheSameConsentString() {
+        // given
+        final TcStringDecoder tcStringDecoder = TcStringDecoder.caching(1000L, 60000L, metrics);
+
+        // when
+        final TCString first = tcStringDecoder.decode(TCF_V2_CONSENT);
+        final TCString second = tcStringDecoder.decode(TCF_V2_CONSENT);
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(first.getVersion()).isEqualTo(2);
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(false);
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(true);
+    }
+
+    @Test
+    public void decodeShouldNotCacheTcfV1ConsentString() {
+        // given
+        final TcStringDecoder tcStringDecoder = TcStringDecoder.caching(1000L, 60000L, metrics);
+
+        // when
+        final TCString first = tcStringDecoder.decode(TCF_V1_CONSENT);
+        final TCString second = tcStringDecoder.decode(TCF_V1_CONSENT);
+
+        // then
+        assertThat(first).isNotSameAs(second);
+        verify(metrics, times(2)).updatePrivacyTcfConsentCacheMetric(false);
+    }
+
+    @Test
+    public void decodeShouldThrowExceptionForInvalidConsentString() {
+        // given
+        final TcStringDecoder tcStringDecoder = TcStringDecoder.caching(1000L, 60000L, metrics);
+
+        // when and then
+        assertThatThrownBy(() -> tcStringDecoder.decode("invalid"))
+                .isInstanceOf(TCStringDecodeException.class);
+    }
+
+    @Test
+    public void decodeShouldNotUpdateMetricsWhenCacheIsNotConfigured() {
+        // given
+        final TcStringDecoder tcStringDecoder = TcStringDecoder.create();
+
+        // when
+        tcStringDecoder.decode(TCF_V2_CONSENT);
+
+        // then
+        verifyNoInteractions(metrics);
+    }
+}
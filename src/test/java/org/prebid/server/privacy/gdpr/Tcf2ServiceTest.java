@@ -15,6 +15,7 @@ import org.prebid.server.privacy.gdpr.model.VendorPermission;
 import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeStrategy;
 import org.prebid.server.privacy.gdpr.tcfstrategies.specialfeature.SpecialFeaturesStrategy;
+import org.prebid.server.privacy.gdpr.vendorlist.VendorListIndex;
 import org.prebid.server.privacy.gdpr.vendorlist.VendorListServiceV2;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorV2;
 import org.prebid.server.settings.model.AccountGdprConfig;
@@ -77,6 +78,8 @@ public class Tcf2ServiceTest extends VertxTest {
 
     private Tcf2Service target;
 
+    private VendorListIndex vendorListIndex;
+
     private Purposes purposes;
 
     private Purpose purpose1;
@@ -109,7 +112,8 @@ public class Tcf2ServiceTest extends VertxTest {
         given(specialFeaturesStrategyOne.getSpecialFeatureId()).willReturn(1);
         specialFeaturesStrategies = singletonList(specialFeaturesStrategyOne);
 
-        given(vendorListService.forVersion(anyInt())).willReturn(Future.succeededFuture(emptyMap()));
+        vendorListIndex = VendorListIndex.of(emptyMap());
+        given(vendorListService.indexForVersion(anyInt())).willReturn(Future.succeededFuture(vendorListIndex));
 
         initPurposes();
         initSpecialFeatures();
@@ -174,13 +178,13 @@ public class Tcf2ServiceTest extends VertxTest {
 
         verify(bidderCatalog).nameByVendorId(1);
         verify(tcString).getVendorListVersion();
-        verify(vendorListService).forVersion(10);
+        verify(vendorListService).indexForVersion(10);
     }
 
     @Test
     public void permissionsForShouldReturnByGdprPurposeAndDowngradeToBasicTypeWhenVendorListServiceIsFailed() {
         // given
-        given(vendorListService.forVersion(anyInt())).willReturn(Future.failedFuture("Bad version"));
+        given(vendorListService.indexForVersion(anyInt())).willReturn(Future.failedFuture("Bad version"));
         given(bidderCatalog.nameByVendorId(any())).willReturn("rubicon");
 
         // when
@@ -194,19 +198,20 @@ public class Tcf2ServiceTest extends VertxTest {
         final VendorPermissionWithGvl expectedVendorPermissionWitGvl = VendorPermissionWithGvl.of(
                 expectedVendorPermission, VendorV2.empty(1));
         final List<VendorPermissionWithGvl> vendorPermissionWithGvls = singletonList(expectedVendorPermissionWitGvl);
-        verify(purposeStrategyOne).processTypePurposeStrategy(tcString, purpose1, vendorPermissionWithGvls, true);
-        verify(purposeStrategyTwo).processTypePurposeStrategy(tcString, purpose2, vendorPermissionWithGvls, true);
-        verify(purposeStrategyFour).processTypePurposeStrategy(tcString, purpose4, vendorPermissionWithGvls, true);
+        verify(purposeStrategyOne).processTypePurposeStrategy(tcString, purpose1, vendorPermissionWithGvls, null, true);
+        verify(purposeStrategyTwo).processTypePurposeStrategy(tcString, purpose2, vendorPermissionWithGvls, null, true);
+        verify(purposeStrategyFour).processTypePurposeStrategy(
+                tcString, purpose4, vendorPermissionWithGvls, null, true);
 
         final Purpose expectedDowngradedPurpose = Purpose.of(EnforcePurpose.basic, purpose7.getEnforceVendors(),
                 purpose1.getVendorExceptions());
         verify(purposeStrategySeven).processTypePurposeStrategy(tcString, expectedDowngradedPurpose,
-                vendorPermissionWithGvls, true);
+                vendorPermissionWithGvls, null, true);
         verifyEachSpecialFeatureStrategyReceive(singletonList(expectedVendorPermission));
 
         verify(bidderCatalog).nameByVendorId(1);
         verify(tcString).getVendorListVersion();
-        verify(vendorListService).forVersion(10);
+        verify(vendorListService).indexForVersion(10);
     }
 
     @Test
@@ -235,9 +240,10 @@ public class Tcf2ServiceTest extends VertxTest {
                 tcString,
                 accountPurposeOne,
                 singletonList(VendorPermissionWithGvl.of(expectedVendorPermission, VendorV2.empty(null))),
+                vendorListIndex,
                 false);
         verify(tcString).getVendorListVersion();
-        verify(vendorListService).forVersion(10);
+        verify(vendorListService).indexForVersion(10);
     }
 
     @Test
@@ -389,14 +395,21 @@ public class Tcf2ServiceTest extends VertxTest {
                 expectedVendorPermission1, VendorV2.empty(1));
         final List<VendorPermissionWithGvl> standardPermissions = singletonList(expectedVendorPermissionWitGvl1);
 
-        verify(purposeStrategyOne, never()).processTypePurposeStrategy(any(), any(), anyCollection(), anyBoolean());
-        verify(purposeStrategyTwo).processTypePurposeStrategy(any(), any(), eq(standardPermissions), eq(false));
-        verify(purposeStrategySeven).processTypePurposeStrategy(any(), any(), eq(standardPermissions), eq(false));
-        verify(purposeStrategyFour).processTypePurposeStrategy(any(), any(), eq(standardPermissions), eq(false));
-
-        verify(purposeStrategyTwo).processTypePurposeStrategy(any(), any(), eq(emptyList()), eq(true));
-        verify(purposeStrategySeven).processTypePurposeStrategy(any(), any(), eq(emptyList()), eq(true));
-        verify(purposeStrategyFour).processTypePurposeStrategy(any(), any(), eq(emptyList()), eq(true));
+        verify(purposeStrategyOne, never()).processTypePurposeStrategy(
+                any(), any(), anyCollection(), any(), anyBoolean());
+        verify(purposeStrategyTwo).processTypePurposeStrategy(
+                any(), any(), eq(standardPermissions), eq(vendorListIndex), eq(false));
+        verify(purposeStrategySeven).processTypePurposeStrategy(
+                any(), any(), eq(standardPermissions), eq(vendorListIndex), eq(false));
+        verify(purposeStrategyFour).processTypePurposeStrategy(
+                any(), any(), eq(standardPermissions), eq(vendorListIndex), eq(false));
+
+        verify(purposeStrategyTwo).processTypePurposeStrategy(
+                any(), any(), eq(emptyList()), eq(vendorListIndex), eq(true));
+        verify(purposeStrategySeven).processTypePurposeStrategy(
+                any(), any(), eq(emptyList()), eq(vendorListIndex), eq(true));
+        verify(purposeStrategyFour).processTypePurposeStrategy(
+                any(), any(), eq(emptyList()), eq(vendorListIndex), eq(true));
 
         verify(specialFeaturesStrategyOne).processSpecialFeaturesStrategy(any(), any(), anyCollection());
     }
@@ -425,15 +438,22 @@ public class Tcf2ServiceTest extends VertxTest {
                 expectedVendorPermission1, VendorV2.empty(1));
         final List<VendorPermissionWithGvl> standardPermissions = singletonList(expectedVendorPermissionWitGvl1);
 
-        verify(purposeStrategyOne, never()).processTypePurposeStrategy(any(), any(), anyCollection(), anyBoolean());
+        verify(purposeStrategyOne, never()).processTypePurposeStrategy(
+                any(), any(), anyCollection(), any(), anyBoolean());
         verify(purposeStrategyOne).allow(any());
-        verify(purposeStrategyTwo).processTypePurposeStrategy(any(), any(), eq(standardPermissions), eq(false));
-        verify(purposeStrategySeven).processTypePurposeStrategy(any(), any(), eq(standardPermissions), eq(false));
-        verify(purposeStrategyFour).processTypePurposeStrategy(any(), any(), eq(standardPermissions), eq(false));
-
-        verify(purposeStrategyTwo).processTypePurposeStrategy(any(), any(), eq(emptyList()), eq(true));
-        verify(purposeStrategySeven).processTypePurposeStrategy(any(), any(), eq(emptyList()), eq(true));
-        verify(purposeStrategyFour).processTypePurposeStrategy(any(), any(), eq(emptyList()), eq(true));
+        verify(purposeStrategyTwo).processTypePurposeStrategy(
+                any(), any(), eq(standardPermissions), eq(vendorListIndex), eq(false));
+        verify(purposeStrategySeven).processTypePurposeStrategy(
+                any(), any(), eq(standardPermissions), eq(vendorListIndex), eq(false));
+        verify(purposeStrategyFour).processTypePurposeStrategy(
+                any(), any(), eq(standardPermissions), eq(vendorListIndex), eq(false));
+
+        verify(purposeStrategyTwo).processTypePurposeStrategy(
+                any(), any(), eq(emptyList()), eq(vendorListIndex), eq(true));
+        verify(purposeStrategySeven).processTypePurposeStrategy(
+                any(), any(), eq(emptyList()), eq(vendorListIndex), eq(true));
+        verify(purposeStrategyFour).processTypePurposeStrategy(
+                any(), any(), eq(emptyList()), eq(vendorListIndex), eq(true));
 
         verify(specialFeaturesStrategyOne).processSpecialFeaturesStrategy(any(), any(), anyCollection());
     }
@@ -470,17 +490,25 @@ public class Tcf2ServiceTest extends VertxTest {
     }
 
     public void verifyEachPurposeStrategyReceive(List<VendorPermissionWithGvl> vendorPermissionWithGvls) {
-        verify(purposeStrategyOne).processTypePurposeStrategy(tcString, purpose1, vendorPermissionWithGvls, false);
-        verify(purposeStrategyTwo).processTypePurposeStrategy(tcString, purpose2, vendorPermissionWithGvls, false);
-        verify(purposeStrategyFour).processTypePurposeStrategy(tcString, purpose4, vendorPermissionWithGvls, false);
-        verify(purposeStrategySeven).processTypePurposeStrategy(tcString, purpose7, vendorPermissionWithGvls, false);
+        verify(purposeStrategyOne).processTypePurposeStrategy(
+                tcString, purpose1, vendorPermissionWithGvls, vendorListIndex, false);
+        verify(purposeStrategyTwo).processTypePurposeStrategy(
+                tcString, purpose2, vendorPermissionWithGvls, vendorListIndex, false);
+        verify(purposeStrategyFour).processTypePurposeStrategy(
+                tcString, purpose4, vendorPermissionWithGvls, vendorListIndex, false);
+        verify(purposeStrategySeven).processTypePurposeStrategy(
+                tcString, purpose7, vendorPermissionWithGvls, vendorListIndex, false);
     }
 
     public void verifyEachPurposeStrategyReceiveWeak(List<VendorPermissionWithGvl> vendorPermissionWithGvls) {
-        verify(purposeStrategyOne).processTypePurposeStrategy(tcString, weakPurpose1, vendorPermissionWithGvls, true);
-        verify(purposeStrategyTwo).processTypePurposeStrategy(tcString, weakPurpose2, vendorPermissionWithGvls, true);
-        verify(purposeStrategyFour).processTypePurposeStrategy(tcString, weakPurpose4, vendorPermissionWithGvls, true);
-        verify(purposeStrategySeven).processTypePurposeStrategy(tcString, weakPurpose7, vendorPermissionWithGvls, true);
+        verify(purposeStrategyOne).processTypePurposeStrategy(
+                tcString, weakPurpose1, vendorPermissionWithGvls, vendorListIndex, true);
+        verify(purposeStrategyTwo).processTypePurposeStrategy(
+                tcString, weakPurpose2, vendorPermissionWithGvls, vendorListIndex, true);
+        verify(purposeStrategyFour).processTypePurposeStrategy(
+                tcString, weakPurpose4, vendorPermissionWithGvls, vendorListIndex, true);
+        verify(purposeStrategySeven).processTypePurposeStrategy(
+                tcString, weakPurpose7, vendorPermissionWithGvls, vendorListIndex, true);
     }
 
     public void verifyEachSpecialFeatureStrategyReceive(List<VendorPermission> vendorPermission) {
@@ -87,6 +87,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                TcStringDecoder.create(),
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
@@ -101,6 +102,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                TcStringDecoder.create(),
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
@@ -179,6 +181,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                TcStringDecoder.create(),
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
@@ -211,6 +214,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                TcStringDecoder.create(),
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
@@ -243,6 +247,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                TcStringDecoder.create(),
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
@@ -338,6 +343,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                TcStringDecoder.create(),
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
@@ -373,6 +379,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                TcStringDecoder.create(),
                 geoLocationService,
                 bidderCatalog,
                 ipAddressHelper,
@@ -216,7 +216,7 @@ public class PurposeFiveStrategyTest {
         final List<VendorPermissionWithGvl> vendorPermissionsWithGvl = Arrays.asList(vendorPermissionWitGvl1,
                 vendorPermissionWitGvl2, vendorPermissionWitGvl3);
 
-        given(fullEnforcePurposeStrategy.allowedByTypeStrategy(any(), any(), any(), any(), anyBoolean()))
+        given(fullEnforcePurposeStrategy.allowedByTypeStrategy(any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(vendorPermissions);
 
         // when
@@ -231,7 +231,7 @@ public class PurposeFiveStrategyTest {
                 Arrays.asList(vendorPermission1Changed, vendorPermission2Changed, vendorPermission3Changed));
 
         verify(fullEnforcePurposeStrategy, times(2)).allowedByTypeStrategy(PURPOSE_CODE, tcString, emptyList(),
-                vendorPermissionsWithGvl, true);
+                vendorPermissionsWithGvl, true, null);
     }
 
     @Test
@@ -251,7 +251,7 @@ public class PurposeFiveStrategyTest {
                 vendorPermission3);
         final List<VendorPermission> excludedVendorPermissions = Arrays.asList(vendorPermission1, vendorPermission2);
 
-        given(fullEnforcePurposeStrategy.allowedByTypeStrategy(any(), any(), any(), any(), anyBoolean()))
+        given(fullEnforcePurposeStrategy.allowedByTypeStrategy(any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(vendorPermissions)
                 .willReturn(excludedVendorPermissions);
 
@@ -273,7 +273,7 @@ public class PurposeFiveStrategyTest {
                 Arrays.asList(vendorPermission1Changed, vendorPermission2Changed, vendorPermission3Changed));
 
         verify(fullEnforcePurposeStrategy, times(2)).allowedByTypeStrategy(PURPOSE_CODE, tcString,
-                singletonList(vendorPermissionWitGvl3), excludedVendorPermissionsWithGvl, true);
+                singletonList(vendorPermissionWitGvl3), excludedVendorPermissionsWithGvl, true, null);
     }
 
     @Test
@@ -218,7 +218,7 @@ public class PurposeFourStrategyTest {
         final List<VendorPermissionWithGvl> vendorPermissionsWithGvl = Arrays.asList(vendorPermissionWitGvl1,
                 vendorPermissionWitGvl2, vendorPermissionWitGvl3);
 
-        given(fullEnforcePurposeStrategy.allowedByTypeStrategy(any(), any(), any(), any(), anyBoolean()))
+        given(fullEnforcePurposeStrategy.allowedByTypeStrategy(any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(vendorPermissions);
 
         // when
@@ -233,7 +233,7 @@ public class PurposeFourStrategyTest {
                 Arrays.asList(vendorPermission1Changed, vendorPermission2Changed, vendorPermission3Changed));
 
         verify(fullEnforcePurposeStrategy, times(2)).allowedByTypeStrategy(PURPOSE_CODE, tcString, emptyList(),
-                vendorPermissionsWithGvl, true);
+                vendorPermissionsWithGvl, true, null);
     }
 
     @Test
@@ -253,7 +253,7 @@ public class PurposeFourStrategyTest {
                 vendorPermission3);
         final List<VendorPermission> excludedVendorPermissions = Arrays.asList(vendorPermission1, vendorPermission2);
 
-        given(fullEnforcePurposeStrategy.allowedByTypeStrategy(any(), any(), any(), any(), anyBoolean()))
+        given(fullEnforcePurposeStrategy.allowedByTypeStrategy(any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(vendorPermissions)
                 .willReturn(excludedVendorPermissions);
 
@@ -275,7 +275,7 @@ public class PurposeFourStrategyTest {
                 Arrays.asList(vendorPermission1Changed, vendorPermission2Changed, vendorPermission3Changed));
 
         verify(fullEnforcePurposeStrategy, times(2)).allowedByTypeStrategy(PURPOSE_CODE, tcString,
-                singletonList(vendorPermissionWitGvl3), excludedVendorPermissionsWithGvl, true);
+                singletonList(vendorPermissionWitGvl3), excludedVendorPermissionsWithGvl, true, null);
     }
 
     @Test
@@ -220,7 +220,7 @@ public class PurposeOneStrategyTest {
         final List<VendorPermissionWithGvl> vendorPermissionsWithGvl = Arrays.asList(vendorPermissionWitGvl1,
                 vendorPermissionWitGvl2, vendorPermissionWitGvl3);
 
-        given(fullEnforcePurposeStrategy.allowedByTypeStrategy(any(), any(), any(), any(), anyBoolean()))
+        given(fullEnforcePurposeStrategy.allowedByTypeStrategy(any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(vendorPermissions);
 
         // when
@@ -235,7 +235,7 @@ public class PurposeOneStrategyTest {
                 Arrays.asList(vendorPermission1Changed, vendorPermission2Changed, vendorPermission3Changed));
 
         verify(fullEnforcePurposeStrategy, times(2)).allowedByTypeStrategy(PURPOSE_CODE, tcString, emptyList(),
-                vendorPermissionsWithGvl, true);
+                vendorPermissionsWithGvl, true, null);
     }
 
     @Test
@@ -255,7 +255,7 @@ public class PurposeOneStrategyTest {
                 vendorPermission3);
         final List<VendorPermission> excludedVendorPermissions = Arrays.asList(vendorPermission1, vendorPermission2);
 
-        given(fullEnforcePurposeStrategy.allowedByTypeStrategy(any(), any(), any(), any(), anyBoolean()))
+        given(fullEnforcePurposeStrategy.allowedByTypeStrategy(any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(vendorPermissions)
                 .willReturn(excludedVendorPermissions);
 
@@ -277,7 +277,7 @@ public class PurposeOneStrategyTest {
                 .isEqualTo(Arrays.asList(vendorPermission1Changed, vendorPermission2Changed, vendorPermission3Changed));
 
         verify(fullEnforcePurposeStrategy, times(2)).allowedByTypeStrategy(PURPOSE_CODE, tcString,
-                singletonList(vendorPermissionWitGvl3), excludedVendorPermissionsWithGvl, true);
+                singletonList(vendorPermissionWitGvl3), excludedVendorPermissionsWithGvl, true, null);
     }
 
     @Test
@@ -1,6 +1,7 @@
 package org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies;
 
 import com.iabtcf.decoder.TCString;
+import com.iabtcf.utils.BitSetIntIterable;
 import com.iabtcf.utils.IntIterable;
 import com.iabtcf.v2.PublisherRestriction;
 import com.iabtcf.v2.RestrictionType;
@@ -13,17 +14,22 @@ import org.mockito.junit.MockitoRule;
 import org.prebid.server.privacy.gdpr.model.PrivacyEnforcementAction;
 import org.prebid.server.privacy.gdpr.model.VendorPermission;
 import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
+import org.prebid.server.privacy.gdpr.vendorlist.VendorListIndex;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorV2;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
@@ -1137,6 +1143,110 @@ public class FullEnforcePurposeStrategyTest {
         assertThat(result).usingRecursiveFieldByFieldElementComparator().containsOnly(vendorPermission2);
     }
 
+    @Test
+    public void shouldAllowSameVendorsWhenVendorListIndexGiven() {
+        // given
+        final Map<Integer, VendorV2> vendors = new HashMap<>();
+        final List<VendorPermissionWithGvl> vendorPermissionWithGvls = new ArrayList<>();
+        final List<Integer> consentVendorIds = new ArrayList<>();
+        final List<Integer> legitimateInterestVendorIds = new ArrayList<>();
+        for (int vendorId = 1; vendorId <= 32; vendorId++) {
+            final int declarations = vendorId - 1;
+            final VendorV2 vendorGvl = VendorV2.builder()
+                    .id(vendorId)
+                    .purposes(purposesIf((declarations & 1) != 0))
+                    .legIntPurposes(purposesIf((declarations & 2) != 0))
+                    .flexiblePurposes(purposesIf((declarations & 4) != 0))
+                    .build();
+            vendors.put(vendorId, vendorGvl);
+            vendorPermissionWithGvls.add(VendorPermissionWithGvl.of(
+                    VendorPermission.of(vendorId, null, PrivacyEnforcementAction.restrictAll()), vendorGvl));
+
+            if ((declarations & 8) != 0) {
+                consentVendorIds.add(vendorId);
+            }
+            if ((declarations & 16) != 0) {
+                legitimateInterestVendorIds.add(vendorId);
+            }
+        }
+
+        final VendorListIndex vendorListIndex = VendorListIndex.of(vendors);
+
+        given(tcString.getPublisherRestrictions()).willReturn(emptyList());
+        given(tcString.getVendorConsent()).willReturn(BitSetIntIterable.from(consentVendorIds));
+        given(tcString.getVendorLegitimateInterest()).willReturn(BitSetIntIterable.from(legitimateInterestVendorIds));
+
+        for (int consents = 0; consents < 8; consents++) {
+            given(tcString.getPurposesConsent()).willReturn(purposeCodesIf((consents & 1) != 0));
+            given(tcString.getPurposesLITransparency()).willReturn(purposeCodesIf((consents & 2) != 0));
+            final boolean isEnforceVendors = (consents & 4) != 0;
+
+            // when
+            final Collection<VendorPermission> result = target.allowedByTypeStrategy(PURPOSE_CODE, tcString,
+                    vendorPermissionWithGvls, emptyList(), isEnforceVendors, vendorListIndex);
+
+            // then
+            assertThat(result).containsExactlyInAnyOrderElementsOf(target.allowedByTypeStrategy(PURPOSE_CODE,
+                    tcString, vendorPermissionWithGvls, emptyList(), isEnforceVendors));
+        }
+    }
+
+    @Test
+    public void shouldCheckRestrictedVendorByGvlWhenVendorListIndexGiven() {
+        // given
+        final VendorV2 vendorGvl1 = VendorV2.builder().id(1).purposes(EnumSet.of(PURPOSE_CODE)).build();
+        final VendorV2 vendorGvl2 = VendorV2.builder().id(2).purposes(EnumSet.of(PURPOSE_CODE)).build();
+        final Map<Integer, VendorV2> vendors = new HashMap<>();
+        vendors.put(1, vendorGvl1);
+        vendors.put(2, vendorGvl2);
+
+        final VendorPermission vendorPermission1 = VendorPermission.of(1, null, PrivacyEnforcementAction.restrictAll());
+        final VendorPermission vendorPermission2 = VendorPermission.of(2, null, PrivacyEnforcementAction.restrictAll());
+
+        given(tcString.getPublisherRestrictions()).willReturn(singletonList(new PublisherRestriction(
+                PURPOSE_CODE.code(), RestrictionType.REQUIRE_LEGITIMATE_INTEREST, BitSetIntIterable.from(1))));
+        given(tcString.getPurposesConsent()).willReturn(BitSetIntIterable.from(PURPOSE_CODE.code()));
+        given(tcString.getVendorConsent()).willReturn(BitSetIntIterable.from(1, 2));
+
+        // when
+        final Collection<VendorPermission> result = target.allowedByTypeStrategy(PURPOSE_CODE, tcString,
+                Arrays.asList(VendorPermissionWithGvl.of(vendorPermission1, vendorGvl1),
+                        VendorPermissionWithGvl.of(vendorPermission2, vendorGvl2)),
+                emptyList(), true, VendorListIndex.of(vendors));
+
+        // then
+        assertThat(result).containsOnly(vendorPermission2);
+    }
+
+    @Test
+    public void shouldNotAllowVendorWithoutIdWhenVendorListIndexGiven() {
+        // given
+        final VendorPermission vendorPermission = VendorPermission.of(null, "b1",
+                PrivacyEnforcementAction.restrictAll());
+
+        given(tcString.getPublisherRestrictions()).willReturn(emptyList());
+        given(purposesConsent.contains(anyInt())).willReturn(true);
+
+        // when
+        final Collection<VendorPermission> result = target.allowedByTypeStrategy(PURPOSE_CODE, tcString,
+                singletonList(VendorPermissionWithGvl.of(vendorPermission, VendorV2.empty(null))), emptyList(),
+                false, VendorListIndex.of(singletonMap(1, VendorV2.builder()
+                        .id(1)
+                        .purposes(EnumSet.of(PURPOSE_CODE))
+                        .build())));
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    private static EnumSet<PurposeCode> purposesIf(boolean declared) {
+        return declared ? EnumSet.of(PURPOSE_CODE) : EnumSet.noneOf(PurposeCode.class);
+    }
+
+    private static IntIterable purposeCodesIf(boolean allowed) {
+        return allowed ? BitSetIntIterable.from(PURPOSE_CODE.code()) : BitSetIntIterable.EMPTY;
+    }
+
     private void setRestriction(RestrictionType requireConsent) {
         given(publisherRestriction.getRestrictionType()).willReturn(requireConsent);
         given(vendorIds.contains(anyInt())).willReturn(true);
@@ -0,0 +1,111 @@
+package org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies;
+
+import com.iabtcf.decoder.TCString;
+import com.iabtcf.utils.BitSetIntIterable;
+import com.iabtcf.v2.PublisherRestriction;
+import com.iabtcf.v2.RestrictionType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
+
+import java.util.Arrays;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+public class PurposeRestrictionsTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private TCString tcString;
+
+    @Test
+    public void restrictionTypeShouldReturnUndefinedWhenThereAreNoRestrictions() {
+        // given
+        given(tcString.getPublisherRestrictions()).willReturn(emptyList());
+
+        // when
+        final PurposeRestrictions purposeRestrictions = PurposeRestrictions.of(PurposeCode.ONE, tcString);
+
+        // then
+        assertThat(purposeRestrictions.restrictionType(1)).isEqualTo(RestrictionType.UNDEFINED);
+        assertThat(purposeRestrictions.isNotAllowed(1)).isFalse();
+    }
+
+    @Test
+    public void restrictionTypeShouldReturnTypeOfFirstRestrictionVendorIsListedIn() {
+        // given
+        given(tcString.getPublisherRestrictions()).willReturn(Arrays.asList(
+                new PublisherRestriction(1, RestrictionType.REQUIRE_CONSENT, BitSetIntIterable.from(1, 2)),
+                new PublisherRestriction(1, RestrictionType.NOT_ALLOWED, BitSetIntIterable.from(2, 3)),
+                new PublisherRestriction(1, RestrictionType.REQUIRE_LEGITIMATE_INTEREST, BitSetIntIterable.from(4))));
+
+        // when
+        final PurposeRestrictions purposeRestrictions = PurposeRestrictions.of(PurposeCode.ONE, tcString);
+
+        // then
+        assertThat(purposeRestrictions.restrictionType(1)).isEqualTo(RestrictionType.REQUIRE_CONSENT);
+        assertThat(purposeRestrictions.restrictionType(2)).isEqualTo(RestrictionType.REQUIRE_CONSENT);
+        assertThat(purposeRestrictions.restrictionType(3)).isEqualTo(RestrictionType.NOT_ALLOWED);
+        assertThat(purposeRestrictions.restrictionType(4)).isEqualTo(RestrictionType.REQUIRE_LEGITIMATE_INTEREST);
+        assertThat(purposeRestrictions.restrictionType(5)).isEqualTo(RestrictionType.UNDEFINED);
+        assertThat(purposeRestrictions.restrictionType(null)).isEqualTo(RestrictionType.UNDEFINED);
+    }
+
+    @Test
+    public void isNotAllowedShouldReturnTrueForVendorListedInAnyNotAllowedRestriction() {
+        // given
+        given(tcString.getPublisherRestrictions()).willReturn(Arrays.asList(
+                new PublisherRestriction(1, RestrictionType.REQUIRE_CONSENT, BitSetIntIterable.from(1, 2)),
+                new PublisherRestriction(1, RestrictionType.NOT_ALLOWED, BitSetIntIterable.from(2, 3))));
+
+        // when
+        final PurposeRestrictions purposeRestrictions = PurposeRestrictions.of(PurposeCode.ONE, tcString);
+
+        // then
+        assertThat(purposeRestrictions.isNotAllowed(1)).isFalse();
+        assertThat(purposeRestrictions.isNotAllowed(2)).isTrue();
+        assertThat(purposeRestrictions.isNotAllowed(3)).isTrue();
+        assertThat(purposeRestrictions.isNotAllowed(null)).isFalse();
+    }
+
+    @Test
+    public void isRestrictedShouldReturnTrueForVendorListedInAnyRestriction() {
+        // given
+        given(tcString.getPublisherRestrictions()).willReturn(Arrays.asList(
+                new PublisherRestriction(1, RestrictionType.REQUIRE_CONSENT, BitSetIntIterable.from(1)),
+                new PublisherRestriction(1, RestrictionType.NOT_ALLOWED, BitSetIntIterable.from(2)),
+                new PublisherRestriction(2, RestrictionType.NOT_ALLOWED, BitSetIntIterable.from(3))));
+
+        // when
+        final PurposeRestrictions purposeRestrictions = PurposeRestrictions.of(PurposeCode.ONE, tcString);
+
+        // then
+        assertThat(purposeRestrictions.isRestricted(1)).isTrue();
+        assertThat(purposeRestrictions.isRestricted(2)).isTrue();
+        assertThat(purposeRestrictions.isRestricted(3)).isFalse();
+        assertThat(purposeRestrictions.isRestricted(-1)).isFalse();
+    }
+
+    @Test
+    public void ofShouldIgnoreRestrictionsForOtherPurposes() {
+        // given
+        given(tcString.getPublisherRestrictions()).willReturn(Arrays.asList(
+                new PublisherRestriction(2, RestrictionType.NOT_ALLOWED, BitSetIntIterable.from(1)),
+                new PublisherRestriction(1, RestrictionType.REQUIRE_CONSENT, BitSetIntIterable.from(2))));
+
+        // when
+        final PurposeRestrictions purposeRestrictions = PurposeRestrictions.of(PurposeCode.ONE, tcString);
+
+        // then
+        assertThat(purposeRestrictions.restrictionType(1)).isEqualTo(RestrictionType.UNDEFINED);
+        assertThat(purposeRestrictions.isNotAllowed(1)).isFalse();
+        assertThat(purposeRestrictions.restrictionType(2)).isEqualTo(RestrictionType.REQUIRE_CONSENT);
+    }
+}
@@ -3,6 +3,7 @@ package org.prebid.server.privacy.gdpr.vendorlist;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.FileSystem;
@@ -10,6 +11,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -33,12 +35,15 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -55,6 +60,7 @@ public class VendorListServiceV2Test extends VertxTest {
     private static final String CACHE_DIR = "/cache/dir";
     private static final long REFRESH_MISSING_LIST_PERIOD_MS = 3600000L;
     private static final String FALLBACK_VENDOR_LIST_PATH = "fallback.json";
+    private static final String SNAPSHOT = "tcf2-vendors-v1\n52,2,4,4";
 
     @Rule
     public final MockitoRule mockitoRule = MockitoJUnit.rule();
@@ -70,7 +76,7 @@ public class VendorListServiceV2Test extends VertxTest {
     @Mock
     private BidderCatalog bidderCatalog;
 
-    private VendorListService<VendorListV2, VendorV2> vendorListService;
+    private VendorListServiceV2 vendorListService;
 
     @Before
     public void setUp() throws JsonProcessingException {
@@ -86,6 +92,7 @@ public class VendorListServiceV2Test extends VertxTest {
                 "http://vendorlist/{VERSION}",
                 0,
                 REFRESH_MISSING_LIST_PERIOD_MS,
+                0,
                 false,
                 null,
                 FALLBACK_VENDOR_LIST_PATH,
@@ -111,6 +118,7 @@ public class VendorListServiceV2Test extends VertxTest {
                         "http://vendorlist/%s",
                         0,
                         REFRESH_MISSING_LIST_PERIOD_MS,
+                        0,
                         false,
                         null,
                         FALLBACK_VENDOR_LIST_PATH,
@@ -131,6 +139,7 @@ public class VendorListServiceV2Test extends VertxTest {
                 "http://vendorlist/{VERSION}",
                 0,
                 REFRESH_MISSING_LIST_PERIOD_MS,
+                0,
                 true,
                 null,
                 FALLBACK_VENDOR_LIST_PATH,
@@ -166,6 +175,7 @@ public class VendorListServiceV2Test extends VertxTest {
                 "http://vendorlist/{VERSION}",
                 0,
                 REFRESH_MISSING_LIST_PERIOD_MS,
+                0,
                 true,
                 null,
                 null,
@@ -191,6 +201,7 @@ public class VendorListServiceV2Test extends VertxTest {
                         "http://vendorlist/%s",
                         0,
                         REFRESH_MISSING_LIST_PERIOD_MS,
+                        0,
                         false,
                         null,
                         FALLBACK_VENDOR_LIST_PATH,
@@ -217,6 +228,7 @@ public class VendorListServiceV2Test extends VertxTest {
                         "http://vendorlist/%s",
                         0,
                         REFRESH_MISSING_LIST_PERIOD_MS,
+                        0,
                         false,
                         null,
                         FALLBACK_VENDOR_LIST_PATH,
@@ -243,6 +255,7 @@ public class VendorListServiceV2Test extends VertxTest {
                         "http://vendorlist/%s",
                         0,
                         REFRESH_MISSING_LIST_PERIOD_MS,
+                        0,
                         false,
                         null,
                         FALLBACK_VENDOR_LIST_PATH,
@@ -255,8 +268,121 @@ public class VendorListServiceV2Test extends VertxTest {
                 .hasMessage("Cannot parse vendor list from: invalid");
     }
 
+    @Test
+    public void creationShouldReadSnapshotInsteadOfVendorListFile() {
+        // given
+        given(fileSystem.readDirBlocking(anyString())).willReturn(asList("/cache/dir/1.json", "/cache/dir/1.snapshot"));
+        given(fileSystem.readFileBlocking(eq("/cache/dir/1.snapshot")))
+                .willReturn(Buffer.buffer(SNAPSHOT));
+
+        // when
+        vendorListService = givenVendorListService(0);
+
+        // then
+        verify(fileSystem, never()).readFileBlocking(eq("/cache/dir/1.json"));
+        verify(fileSystem, never()).writeFileBlocking(anyString(), any());
+        assertThat(vendorListService.forVersion(1)).succeededWith(givenSnapshotVendors());
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    public void creationShouldCreateSnapshotIfItIsMissing() throws JsonProcessingException {
+        // given
+        given(fileSystem.readDirBlocking(anyString())).willReturn(singletonList("/cache/dir/1.json"));
+        given(fileSystem.readFileBlocking(eq("/cache/dir/1.json")))
+                .willReturn(Buffer.buffer(mapper.writeValueAsString(givenVendorList())));
+
+        // when
+        vendorListService = givenVendorListService(0);
+
+        // then
+        verify(fileSystem).writeFileBlocking(
+                eq("/cache/dir/1.snapshot"),
+                eq(Buffer.buffer("tcf2-vendors-v1\n52,2,4,0")));
+        assertThat(vendorListService.forVersion(1)).succeededWith(givenVendorList().getVendors());
+    }
+
+    @Test
+    public void creationShouldRecreateSnapshotIfItCannotBeParsed() throws JsonProcessingException {
+        // given
+        given(fileSystem.readDirBlocking(anyString())).willReturn(asList("/cache/dir/1.json", "/cache/dir/1.snapshot"));
+        given(fileSystem.readFileBlocking(eq("/cache/dir/1.snapshot"))).willReturn(Buffer.buffer("invalid"));
+        given(fileSystem.readFileBlocking(eq("/cache/dir/1.json")))
+                .willReturn(Buffer.buffer(mapper.writeValueAsString(givenVendorList())));
+
+        // when
+        vendorListService = givenVendorListService(0);
+
+        // then
+        verify(fileSystem).writeFileBlocking(eq("/cache/dir/1.snapshot"), any());
+        assertThat(vendorListService.forVersion(1)).succeededWith(givenVendorList().getVendors());
+    }
+
+    @Test
+    public void creationShouldKeepOnlyEnforcementDataOfVendors() {
+        // given
+        given(fileSystem.readDirBlocking(anyString())).willReturn(singletonList("/cache/dir/1.json"));
+        given(fileSystem.readFileBlocking(eq("/cache/dir/1.json"))).willReturn(Buffer.buffer("""
+                {"vendorListVersion":1,"lastUpdated":"2020-01-01T00:00:00Z","vendors":{"52":{"id":52,"purposes":[1],\
+                "legIntPurposes":[2],"flexiblePurposes":[2],"specialPurposes":[1],"features":[1],\
+                "specialFeatures":[1]}}}"""));
+
+        // when
+        vendorListService = givenVendorListService(0);
+
+        // then
+        verify(fileSystem).writeFileBlocking(eq("/cache/dir/1.snapshot"), eq(Buffer.buffer(SNAPSHOT)));
+        assertThat(vendorListService.forVersion(1)).succeededWith(givenSnapshotVendors());
+    }
+
+    @Test
+    public void creationShouldRecreateSnapshotIfItHasInvalidLine() throws JsonProcessingException {
+        // given
+        given(fileSystem.readDirBlocking(anyString())).willReturn(asList("/cache/dir/1.json", "/cache/dir/1.snapshot"));
+        given(fileSystem.readFileBlocking(eq("/cache/dir/1.snapshot")))
+                .willReturn(Buffer.buffer("tcf2-vendors-v1\n52,2,invalid,4"));
+        given(fileSystem.readFileBlocking(eq("/cache/dir/1.json")))
+                .willReturn(Buffer.buffer(mapper.writeValueAsString(givenVendorList())));
+
+        // when
+        vendorListService = givenVendorListService(0);
+
+        // then
+        verify(fileSystem).writeFileBlocking(
+                eq("/cache/dir/1.snapshot"), eq(Buffer.buffer("tcf2-vendors-v1\n52,2,4,0")));
+        assertThat(vendorListService.forVersion(1)).succeededWith(givenVendorList().getVendors());
+    }
+
+    @Test
+    public void creationShouldNotFailIfSnapshotCannotBeWritten() throws JsonProcessingException {
+        // given
+        given(fileSystem.readDirBlocking(anyString())).willReturn(singletonList("/cache/dir/1.json"));
+        given(fileSystem.readFileBlocking(eq("/cache/dir/1.json")))
+                .willReturn(Buffer.buffer(mapper.writeValueAsString(givenVendorList())));
+        given(fileSystem.writeFileBlocking(anyString(), any())).willThrow(new RuntimeException("write error"));
+
+        // when
+        vendorListService = givenVendorListService(0);
+
+        // then
+        assertThat(vendorListService.forVersion(1)).succeededWith(givenVendorList().getVendors());
+    }
+
     // Http related tests
 
+    @Test
+    public void shouldNotPerformHttpRequestIfVendorListIsAlreadyBeingFetched() {
+        // given
+        given(httpClient.get(anyString(), anyLong())).willReturn(Promise.<HttpClientResponse>promise().future());
+
+        // when
+        vendorListService.forVersion(1);
+        vendorListService.forVersion(1);
+
+        // then
+        verify(httpClient).get(anyString(), anyLong());
+    }
+
     @Test
     public void shouldPerformHttpRequestWithExpectedQueryIfVendorListNotFound() {
         // given
@@ -395,6 +521,87 @@ public class VendorListServiceV2Test extends VertxTest {
         verify(fileSystem).writeFile(eq(filePath), eq(Buffer.buffer(vendorListAsString)), any());
     }
 
+    @Test
+    public void shouldSaveSnapshotIfVendorListIsFetched() throws JsonProcessingException {
+        // given
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(givenVendorList()));
+
+        given(fileSystem.writeFile(anyString(), any(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Future.succeededFuture()));
+
+        // when
+        vendorListService.forVersion(1);
+
+        // then
+        verify(fileSystem).writeFile(
+                eq(new File("/cache/dir/1.snapshot").getPath()),
+                eq(Buffer.buffer("tcf2-vendors-v1\n52,2,4,0")),
+                any());
+    }
+
+    // Prefetch related tests
+
+    @Test
+    public void shouldNotSchedulePrefetchIfPeriodIsNotPositive() {
+        // then
+        verify(vertx, never()).setPeriodic(anyLong(), any());
+    }
+
+    @Test
+    public void shouldPrefetchVersionFollowingTheLatestOne() throws JsonProcessingException {
+        // given
+        given(fileSystem.readDirBlocking(anyString())).willReturn(asList("/cache/dir/1.json", "/cache/dir/1.snapshot"));
+        given(fileSystem.readFileBlocking(eq("/cache/dir/1.snapshot")))
+                .willReturn(Buffer.buffer(SNAPSHOT));
+
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(givenVendorList()));
+        given(fileSystem.writeFile(anyString(), any(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Future.succeededFuture()));
+
+        vendorListService = givenVendorListService(1000L);
+
+        // when
+        capturePrefetchHandler().handle(1L);
+
+        // then
+        verify(httpClient).get(eq("http://vendorlist/2"), anyLong());
+        verify(metrics).updatePrivacyTcfVendorListPrefetchedMetric(eq(2));
+        assertThat(vendorListService.forVersion(2)).succeededWith(givenVendorList().getVendors());
+    }
+
+    @Test
+    public void shouldNotPrefetchIfThereIsNoKnownVersion() {
+        // given
+        vendorListService = givenVendorListService(1000L);
+
+        // when
+        capturePrefetchHandler().handle(1L);
+
+        // then
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    public void shouldNotReportErrorOrFallbackIfPrefetchedVersionIsMissing() {
+        // given
+        given(fileSystem.readDirBlocking(anyString())).willReturn(asList("/cache/dir/1.json", "/cache/dir/1.snapshot"));
+        given(fileSystem.readFileBlocking(eq("/cache/dir/1.snapshot")))
+                .willReturn(Buffer.buffer(SNAPSHOT));
+
+        givenHttpClientReturnsResponse(404, StringUtils.EMPTY);
+
+        vendorListService = givenVendorListService(1000L);
+
+        // when
+        capturePrefetchHandler().handle(1L);
+
+        // then
+        verify(metrics, never()).updatePrivacyTcfVendorListErrorMetric(anyInt());
+        verify(vertx, never()).setTimer(anyLong(), any());
+        assertThat(vendorListService.forVersion(2)).isFailed()
+                .hasMessage("TCF 2 vendor list for version 2 not fetched yet, try again later.");
+    }
+
     // In-memory cache related tests
 
     @Test
@@ -487,6 +694,42 @@ public class VendorListServiceV2Test extends VertxTest {
         assertThat(future).succeededWith(idToVendor);
     }
 
+    @Test
+    public void indexForVersionShouldReturnIndexOfCachedVendorList() throws JsonProcessingException {
+        // given
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(givenVendorList()));
+
+        given(fileSystem.writeFile(anyString(), any(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Future.succeededFuture()));
+
+        // when
+        vendorListService.forVersion(1); // populate cache
+        final Future<VendorListIndex> result1 = vendorListService.indexForVersion(1);
+        final Future<VendorListIndex> result2 = vendorListService.indexForVersion(1);
+
+        // then
+        assertThat(result1.succeeded()).isTrue();
+        assertThat(result2.result()).isSameAs(result1.result());
+
+        final VendorListIndex vendorListIndex = result1.result();
+        assertThat(vendorListIndex.getVendors()).isSameAs(vendorListService.forVersion(1).result());
+        assertThat(vendorListIndex.purposeVendors(ONE).stream()).containsExactly(52);
+        assertThat(vendorListIndex.legIntPurposeVendors(TWO).stream()).containsExactly(52);
+        assertThat(vendorListIndex.flexiblePurposeVendors(ONE).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void indexForVersionShouldFailIfVendorListNotFound() {
+        // given
+        givenHttpClientProducesException(new RuntimeException());
+
+        // when
+        final Future<VendorListIndex> future = vendorListService.indexForVersion(1);
+
+        // then
+        assertThat(future).isFailed().hasMessage("TCF 2 vendor list for version 1 not fetched yet, try again later.");
+    }
+
     @Test
     public void shouldReturnFallbackIfVendorListNotFound() {
         // given
@@ -515,6 +758,12 @@ public class VendorListServiceV2Test extends VertxTest {
 
     // Metrics tests
 
+    @Test
+    public void shouldCreateVendorListLatestVersionGauge() {
+        // then
+        verify(metrics).createPrivacyTcfVendorListLatestVersionGauge(eq(2), any());
+    }
+
     @Test
     public void shouldIncrementVendorListMissingMetric() {
         // given
@@ -585,6 +834,39 @@ public class VendorListServiceV2Test extends VertxTest {
         verify(metrics).updatePrivacyTcfVendorListFallbackMetric(eq(2));
     }
 
+    private VendorListServiceV2 givenVendorListService(long prefetchPeriodMs) {
+        return new VendorListServiceV2(
+                CACHE_DIR,
+                "http://vendorlist/{VERSION}",
+                0,
+                REFRESH_MISSING_LIST_PERIOD_MS,
+                prefetchPeriodMs,
+                false,
+                null,
+                FALLBACK_VENDOR_LIST_PATH,
+                bidderCatalog,
+                vertx,
+                fileSystem,
+                httpClient,
+                metrics,
+                jacksonMapper);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Handler<Long> capturePrefetchHandler() {
+        final ArgumentCaptor<Handler<Long>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setPeriodic(eq(1000L), handlerCaptor.capture());
+        return handlerCaptor.getValue();
+    }
+
+    private static Map<Integer, VendorV2> givenSnapshotVendors() {
+        return singletonMap(52, VendorV2.empty(52).toBuilder()
+                .purposes(EnumSet.of(ONE))
+                .legIntPurposes(EnumSet.of(TWO))
+                .flexiblePurposes(EnumSet.of(TWO))
+                .build());
+    }
+
     private static VendorListV2 givenVendorList() {
         final VendorV2 vendor = VendorV2.builder()
                 .id(52)
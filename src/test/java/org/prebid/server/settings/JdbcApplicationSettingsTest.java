@@ -50,6 +50,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 
 import static java.util.Arrays.asList;
@@ -60,6 +61,13 @@ import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 @RunWith(VertxUnitRunner.class)
 public class JdbcApplicationSettingsTest extends VertxTest {
@@ -659,6 +667,57 @@ public class JdbcApplicationSettingsTest extends VertxTest {
                 .hasMessage("Not supported");
     }
 
+    @Test
+    public void getStoredDataShouldPadIdsUpToPowerOfTwoToKeepQueryShapesBounded() {
+        // given
+        final JdbcClient jdbcClient = mock(JdbcClient.class);
+        given(jdbcClient.executeQuery(anyString(), anyList(), any(), any())).willReturn(Future.succeededFuture());
+
+        jdbcApplicationSettings = new JdbcApplicationSettings(
+                jdbcClient,
+                jacksonMapper,
+                SELECT_ACCOUNT_QUERY,
+                SELECT_QUERY,
+                SELECT_QUERY,
+                SELECT_RESPONSE_QUERY);
+
+        // when
+        jdbcApplicationSettings.getStoredData(
+                null, new LinkedHashSet<>(asList("1", "2", "3")), singleton("4"), timeout);
+
+        // then
+        verify(jdbcClient).executeQuery(
+                eq(SELECT_QUERY.replace("%REQUEST_ID_LIST%", "?,?,?,?").replace("%IMP_ID_LIST%", "?")),
+                eq(asList("1", "2", "3", "3", "4")),
+                any(),
+                any());
+    }
+
+    @Test
+    public void getStoredResponsesShouldPadIdsUpToPowerOfTwoToKeepQueryShapesBounded() {
+        // given
+        final JdbcClient jdbcClient = mock(JdbcClient.class);
+        given(jdbcClient.executeQuery(anyString(), anyList(), any(), any())).willReturn(Future.succeededFuture());
+
+        jdbcApplicationSettings = new JdbcApplicationSettings(
+                jdbcClient,
+                jacksonMapper,
+                SELECT_ACCOUNT_QUERY,
+                SELECT_QUERY,
+                SELECT_QUERY,
+                SELECT_RESPONSE_QUERY);
+
+        // when
+        jdbcApplicationSettings.getStoredResponses(new LinkedHashSet<>(asList("1", "2", "3", "4", "5")), timeout);
+
+        // then
+        verify(jdbcClient).executeQuery(
+                eq(SELECT_RESPONSE_QUERY.replace("%RESPONSE_ID_LIST%", "?,?,?,?,?,?,?,?")),
+                eq(asList("1", "2", "3", "4", "5", "5", "5", "5")),
+                any(),
+                any());
+    }
+
     private JdbcClient jdbcClient() {
         return new BasicJdbcClient(vertx, JDBCClient.createShared(vertx,
                 new JsonObject()
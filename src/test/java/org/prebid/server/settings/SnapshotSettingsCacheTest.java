@@ -0,0 +1,123 @@
+package org.prebid.server.settings;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.StoredItem;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+public class SnapshotSettingsCacheTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+
+    private SnapshotSettingsCache settingsCache;
+
+    @Before
+    public void setUp() {
+        settingsCache = new SnapshotSettingsCache(10, 1, MetricName.stored_request, metrics);
+    }
+
+    @Test
+    public void saveShouldKeepAllItemsRegardlessOfCacheSize() {
+        // when
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+        settingsCache.save(singletonMap("reqId2", "reqValue2"), singletonMap("impId2", "impValue2"));
+
+        // then
+        assertThat(settingsCache.getRequest("reqId1")).isEqualTo(singleton(StoredItem.of(null, "reqValue1")));
+        assertThat(settingsCache.getRequest("reqId2")).isEqualTo(singleton(StoredItem.of(null, "reqValue2")));
+        assertThat(settingsCache.getImp("impId1")).isEqualTo(singleton(StoredItem.of(null, "impValue1")));
+        assertThat(settingsCache.getImp("impId2")).isEqualTo(singleton(StoredItem.of(null, "impValue2")));
+        assertThat(settingsCache.getRequestCache()).isEmpty();
+        assertThat(settingsCache.getImpCache()).isEmpty();
+    }
+
+    @Test
+    public void getRequestShouldFallbackToCacheWhenItemIsAbsentInSnapshot() {
+        // given
+        settingsCache.saveRequestCache("1001", "reqId1", "reqValue1");
+
+        // when and then
+        assertThat(settingsCache.getRequest("reqId1")).isEqualTo(singleton(StoredItem.of("1001", "reqValue1")));
+    }
+
+    @Test
+    public void invalidateShouldRemoveItemsFromSnapshotAndCache() {
+        // given
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+        settingsCache.save(singletonMap("reqId2", "reqValue2"), singletonMap("impId2", "impValue2"));
+        settingsCache.saveImpCache("1001", "impId3", "impValue3");
+
+        // when
+        settingsCache.invalidate(singletonList("reqId1"), asList("impId1", "impId3"));
+
+        // then
+        assertThat(settingsCache.getRequest("reqId1")).isNull();
+        assertThat(settingsCache.getRequest("reqId2")).isEqualTo(singleton(StoredItem.of(null, "reqValue2")));
+        assertThat(settingsCache.getImp("impId1")).isNull();
+        assertThat(settingsCache.getImp("impId2")).isEqualTo(singleton(StoredItem.of(null, "impValue2")));
+        assertThat(settingsCache.getImp("impId3")).isNull();
+    }
+
+    @Test
+    public void getRequestShouldReturnSameItemsOnEachLookup() {
+        // given
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), null);
+
+        // when and then
+        assertThat(settingsCache.getRequest("reqId1")).isSameAs(settingsCache.getRequest("reqId1"));
+    }
+
+    @Test
+    public void creationShouldRegisterGaugesReportingSnapshotSizeAndChars() {
+        // given
+        final ArgumentCaptor<LongSupplier> entriesCaptor = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(metrics).createSettingsCacheSnapshotEntriesGauge(eq(MetricName.stored_request), entriesCaptor.capture());
+        final ArgumentCaptor<LongSupplier> charsCaptor = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(metrics).createSettingsCacheSnapshotCharsGauge(eq(MetricName.stored_request), charsCaptor.capture());
+
+        // when
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+
+        // then
+        assertThat(entriesCaptor.getValue().getAsLong()).isEqualTo(2L);
+        assertThat(charsCaptor.getValue().getAsLong()).isEqualTo(30L);
+    }
+
+    @Test
+    public void charsGaugeShouldFollowReplacedAndRemovedItems() {
+        // given
+        final ArgumentCaptor<LongSupplier> charsCaptor = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(metrics).createSettingsCacheSnapshotCharsGauge(eq(MetricName.stored_request), charsCaptor.capture());
+
+        settingsCache.save(Map.of("reqId1", "reqValue1", "reqId2", "reqValue2"), null);
+
+        // when
+        settingsCache.save(singletonMap("reqId1", "value1"), null);
+        settingsCache.invalidate(singletonList("reqId2"), emptyList());
+
+        // then
+        assertThat(charsCaptor.getValue().getAsLong()).isEqualTo(12L);
+    }
+}
@@ -7,14 +7,19 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.prebid.server.exception.PreBidException;
 import org.prebid.server.settings.model.StoredDataResult;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.BDDMockito.given;
 
@@ -289,4 +294,31 @@ public class JdbcStoredDataResultMapperTest {
                 .containsOnly(entry("id2", "data2"));
         assertThat(result.getErrors()).isEmpty();
     }
+
+    @Test
+    public void mapRowShouldPutDataToMapOfCorrespondingTypeAndSkipInvalidType() {
+        // given
+        final Map<String, String> storedIdToRequest = new HashMap<>();
+        final Map<String, String> storedIdToImp = new HashMap<>();
+
+        // when
+        JdbcStoredDataResultMapper.mapRow(
+                new JsonArray(asList("accountId", "id1", "data1", "request")), storedIdToRequest, storedIdToImp);
+        JdbcStoredDataResultMapper.mapRow(
+                new JsonArray(asList("accountId", "id2", "data2", "imp")), storedIdToRequest, storedIdToImp);
+        JdbcStoredDataResultMapper.mapRow(
+                new JsonArray(asList("accountId", "id3", "data3", "invalid")), storedIdToRequest, storedIdToImp);
+
+        // then
+        assertThat(storedIdToRequest).containsOnly(entry("id1", "data1"));
+        assertThat(storedIdToImp).containsOnly(entry("id2", "data2"));
+    }
+
+    @Test
+    public void mapRowShouldFailWhenRowHasLessColumns() {
+        assertThatExceptionOfType(PreBidException.class)
+                .isThrownBy(() -> JdbcStoredDataResultMapper.mapRow(
+                        new JsonArray(asList("accountId", "id1", "data")), new HashMap<>(), new HashMap<>()))
+                .withMessageStartingWith("Error occurred while mapping stored request data");
+    }
 }
@@ -3,6 +3,7 @@ package org.prebid.server.settings.service;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -10,6 +11,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.mockito.stubbing.Answer;
+import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
@@ -21,12 +23,15 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Map;
+import java.util.function.Consumer;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -57,13 +62,13 @@ public class JdbcPeriodicRefreshServiceTest {
 
     @Before
     public void setUp() {
-        final StoredDataResult initialResult = StoredDataResult.of(singletonMap("id1", "value1"),
-                singletonMap("id2", "value2"), emptyList());
         final StoredDataResult updateResult = StoredDataResult.of(singletonMap("id1", "null"),
                 singletonMap("id2", "changed_value"), emptyList());
 
-        given(jdbcClient.executeQuery(eq("init_query"), anyList(), any(), any()))
-                .willReturn(Future.succeededFuture(initialResult));
+        given(jdbcClient.executeStreamingQuery(eq("init_query"), anyList(), anyInt(), any(), any()))
+                .willAnswer(withRows(
+                        new JsonArray(asList("accountId", "id1", "value1", "request")),
+                        new JsonArray(asList("accountId", "id2", "value2", "imp"))));
         given(jdbcClient.executeQuery(eq("update_query"), anyList(), any(), any()))
                 .willReturn(Future.succeededFuture(updateResult));
     }
@@ -102,7 +107,7 @@ public class JdbcPeriodicRefreshServiceTest {
         createAndInitService(1000);
 
         // then
-        verify(jdbcClient).executeQuery(eq("init_query"), eq(emptyList()), any(), any());
+        verify(jdbcClient).executeStreamingQuery(eq("init_query"), eq(emptyList()), eq(1), any(), any());
         verify(jdbcClient, times(2)).executeQuery(eq("update_query"), anyList(), any(), any());
     }
 
@@ -113,7 +118,8 @@ public class JdbcPeriodicRefreshServiceTest {
 
         // then
         verify(vertx, never()).setPeriodic(anyLong(), any());
-        verify(jdbcClient).executeQuery(anyString(), anyList(), any(), any());
+        verify(jdbcClient).executeStreamingQuery(anyString(), anyList(), anyInt(), any(), any());
+        verify(jdbcClient, never()).executeQuery(anyString(), anyList(), any(), any());
     }
 
     @Test
@@ -126,10 +132,35 @@ public class JdbcPeriodicRefreshServiceTest {
                 eq(MetricName.stored_request), eq(MetricName.initialize), anyLong());
     }
 
+    @Test
+    public void shouldUpdateRowsMetricWhileProcessingInitialQueryRows() {
+        // when
+        createAndInitService(1000);
+
+        // then
+        verify(metrics, times(2)).updateSettingsCacheRefreshRowsMetric(MetricName.stored_request,
+                MetricName.initialize, 1);
+    }
+
+    @Test
+    public void shouldUpdateTimerAndErrorMetricWhenRowCannotBeMapped() {
+        // given
+        given(jdbcClient.executeStreamingQuery(eq("init_query"), anyList(), anyInt(), any(), any()))
+                .willAnswer(withRows(new JsonArray(singletonList("accountId"))));
+
+        // when
+        createAndInitService(1000);
+
+        // then
+        verify(cacheNotificationListener, never()).save(any(), any());
+        verify(metrics).updateSettingsCacheRefreshErrorMetric(
+                eq(MetricName.stored_request), eq(MetricName.initialize));
+    }
+
     @Test
     public void shouldUpdateTimerAndErrorMetric() {
         // given
-        given(jdbcClient.executeQuery(eq("init_query"), anyList(), any(), any()))
+        given(jdbcClient.executeStreamingQuery(eq("init_query"), anyList(), anyInt(), any(), any()))
                 .willReturn(Future.failedFuture("Query error"));
 
         // when
@@ -149,6 +180,7 @@ public class JdbcPeriodicRefreshServiceTest {
                 "update_query",
                 refresh,
                 2000,
+                1,
                 MetricName.stored_request,
                 cacheNotificationListener,
                 vertx,
@@ -160,6 +192,20 @@ public class JdbcPeriodicRefreshServiceTest {
         jdbcPeriodicRefreshService.initialize();
     }
 
+    private static Answer<Future<Long>> withRows(JsonArray... rows) {
+        return inv -> {
+            final Consumer<JsonArray> rowConsumer = inv.getArgument(3);
+            try {
+                for (JsonArray row : rows) {
+                    rowConsumer.accept(row);
+                }
+            } catch (PreBidException e) {
+                return Future.failedFuture(e);
+            }
+            return Future.succeededFuture((long) rows.length);
+        };
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> Answer<Object> withSelfAndPassObjectToHandler(T... objects) {
         return inv -> {
@@ -325,6 +325,55 @@ public class VastModifierTest {
         assertThat(result).isEqualTo(admWithNoImpression);
     }
 
+    @Test
+    public void createBidVastXmlShouldInsertImpressionTagBeforeEachCloseTagSpelledAsTheFirstOne() {
+        // when
+        final String bidAdm = "<VAST><Ad><InLine></InLine></Ad><Ad><InLine></INLINE></Ad>"
+                + "<Ad><InLine></InLine></Ad></VAST>";
+        final String result = target
+                .createBidVastXml(BIDDER, bidAdm, BID_NURL, BID_ID, ACCOUNT_ID, eventsContext(), emptyList(),
+                        LINEITEM_ID);
+
+        // then
+        final String impression = "<Impression><![CDATA[" + VAST_URL_TRACKING + "]]></Impression>";
+        assertThat(result).isEqualTo("<VAST><Ad><InLine>" + impression + "</InLine></Ad>"
+                + "<Ad><InLine></INLINE></Ad>"
+                + "<Ad><InLine>" + impression + "</InLine></Ad></VAST>");
+    }
+
+    @Test
+    public void createBidVastXmlShouldPreferInLineOverWrapperRegardlessOfTheirOrder() {
+        // when
+        final String bidAdm = "<Wrapper></Wrapper><InLine></InLine>";
+        final String result = target
+                .createBidVastXml(BIDDER, bidAdm, BID_NURL, BID_ID, ACCOUNT_ID, eventsContext(), emptyList(),
+                        LINEITEM_ID);
+
+        // then
+        assertThat(result).isEqualTo("<Wrapper></Wrapper><InLine><Impression><![CDATA[" + VAST_URL_TRACKING
+                + "]]></Impression></InLine>");
+    }
+
+    @Test
+    public void createBidVastXmlShouldInsertImpressionTagAfterLastImpressionTagOfLargeDocument() {
+        // given
+        final String creative = "<Creative><Linear><MediaFiles><MediaFile><![CDATA[http://media.com/v.mp4]]>"
+                + "</MediaFile></MediaFiles></Linear></Creative>";
+        final String creatives = creative.repeat(1000);
+        final String bidAdm = "<VAST><Ad><InLine><Impression>http:/test.com</Impression><Creatives>" + creatives
+                + "</Creatives></InLine></Ad></VAST>";
+
+        // when
+        final String result = target
+                .createBidVastXml(BIDDER, bidAdm, BID_NURL, BID_ID, ACCOUNT_ID, eventsContext(), emptyList(),
+                        LINEITEM_ID);
+
+        // then
+        assertThat(result).isEqualTo("<VAST><Ad><InLine><Impression>http:/test.com</Impression>"
+                + "<Impression><![CDATA[" + VAST_URL_TRACKING + "]]></Impression><Creatives>" + creatives
+                + "</Creatives></InLine></Ad></VAST>");
+    }
+
     private static PutObject givenPutObject(TextNode adm) {
         return PutObject.builder()
                 .type("xml")
@@ -0,0 +1,157 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.Metrics;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.verify;
+
+@RunWith(VertxUnitRunner.class)
+public class VirtualThreadBlockingExecutorTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+    private ExecutorService executorService;
+
+    private VirtualThreadBlockingExecutor blockingExecutor;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        executorService = Executors.newCachedThreadPool();
+
+        blockingExecutor = new VirtualThreadBlockingExecutor(vertx, metrics, executorService);
+    }
+
+    @After
+    public void tearDown(TestContext context) {
+        executorService.shutdownNow();
+        vertx.close(context.asyncAssertSuccess());
+    }
+
+    @Test
+    public void executeShouldDeliverTaskResultOnCallerContext(TestContext context) {
+        // given
+        final Context callerContext = vertx.getOrCreateContext();
+        final Async async = context.async();
+
+        // when
+        callerContext.runOnContext(ignored -> blockingExecutor.execute(() -> Thread.currentThread().getName())
+                .onComplete(context.asyncAssertSuccess(threadName -> {
+                    // then
+                    assertThat(Vertx.currentContext()).isSameAs(callerContext);
+                    assertThat(threadName).isNotEqualTo(Thread.currentThread().getName());
+                    async.complete();
+                })));
+    }
+
+    @Test
+    public void executeShouldFailIfTaskThrowsException(TestContext context) {
+        // given
+        final Async async = context.async();
+
+        // when
+        blockingExecutor.execute(() -> {
+            throw new IllegalStateException("failed");
+        }).onComplete(context.asyncAssertFailure(exception -> {
+            // then
+            assertThat(exception).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+            async.complete();
+        }));
+    }
+
+    @Test
+    public void executeShouldFailAndReleaseTaskInFlightIfTaskThrowsError(TestContext context) {
+        // given
+        final ArgumentCaptor<LongSupplier> inFlightCaptor = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(metrics).createBlockingTasksInFlightGauge(inFlightCaptor.capture());
+        final Async async = context.async();
+
+        // when
+        blockingExecutor.execute(() -> {
+            throw new AssertionError("failed");
+        }).onComplete(context.asyncAssertFailure(exception -> {
+            // then
+            assertThat(exception).isInstanceOf(AssertionError.class).hasMessage("failed");
+            assertThat(inFlightCaptor.getValue().getAsLong()).isZero();
+            async.complete();
+        }));
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveFallbackPoolSize() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new VirtualThreadBlockingExecutor(vertx, metrics, 0))
+                .withMessage("Fallback pool size must be positive");
+    }
+
+    @Test
+    public void executeShouldRunTaskWithDefaultExecutorService(TestContext context) {
+        // given
+        blockingExecutor = new VirtualThreadBlockingExecutor(vertx, metrics, 1);
+
+        // when and then
+        blockingExecutor.execute(() -> "value").onComplete(context.asyncAssertSuccess(
+                value -> assertThat(value).isEqualTo("value")));
+    }
+
+    @Test
+    public void executeShouldFailIfExecutorRejectsTask() {
+        // given
+        executorService.shutdown();
+
+        // when and then
+        assertThat(blockingExecutor.execute(() -> "value").failed()).isTrue();
+    }
+
+    @Test
+    public void executeShouldReportTasksInFlight(TestContext context) throws InterruptedException {
+        // given
+        final ArgumentCaptor<LongSupplier> inFlightCaptor = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(metrics).createBlockingTasksInFlightGauge(inFlightCaptor.capture());
+        final LongSupplier inFlight = inFlightCaptor.getValue();
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Async async = context.async();
+
+        // when
+        blockingExecutor.execute(() -> {
+            started.countDown();
+            return release.await(1, TimeUnit.SECONDS);
+        }).onComplete(context.asyncAssertSuccess(ignored -> {
+            assertThat(inFlight.getAsLong()).isZero();
+            async.complete();
+        }));
+
+        // then
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(inFlight.getAsLong()).isOne();
+        release.countDown();
+    }
+}
@@ -8,10 +8,12 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.ext.jdbc.JDBCClient;
 import io.vertx.ext.sql.ResultSet;
 import io.vertx.ext.sql.SQLConnection;
+import io.vertx.ext.sql.SQLRowStream;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -22,7 +24,10 @@ import org.prebid.server.metric.Metrics;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -30,11 +35,16 @@ import static java.util.function.Function.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -229,6 +239,125 @@ public class BasicJdbcClientTest {
         verify(metrics).updateDatabaseQueryTimeMetric(anyLong());
     }
 
+    @Test
+    public void executeQueryShouldReportConnectionAcquireAndQueryExecutionTimeMetrics() {
+        // given
+        final SQLConnection connection = mock(SQLConnection.class);
+        givenGetConnectionReturning(Future.succeededFuture(connection));
+
+        givenQueryReturning(connection, Future.succeededFuture(new ResultSet().setResults(emptyList())));
+
+        // when
+        jdbcClient.executeQuery("query", emptyList(), Object::toString, timeout);
+
+        // then
+        verify(metrics).updateDatabaseConnectionAcquireTimeMetric(anyLong());
+        verify(metrics).updateDatabaseQueryExecutionTimeMetric(anyLong());
+    }
+
+    @Test
+    public void executeQueryShouldNotReportConnectionAcquireAndQueryExecutionTimeMetricsIfConnectionFails() {
+        // given
+        givenGetConnectionReturning(Future.failedFuture(new RuntimeException("Failed to open connection")));
+
+        // when
+        jdbcClient.executeQuery("query", emptyList(), identity(), timeout);
+
+        // then
+        verify(metrics, never()).updateDatabaseConnectionAcquireTimeMetric(anyLong());
+        verify(metrics, never()).updateDatabaseQueryExecutionTimeMetric(anyLong());
+        verify(metrics).updateDatabaseQueryTimeMetric(anyLong());
+    }
+
+    @Test
+    public void executeStreamingQueryShouldPassRowsToConsumerAndReturnNumberOfRows() {
+        // given
+        final SQLConnection connection = mock(SQLConnection.class);
+        givenGetConnectionReturning(Future.succeededFuture(connection));
+
+        givenStreamingQueryReturning(connection, new JsonArray().add("value1"), new JsonArray().add("value2"));
+
+        // when
+        final List<String> values = new ArrayList<>();
+        final Future<Long> future = jdbcClient.executeStreamingQuery("query", emptyList(), 100,
+                row -> values.add(row.getString(0)), timeout);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result()).isEqualTo(2L);
+        assertThat(values).containsExactly("value1", "value2");
+        verify(connection).setOptions(argThat(options -> options.getFetchSize() == 100));
+        verify(connection).close();
+        verify(metrics).updateDatabaseQueryTimeMetric(anyLong());
+    }
+
+    @Test
+    public void executeStreamingQueryShouldRunQueryWithAutoCommitDisabled() {
+        // given
+        final SQLConnection connection = mock(SQLConnection.class);
+        givenGetConnectionReturning(Future.succeededFuture(connection));
+
+        givenStreamingQueryReturning(connection, new JsonArray().add("value1"));
+
+        // when
+        jdbcClient.executeStreamingQuery("query", emptyList(), 100, row -> { }, timeout);
+
+        // then
+        final InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection).setAutoCommit(eq(false), any());
+        inOrder.verify(connection).queryStreamWithParams(anyString(), any(), any());
+        inOrder.verify(connection).setAutoCommit(eq(true), any());
+        inOrder.verify(connection).close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void executeStreamingQueryShouldReturnFailedFutureIfAutoCommitCouldNotBeDisabled() {
+        // given
+        final SQLConnection connection = mock(SQLConnection.class);
+        givenGetConnectionReturning(Future.succeededFuture(connection));
+
+        doAnswer(invocation -> {
+            ((Handler<AsyncResult<Void>>) invocation.getArgument(1))
+                    .handle(Future.failedFuture(new RuntimeException("Failed to disable auto-commit")));
+            return null;
+        }).when(connection).setAutoCommit(anyBoolean(), any());
+
+        // when
+        final Future<Long> future = jdbcClient.executeStreamingQuery("query", emptyList(), 100, row -> { }, timeout);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).hasMessage("Failed to disable auto-commit");
+        verify(connection, never()).queryStreamWithParams(anyString(), any(), any());
+        verify(connection).close();
+    }
+
+    @Test
+    public void executeStreamingQueryShouldReturnFailedFutureAndStopStreamingIfConsumerFails() {
+        // given
+        final SQLConnection connection = mock(SQLConnection.class);
+        givenGetConnectionReturning(Future.succeededFuture(connection));
+
+        final SQLRowStream rowStream = givenStreamingQueryReturning(
+                connection, new JsonArray().add("value1"), new JsonArray().add("value2"));
+
+        // when
+        final List<String> values = new ArrayList<>();
+        final Future<Long> future = jdbcClient.executeStreamingQuery("query", emptyList(), 100,
+                row -> {
+                    values.add(row.getString(0));
+                    throw new IllegalArgumentException("Invalid row");
+                }, timeout);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid row");
+        assertThat(values).containsExactly("value1");
+        verify(rowStream).close(any());
+        verify(connection).close();
+    }
+
     @SuppressWarnings("unchecked")
     private void givenGetConnectionReturning(AsyncResult<SQLConnection> result) {
         given(vertxJdbcClient.getConnection(any())).willAnswer(invocation -> {
@@ -245,6 +374,42 @@ public class BasicJdbcClientTest {
         });
     }
 
+    @SuppressWarnings("unchecked")
+    private static SQLRowStream givenStreamingQueryReturning(SQLConnection connection, JsonArray... rows) {
+        final SQLRowStream rowStream = mock(SQLRowStream.class);
+        final AtomicReference<Handler<Void>> endHandler = new AtomicReference<>();
+
+        given(rowStream.exceptionHandler(any())).willReturn(rowStream);
+        given(rowStream.endHandler(any())).willAnswer(invocation -> {
+            endHandler.set(invocation.getArgument(0));
+            return rowStream;
+        });
+        given(rowStream.handler(any())).willAnswer(invocation -> {
+            final Handler<JsonArray> rowHandler = invocation.getArgument(0);
+            for (JsonArray row : rows) {
+                rowHandler.handle(row);
+            }
+            endHandler.get().handle(null);
+            return rowStream;
+        });
+        doAnswer(invocation -> {
+            ((Handler<AsyncResult<Void>>) invocation.getArgument(0)).handle(Future.succeededFuture());
+            return null;
+        }).when(rowStream).close(any());
+
+        doAnswer(invocation -> {
+            ((Handler<AsyncResult<Void>>) invocation.getArgument(1)).handle(Future.succeededFuture());
+            return null;
+        }).when(connection).setAutoCommit(anyBoolean(), any());
+
+        given(connection.queryStreamWithParams(anyString(), any(), any())).willAnswer(invocation -> {
+            ((Handler<AsyncResult<SQLRowStream>>) invocation.getArgument(2)).handle(Future.succeededFuture(rowStream));
+            return null;
+        });
+
+        return rowStream;
+    }
+
     private Timeout expiredTimeout() {
         return new TimeoutFactory(clock).create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
     }
@@ -0,0 +1,364 @@
+package org.prebid.server.vertx.jdbc;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.ext.sql.ResultSet;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.VirtualThreadBlockingExecutor;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.function.Function.identity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@RunWith(VertxUnitRunner.class)
+public class BlockingJdbcClientTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    private static final String JDBC_URL = "jdbc:h2:mem:blocking-jdbc-client";
+
+    private static Connection connection;
+
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+    private HikariDataSource dataSource;
+    private Clock clock;
+
+    private BlockingJdbcClient jdbcClient;
+
+    @BeforeClass
+    public static void beforeClass() throws SQLException {
+        connection = DriverManager.getConnection(JDBC_URL);
+        connection.createStatement().execute("CREATE TABLE stored_requests (id varchar(40) NOT NULL, "
+                + "size int NOT NULL, requestData varchar(512), updated timestamp NOT NULL);");
+        connection.createStatement().execute("INSERT INTO stored_requests (id, size, requestData, updated) "
+                + "VALUES ('1', 10, 'value1', TIMESTAMP '2019-01-01 00:00:00');");
+        connection.createStatement().execute("INSERT INTO stored_requests (id, size, requestData, updated) "
+                + "VALUES ('2', 20, NULL, TIMESTAMP '2021-01-01 00:00:00');");
+    }
+
+    @AfterClass
+    public static void afterClass() throws SQLException {
+        connection.close();
+    }
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        clock = Clock.systemUTC();
+
+        final HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(JDBC_URL);
+        config.setMaximumPoolSize(2);
+        dataSource = new HikariDataSource(config);
+
+        jdbcClient = new BlockingJdbcClient(
+                vertx, dataSource, new VirtualThreadBlockingExecutor(vertx, metrics, 2), metrics, clock);
+    }
+
+    @After
+    public void tearDown(TestContext context) {
+        dataSource.close();
+        vertx.close(context.asyncAssertSuccess());
+    }
+
+    @Test
+    public void executeQueryShouldReturnRowsConvertedToJson(TestContext context) {
+        // when
+        final Future<ResultSet> future = jdbcClient.executeQuery(
+                "SELECT id, size, requestData FROM stored_requests WHERE id IN (?, ?) ORDER BY id",
+                asList("1", "2"), identity(), timeout());
+
+        // then
+        final Async async = context.async();
+        future.onComplete(context.asyncAssertSuccess(resultSet -> {
+            assertThat(resultSet.getColumnNames()).containsExactly("ID", "SIZE", "REQUESTDATA");
+            assertThat(resultSet.getResults()).containsExactly(
+                    new JsonArray().add("1").add(10).add("value1"),
+                    new JsonArray().add("2").add(20).addNull());
+            async.complete();
+        }));
+    }
+
+    @Test
+    public void executeQueryShouldBindDateParameterAndConvertTimestampValue(TestContext context) {
+        // when
+        final Future<ResultSet> future = jdbcClient.executeQuery(
+                "SELECT id, updated FROM stored_requests WHERE updated > ?",
+                singletonList(Date.from(Instant.parse("2020-01-01T00:00:00Z"))), identity(), timeout());
+
+        // then
+        final Async async = context.async();
+        future.onComplete(context.asyncAssertSuccess(resultSet -> {
+            assertThat(resultSet.getNumRows()).isOne();
+            assertThat(resultSet.getResults().get(0).getString(0)).isEqualTo("2");
+            assertThat(resultSet.getResults().get(0).getString(1)).startsWith("202");
+            async.complete();
+        }));
+    }
+
+    @Test
+    public void executeQueryShouldConvertDecimalValues(TestContext context) {
+        // when
+        final Future<ResultSet> future = jdbcClient.executeQuery(
+                "SELECT CAST(1.25 AS DECIMAL(10, 2)), CAST(10 AS DECIMAL(10, 0)) FROM stored_requests WHERE id = ?",
+                singletonList("1"), identity(), timeout());
+
+        // then
+        final Async async = context.async();
+        future.onComplete(context.asyncAssertSuccess(resultSet -> {
+            assertThat(resultSet.getResults()).containsExactly(new JsonArray().add(1.25D).add(BigInteger.TEN));
+            async.complete();
+        }));
+    }
+
+    @Test
+    public void toJsonValueShouldPassNullBooleanStringBytesAndNonDecimalNumbersAsIs() throws SQLException {
+        final byte[] bytes = {1, 2};
+
+        assertThat(BlockingJdbcClient.toJsonValue(null)).isNull();
+        assertThat(BlockingJdbcClient.toJsonValue(true)).isEqualTo(true);
+        assertThat(BlockingJdbcClient.toJsonValue("value")).isEqualTo("value");
+        assertThat(BlockingJdbcClient.toJsonValue(bytes)).isSameAs(bytes);
+        assertThat(BlockingJdbcClient.toJsonValue(10L)).isEqualTo(10L);
+        assertThat(BlockingJdbcClient.toJsonValue(1.5F)).isEqualTo(1.5F);
+    }
+
+    @Test
+    public void toJsonValueShouldConvertDecimalWithoutFractionToBigIntegerAndOtherDecimalToDouble()
+            throws SQLException {
+
+        assertThat(BlockingJdbcClient.toJsonValue(new BigDecimal("10"))).isEqualTo(BigInteger.TEN);
+        assertThat(BlockingJdbcClient.toJsonValue(new BigDecimal("1.10"))).isEqualTo(1.1D);
+    }
+
+    @Test
+    public void toJsonValueShouldFormatTemporalValues() throws SQLException {
+        assertThat(BlockingJdbcClient.toJsonValue(Time.valueOf(LocalTime.of(10, 15, 30)))).isEqualTo("10:15:30");
+        assertThat(BlockingJdbcClient.toJsonValue(java.sql.Date.valueOf(LocalDate.of(2020, 1, 2))))
+                .isEqualTo("2020-01-02");
+        assertThat(BlockingJdbcClient.toJsonValue(Timestamp.from(Instant.parse("2020-01-02T10:15:30.500Z"))))
+                .isEqualTo("2020-01-02T10:15:30.5Z");
+    }
+
+    @Test
+    public void toJsonValueShouldReadAndFreeClobAndBlob() throws SQLException {
+        // given
+        final Clob clob = mock(Clob.class);
+        given(clob.length()).willReturn(5L);
+        given(clob.getSubString(1L, 5)).willReturn("value");
+
+        final Blob blob = mock(Blob.class);
+        given(blob.length()).willReturn(2L);
+        given(blob.getBytes(1L, 2)).willReturn(new byte[]{1, 2});
+        willThrow(new SQLFeatureNotSupportedException()).given(blob).free();
+
+        // when and then
+        assertThat(BlockingJdbcClient.toJsonValue(clob)).isEqualTo("value");
+        assertThat(BlockingJdbcClient.toJsonValue(blob)).isEqualTo(new byte[]{1, 2});
+        verify(clob).free();
+    }
+
+    @Test
+    public void toJsonValueShouldConvertArrayElements() throws SQLException {
+        // given
+        final Array array = mock(Array.class);
+        given(array.getArray()).willReturn(new Object[]{"value", new BigDecimal("1.5"), null});
+
+        // when and then
+        assertThat(BlockingJdbcClient.toJsonValue(array)).isEqualTo(new JsonArray().add("value").add(1.5D).addNull());
+        verify(array).free();
+    }
+
+    @Test
+    public void toJsonValueShouldConvertUnknownValueToString() throws SQLException {
+        assertThat(BlockingJdbcClient.toJsonValue(UUID.fromString("00000000-0000-0000-0000-000000000001")))
+                .isEqualTo("00000000-0000-0000-0000-000000000001");
+    }
+
+    @Test
+    public void executeQueryShouldReportMetrics(TestContext context) {
+        // when
+        final Future<ResultSet> future = jdbcClient.executeQuery(
+                "SELECT id FROM stored_requests", emptyList(), identity(), timeout());
+
+        // then
+        final Async async = context.async();
+        future.onComplete(context.asyncAssertSuccess(resultSet -> {
+            verify(metrics).updateDatabaseConnectionAcquireTimeMetric(anyLong());
+            verify(metrics).updateDatabaseQueryExecutionTimeMetric(anyLong());
+            verify(metrics).updateDatabaseQueryTimeMetric(anyLong());
+            async.complete();
+        }));
+    }
+
+    @Test
+    public void executeQueryShouldFailIfQueryIsInvalid(TestContext context) {
+        // when
+        final Future<ResultSet> future = jdbcClient.executeQuery(
+                "SELECT missing_column FROM stored_requests", emptyList(), identity(), timeout());
+
+        // then
+        future.onComplete(context.asyncAssertFailure(exception ->
+                assertThat(exception).isInstanceOf(SQLException.class)));
+    }
+
+    @Test
+    public void executeQueryShouldReturnFailedFutureIfGlobalTimeoutAlreadyExpired() {
+        // when
+        final Future<ResultSet> future = jdbcClient.executeQuery(
+                "SELECT id FROM stored_requests", emptyList(), identity(),
+                new TimeoutFactory(clock).create(clock.millis() - 1500L, 1000L));
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(TimeoutException.class)
+                .hasMessage("Timed out while executing SQL query");
+    }
+
+    @Test
+    public void executeStreamingQueryShouldPassRowsToConsumerAndReturnNumberOfRows(TestContext context) {
+        // given
+        final List<String> ids = new ArrayList<>();
+
+        // when
+        final Future<Long> future = jdbcClient.executeStreamingQuery(
+                "SELECT id FROM stored_requests ORDER BY id", emptyList(), 1, row -> ids.add(row.getString(0)),
+                timeout());
+
+        // then
+        final Async async = context.async();
+        future.onComplete(context.asyncAssertSuccess(rows -> {
+            assertThat(rows).isEqualTo(2L);
+            assertThat(ids).containsExactly("1", "2");
+            async.complete();
+        }));
+    }
+
+    @Test
+    public void executeStreamingQueryShouldFailIfConsumerFails(TestContext context) {
+        // when
+        final Future<Long> future = jdbcClient.executeStreamingQuery(
+                "SELECT id FROM stored_requests", emptyList(), 1,
+                row -> {
+                    throw new IllegalArgumentException("Invalid row");
+                },
+                timeout());
+
+        // then
+        future.onComplete(context.asyncAssertFailure(exception ->
+                assertThat(exception).isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid row")));
+    }
+
+    @Test
+    public void executeStreamingQueryShouldPassEachRowToConsumerBeforeFetchingNextOne(TestContext context)
+            throws SQLException {
+
+        // given
+        final Connection streamingConnection = mock(Connection.class);
+        final PreparedStatement statement = mock(PreparedStatement.class);
+        final java.sql.ResultSet resultSet = mock(java.sql.ResultSet.class);
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        final DataSource streamingDataSource = mock(DataSource.class);
+        given(streamingDataSource.getConnection()).willReturn(streamingConnection);
+        given(streamingConnection.prepareStatement(anyString())).willReturn(statement);
+        given(statement.executeQuery()).willReturn(resultSet);
+        given(resultSet.getMetaData()).willReturn(metaData);
+        given(metaData.getColumnCount()).willReturn(1);
+
+        final List<String> events = new ArrayList<>();
+        final AtomicInteger fetchedRows = new AtomicInteger();
+        given(resultSet.next()).willAnswer(invocation -> {
+            events.add("fetch");
+            return fetchedRows.incrementAndGet() <= 2;
+        });
+        given(resultSet.getObject(1)).willAnswer(invocation -> String.valueOf(fetchedRows.get()));
+
+        final BlockingJdbcClient streamingJdbcClient = new BlockingJdbcClient(
+                vertx, streamingDataSource, new VirtualThreadBlockingExecutor(vertx, metrics, 2), metrics, clock);
+
+        // when
+        final Future<Long> future = streamingJdbcClient.executeStreamingQuery(
+                "SELECT id FROM stored_requests", emptyList(), 1, row -> events.add("row" + row.getString(0)),
+                timeout());
+
+        // then
+        final Async async = context.async();
+        future.onComplete(context.asyncAssertSuccess(rows -> {
+            assertThat(rows).isEqualTo(2L);
+            assertThat(events).containsExactly("fetch", "row1", "fetch", "row2", "fetch");
+
+            final InOrder inOrder = inOrder(streamingConnection, statement);
+            try {
+                inOrder.verify(streamingConnection).setAutoCommit(false);
+                inOrder.verify(statement).setFetchSize(1);
+                inOrder.verify(statement).executeQuery();
+                inOrder.verify(streamingConnection).setAutoCommit(true);
+                inOrder.verify(streamingConnection).close();
+            } catch (SQLException e) {
+                throw new AssertionError(e);
+            }
+            async.complete();
+        }));
+    }
+
+    private Timeout timeout() {
+        return new TimeoutFactory(clock).create(5000L);
+    }
+}